@@ -0,0 +1,69 @@
+package cs3500.reversi.bench;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.SquareReversi;
+
+/**
+ * The fixed positions the benchmarks run on. A position is named by its board shape and side
+ * length, with "-bitboard" at the end for the same position on the bitboard implementation, and is
+ * reached by playing seeded random moves from the start of the game until about half of the cells
+ * are taken, for example "hex6", "hex6-bitboard" or "square8". The same name always gives the same
+ * position, so runs can be compared.
+ */
+final class BenchPositions {
+  private static final long SEED = 20231;
+
+  private BenchPositions() {
+  }
+
+  /**
+   * Returns a new model at the midgame position with the given name.
+   *
+   * @param name the name of the position.
+   * @return a started model at that position.
+   * @throws IllegalArgumentException if there is no position with that name.
+   */
+  static IReversiModel midgame(String name) {
+    IReversiModel model = start(name);
+    int cells = model.createBoardCopy().getPositionsMapCopy().size();
+    Random random = new Random(SEED);
+    int taken = model.getScore(model.getCurrentColor())
+            + model.getScore(model.getCurrentColor().next());
+    while (taken < cells / 2 && !model.isGameOver()) {
+      // Sorted, since boards of the same shape may list their moves in different orders.
+      List<ICell> moves = new ArrayList<>(model.getValidMoves(model.getCurrentColor()));
+      moves.sort(Comparator.comparingInt((ICell cell) -> cell.coordinate(0))
+              .thenComparingInt(cell -> cell.coordinate(1)));
+      if (moves.isEmpty()) {
+        model.passTurn(true);
+      } else {
+        model.placeCurrentPlayerPiece(moves.get(random.nextInt(moves.size())));
+        taken++;
+      }
+    }
+    return model;
+  }
+
+  // returns a started model at the start of the game on the named board.
+  private static IReversiModel start(String name) {
+    boolean bitboard = name.endsWith("-bitboard");
+    String board = bitboard ? name.substring(0, name.length() - "-bitboard".length()) : name;
+    IReversiModel model;
+    if (board.startsWith("hex")) {
+      model = new HexagonReversi(Integer.parseInt(board.substring(3)), bitboard);
+    } else if (board.startsWith("square")) {
+      model = new SquareReversi(Integer.parseInt(board.substring(6)), bitboard);
+    } else {
+      throw new IllegalArgumentException("Unknown position: " + name);
+    }
+    model.startGame();
+    return model;
+  }
+}
@@ -0,0 +1,32 @@
+package cs3500.reversi.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and writes the results as JSON, so that two runs can be diffed. The file is
+ * named by the bench.result system property and defaults to jmh-results.json.
+ */
+public final class BenchmarkMain {
+  /**
+   * Runs the benchmarks. The arguments are passed to JMH, so for example "BoardBenchmark -p
+   * position=hex6" runs only the board benchmarks on one position.
+   *
+   * @param args the JMH command line options.
+   * @throws RunnerException            if a benchmark fails.
+   * @throws CommandLineOptionException if the options cannot be parsed.
+   */
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    Options options = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .resultFormat(ResultFormatType.JSON)
+            .result(System.getProperty("bench.result", "jmh-results.json"))
+            .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,122 @@
+package cs3500.reversi.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.MoveUndo;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * Benchmarks of the IBoard methods the model and the strategies call the most, on every fixed
+ * position.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+  @Param({"hex4", "hex6", "hex6-bitboard", "hex8", "square6", "square8", "square8-bitboard",
+      "square10"})
+  public String position;
+
+  private IBoard board;
+  private TokenColor color;
+  private List<ICell> emptyCells;
+  private ICell move;
+  private MoveUndo undo;
+
+  /**
+   * Sets up the board of the position.
+   */
+  @Setup
+  public void setUp() {
+    IReversiModel model = BenchPositions.midgame(this.position);
+    this.board = model.createBoardCopy();
+    this.color = model.getCurrentColor();
+    this.emptyCells = new ArrayList<>();
+    for (ICell cell : this.board.getPositionsMapCopy().keySet()) {
+      if (this.board.getCellOccupant(cell).isEmpty()) {
+        this.emptyCells.add(cell);
+      }
+    }
+    this.move = this.board.validMovesLeft(this.color).get(0);
+    this.undo = new MoveUndo();
+  }
+
+  /**
+   * Checks every empty cell of the board for a legal move without flipping.
+   *
+   * @param blackhole keeps the results from being optimized away.
+   */
+  @Benchmark
+  public void validMove(Blackhole blackhole) {
+    for (ICell cell : this.emptyCells) {
+      blackhole.consume(this.board.validMove(cell, this.color, false));
+    }
+  }
+
+  /**
+   * Asks again for the legal moves of a position whose moves are already known.
+   *
+   * @return the legal moves.
+   */
+  @Benchmark
+  public List<ICell> validMovesLeftUnchanged() {
+    return this.board.validMovesLeft(this.color);
+  }
+
+  /**
+   * Makes a move, asks for the legal moves of the opponent and undoes the move, the way a search
+   * visits a position.
+   *
+   * @return the legal moves after the move.
+   */
+  @Benchmark
+  public List<ICell> validMovesLeftAfterMove() {
+    this.board.makeMove(this.move, this.color, this.undo);
+    List<ICell> moves = this.board.validMovesLeft(this.color.next());
+    this.board.undoMove(this.undo);
+    return moves;
+  }
+
+  /**
+   * Makes and undoes a move.
+   *
+   * @return the number of tokens the move flipped.
+   */
+  @Benchmark
+  public int makeAndUndoMove() {
+    this.board.makeMove(this.move, this.color, this.undo);
+    this.board.undoMove(this.undo);
+    return this.undo.getFlipCount();
+  }
+
+  /**
+   * Counts the tokens of the color to move.
+   *
+   * @return the number of tokens.
+   */
+  @Benchmark
+  public int getColorCount() {
+    return this.board.getColorCount(this.color);
+  }
+}
@@ -0,0 +1,96 @@
+package cs3500.reversi.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.MoveUndo;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.strategy.PatternEvaluator;
+
+/**
+ * Benchmarks of scoring a position with the default pattern weights, the way a search does at a
+ * leaf, against scoring it by the difference in tokens.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluationBenchmark {
+  @Param({"hex6", "hex6-bitboard", "square8", "square8-bitboard"})
+  public String position;
+
+  private IBoard board;
+  private TokenColor color;
+  private ICell move;
+  private MoveUndo undo;
+  private PatternEvaluator evaluator;
+
+  /**
+   * Sets up the board of the position and an evaluator following it.
+   */
+  @Setup
+  public void setUp() {
+    IReversiModel model = BenchPositions.midgame(this.position);
+    this.board = model.createBoardCopy();
+    this.color = model.getCurrentColor();
+    this.move = this.board.validMovesLeft(this.color).get(0);
+    this.undo = new MoveUndo();
+    this.evaluator = new PatternEvaluator(null);
+    this.evaluator.reset(this.board);
+  }
+
+  /**
+   * Makes a move, scores the position after it by the difference in tokens and undoes the move.
+   *
+   * @return the score.
+   */
+  @Benchmark
+  public int scoreDifference() {
+    this.board.makeMove(this.move, this.color, this.undo);
+    int score = this.board.scoreDifference(this.color);
+    this.board.undoMove(this.undo);
+    return score;
+  }
+
+  /**
+   * Makes a move, follows it with the evaluator, scores the position after it and undoes the move.
+   *
+   * @return the score.
+   */
+  @Benchmark
+  public int followAndEvaluate() {
+    this.board.makeMove(this.move, this.color, this.undo);
+    this.evaluator.apply(this.undo);
+    int score = this.evaluator.evaluate(this.board, this.color);
+    this.evaluator.revert(this.undo);
+    this.board.undoMove(this.undo);
+    return score;
+  }
+
+  /**
+   * Reads the whole board again and scores it, what every node would pay without following moves.
+   *
+   * @return the score.
+   */
+  @Benchmark
+  public int readAndEvaluate() {
+    this.evaluator.reset(this.board);
+    return this.evaluator.evaluate(this.board, this.color);
+  }
+}
@@ -0,0 +1,87 @@
+package cs3500.reversi.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.record.GameRecordReader;
+import cs3500.reversi.record.GameRecordWriter;
+import cs3500.reversi.record.RecordedGame;
+import cs3500.reversi.strategy.RandomStrat;
+import cs3500.reversi.tournament.Tournament;
+
+/**
+ * Benchmarks of reading game records, in games read per second, from records of random games
+ * kept in memory so that the disk does not count.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameRecordBenchmark {
+  private static final int GAMES = 10000;
+
+  @Param({"hex6", "square8"})
+  public String board;
+
+  private byte[] records;
+
+  /**
+   * Plays the random games and records them.
+   *
+   * @throws IOException never, the records are written to memory.
+   */
+  @Setup
+  public void setUp() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+      for (int game = 0; game < GAMES; game++) {
+        IReversiModel model = this.board.equals("hex6") ? new HexagonReversi(6, true)
+                : new SquareReversi(8, true);
+        writer.record(model, "random", "random");
+        Tournament.playGame(model, new RandomStrat(TokenColor.BLACK),
+                new RandomStrat(TokenColor.WHITE));
+      }
+    }
+    this.records = bytes.toByteArray();
+  }
+
+  /**
+   * Reads every record and counts its moves.
+   *
+   * @return the number of moves, so the reading is not optimized away.
+   * @throws IOException never, the records are read from memory.
+   */
+  @Benchmark
+  @OperationsPerInvocation(GAMES)
+  public long read() throws IOException {
+    long moves = 0;
+    try (GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(this.records))) {
+      for (Optional<RecordedGame> game = reader.next(); game.isPresent(); game = reader.next()) {
+        moves += game.get().getMoveCount();
+      }
+    }
+    return moves;
+  }
+}
@@ -0,0 +1,94 @@
+package cs3500.reversi.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.strategy.AvoidEdgesStrat;
+import cs3500.reversi.strategy.ChooseCornersStrat;
+import cs3500.reversi.strategy.GreedyStrat;
+import cs3500.reversi.strategy.MiniMaxStrategy;
+import cs3500.reversi.strategy.OurAlgorithmStrat;
+import cs3500.reversi.strategy.SandwichStrat;
+import cs3500.reversi.strategy.Strategy;
+import cs3500.reversi.strategy.UpperLeftStrat;
+
+/**
+ * Benchmarks of choosing a move with the strategies that only work on hexagonal boards, which
+ * includes the Sandwich strategies since Greedy breaks its ties with Upper Left.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HexagonStrategyBenchmark {
+  @Param({"upperLeft", "ourAlgorithm", "san1", "san2", "san3", "san4"})
+  public String strategy;
+
+  @Param({"hex4", "hex6", "hex6-bitboard", "hex8"})
+  public String position;
+
+  private IReversiModel model;
+  private Strategy chooser;
+
+  /**
+   * Sets up the model of the position and the strategy of the color to move.
+   */
+  @Setup
+  public void setUp() {
+    this.model = BenchPositions.midgame(this.position);
+    TokenColor color = this.model.getCurrentColor();
+    switch (this.strategy) {
+      case "upperLeft":
+        this.chooser = new UpperLeftStrat(color);
+        break;
+      case "ourAlgorithm":
+        this.chooser = new OurAlgorithmStrat(color);
+        break;
+      case "san1":
+        this.chooser = new SandwichStrat(color, List.of(new GreedyStrat(color),
+                new AvoidEdgesStrat(color), new ChooseCornersStrat(color)));
+        break;
+      case "san2":
+        this.chooser = new SandwichStrat(color, List.of(new MiniMaxStrategy(color),
+                new GreedyStrat(color)));
+        break;
+      case "san3":
+        this.chooser = new SandwichStrat(color, List.of(new MiniMaxStrategy(color),
+                new GreedyStrat(color), new AvoidEdgesStrat(color)));
+        break;
+      case "san4":
+        this.chooser = new SandwichStrat(color, List.of(new MiniMaxStrategy(color),
+                new GreedyStrat(color), new AvoidEdgesStrat(color), new ChooseCornersStrat(color)));
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown strategy: " + this.strategy);
+    }
+  }
+
+  /**
+   * Chooses a move for the color to move.
+   *
+   * @return the moves returned by the strategy.
+   */
+  @Benchmark
+  public List<ICell> chooseMove() {
+    return this.chooser.chooseMove(this.model, List.of());
+  }
+}
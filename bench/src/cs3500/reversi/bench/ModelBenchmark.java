@@ -0,0 +1,84 @@
+package cs3500.reversi.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * Benchmarks of the model methods the views and the strategies call the most, on every fixed
+ * position.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+  @Param({"hex4", "hex6", "hex6-bitboard", "hex8", "square6", "square8", "square8-bitboard",
+      "square10"})
+  public String position;
+
+  private IReversiModel model;
+  private TokenColor color;
+  private List<ICell> moves;
+
+  /**
+   * Sets up the model of the position.
+   */
+  @Setup
+  public void setUp() {
+    this.model = BenchPositions.midgame(this.position);
+    this.color = this.model.getCurrentColor();
+    this.moves = List.copyOf(this.model.getValidMoves(this.color));
+  }
+
+  /**
+   * Counts the tokens every legal move would flip, the way the greedy strategies do.
+   *
+   * @param blackhole keeps the results from being optimized away.
+   */
+  @Benchmark
+  public void cellsFlipped(Blackhole blackhole) {
+    for (ICell move : this.moves) {
+      blackhole.consume(this.model.cellsFlipped(move, this.color));
+    }
+  }
+
+  /**
+   * Checks whether the game is over.
+   *
+   * @return whether the game is over.
+   */
+  @Benchmark
+  public boolean isGameOver() {
+    return this.model.isGameOver();
+  }
+
+  /**
+   * Copies the board of the model, the way every strategy starts.
+   *
+   * @return the copy of the board.
+   */
+  @Benchmark
+  public IBoard createBoardCopy() {
+    return this.model.createBoardCopy();
+  }
+}
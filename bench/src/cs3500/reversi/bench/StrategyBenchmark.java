@@ -0,0 +1,154 @@
+package cs3500.reversi.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.strategy.AlphaBetaStrat;
+import cs3500.reversi.strategy.AvoidEdgesStrat;
+import cs3500.reversi.strategy.ChooseCornersStrat;
+import cs3500.reversi.strategy.GreedyStrat;
+import cs3500.reversi.strategy.MiniMaxStrategy;
+import cs3500.reversi.strategy.MonteCarloStrat;
+import cs3500.reversi.strategy.ParallelMonteCarloStrat;
+import cs3500.reversi.strategy.ParallelSearchStrat;
+import cs3500.reversi.strategy.RandomStrat;
+import cs3500.reversi.strategy.SandwichStrat;
+import cs3500.reversi.strategy.Strategy;
+import cs3500.reversi.strategy.TranspositionTable;
+
+/**
+ * Benchmarks of choosing a move with every strategy of cs3500.reversi.strategy. The searching
+ * strategies get a node or playout limit instead of a time budget so that they do the same work on
+ * every run, and their transposition table or tree is emptied before every move so that no run is
+ * helped by the one before it. UpperLeftStrat and OurAlgorithmStrat only work on hexagonal boards,
+ * so they have their own benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+  // positions searched per move by the searching strategies
+  private static final long NODE_LIMIT = 20000;
+  // playouts per move of the Monte Carlo search
+  private static final long PLAYOUT_LIMIT = 200;
+
+  @Param({"greedy", "avoidEdges", "chooseCorners", "miniMax", "random", "sandwich", "alphaBeta",
+      "parallelSearch", "monteCarlo", "parallelMonteCarlo"})
+  public String strategy;
+
+  @Param({"hex6", "hex6-bitboard", "square8", "square8-bitboard"})
+  public String position;
+
+  private IReversiModel model;
+  private Strategy chooser;
+  private TranspositionTable table;
+
+  /**
+   * Sets up the model of the position and the strategy of the color to move.
+   */
+  @Setup
+  public void setUp() {
+    this.model = BenchPositions.midgame(this.position);
+    TokenColor color = this.model.getCurrentColor();
+    switch (this.strategy) {
+      case "greedy":
+        this.chooser = new GreedyStrat(color);
+        break;
+      case "avoidEdges":
+        this.chooser = new AvoidEdgesStrat(color);
+        break;
+      case "chooseCorners":
+        this.chooser = new ChooseCornersStrat(color);
+        break;
+      case "miniMax":
+        this.chooser = new MiniMaxStrategy(color);
+        break;
+      case "random":
+        this.chooser = new RandomStrat(color);
+        break;
+      case "sandwich":
+        this.chooser = new SandwichStrat(color, List.of(new MiniMaxStrategy(color),
+                new GreedyStrat(color), new AvoidEdgesStrat(color)));
+        break;
+      case "alphaBeta":
+        this.table = new TranspositionTable(16);
+        this.chooser = new AlphaBetaStrat(color, Long.MAX_VALUE / 2_000_000L, NODE_LIMIT,
+                this.table);
+        break;
+      case "parallelSearch":
+        this.table = new TranspositionTable(16);
+        this.chooser = new ParallelSearchStrat(color, Runtime.getRuntime().availableProcessors(),
+                Long.MAX_VALUE / 2_000_000L, NODE_LIMIT, Integer.MAX_VALUE, this.table);
+        break;
+      case "monteCarlo":
+        this.chooser = new MonteCarloStrat(color, Long.MAX_VALUE / 2_000_000L, PLAYOUT_LIMIT, 1);
+        break;
+      case "parallelMonteCarlo":
+        this.chooser = new ParallelMonteCarloStrat(color,
+                Runtime.getRuntime().availableProcessors(), Long.MAX_VALUE / 2_000_000L,
+                PLAYOUT_LIMIT, 1);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown strategy: " + this.strategy);
+    }
+  }
+
+  /**
+   * Empties the transposition table or the tree of a searching strategy before every move.
+   */
+  @Setup(Level.Invocation)
+  public void clearTable() {
+    if (this.table != null) {
+      this.table.clear();
+    }
+    if (this.chooser instanceof MonteCarloStrat) {
+      ((MonteCarloStrat) this.chooser).clearTree();
+    }
+    if (this.chooser instanceof ParallelMonteCarloStrat) {
+      ((ParallelMonteCarloStrat) this.chooser).clearTree();
+    }
+  }
+
+  /**
+   * Stops the threads of the parallel searches.
+   */
+  @TearDown
+  public void tearDown() {
+    if (this.chooser instanceof ParallelSearchStrat) {
+      ((ParallelSearchStrat) this.chooser).shutdown();
+    }
+    if (this.chooser instanceof ParallelMonteCarloStrat) {
+      ((ParallelMonteCarloStrat) this.chooser).shutdown();
+    }
+  }
+
+  /**
+   * Chooses a move for the color to move.
+   *
+   * @return the moves returned by the strategy.
+   */
+  @Benchmark
+  public List<ICell> chooseMove() {
+    return this.chooser.chooseMove(this.model, List.of());
+  }
+}
@@ -0,0 +1,57 @@
+package cs3500.reversi.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.reversi.model.BoardSymmetry;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.IReversiModel;
+
+/**
+ * Benchmarks of finding the canonical form of a position, in canonicalizations per second, on
+ * the fixed midgame positions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SymmetryBenchmark {
+  @Param({"hex6", "hex6-bitboard", "square8", "square8-bitboard"})
+  public String position;
+
+  private IBoard board;
+  private BoardSymmetry symmetry;
+
+  /**
+   * Sets up the board of the position and the symmetries of its board.
+   */
+  @Setup
+  public void setUp() {
+    IReversiModel model = BenchPositions.midgame(this.position);
+    this.board = model.createBoardCopy();
+    this.symmetry = BoardSymmetry.of(model.getGeometry());
+  }
+
+  /**
+   * Finds the canonical form of the position.
+   *
+   * @return the key of the canonical form.
+   */
+  @Benchmark
+  public long canonicalize() {
+    return this.symmetry.canonicalize(this.board).getKey();
+  }
+}
@@ -0,0 +1,83 @@
+package cs3500.reversi;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.record.GameRecordReader;
+import cs3500.reversi.record.RecordedGame;
+import cs3500.reversi.strategy.OpeningBook;
+import cs3500.reversi.strategy.OpeningBookBuilder;
+
+/**
+ * A class to build an opening book offline, from files of game records, from searches of every
+ * line of the opening with one of the strategies of Reversi, or from both, and write it to a file
+ * that the "book+" strategies of Reversi play from.
+ */
+public final class OpeningBookRunner {
+  /**
+   * The main method to build a book. The arguments are the game type ('h' for a hexagonal board of
+   * side length 6, 's' for an 8x8 square board), the number of plies the book covers, the number
+   * of games a move of the records needs, the book file to write, and one or more sources: the
+   * path of a file of game records, or "search:" followed by the name of a strategy.
+   *
+   * @param args the arguments to build the book with
+   * @throws IOException if a file could not be read or written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 5) {
+      System.err.println("Usage: <h|s> <plies> <min games> <book file> <records file | "
+              + "search:strategy>...");
+      return;
+    }
+
+    BoardGeometry geometry;
+    if (args[0].equalsIgnoreCase("h")) {
+      geometry = BoardGeometry.hexagon(6);
+    } else if (args[0].equalsIgnoreCase("s")) {
+      geometry = BoardGeometry.square(8);
+    } else {
+      System.err.println("Invalid game type. Use 's' for square or 'h' for hexagonal.");
+      return;
+    }
+    OpeningBookBuilder builder = new OpeningBookBuilder(geometry, Integer.parseInt(args[1]),
+            Integer.parseInt(args[2]));
+    Path bookFile = Path.of(args[3]);
+
+    for (int i = 4; i < args.length; i++) {
+      long start = System.nanoTime();
+      if (args[i].startsWith("search:")) {
+        String name = args[i].substring("search:".length());
+        int searched = builder.addSearchedLines(
+                Reversi.getStrategy(name, TokenColor.BLACK).orElseThrow(),
+                Reversi.getStrategy(name, TokenColor.WHITE).orElseThrow());
+        System.out.printf("searched %d positions with %s in %.1f s%n", searched, name,
+                (System.nanoTime() - start) / 1e9);
+      } else {
+        int games = 0;
+        try (GameRecordReader reader = new GameRecordReader(
+                new BufferedInputStream(Files.newInputStream(Path.of(args[i]))))) {
+          for (Optional<RecordedGame> game = reader.next(); game.isPresent();
+               game = reader.next()) {
+            if (game.get().getGeometry() == geometry) {
+              builder.addGame(game.get());
+              games++;
+            }
+          }
+        }
+        System.out.printf("read %d games from %s in %.1f s%n", games, args[i],
+                (System.nanoTime() - start) / 1e9);
+      }
+    }
+
+    try (OutputStream out = Files.newOutputStream(bookFile)) {
+      builder.write(out);
+    }
+    System.out.printf("wrote %d positions to %s%n", OpeningBook.load(bookFile).size(), bookFile);
+  }
+}
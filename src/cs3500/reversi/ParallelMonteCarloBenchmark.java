@@ -0,0 +1,75 @@
+package cs3500.reversi;
+
+import java.util.List;
+
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.strategy.ParallelMonteCarloStrat;
+
+/**
+ * Measures how many more playouts per second the ParallelMonteCarloStrat plays from the start of
+ * a game as it gets more threads, on a hexagonal board of side length 6 and an 8x8 square board.
+ * Every run searches a new tree for the same time and the best of a few runs is kept.
+ */
+public final class ParallelMonteCarloBenchmark {
+  private static final int RUNS = 3;
+
+  /**
+   * Runs the benchmark. The optional arguments are the most threads to try, which defaults to 16,
+   * and the time in milliseconds every run searches for, which defaults to 2000.
+   *
+   * @param args the most threads and the time per run.
+   */
+  public static void main(String[] args) {
+    int maxThreads = (args.length > 0) ? Integer.parseInt(args[0]) : 16;
+    long millis = (args.length > 1) ? Long.parseLong(args[1]) : 2000;
+
+    IReversiModel hex = new HexagonReversi(6);
+    hex.startGame();
+    run("hexagon, side length 6", hex, maxThreads, millis);
+
+    IReversiModel square = new SquareReversi(8);
+    square.startGame();
+    run("square, 8x8", square, maxThreads, millis);
+  }
+
+  // searches the position with 1, 2, 4, ... up to the given number of threads and prints the
+  // playouts, playouts per second and speedup of each.
+  private static void run(String name, IReversiModel model, int maxThreads, long millis) {
+    System.out.println(name + ", " + millis + " ms per run, "
+            + Runtime.getRuntime().availableProcessors() + " processors");
+    System.out.printf("%8s %12s %12s %8s%n", "threads", "playouts", "playouts/s", "speedup");
+    // One untimed search first, so the timings do not include the JIT warming up.
+    search(model, 1, millis);
+    double baseline = 0;
+    for (int threads = 1; threads <= maxThreads; threads *= 2) {
+      double best = 0;
+      long playouts = 0;
+      for (int run = 0; run < RUNS; run++) {
+        ParallelMonteCarloStrat strategy = search(model, threads, millis);
+        if (strategy.getLastPlayoutsPerSecond() > best) {
+          best = strategy.getLastPlayoutsPerSecond();
+          playouts = strategy.getLastPlayouts();
+        }
+      }
+      if (threads == 1) {
+        baseline = best;
+      }
+      System.out.printf("%8d %12d %12.0f %8.2f%n", threads, playouts, best, best / baseline);
+      if (threads < maxThreads && threads * 2 > maxThreads) {
+        threads = maxThreads / 2;
+      }
+    }
+    System.out.println();
+  }
+
+  // searches the position once for the given time with a new strategy.
+  private static ParallelMonteCarloStrat search(IReversiModel model, int threads, long millis) {
+    ParallelMonteCarloStrat strategy = new ParallelMonteCarloStrat(model.getCurrentColor(),
+            threads, millis, Long.MAX_VALUE, threads);
+    strategy.chooseMove(model, List.of());
+    strategy.shutdown();
+    return strategy;
+  }
+}
@@ -0,0 +1,101 @@
+package cs3500.reversi;
+
+import java.util.List;
+import java.util.Random;
+
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.strategy.ParallelSearchStrat;
+import cs3500.reversi.strategy.TranspositionTable;
+
+/**
+ * Measures how much faster the ParallelSearchStrat searches a fixed midgame position to a fixed
+ * depth as it gets more threads. The positions are made by playing the same seeded random moves
+ * from the start of a hexagonal game of side length 6 and of an 8x8 square game. Every search
+ * starts from an empty transposition table and the fastest of a few runs is kept.
+ */
+public final class ParallelSearchBenchmark {
+  private static final int RUNS = 3;
+
+  /**
+   * Runs the benchmark. The optional arguments are the most threads to try, which defaults to
+   * the number of processors, and the depth to search the hexagonal and the square position to.
+   *
+   * @param args the most threads, the hexagonal depth and the square depth.
+   */
+  public static void main(String[] args) {
+    int maxThreads = (args.length > 0) ? Integer.parseInt(args[0])
+            : Runtime.getRuntime().availableProcessors();
+    int hexDepth = (args.length > 1) ? Integer.parseInt(args[1]) : 11;
+    int squareDepth = (args.length > 2) ? Integer.parseInt(args[2]) : 11;
+
+    IReversiModel hex = new HexagonReversi(6, true);
+    hex.startGame();
+    playRandomMoves(hex, 20, 3500);
+    run("hexagon, side length 6", hex, hexDepth, maxThreads);
+
+    IReversiModel square = new SquareReversi(8, true);
+    square.startGame();
+    playRandomMoves(square, 20, 3500);
+    run("square, 8x8", square, squareDepth, maxThreads);
+  }
+
+  // plays the given number of seeded random moves, passing when there is no move.
+  private static void playRandomMoves(IReversiModel model, int moves, long seed) {
+    Random random = new Random(seed);
+    for (int i = 0; i < moves && !model.isGameOver(); i++) {
+      List<ICell> valid = model.getValidMoves(model.getCurrentColor());
+      if (valid.isEmpty()) {
+        model.passTurn(true);
+      } else {
+        model.placeCurrentPlayerPiece(valid.get(random.nextInt(valid.size())));
+      }
+    }
+  }
+
+  // searches the position with 1, 2, 4, ... up to the given number of threads and prints the
+  // time, speedup and nodes of each.
+  private static void run(String name, IReversiModel model, int depth, int maxThreads) {
+    System.out.println(name + ", depth " + depth + ", " + model.getCurrentColor() + " to move");
+    System.out.printf("%8s %10s %8s %12s %12s%n", "threads", "millis", "speedup", "nodes",
+            "nodes/s");
+    // One untimed search first, so the timings do not include the JIT warming up.
+    search(model, 1, depth);
+    double baseline = 0;
+    for (int threads = 1; threads <= maxThreads; threads *= 2) {
+      double best = Double.MAX_VALUE;
+      long nodes = 0;
+      double nodesPerSecond = 0;
+      for (int run = 0; run < RUNS; run++) {
+        long start = System.nanoTime();
+        ParallelSearchStrat strategy = search(model, threads, depth);
+        double millis = (System.nanoTime() - start) / 1e6;
+        if (millis < best) {
+          best = millis;
+          nodes = strategy.getLastNodes();
+          nodesPerSecond = strategy.getLastNodesPerSecond();
+        }
+      }
+      if (threads == 1) {
+        baseline = best;
+      }
+      System.out.printf("%8d %10.1f %8.2f %12d %12.0f%n", threads, best, baseline / best, nodes,
+              nodesPerSecond);
+      if (threads < maxThreads && threads * 2 > maxThreads) {
+        threads = maxThreads / 2;
+      }
+    }
+    System.out.println();
+  }
+
+  // searches the position once to the given depth with a new strategy and table.
+  private static ParallelSearchStrat search(IReversiModel model, int threads, int depth) {
+    ParallelSearchStrat strategy = new ParallelSearchStrat(model.getCurrentColor(), threads,
+            Long.MAX_VALUE / 2_000_000L, Long.MAX_VALUE, depth, new TranspositionTable(64));
+    strategy.chooseMove(model, List.of());
+    strategy.shutdown();
+    return strategy;
+  }
+}
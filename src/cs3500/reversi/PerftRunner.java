@@ -0,0 +1,76 @@
+package cs3500.reversi;
+
+import java.util.Map;
+import java.util.Optional;
+
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.Perft;
+import cs3500.reversi.model.SquareReversi;
+
+/**
+ * A class to count the positions reachable from the start of a game with Perft, to compare the
+ * move generation of the board implementations with each other and with the counts in
+ * test/model/perft.txt.
+ */
+public final class PerftRunner {
+  /**
+   * The main method to run Perft. The arguments are the board, as "hex" or "square" followed by the
+   * side length with "-bitboard" at the end for the bitboard implementation, the most plies to
+   * count, and optionally "divide" to also print the count below every first move at that depth.
+   *
+   * @param args the board, the most plies and "divide".
+   */
+  public static void main(String[] args) {
+    if (args.length < 2) {
+      System.err.println("Usage: <hexN|squareN>[-bitboard] <depth> [divide]");
+      return;
+    }
+
+    IReversiModel model;
+    try {
+      model = start(args[0]);
+    } catch (IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      return;
+    }
+    int maxDepth = Integer.parseInt(args[1]);
+    Perft perft = new Perft(model.createBoardCopy());
+
+    System.out.printf("%6s %16s %14s%n", "depth", "leaves", "leaves/s");
+    for (int depth = 1; depth <= maxDepth; depth++) {
+      long leaves = perft.count(model.getCurrentColor(), depth);
+      System.out.printf("%6d %16d %14.0f%n", depth, leaves, perft.getLastLeavesPerSecond());
+    }
+
+    if (args.length > 2 && args[2].equalsIgnoreCase("divide")) {
+      Map<Optional<ICell>, Long> counts = perft.divide(model.getCurrentColor(), maxDepth);
+      for (Map.Entry<Optional<ICell>, Long> entry : counts.entrySet()) {
+        if (entry.getKey().isEmpty()) {
+          System.out.printf("pass %d%n", entry.getValue());
+          continue;
+        }
+        ICell move = entry.getKey().get();
+        System.out.printf("(%d, %d) %d%n", move.coordinate(0), move.coordinate(1),
+                entry.getValue());
+      }
+    }
+  }
+
+  // returns a started model with the named board.
+  private static IReversiModel start(String name) {
+    boolean bitboard = name.endsWith("-bitboard");
+    String board = bitboard ? name.substring(0, name.length() - "-bitboard".length()) : name;
+    IReversiModel model;
+    if (board.startsWith("hex")) {
+      model = new HexagonReversi(Integer.parseInt(board.substring(3)), bitboard);
+    } else if (board.startsWith("square")) {
+      model = new SquareReversi(Integer.parseInt(board.substring(6)), bitboard);
+    } else {
+      throw new IllegalArgumentException("Unknown board: " + name);
+    }
+    model.startGame();
+    return model;
+  }
+}
@@ -1,9 +1,14 @@
 package cs3500.reversi;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.swing.SwingUtilities;
 
 import cs3500.reversi.controller.Controller;
 import cs3500.reversi.model.HexagonReversi;
@@ -13,14 +18,23 @@ import cs3500.reversi.model.TokenColor;
 import cs3500.reversi.player.AIPlayer;
 import cs3500.reversi.player.HumanPlayer;
 import cs3500.reversi.player.IPlayer;
+import cs3500.reversi.strategy.AlphaBetaStrat;
 import cs3500.reversi.strategy.AvoidEdgesStrat;
 import cs3500.reversi.strategy.ChooseCornersStrat;
+import cs3500.reversi.strategy.EndgameSolverStrat;
 import cs3500.reversi.strategy.GreedyStrat;
 import cs3500.reversi.strategy.MiniMaxStrategy;
+import cs3500.reversi.strategy.MonteCarloStrat;
+import cs3500.reversi.strategy.OpeningBook;
+import cs3500.reversi.strategy.OpeningBookStrat;
 import cs3500.reversi.strategy.OurAlgorithmStrat;
+import cs3500.reversi.strategy.ParallelMonteCarloStrat;
+import cs3500.reversi.strategy.ParallelSearchStrat;
+import cs3500.reversi.strategy.PatternWeights;
 import cs3500.reversi.strategy.RandomStrat;
 import cs3500.reversi.strategy.SandwichStrat;
 import cs3500.reversi.strategy.Strategy;
+import cs3500.reversi.strategy.TranspositionTable;
 import cs3500.reversi.strategy.UpperLeftStrat;
 import cs3500.reversi.view.HexagonReversiView;
 import cs3500.reversi.view.ReversiView;
@@ -67,43 +81,103 @@ public final class Reversi {
     }
 
 
-    IPlayer player1 = (strat1.isPresent()) ? new AIPlayer(TokenColor.BLACK, strat1.get(), model)
+    // The views are updated and the moves are played on the Swing event thread, and AI players
+    // think on their own thread on a copy of the board, so neither waits for the other and the
+    // model is only changed on the event thread. This program plays a single game, so quitting
+    // ends it.
+    IPlayer player1 = (strat1.isPresent())
+            ? new AIPlayer(TokenColor.BLACK, strat1.get(), model, SwingUtilities::invokeLater)
             : new HumanPlayer(TokenColor.BLACK);
-    IPlayer player2 = (strat2.isPresent()) ? new AIPlayer(TokenColor.WHITE, strat2.get(), model)
+    IPlayer player2 = (strat2.isPresent())
+            ? new AIPlayer(TokenColor.WHITE, strat2.get(), model, SwingUtilities::invokeLater)
             : new HumanPlayer(TokenColor.WHITE);
 
-    Controller controller1 = new Controller(model, blackView, player1, TokenColor.BLACK);
-    Controller controller2 = new Controller(model, whiteView, player2, TokenColor.WHITE);
+    Runnable quit = () -> System.exit(0);
+    Controller controller1 = new Controller(model, blackView, player1, TokenColor.BLACK,
+            SwingUtilities::invokeLater, quit);
+    Controller controller2 = new Controller(model, whiteView, player2, TokenColor.WHITE,
+            SwingUtilities::invokeLater, quit);
 
     model.startGame();
   }
 
-  private static Optional<Strategy> getStrategy(String arg, TokenColor tokenColor) {
+  /**
+   * Returns a new instance of the strategy with the given name for the given color, or an empty
+   * optional for "h", a human player. Only the requested strategy is built, so every call is
+   * cheap and returns strategies that are not shared with any other caller. A name of "book+"
+   * followed by another name plays from the opening book file named by the reversi.book system
+   * property, "opening.book" by default, and then with the other strategy. The strategies that
+   * score positions with pattern weights, "mmp" and "abp", read them from the file named by the
+   * reversi.weights system property, or use the default weights if it is not set.
+   *
+   * @param arg        the name of the strategy.
+   * @param tokenColor the color of the player using the strategy.
+   * @return the strategy, or an empty optional for a human player.
+   * @throws IllegalArgumentException if there is no strategy with that name.
+   */
+  static Optional<Strategy> getStrategy(String arg, TokenColor tokenColor) {
     if (arg.equals("h")) {
       return Optional.empty();
     }
+    if (arg.startsWith("book+")) {
+      Strategy fallback = getStrategy(arg.substring("book+".length()), tokenColor)
+              .orElseThrow(() -> new IllegalArgumentException("A human cannot play from a book"));
+      Path path = Path.of(System.getProperty("reversi.book", "opening.book"));
+      try {
+        return Optional.of(new OpeningBookStrat(tokenColor, OpeningBook.load(path), fallback));
+      } catch (IOException ex) {
+        throw new IllegalArgumentException("Could not load the opening book " + path, ex);
+      }
+    }
 
-    Map<String, Strategy> strategyMap = new HashMap<>();
-    strategyMap.put("g", new GreedyStrat(tokenColor));
-    strategyMap.put("u", new UpperLeftStrat(tokenColor));
-    strategyMap.put("a", new AvoidEdgesStrat(tokenColor));
-    strategyMap.put("cc", new ChooseCornersStrat(tokenColor));
-    strategyMap.put("mm", new MiniMaxStrategy(tokenColor));
-    strategyMap.put("oa", new OurAlgorithmStrat(tokenColor));
-    strategyMap.put("r", new RandomStrat(tokenColor));
-    strategyMap.put("san1", new SandwichStrat(tokenColor, List.of(strategyMap.get("g"),
-            strategyMap.get("a"), strategyMap.get("cc"))));
-    strategyMap.put("san2", new SandwichStrat(tokenColor, List.of(strategyMap.get("mm"),
-            strategyMap.get("g"))));
-    strategyMap.put("san3", new SandwichStrat(tokenColor, List.of(strategyMap.get("mm"),
-            strategyMap.get("g"), strategyMap.get("a"))));
-    strategyMap.put("san4", new SandwichStrat(tokenColor, List.of(strategyMap.get("mm"),
-            strategyMap.get("g"), strategyMap.get("a"), strategyMap.get("cc"))));
+    Map<String, Supplier<Strategy>> strategyMap = new HashMap<>();
+    strategyMap.put("g", () -> new GreedyStrat(tokenColor));
+    strategyMap.put("u", () -> new UpperLeftStrat(tokenColor));
+    strategyMap.put("a", () -> new AvoidEdgesStrat(tokenColor));
+    strategyMap.put("cc", () -> new ChooseCornersStrat(tokenColor));
+    strategyMap.put("mm", () -> new MiniMaxStrategy(tokenColor));
+    strategyMap.put("oa", () -> new OurAlgorithmStrat(tokenColor));
+    strategyMap.put("r", () -> new RandomStrat(tokenColor));
+    strategyMap.put("ab", () -> new AlphaBetaStrat(tokenColor));
+    strategyMap.put("mmp", () -> new MiniMaxStrategy(tokenColor, loadWeights()));
+    strategyMap.put("abp", () -> new AlphaBetaStrat(tokenColor, 1000, Long.MAX_VALUE,
+            new TranspositionTable(16), loadWeights()));
+    strategyMap.put("pab", () -> new ParallelSearchStrat(tokenColor,
+            Runtime.getRuntime().availableProcessors()));
+    strategyMap.put("mcts", () -> new MonteCarloStrat(tokenColor));
+    strategyMap.put("pmcts", () -> new ParallelMonteCarloStrat(tokenColor,
+            Runtime.getRuntime().availableProcessors()));
+    strategyMap.put("es", () -> new EndgameSolverStrat(tokenColor,
+            new AlphaBetaStrat(tokenColor)));
+    strategyMap.put("san1", () -> new SandwichStrat(tokenColor, List.of(
+            strategyMap.get("g").get(), strategyMap.get("a").get(), strategyMap.get("cc").get())));
+    strategyMap.put("san2", () -> new SandwichStrat(tokenColor, List.of(
+            strategyMap.get("mm").get(), strategyMap.get("g").get())));
+    strategyMap.put("san3", () -> new SandwichStrat(tokenColor, List.of(
+            strategyMap.get("mm").get(), strategyMap.get("g").get(), strategyMap.get("a").get())));
+    strategyMap.put("san4", () -> new SandwichStrat(tokenColor, List.of(
+            strategyMap.get("mm").get(), strategyMap.get("g").get(), strategyMap.get("a").get(),
+            strategyMap.get("cc").get())));
 
     if (strategyMap.containsKey(arg)) {
-      return Optional.of(strategyMap.get(arg));
+      return Optional.of(strategyMap.get(arg).get());
     } else {
       throw new IllegalArgumentException("Invalid strategy: " + arg);
     }
   }
+
+  // the pattern weights in the file named by the reversi.weights system property, or null for the
+  // default weights if it is not set.
+  private static PatternWeights loadWeights() {
+    String name = System.getProperty("reversi.weights");
+    if (name == null) {
+      return null;
+    }
+    Path path = Path.of(name);
+    try {
+      return PatternWeights.load(path);
+    } catch (IOException ex) {
+      throw new IllegalArgumentException("Could not load the pattern weights " + path, ex);
+    }
+  }
 }
@@ -4,6 +4,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.swing.SwingUtilities;
 
 import cs3500.reversi.controller.Controller;
 import cs3500.reversi.model.HexagonReversi;
@@ -13,11 +16,16 @@ import cs3500.reversi.model.TokenColor;
 import cs3500.reversi.player.AIPlayer;
 import cs3500.reversi.player.HumanPlayer;
 import cs3500.reversi.player.IPlayer;
+import cs3500.reversi.strategy.AlphaBetaStrat;
 import cs3500.reversi.strategy.AvoidEdgesStrat;
 import cs3500.reversi.strategy.ChooseCornersStrat;
+import cs3500.reversi.strategy.EndgameSolverStrat;
 import cs3500.reversi.strategy.GreedyStrat;
 import cs3500.reversi.strategy.MiniMaxStrategy;
+import cs3500.reversi.strategy.MonteCarloStrat;
 import cs3500.reversi.strategy.OurAlgorithmStrat;
+import cs3500.reversi.strategy.ParallelMonteCarloStrat;
+import cs3500.reversi.strategy.ParallelSearchStrat;
 import cs3500.reversi.strategy.RandomStrat;
 import cs3500.reversi.strategy.SandwichStrat;
 import cs3500.reversi.strategy.Strategy;
@@ -65,35 +73,50 @@ public final class TestingReversiRunner {
 
 //    IPlayer player1 = new HumanPlayer(TokenColor.BLACK);
 //    IPlayer player2 = new HumanPlayer(TokenColor.WHITE);
-    IPlayer player1 = new AIPlayer(TokenColor.BLACK, new AvoidEdgesStrat(TokenColor.BLACK), model);
-    IPlayer player2 = new AIPlayer(TokenColor.WHITE, new RandomStrat(TokenColor.WHITE), model);
+    IPlayer player1 = new AIPlayer(TokenColor.BLACK, new AvoidEdgesStrat(TokenColor.BLACK), model,
+            SwingUtilities::invokeLater);
+    IPlayer player2 = new AIPlayer(TokenColor.WHITE, new RandomStrat(TokenColor.WHITE), model,
+            SwingUtilities::invokeLater);
 
 
-    Controller controller1 = new Controller(model, black_view, player1, TokenColor.BLACK);
-    Controller controller2 = new Controller(model, white_view, player2, TokenColor.WHITE);
+    Controller controller1 = new Controller(model, black_view, player1, TokenColor.BLACK,
+            SwingUtilities::invokeLater);
+    Controller controller2 = new Controller(model, white_view, player2, TokenColor.WHITE,
+            SwingUtilities::invokeLater);
     return model;
   }
 
+  // builds only the requested strategy, so the thread pools and tables of the others are never
+  // made.
   private static Optional<Strategy> getStrategy(String arg, TokenColor tokenColor) {
-    Map<String, Strategy> strategyMap = new HashMap<>();
-    strategyMap.put("g", new GreedyStrat(tokenColor));
-    strategyMap.put("u", new UpperLeftStrat(tokenColor));
-    strategyMap.put("a", new AvoidEdgesStrat(tokenColor));
-    strategyMap.put("cc", new ChooseCornersStrat(tokenColor));
-    strategyMap.put("mm", new MiniMaxStrategy(tokenColor));
-    strategyMap.put("oa", new OurAlgorithmStrat(tokenColor));
-    strategyMap.put("r", new RandomStrat(tokenColor));
-    strategyMap.put("san1", new SandwichStrat(tokenColor, List.of(strategyMap.get("g"),
-            strategyMap.get("a"), strategyMap.get("cc"))));
-    strategyMap.put("san2", new SandwichStrat(tokenColor, List.of(strategyMap.get("mm"),
-            strategyMap.get("g"))));
-    strategyMap.put("san3", new SandwichStrat(tokenColor, List.of(strategyMap.get("mm"),
-            strategyMap.get("g"), strategyMap.get("a"))));
-    strategyMap.put("san4", new SandwichStrat(tokenColor, List.of(strategyMap.get("mm"),
-            strategyMap.get("g"), strategyMap.get("a"), strategyMap.get("cc"))));
+    Map<String, Supplier<Strategy>> strategyMap = new HashMap<>();
+    strategyMap.put("g", () -> new GreedyStrat(tokenColor));
+    strategyMap.put("u", () -> new UpperLeftStrat(tokenColor));
+    strategyMap.put("a", () -> new AvoidEdgesStrat(tokenColor));
+    strategyMap.put("cc", () -> new ChooseCornersStrat(tokenColor));
+    strategyMap.put("mm", () -> new MiniMaxStrategy(tokenColor));
+    strategyMap.put("oa", () -> new OurAlgorithmStrat(tokenColor));
+    strategyMap.put("r", () -> new RandomStrat(tokenColor));
+    strategyMap.put("ab", () -> new AlphaBetaStrat(tokenColor));
+    strategyMap.put("pab", () -> new ParallelSearchStrat(tokenColor,
+            Runtime.getRuntime().availableProcessors()));
+    strategyMap.put("mcts", () -> new MonteCarloStrat(tokenColor));
+    strategyMap.put("pmcts", () -> new ParallelMonteCarloStrat(tokenColor,
+            Runtime.getRuntime().availableProcessors()));
+    strategyMap.put("es", () -> new EndgameSolverStrat(tokenColor,
+            new AlphaBetaStrat(tokenColor)));
+    strategyMap.put("san1", () -> new SandwichStrat(tokenColor, List.of(
+            strategyMap.get("g").get(), strategyMap.get("a").get(), strategyMap.get("cc").get())));
+    strategyMap.put("san2", () -> new SandwichStrat(tokenColor, List.of(
+            strategyMap.get("mm").get(), strategyMap.get("g").get())));
+    strategyMap.put("san3", () -> new SandwichStrat(tokenColor, List.of(
+            strategyMap.get("mm").get(), strategyMap.get("g").get(), strategyMap.get("a").get())));
+    strategyMap.put("san4", () -> new SandwichStrat(tokenColor, List.of(
+            strategyMap.get("mm").get(), strategyMap.get("g").get(), strategyMap.get("a").get(),
+            strategyMap.get("cc").get())));
 
     if (strategyMap.containsKey(arg)) {
-      return Optional.of(strategyMap.get(arg));
+      return Optional.of(strategyMap.get(arg).get());
     } else {
       throw new IllegalArgumentException("Invalid strategy: " + arg);
     }
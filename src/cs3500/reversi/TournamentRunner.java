@@ -0,0 +1,84 @@
+package cs3500.reversi;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.tournament.Tournament;
+import cs3500.reversi.tournament.TournamentResult;
+
+/**
+ * A class to run a headless round-robin tournament between the strategies of Reversi. No views
+ * are opened and no player waits between moves, so games are played as fast as the strategies
+ * can choose moves, several at a time. The standings are printed and written to a CSV file.
+ */
+public final class TournamentRunner {
+  /**
+   * The main method to run a tournament. The arguments are the game type ('h' for a hexagonal
+   * board of side length 6, 's' for an 8x8 square board), the number of games every pair of
+   * strategies plays, the number of games to play at once, the CSV file to write and the names of
+   * two or more strategies, as accepted by Reversi.
+   *
+   * @param args the arguments to run the tournament with
+   */
+  public static void main(String[] args) {
+    if (args.length < 6) {
+      printUsage();
+      return;
+    }
+
+    Supplier<IReversiModel> modelFactory;
+    if (args[0].equalsIgnoreCase("h")) {
+      modelFactory = () -> new HexagonReversi(6, true);
+    } else if (args[0].equalsIgnoreCase("s")) {
+      modelFactory = () -> new SquareReversi(8, true);
+    } else {
+      System.err.println("Invalid game type. Use 's' for square or 'h' for hexagonal.");
+      return;
+    }
+    int gamesPerPairing;
+    int threads;
+    try {
+      gamesPerPairing = Integer.parseInt(args[1]);
+      threads = Integer.parseInt(args[2]);
+    } catch (NumberFormatException e) {
+      printUsage();
+      return;
+    }
+    if (gamesPerPairing <= 0 || threads <= 0) {
+      System.err.println("The number of games and of threads must be positive.");
+      printUsage();
+      return;
+    }
+    Path csv = Path.of(args[3]);
+    List<String> names = Arrays.asList(args).subList(4, args.length);
+    if (names.contains("h")) {
+      System.err.println("Human players cannot take part in a tournament.");
+      return;
+    }
+
+    Tournament tournament = new Tournament(modelFactory,
+        (name, color) -> Reversi.getStrategy(name, color).orElseThrow(), names, gamesPerPairing);
+    TournamentResult result = tournament.run(threads);
+    try (Writer writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+      result.writeTable(System.out);
+      result.writeCsv(writer);
+    } catch (IOException e) {
+      System.err.println("Could not write the results to " + csv + ": " + e.getMessage());
+    }
+  }
+
+  // prints the arguments a tournament is run with.
+  private static void printUsage() {
+    System.err.println("Usage: <h|s> <games per pairing> <threads> <csv file> <strategy> "
+            + "<strategy> [strategy...]");
+  }
+}
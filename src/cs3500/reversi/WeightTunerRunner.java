@@ -0,0 +1,220 @@
+package cs3500.reversi;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.ROModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.record.GameRecordReader;
+import cs3500.reversi.record.GameRecordWriter;
+import cs3500.reversi.record.RecordedGame;
+import cs3500.reversi.strategy.PatternWeights;
+import cs3500.reversi.strategy.RandomStrat;
+import cs3500.reversi.strategy.Strategy;
+import cs3500.reversi.strategy.TrainingSet;
+import cs3500.reversi.strategy.WeightTuner;
+import cs3500.reversi.tournament.Tournament;
+
+/**
+ * A class to fit the pattern weights of the "mmp" and "abp" strategies of Reversi to the outcomes
+ * of games, from files of game records, from headless self-play, or from both, and write them to
+ * a weights file. Every tenth game is kept out of the fit to measure the error on games the
+ * weights have not seen.
+ */
+public final class WeightTunerRunner {
+  // one game in this many goes to the validation set
+  private static final int VALIDATION_EVERY = 10;
+  // the number of random moves each color opens a self-play game with, so games differ
+  private static final int RANDOM_OPENING_MOVES = 4;
+
+  /**
+   * The main method to tune weights. The arguments are the game type ('h' for a hexagonal board of
+   * side length 6, 's' for an 8x8 square board), the number of iterations, the weights file to
+   * write, and one or more sources of games: the path of a file of game records, or "selfplay:"
+   * followed by the name of a strategy and the number of games it plays against itself, such as
+   * "selfplay:mm:10000", after a few random moves of each color. Tuning starts from the weights
+   * in the file if there already is one, and from the default weights otherwise. The learning rate
+   * is read from the tuner.rate system property, 0.5 divided by the number of patterns of the
+   * board by default.
+   *
+   * @param args the arguments to tune the weights with
+   * @throws IOException if a file could not be read or written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 4) {
+      System.err.println("Usage: <h|s> <iterations> <weights file> <records file | "
+              + "selfplay:strategy:games>...");
+      return;
+    }
+
+    BoardGeometry geometry;
+    if (args[0].equalsIgnoreCase("h")) {
+      geometry = BoardGeometry.hexagon(6);
+    } else if (args[0].equalsIgnoreCase("s")) {
+      geometry = BoardGeometry.square(8);
+    } else {
+      System.err.println("Invalid game type. Use 's' for square or 'h' for hexagonal.");
+      return;
+    }
+    int iterations = Integer.parseInt(args[1]);
+    Path weightsFile = Path.of(args[2]);
+    int threads = Runtime.getRuntime().availableProcessors();
+
+    TrainingSet training = new TrainingSet(geometry);
+    TrainingSet validation = new TrainingSet(geometry);
+    int games = 0;
+    for (int i = 3; i < args.length; i++) {
+      long start = System.nanoTime();
+      List<RecordedGame> source;
+      if (args[i].startsWith("selfplay:")) {
+        String[] parts = args[i].split(":");
+        source = selfPlay(args[0].equalsIgnoreCase("h"), parts[1], Integer.parseInt(parts[2]),
+                threads);
+      } else {
+        source = new ArrayList<>();
+        try (GameRecordReader reader = new GameRecordReader(
+                new BufferedInputStream(Files.newInputStream(Path.of(args[i]))))) {
+          for (Optional<RecordedGame> game = reader.next(); game.isPresent();
+               game = reader.next()) {
+            if (game.get().getGeometry() == geometry) {
+              source.add(game.get());
+            }
+          }
+        }
+      }
+      for (RecordedGame game : source) {
+        games++;
+        if (games % VALIDATION_EVERY == 0) {
+          validation.addGame(game);
+        } else {
+          training.addGame(game);
+        }
+      }
+      System.out.printf("read %d games from %s in %.1f s%n", source.size(), args[i],
+              (System.nanoTime() - start) / 1e9);
+    }
+    System.out.printf("%d training positions, %d validation positions%n", training.size(),
+            validation.size());
+    if (training.size() == 0) {
+      System.err.println("No finished games to tune on.");
+      return;
+    }
+
+    PatternWeights initial = Files.exists(weightsFile) ? PatternWeights.load(weightsFile)
+            : PatternWeights.defaults(geometry);
+    double rate = Double.parseDouble(System.getProperty("tuner.rate",
+            String.valueOf(0.5 / initial.getPatterns().getPatternCount())));
+    try (WeightTuner tuner = new WeightTuner(training, initial, rate, threads)) {
+      int reportEvery = Math.max(1, iterations / 20);
+      for (int i = 1; i <= iterations; i++) {
+        double loss = tuner.iterate();
+        if (i % reportEvery == 0 || i == iterations) {
+          System.out.printf("iteration %d: training loss %.2f, validation loss %.2f, "
+                          + "%.1f iterations/s%n", i, loss, tuner.loss(validation),
+                  tuner.getIterationsPerSecond());
+        }
+      }
+
+      try (OutputStream out = Files.newOutputStream(weightsFile)) {
+        tuner.getWeights().write(out);
+      }
+    }
+    System.out.printf("wrote the weights to %s%n", weightsFile);
+  }
+
+  // plays the given number of games of the strategy against itself, after a random opening, on
+  // the given number of threads and returns their records.
+  private static List<RecordedGame> selfPlay(boolean hexagon, String name, int count,
+                                             int threads) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+      List<Future<Integer>> played = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        played.add(executor.submit(() -> {
+          IReversiModel model = hexagon ? new HexagonReversi(6, true) : new SquareReversi(8, true);
+          writer.record(model, name, name);
+          Strategy black = opening(name, TokenColor.BLACK);
+          Strategy white = opening(name, TokenColor.WHITE);
+          try {
+            return Tournament.playGame(model, black, white);
+          } finally {
+            black.shutdown();
+            white.shutdown();
+          }
+        }));
+      }
+      for (Future<Integer> game : played) {
+        game.get();
+      }
+    } catch (ExecutionException ex) {
+      throw new IOException("Could not play the self-play games", ex.getCause());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while playing the self-play games", ex);
+    } finally {
+      executor.shutdown();
+    }
+
+    List<RecordedGame> games = new ArrayList<>();
+    try (InputStream in = new ByteArrayInputStream(bytes.toByteArray());
+         GameRecordReader reader = new GameRecordReader(in)) {
+      for (Optional<RecordedGame> game = reader.next(); game.isPresent(); game = reader.next()) {
+        games.add(game.get());
+      }
+    }
+    return games;
+  }
+
+  private static Strategy opening(String name, TokenColor color) {
+    return new RandomOpening(color, Reversi.getStrategy(name, color).orElseThrow(
+        () -> new IllegalArgumentException("A human cannot play self-play games")));
+  }
+
+  /**
+   * Plays random moves for the first moves of its color and then lets another strategy choose.
+   */
+  private static final class RandomOpening implements Strategy {
+    private final Strategy random;
+    private final Strategy strategy;
+    private int movesLeft;
+
+    private RandomOpening(TokenColor tokenColor, Strategy strategy) {
+      this.random = new RandomStrat(tokenColor);
+      this.strategy = strategy;
+      this.movesLeft = RANDOM_OPENING_MOVES;
+    }
+
+    @Override
+    public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
+      if (this.movesLeft > 0) {
+        this.movesLeft--;
+        return this.random.chooseMove(model, filteredMoves);
+      }
+      return this.strategy.chooseMove(model, filteredMoves);
+    }
+
+    @Override
+    public void shutdown() {
+      this.strategy.shutdown();
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package cs3500.reversi.controller;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 import cs3500.reversi.model.IReversiModel;
 import cs3500.reversi.model.TokenColor;
@@ -25,6 +26,38 @@ public class Controller {
    * @param color  the color of the player that this controller controls.
    */
   public Controller(IReversiModel model, ReversiView view, IPlayer player, TokenColor color) {
+    this(model, view, player, color, Runnable::run);
+  }
+
+  /**
+   * Constructs a controller for the Reversi game that passes the turn events of the model on to
+   * the view and the player on the given executor, such as SwingUtilities::invokeLater so that a
+   * Swing view is only updated on the event thread.
+   *
+   * @param model         the model to be used for the game.
+   * @param view          the view for the particular player.
+   * @param player        the player that the controller controls.
+   * @param color         the color of the player that this controller controls.
+   * @param eventExecutor the executor to pass on the turn events of the model on.
+   */
+  public Controller(IReversiModel model, ReversiView view, IPlayer player, TokenColor color,
+                    Executor eventExecutor) {
+    this(model, view, player, color, eventExecutor, () -> view.display(false));
+  }
+
+  /**
+   * Constructs a controller for the Reversi game that passes on the turn events of the model on
+   * the given executor and runs the given action when the player quits.
+   *
+   * @param model         the model to be used for the game.
+   * @param view          the view for the particular player.
+   * @param player        the player that the controller controls.
+   * @param color         the color of the player that this controller controls.
+   * @param eventExecutor the executor to pass on the turn events of the model on.
+   * @param quitAction    what to do when the player quits.
+   */
+  public Controller(IReversiModel model, ReversiView view, IPlayer player, TokenColor color,
+                    Executor eventExecutor, Runnable quitAction) {
     IReversiModel model1;
     TokenColor color1;
     ReversiView view1;
@@ -34,12 +67,14 @@ public class Controller {
       model1 = Objects.requireNonNull(model);
       view1 = Objects.requireNonNull(view);
       player1 = Objects.requireNonNull(player);
+      Objects.requireNonNull(eventExecutor);
+      Objects.requireNonNull(quitAction);
     } catch (NullPointerException ex) {
       throw new IllegalArgumentException("Null argument(s) given to controller constructor. " +
               ex.getMessage());
     }
-    IModelFeature modelFeatures = new ModelFeatures(view1, player1);
-    IPlayerFeature playerFeatures = new PlayerFeatures(model1, view1, color1);
+    IModelFeature modelFeatures = new ModelFeatures(view1, player1, eventExecutor);
+    IPlayerFeature playerFeatures = new PlayerFeatures(model1, view1, color1, quitAction);
     view.addFeatureListener(playerFeatures);
     model.addListener(modelFeatures);
     player.addListener(playerFeatures);
@@ -1,5 +1,8 @@
 package cs3500.reversi.controller;
 
+import java.util.Optional;
+
+import cs3500.reversi.model.ICell;
 import cs3500.reversi.model.TokenColor;
 
 /**
@@ -15,6 +18,17 @@ public interface IModelFeature {
    */
   public void notifyPlayerMove(TokenColor tokenColor);
 
+  /**
+   * Tells this feature which move was just played, once it is on the board and before the next
+   * turn is announced. Features that only follow whose turn it is can ignore it.
+   *
+   * @param tokenColor the color that moved.
+   * @param cell       the cell the token was placed on, or empty if the color passed.
+   */
+  default void notifyMoveMade(TokenColor tokenColor, Optional<ICell> cell) {
+    // Most features only need to know whose turn it is.
+  }
+
   /**
    * Advances the frame of the view and displays it.
    */
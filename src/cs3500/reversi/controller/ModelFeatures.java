@@ -1,33 +1,56 @@
 package cs3500.reversi.controller;
 
+import java.util.concurrent.Executor;
+
 import cs3500.reversi.model.TokenColor;
 import cs3500.reversi.player.IPlayer;
 import cs3500.reversi.view.ReversiView;
 
 /**
- * A class to represent the features of the model.
+ * A class to represent the features of the model. The turn events of the model are passed on to
+ * the view and the player on an executor, which is the thread that made the move unless another
+ * one is given, for example the Swing event thread so that the view is only updated there.
  */
 public class ModelFeatures implements IModelFeature {
   private final ReversiView view;
   private final IPlayer player;
+  private final Executor eventExecutor;
 
   /**
-   * Constructs a ModelFeatures object.
+   * Constructs a ModelFeatures object that passes on turn events on the thread that made the move.
    *
    * @param view   the view.
    * @param player the player.
    */
   public ModelFeatures(ReversiView view, IPlayer player) {
+    this(view, player, Runnable::run);
+  }
+
+  /**
+   * Constructs a ModelFeatures object that passes on turn events on the given executor.
+   *
+   * @param view          the view.
+   * @param player        the player.
+   * @param eventExecutor the executor to update the view and tell the player on.
+   * @throws IllegalArgumentException if the executor is null.
+   */
+  public ModelFeatures(ReversiView view, IPlayer player, Executor eventExecutor) {
+    if (eventExecutor == null) {
+      throw new IllegalArgumentException("Event executor cannot be null");
+    }
     this.view = view;
     this.player = player;
+    this.eventExecutor = eventExecutor;
   }
 
 
   @Override
   public void notifyPlayerMove(TokenColor tokenColor) {
-    this.advanceFrame();
-    this.player.listenForMove(tokenColor);
-    this.view.listenToMove(tokenColor);
+    this.eventExecutor.execute(() -> {
+      this.advanceFrame();
+      this.player.listenForMove(tokenColor);
+      this.view.listenToMove(tokenColor);
+    });
   }
 
   @Override
@@ -13,18 +13,38 @@ public class PlayerFeatures implements IPlayerFeature {
   private final IReversiModel model;
   private final ReversiView view;
   private final TokenColor color;
+  private final Runnable quitAction;
 
   /**
-   * Constructs a PlayerFeatures object.
+   * Constructs a PlayerFeatures object. Quitting hides the view of the player.
    *
    * @param model the model to be used for the game.
    * @param view  the view for the particular player.
    * @param color the color of the player that this controller controls.
    */
   public PlayerFeatures(IReversiModel model, ReversiView view, TokenColor color) {
+    this(model, view, color, () -> view.display(false));
+  }
+
+  /**
+   * Constructs a PlayerFeatures object that runs the given action when the player quits, so that
+   * a program running many games can end just the one game instead of the whole program.
+   *
+   * @param model      the model to be used for the game.
+   * @param view       the view for the particular player.
+   * @param color      the color of the player that this controller controls.
+   * @param quitAction what to do when the player quits.
+   * @throws IllegalArgumentException if the quit action is null.
+   */
+  public PlayerFeatures(IReversiModel model, ReversiView view, TokenColor color,
+                        Runnable quitAction) {
+    if (quitAction == null) {
+      throw new IllegalArgumentException("Quit action cannot be null");
+    }
     this.model = model;
     this.view = view;
     this.color = color;
+    this.quitAction = quitAction;
   }
 
 
@@ -50,6 +70,6 @@ public class PlayerFeatures implements IPlayerFeature {
 
   @Override
   public void quit() {
-    System.exit(0);
+    this.quitAction.run();
   }
 }
@@ -1,9 +1,10 @@
 package cs3500.reversi.model;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import cs3500.reversi.controller.IModelFeature;
 
@@ -38,42 +39,9 @@ public class AbstractReversi implements IReversiModel{
   }
 
   @Override
-  public List<ICell> getCornerCells() {
-    List<ICell> cornerCells = new ArrayList<>();
-    for(ICell cell : this.board.getPositionsMapCopy().keySet()) {
-      if (cell.getCoordinates().get(0) == this.sideLength - 1
-              || cell.getCoordinates().get(1) == this.sideLength - 1
-              || cell.getCoordinates().get(2) == this.sideLength - 1) {
-        cornerCells.add(cell);
-      }
-    }
-    return cornerCells;
-  }
-
-  @Override
-  public List<ICell> getEdgeCells() {
-    List<ICell> edgeCells = new ArrayList<>();
-    List<ICell> cornerCells = this.getCornerCells();
-
-    // difference in q direction
-    int[] dq = this.board.getBoardDirections()[0];
-    // difference in r direction
-    int[] dr = this.board.getBoardDirections()[1];
-    // difference in s direction
-    int[] ds = this.board.getBoardDirections()[2];
-
-    for (ICell corner : cornerCells) {
-      //six directions from every cell
-      for (int i = 0; i < 6; i++) {
-        int q = corner.getCoordinates().get(0) + dq[i];
-        int r = corner.getCoordinates().get(1) + dr[i];
-        int s = corner.getCoordinates().get(2) + ds[i];
-        ICell cell = new HexagonCell(q, r, s);
-        edgeCells.add(cell);
-      }
-    }
-
-    return edgeCells;
+  public BoardGeometry getGeometry() {
+    // The tables are shared by every game of the same size, so nothing is copied.
+    return BoardGeometry.hexagon(this.sideLength);
   }
 
   @Override
@@ -100,17 +68,55 @@ public class AbstractReversi implements IReversiModel{
     } else {
       throw new IllegalStateException("Invalid move");
     }
-    this.passTurn(false);
+    try {
+      this.emitMove(this.currentTokenColor, Optional.of(targetCell));
+    } finally {
+      // The turn passes even if a listener failed to take the move.
+      this.passTurn(false);
+    }
     emitMessage();
   }
 
+  /**
+   * Tells every listener whose turn it is. A listener that fails does not keep the others from
+   * being told: once all of them have been, the first failure is thrown, with the later ones
+   * suppressed in it. The move or pass that led to the message has been made by then.
+   *
+   * @throws IllegalStateException if any listener failed.
+   */
   protected void emitMessage() {
-    try {
-      for (IModelFeature listener : this.modelFeatures) {
-        listener.notifyPlayerMove(this.getCurrentColor());
-      }
-    } catch (Exception ignored) {
+    TokenColor color = this.getCurrentColor();
+    this.tellListeners(listener -> listener.notifyPlayerMove(color));
+  }
 
+  /**
+   * Tells every listener the move a player just made, the same way emitMessage tells them whose
+   * turn it is.
+   *
+   * @param color the color that moved.
+   * @param cell  the cell the token was placed on, or empty for a pass.
+   * @throws IllegalStateException if any listener failed.
+   */
+  protected void emitMove(TokenColor color, Optional<ICell> cell) {
+    this.tellListeners(listener -> listener.notifyMoveMade(color, cell));
+  }
+
+  private void tellListeners(Consumer<IModelFeature> message) {
+    RuntimeException failure = null;
+    for (IModelFeature listener : this.modelFeatures) {
+      try {
+        message.accept(listener);
+      } catch (RuntimeException ex) {
+        if (failure == null) {
+          failure = new IllegalStateException("A listener failed to handle the turn: "
+                  + ex.getMessage(), ex);
+        } else {
+          failure.addSuppressed(ex);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
     }
   }
 
@@ -125,13 +131,20 @@ public class AbstractReversi implements IReversiModel{
       this.passCount++;
     }
 
+    TokenColor mover = this.currentTokenColor;
     if (this.currentTokenColor.equals(TokenColor.BLACK)) {
       this.currentTokenColor = TokenColor.WHITE;
     } else {
       this.currentTokenColor = TokenColor.BLACK;
     }
 
-    emitMessage();
+    try {
+      if (increment) {
+        this.emitMove(mover, Optional.empty());
+      }
+    } finally {
+      emitMessage();
+    }
   }
 
 
@@ -153,6 +166,11 @@ public class AbstractReversi implements IReversiModel{
     return this.board.getColorCount(tokenColor);
   }
 
+  @Override
+  public int getScoreDifference(TokenColor tokenColor) {
+    return this.board.scoreDifference(tokenColor);
+  }
+
   @Override
   public TokenColor getCurrentColor() throws IllegalStateException {
     return this.currentTokenColor;
@@ -186,28 +204,42 @@ public class AbstractReversi implements IReversiModel{
 
   @Override
   public int cellsFlipped(ICell cell, TokenColor tokenColor) {
-    int initialScore = this.getScore(tokenColor);
-    int finalScore = 0;
-    if (this.board.validMove(cell, tokenColor, false)) {
-      IBoard boardCopy = this.createBoardCopy();
-      boardCopy.validMove(cell, tokenColor, true);
-      finalScore = boardCopy.getColorCount(tokenColor);
+    // The board counts the captures without making the move, so this stays a read of the game.
+    int flipped = this.board.countFlips(cell, tokenColor);
+    if (flipped == 0) {
+      return -this.getScore(tokenColor);
     }
-    return finalScore - initialScore;
+    return flipped;
   }
 
   @Override
   public Optional<TokenColor> getWinner() {
-    int blackScore = this.getScore(TokenColor.BLACK);
-    int whiteScore = this.getScore(TokenColor.WHITE);
-    if (blackScore > whiteScore) {
+    int blackLead = this.board.scoreDifference(TokenColor.BLACK);
+    if (blackLead > 0) {
       return Optional.of(TokenColor.BLACK);
-    } else if (whiteScore > blackScore) {
+    } else if (blackLead < 0) {
       return Optional.of(TokenColor.WHITE);
     }
     return Optional.empty();
   }
 
+  @Override
+  public ROModel createModelCopy() {
+    AbstractReversi copy = new AbstractReversi();
+    copy.copyGame(this);
+    return copy;
+  }
+
+  //helper to make this game a copy of the given one, with a copy of its board and no listeners.
+  protected void copyGame(AbstractReversi game) {
+    this.board = game.createBoardCopy();
+    this.sideLength = game.sideLength;
+    this.currentTokenColor = game.currentTokenColor;
+    this.passCount = game.passCount;
+    this.gameRunning = game.gameRunning;
+    this.modelFeatures = new CopyOnWriteArrayList<>();
+  }
+
   @Override
   public IBoard createBoardCopy() {
     Map<ICell, Optional<TokenColor>> mapCopy = this.board.getPositionsMapCopy();
@@ -0,0 +1,340 @@
+package cs3500.reversi.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * The fixed geometry of a board of one shape and side length: which cells are its corners, which
+ * are its edges, the cells next to a corner, which are its X-squares, the cells diagonally inward
+ * from a corner, and which ring of the board every cell is on. The tables are worked out once per
+ * shape and side length and shared by every game of that size, with a bit per cell index of the
+ * cell registry, so checking whether a cell is a corner, edge or X-square takes constant time.
+ *
+ * <p>The corners of a square board are its four corner cells. The corners of a hexagonal board
+ * are its six vertices, the cells with two coordinates as far from the center as the board goes,
+ * and the X-square of a vertex is the cell one ring further in on the line to the center. Rings
+ * are counted from the middle of the board, which is ring 0.
+ */
+public final class BoardGeometry {
+  private static final Map<Integer, BoardGeometry> HEXAGONS = new ConcurrentHashMap<>();
+  private static final Map<Integer, BoardGeometry> SQUARES = new ConcurrentHashMap<>();
+
+  private final boolean hexagon;
+  private final int sideLength;
+  private final List<ICell> cells;
+  private final ToIntFunction<ICell> indexer;
+  private final long[] corners;
+  private final long[] edges;
+  private final long[] xSquares;
+  private final int[] rings;
+  private final int ringCount;
+  private final List<ICell> cornerCells;
+  private final List<ICell> edgeCells;
+  private final List<ICell> xSquareCells;
+
+  private BoardGeometry(boolean hexagon, int sideLength, List<ICell> cells,
+                        ToIntFunction<ICell> indexer, List<ICell> corners, List<ICell> xSquares,
+                        int[][] directions, int[] rings) {
+    this.hexagon = hexagon;
+    this.sideLength = sideLength;
+    this.cells = cells;
+    this.indexer = indexer;
+    this.rings = rings;
+    int maxRing = 0;
+    for (int ring : rings) {
+      maxRing = Math.max(maxRing, ring);
+    }
+    this.ringCount = maxRing + 1;
+
+    int words = (cells.size() + 63) >>> 6;
+    this.corners = new long[words];
+    this.edges = new long[words];
+    this.xSquares = new long[words];
+    for (ICell corner : corners) {
+      set(this.corners, indexer.applyAsInt(corner));
+    }
+    for (ICell xSquare : xSquares) {
+      set(this.xSquares, indexer.applyAsInt(xSquare));
+    }
+    // The edges are the cells of the board next to a corner.
+    for (ICell corner : corners) {
+      for (int[] direction : directions) {
+        int index = this.indexOfNeighbor(corner, direction);
+        if (index >= 0) {
+          set(this.edges, index);
+        }
+      }
+    }
+    this.cornerCells = this.cellsOf(this.corners);
+    this.edgeCells = this.cellsOf(this.edges);
+    this.xSquareCells = this.cellsOf(this.xSquares);
+  }
+
+  /**
+   * Returns the geometry of the hexagonal board with the given side length.
+   *
+   * @param sideLength the number of rings of hexagons apart from the center one in the board.
+   * @return the geometry of that board.
+   * @throws IllegalArgumentException if the side length is less than 3.
+   */
+  public static BoardGeometry hexagon(int sideLength) {
+    HexagonCellRegistry registry = HexagonCellRegistry.forSideLength(sideLength);
+    return HEXAGONS.computeIfAbsent(sideLength, length -> makeHexagon(registry));
+  }
+
+  /**
+   * Returns the geometry of the square board with the given side length.
+   *
+   * @param sideLength the number of cells on a side of the board.
+   * @return the geometry of that board.
+   * @throws IllegalArgumentException if the side length is not even and positive.
+   */
+  public static BoardGeometry square(int sideLength) {
+    SquareCellRegistry registry = SquareCellRegistry.forSideLength(sideLength);
+    return SQUARES.computeIfAbsent(sideLength, length -> makeSquare(registry));
+  }
+
+  /**
+   * Returns the geometry of the shape and size of the given board.
+   *
+   * @param board the board to find the geometry of.
+   * @return the geometry of that board.
+   * @throws IllegalArgumentException if the board is null or has no cells.
+   */
+  public static BoardGeometry of(IBoard board) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null");
+    }
+    Map<ICell, ?> positions = board.getPositionsMapCopy();
+    if (positions.isEmpty()) {
+      throw new IllegalArgumentException("Board has no cells");
+    }
+    if (positions.keySet().iterator().next().getCoordinates().size() == 3) {
+      return hexagon(board.getNumRings());
+    }
+    return square(2 * board.getNumRings());
+  }
+
+  private static BoardGeometry makeHexagon(HexagonCellRegistry registry) {
+    int outer = registry.getSideLength() - 1;
+    int[][] directions = new int[6][];
+    int[][] columns = new HexagonBoard(registry.getSideLength()).getBoardDirections();
+    for (int i = 0; i < 6; i++) {
+      directions[i] = new int[]{columns[0][i], columns[1][i], columns[2][i]};
+    }
+
+    List<ICell> corners = new ArrayList<>();
+    List<ICell> xSquares = new ArrayList<>();
+    // Every vertex is the farthest cell from the center in one of the six directions.
+    for (int[] direction : directions) {
+      corners.add(registry.get(outer * direction[0], outer * direction[1]));
+      if (outer > 1) {
+        xSquares.add(registry.get((outer - 1) * direction[0], (outer - 1) * direction[1]));
+      }
+    }
+    int[] rings = new int[registry.size()];
+    for (int index = 0; index < rings.length; index++) {
+      ICell cell = registry.get(index);
+      rings[index] = Math.max(Math.abs(cell.coordinate(0)),
+              Math.max(Math.abs(cell.coordinate(1)), Math.abs(cell.coordinate(2))));
+    }
+    return new BoardGeometry(true, registry.getSideLength(), registry.cells(), registry::indexOf,
+            corners, xSquares, directions, rings);
+  }
+
+  private static BoardGeometry makeSquare(SquareCellRegistry registry) {
+    int half = registry.getSideLength() / 2;
+    int[][] directions = new SquareBoard(registry.getSideLength()).getBoardDirections();
+
+    List<ICell> corners = new ArrayList<>();
+    List<ICell> xSquares = new ArrayList<>();
+    for (int row : new int[]{-half, half}) {
+      for (int col : new int[]{-half, half}) {
+        corners.add(registry.get(row, col));
+        if (half > 1) {
+          xSquares.add(registry.get(row - Integer.signum(row), col - Integer.signum(col)));
+        }
+      }
+    }
+    int[] rings = new int[registry.size()];
+    for (int index = 0; index < rings.length; index++) {
+      ICell cell = registry.get(index);
+      rings[index] = Math.max(Math.abs(cell.coordinate(0)), Math.abs(cell.coordinate(1))) - 1;
+    }
+    return new BoardGeometry(false, registry.getSideLength(), registry.cells(), registry::indexOf,
+            corners, xSquares, directions, rings);
+  }
+
+  // the index of the neighbor of the cell in the direction, or -1 if it is off the board.
+  private int indexOfNeighbor(ICell cell, int[] direction) {
+    if (direction.length == 3) {
+      return this.indexer.applyAsInt(new HexagonCell(cell.coordinate(0) + direction[0],
+              cell.coordinate(1) + direction[1], cell.coordinate(2) + direction[2]));
+    }
+    int row = cell.coordinate(0) + direction[0];
+    int col = cell.coordinate(1) + direction[1];
+    if (row == 0 || col == 0) {
+      // Square coordinates skip 0, so the neighbor is one further.
+      row += (row == 0) ? direction[0] : 0;
+      col += (col == 0) ? direction[1] : 0;
+    }
+    return this.indexer.applyAsInt(new SquareCell(row, col));
+  }
+
+  private List<ICell> cellsOf(long[] bits) {
+    List<ICell> found = new ArrayList<>();
+    for (int index = 0; index < this.cells.size(); index++) {
+      if (isSet(bits, index)) {
+        found.add(this.cells.get(index));
+      }
+    }
+    return Collections.unmodifiableList(found);
+  }
+
+  private static void set(long[] bits, int index) {
+    bits[index >>> 6] |= 1L << index;
+  }
+
+  private static boolean isSet(long[] bits, int index) {
+    return index >= 0 && (bits[index >>> 6] & (1L << index)) != 0;
+  }
+
+  /**
+   * Returns whether the board is hexagonal rather than square.
+   *
+   * @return whether the board is a hexagon.
+   */
+  public boolean isHexagon() {
+    return this.hexagon;
+  }
+
+  /**
+   * Returns the side length of the board, as given to hexagon or square.
+   *
+   * @return the side length.
+   */
+  public int getSideLength() {
+    return this.sideLength;
+  }
+
+  /**
+   * Returns the number of cells of the board, which are numbered in the order of the cell
+   * registry of its shape and size.
+   *
+   * @return the number of cells.
+   */
+  public int getCellCount() {
+    return this.cells.size();
+  }
+
+  /**
+   * Returns the cell with the given index in the cell registry of the board.
+   *
+   * @param index the index of the cell.
+   * @return the cell.
+   * @throws IllegalArgumentException if there is no cell with that index.
+   */
+  public ICell cellAt(int index) {
+    if (index < 0 || index >= this.cells.size()) {
+      throw new IllegalArgumentException("No cell with index " + index);
+    }
+    return this.cells.get(index);
+  }
+
+  /**
+   * Returns the index of the cell in the cell registry of the board.
+   *
+   * @param cell the cell to find.
+   * @return the index of the cell, or -1 if it is not on the board.
+   * @throws IllegalArgumentException if the cell is null.
+   */
+  public int indexOf(ICell cell) {
+    return this.indexer.applyAsInt(cell);
+  }
+
+  /**
+   * Returns the corner cells of the board in index order.
+   *
+   * @return an unmodifiable list of the corners.
+   */
+  public List<ICell> getCornerCells() {
+    return this.cornerCells;
+  }
+
+  /**
+   * Returns the edge cells of the board, the cells next to a corner, in index order.
+   *
+   * @return an unmodifiable list of the edges.
+   */
+  public List<ICell> getEdgeCells() {
+    return this.edgeCells;
+  }
+
+  /**
+   * Returns the X-squares of the board, the cells diagonally inward from a corner, in index order.
+   *
+   * @return an unmodifiable list of the X-squares.
+   */
+  public List<ICell> getXSquareCells() {
+    return this.xSquareCells;
+  }
+
+  /**
+   * Returns whether the cell is a corner of the board.
+   *
+   * @param cell the cell to check.
+   * @return whether the cell is a corner.
+   * @throws IllegalArgumentException if the cell is null.
+   */
+  public boolean isCorner(ICell cell) {
+    return isSet(this.corners, this.indexer.applyAsInt(cell));
+  }
+
+  /**
+   * Returns whether the cell is an edge of the board, next to a corner.
+   *
+   * @param cell the cell to check.
+   * @return whether the cell is an edge.
+   * @throws IllegalArgumentException if the cell is null.
+   */
+  public boolean isEdge(ICell cell) {
+    return isSet(this.edges, this.indexer.applyAsInt(cell));
+  }
+
+  /**
+   * Returns whether the cell is an X-square of the board, diagonally inward from a corner.
+   *
+   * @param cell the cell to check.
+   * @return whether the cell is an X-square.
+   * @throws IllegalArgumentException if the cell is null.
+   */
+  public boolean isXSquare(ICell cell) {
+    return isSet(this.xSquares, this.indexer.applyAsInt(cell));
+  }
+
+  /**
+   * Returns the ring of the board the cell is on, 0 for the middle of the board and
+   * getRingCount() - 1 for the outside.
+   *
+   * @param cell the cell to check.
+   * @return the ring of the cell, or -1 if it is not on the board.
+   * @throws IllegalArgumentException if the cell is null.
+   */
+  public int ringOf(ICell cell) {
+    int index = this.indexer.applyAsInt(cell);
+    return (index < 0) ? -1 : this.rings[index];
+  }
+
+  /**
+   * Returns the number of rings of the board.
+   *
+   * @return the number of rings.
+   */
+  public int getRingCount() {
+    return this.ringCount;
+  }
+}
@@ -0,0 +1,379 @@
+package cs3500.reversi.model;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The symmetries of a board of one shape and size: the 12 rotations and reflections of a hexagonal
+ * board, or the 8 of a square board. Positions that are the same up to a symmetry play the same,
+ * so caches, books and databases can store one of them, the canonical form, and map moves in and
+ * out of it.
+ *
+ * <p>Transforms are numbered from 0, which is the identity, and each has a table of where it takes
+ * every cell index. The canonical form of a position is the one of its transformed positions whose
+ * token bitsets, by cell index, are the smallest: the black bitsets compared from the highest
+ * cell down, then the white ones. Its Zobrist key is worked out from a table of the key of a token
+ * on the image of every cell, without making the transformed board. The standard 8x8 bitboard is
+ * transformed with a few shifts and masks per transform instead of the tables. The tables are
+ * worked out once per shape and size and shared.
+ */
+public final class BoardSymmetry {
+  private static final Map<BoardGeometry, BoardSymmetry> SYMMETRIES = new ConcurrentHashMap<>();
+
+  private final BoardGeometry geometry;
+  private final int cellCount;
+  // forward[t][i] is the index of the cell transform t takes cell i to
+  private final int[][] forward;
+  private final int[] inverse;
+  // backward[t][i] is the index of the cell transform t takes to cell i
+  private final int[][] backward;
+  // the keys of a black and of a white token on the image of every cell, by t * cells + i
+  private final long[] blackKeys;
+  private final long[] whiteKeys;
+  // for the 8x8 board, the bit operations of every transform, see transformSquare
+  private final int[] squareOps;
+
+  private BoardSymmetry(BoardGeometry geometry, int[][] forward) {
+    this.geometry = geometry;
+    this.cellCount = geometry.getCellCount();
+    this.forward = forward;
+    this.inverse = new int[forward.length];
+    for (int t = 0; t < forward.length; t++) {
+      for (int u = 0; u < forward.length; u++) {
+        if (this.undoes(u, t)) {
+          this.inverse[t] = u;
+        }
+      }
+    }
+    this.backward = new int[forward.length][];
+    for (int t = 0; t < forward.length; t++) {
+      this.backward[t] = forward[this.inverse[t]];
+    }
+    this.blackKeys = new long[forward.length * this.cellCount];
+    this.whiteKeys = new long[forward.length * this.cellCount];
+    for (int t = 0; t < forward.length; t++) {
+      for (int i = 0; i < this.cellCount; i++) {
+        ICell image = geometry.cellAt(forward[t][i]);
+        this.blackKeys[t * this.cellCount + i] = Zobrist.cellKey(image, TokenColor.BLACK);
+        this.whiteKeys[t * this.cellCount + i] = Zobrist.cellKey(image, TokenColor.WHITE);
+      }
+    }
+    this.squareOps = (geometry == BoardGeometry.square(8)) ? this.findSquareOps() : null;
+  }
+
+  // the bit operations that move every bit of the 8x8 bitboard as each transform moves its cell.
+  private int[] findSquareOps() {
+    int[] ops = new int[this.forward.length];
+    for (int t = 0; t < this.forward.length; t++) {
+      ops[t] = -1;
+      for (int op = 0; op < 8 && ops[t] < 0; op++) {
+        boolean matches = true;
+        for (int i = 0; i < this.cellCount && matches; i++) {
+          matches = transformSquare(op, 1L << i) == 1L << this.forward[t][i];
+        }
+        ops[t] = matches ? op : -1;
+      }
+      if (ops[t] < 0) {
+        throw new IllegalStateException("No bit operations for transform " + t);
+      }
+    }
+    return ops;
+  }
+
+  // transposes the 8x8 bitboard if bit 0 of op is set, then flips the rows if bit 1 is set, then
+  // mirrors the columns if bit 2 is set.
+  private static long transformSquare(int op, long bits) {
+    if ((op & 1) != 0) {
+      long swap = 0x0F0F0F0F00000000L & (bits ^ (bits << 28));
+      bits ^= swap ^ (swap >>> 28);
+      swap = 0x3333000033330000L & (bits ^ (bits << 14));
+      bits ^= swap ^ (swap >>> 14);
+      swap = 0x5500550055005500L & (bits ^ (bits << 7));
+      bits ^= swap ^ (swap >>> 7);
+    }
+    if ((op & 2) != 0) {
+      bits = Long.reverseBytes(bits);
+    }
+    if ((op & 4) != 0) {
+      bits = ((bits >>> 1) & 0x5555555555555555L) | ((bits & 0x5555555555555555L) << 1);
+      bits = ((bits >>> 2) & 0x3333333333333333L) | ((bits & 0x3333333333333333L) << 2);
+      bits = ((bits >>> 4) & 0x0F0F0F0F0F0F0F0FL) | ((bits & 0x0F0F0F0F0F0F0F0FL) << 4);
+    }
+    return bits;
+  }
+
+  // whether transform u takes every cell back to where it was before transform t.
+  private boolean undoes(int u, int t) {
+    for (int i = 0; i < this.cellCount; i++) {
+      if (this.forward[u][this.forward[t][i]] != i) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the symmetries of the board of the given geometry.
+   *
+   * @param geometry the geometry of the board.
+   * @return the symmetries of that board.
+   * @throws IllegalArgumentException if the geometry is null.
+   */
+  public static BoardSymmetry of(BoardGeometry geometry) {
+    if (geometry == null) {
+      throw new IllegalArgumentException("Geometry cannot be null");
+    }
+    return SYMMETRIES.computeIfAbsent(geometry, BoardSymmetry::make);
+  }
+
+  private static BoardSymmetry make(BoardGeometry geometry) {
+    int count = geometry.isHexagon() ? 12 : 8;
+    int half = count / 2;
+    int[][] forward = new int[count][geometry.getCellCount()];
+    for (int i = 0; i < geometry.getCellCount(); i++) {
+      ICell cell = geometry.cellAt(i);
+      for (int t = 0; t < count; t++) {
+        ICell image;
+        if (geometry.isHexagon()) {
+          int q = cell.coordinate(0);
+          int r = cell.coordinate(1);
+          int s = cell.coordinate(2);
+          if (t >= half) {
+            // Reflect across the q axis by swapping r and s.
+            int swap = r;
+            r = s;
+            s = swap;
+          }
+          for (int turn = 0; turn < t % half; turn++) {
+            // Rotate by 60 degrees.
+            int oldQ = q;
+            q = -r;
+            r = -s;
+            s = -oldQ;
+          }
+          image = new HexagonCell(q, r, s);
+        } else {
+          int row = cell.coordinate(0);
+          int col = cell.coordinate(1);
+          if (t >= half) {
+            // Reflect across the vertical axis.
+            col = -col;
+          }
+          for (int turn = 0; turn < t % half; turn++) {
+            // Rotate by 90 degrees; square coordinates skip 0, so negating stays on the board.
+            int oldRow = row;
+            row = col;
+            col = -oldRow;
+          }
+          image = new SquareCell(row, col);
+        }
+        forward[t][i] = geometry.indexOf(image);
+      }
+    }
+    return new BoardSymmetry(geometry, forward);
+  }
+
+  /**
+   * Returns the geometry of the board of these symmetries.
+   *
+   * @return the geometry of the board.
+   */
+  public BoardGeometry getGeometry() {
+    return this.geometry;
+  }
+
+  /**
+   * Returns the number of symmetries of the board, counting the identity.
+   *
+   * @return 12 for a hexagonal board, 8 for a square one.
+   */
+  public int getTransformCount() {
+    return this.forward.length;
+  }
+
+  /**
+   * Returns the transform that undoes the given one.
+   *
+   * @param transform the transform to undo.
+   * @return the inverse transform.
+   * @throws IllegalArgumentException if there is no such transform.
+   */
+  public int inverse(int transform) {
+    this.checkTransform(transform);
+    return this.inverse[transform];
+  }
+
+  /**
+   * Returns the index of the cell the given transform takes the cell with the given index to.
+   *
+   * @param transform the transform to apply.
+   * @param index     the index of the cell in the geometry of the board.
+   * @return the index of the image of the cell.
+   * @throws IllegalArgumentException if there is no such transform or cell.
+   */
+  public int apply(int transform, int index) {
+    this.checkTransform(transform);
+    if (index < 0 || index >= this.cellCount) {
+      throw new IllegalArgumentException("No cell with index " + index);
+    }
+    return this.forward[transform][index];
+  }
+
+  /**
+   * Returns the cell the given transform takes the given cell to.
+   *
+   * @param transform the transform to apply.
+   * @param cell      the cell on the board.
+   * @return the image of the cell.
+   * @throws IllegalArgumentException if there is no such transform, or the cell is null or not on
+   *                                  the board.
+   */
+  public ICell apply(int transform, ICell cell) {
+    if (cell == null) {
+      throw new IllegalArgumentException("Cell cannot be null");
+    }
+    return this.geometry.cellAt(this.apply(transform, this.geometry.indexOf(cell)));
+  }
+
+  /**
+   * Returns a new board holding the given board after the given transform.
+   *
+   * @param transform the transform to apply.
+   * @param board     the board, of the geometry of these symmetries.
+   * @return the transformed board.
+   * @throws IllegalArgumentException if there is no such transform or the board is null.
+   */
+  public IBoard apply(int transform, IBoard board) {
+    this.checkTransform(transform);
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null");
+    }
+    int side = this.geometry.getSideLength();
+    IBoard image = this.geometry.isHexagon() ? new HexagonBoard(side) : new SquareBoard(side);
+    for (int i = 0; i < this.cellCount; i++) {
+      image.newCellOwner(this.geometry.cellAt(this.forward[transform][i]),
+              board.getCellOccupant(this.geometry.cellAt(i)));
+    }
+    return image;
+  }
+
+  /**
+   * Finds the canonical form of the given position, the smallest of the positions the symmetries
+   * of the board take it to. Boards backed by bitboards are read straight from their bitsets.
+   *
+   * @param board the board, of the geometry of these symmetries.
+   * @return the key of the canonical form and the transform that takes the board to it.
+   * @throws IllegalArgumentException if the board is null or of another size.
+   */
+  public CanonicalPosition canonicalize(IBoard board) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null");
+    }
+    if (board instanceof HexagonBitboard && this.geometry.isHexagon()
+            && board.getNumRings() == this.geometry.getSideLength()) {
+      HexagonBitboard bitboard = (HexagonBitboard) board;
+      return this.canonicalize(bitboard.tokens(TokenColor.BLACK),
+              bitboard.tokens(TokenColor.WHITE));
+    }
+    if (board instanceof SquareBitboard && this.squareOps != null) {
+      SquareBitboard bitboard = (SquareBitboard) board;
+      return this.canonicalizeSquare(bitboard.tokens(TokenColor.BLACK),
+              bitboard.tokens(TokenColor.WHITE));
+    }
+    long[] black = new long[(this.cellCount + 63) >>> 6];
+    long[] white = new long[black.length];
+    for (int i = 0; i < this.cellCount; i++) {
+      Optional<TokenColor> occupant = board.getCellOccupant(this.geometry.cellAt(i));
+      if (occupant.isPresent()) {
+        long[] bits = (occupant.get() == TokenColor.BLACK) ? black : white;
+        bits[i >>> 6] |= 1L << i;
+      }
+    }
+    return this.canonicalize(black, white);
+  }
+
+  /**
+   * Finds the canonical form of the position with the given tokens.
+   *
+   * @param black the bitset of the cells with black tokens, by cell index.
+   * @param white the bitset of the cells with white tokens, by cell index.
+   * @return the key of the canonical form and the transform that takes the position to it.
+   * @throws IllegalArgumentException if a bitset is null or too short for the board.
+   */
+  public CanonicalPosition canonicalize(long[] black, long[] white) {
+    int words = (this.cellCount + 63) >>> 6;
+    if (black == null || white == null || black.length < words || white.length < words) {
+      throw new IllegalArgumentException("Bitsets must cover every cell of the board");
+    }
+    if (this.squareOps != null) {
+      return this.canonicalizeSquare(black[0], white[0]);
+    }
+    int best = 0;
+    for (int t = 1; t < this.forward.length; t++) {
+      if (this.isSmaller(t, best, black, white)) {
+        best = t;
+      }
+    }
+    long key = 0;
+    for (int word = 0; word < words; word++) {
+      key ^= this.keyOf(best, word, black[word], this.blackKeys)
+              ^ this.keyOf(best, word, white[word], this.whiteKeys);
+    }
+    return new CanonicalPosition(this, key, best);
+  }
+
+  private CanonicalPosition canonicalizeSquare(long black, long white) {
+    long bestBlack = black;
+    long bestWhite = white;
+    int best = 0;
+    for (int t = 1; t < this.squareOps.length; t++) {
+      long nextBlack = transformSquare(this.squareOps[t], black);
+      int compare = Long.compareUnsigned(nextBlack, bestBlack);
+      if (compare <= 0) {
+        long nextWhite = transformSquare(this.squareOps[t], white);
+        if (compare < 0 || Long.compareUnsigned(nextWhite, bestWhite) < 0) {
+          bestBlack = nextBlack;
+          bestWhite = nextWhite;
+          best = t;
+        }
+      }
+    }
+    return new CanonicalPosition(this, this.keyOf(best, 0, black, this.blackKeys)
+            ^ this.keyOf(best, 0, white, this.whiteKeys), best);
+  }
+
+  // whether transform t takes the position to a smaller one than transform u does, comparing the
+  // cells from the highest down and stopping at the first that differs.
+  private boolean isSmaller(int t, int u, long[] black, long[] white) {
+    int[] fromT = this.backward[t];
+    int[] fromU = this.backward[u];
+    for (long[] bits : new long[][]{black, white}) {
+      for (int cell = this.cellCount - 1; cell >= 0; cell--) {
+        long bitT = bits[fromT[cell] >>> 6] >>> fromT[cell];
+        long bitU = bits[fromU[cell] >>> 6] >>> fromU[cell];
+        if (((bitT ^ bitU) & 1) != 0) {
+          return (bitT & 1) == 0;
+        }
+      }
+    }
+    return false;
+  }
+
+  // the XOR of the keys of the images under transform t of the set bits of one word of a bitset.
+  private long keyOf(int t, int word, long bits, long[] keys) {
+    int base = t * this.cellCount + (word << 6);
+    long key = 0;
+    while (bits != 0) {
+      key ^= keys[base + Long.numberOfTrailingZeros(bits)];
+      bits &= bits - 1;
+    }
+    return key;
+  }
+
+  private void checkTransform(int transform) {
+    if (transform < 0 || transform >= this.forward.length) {
+      throw new IllegalArgumentException("No transform " + transform);
+    }
+  }
+}
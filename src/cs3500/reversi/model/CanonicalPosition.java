@@ -0,0 +1,60 @@
+package cs3500.reversi.model;
+
+/**
+ * The canonical form of a position, found by BoardSymmetry: its Zobrist key, which is the same
+ * for every position that is the same up to a rotation or reflection of the board, and the
+ * transform that takes the position to it, so moves can be mapped into the canonical form and back
+ * out of it.
+ */
+public final class CanonicalPosition {
+  private final BoardSymmetry symmetry;
+  private final long key;
+  private final int transform;
+
+  CanonicalPosition(BoardSymmetry symmetry, long key, int transform) {
+    this.symmetry = symmetry;
+    this.key = key;
+    this.transform = transform;
+  }
+
+  /**
+   * Returns the Zobrist key of the canonical form. Like the key of a board, it does not say whose
+   * turn it is.
+   *
+   * @return the key of the canonical form.
+   */
+  public long getKey() {
+    return this.key;
+  }
+
+  /**
+   * Returns the transform that takes the position to its canonical form.
+   *
+   * @return the number of the transform in the BoardSymmetry.
+   */
+  public int getTransform() {
+    return this.transform;
+  }
+
+  /**
+   * Returns the cell of the canonical form that the given cell of the position is taken to.
+   *
+   * @param cell a cell of the position, such as a move.
+   * @return the same cell in the canonical form.
+   * @throws IllegalArgumentException if the cell is null or not on the board.
+   */
+  public ICell toCanonical(ICell cell) {
+    return this.symmetry.apply(this.transform, cell);
+  }
+
+  /**
+   * Returns the cell of the position that the given cell of the canonical form came from.
+   *
+   * @param cell a cell of the canonical form, such as a move stored for it.
+   * @return the same cell in the position.
+   * @throws IllegalArgumentException if the cell is null or not on the board.
+   */
+  public ICell fromCanonical(ICell cell) {
+    return this.symmetry.apply(this.symmetry.inverse(this.transform), cell);
+  }
+}
@@ -0,0 +1,491 @@
+package cs3500.reversi.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This class represents a hexagonal board for the game of HexagonReversi that stores its state in
+ * bitsets. Every cell of the board is mapped to a dense bit index, and the black and white tokens
+ * are kept in two long[] bitsets. The cells reachable from each cell in each of the six directions
+ * are precomputed once per board, so checking and flipping a move never allocates a cell.
+ *
+ * <p>The legal moves of each color are kept in a bitset as well. A change to a cell can only
+ * change the legality of the cell itself and of the first empty cell past the tokens next to it
+ * in each direction, so only those cells are marked to be checked again, and the list returned by
+ * validMovesLeft is reused until the board changes.</p>
+ */
+public class HexagonBitboard implements IBoard {
+  private static final Optional<TokenColor> BLACK = Optional.of(TokenColor.BLACK);
+  private static final Optional<TokenColor> WHITE = Optional.of(TokenColor.WHITE);
+
+  private final int sideLength;
+  // the canonical cells of the board, their index is their bit index
+  private final HexagonCellRegistry registry;
+  // rays[index][direction] holds the indices of the cells walked from index in that direction
+  private final int[][][] rays;
+  // Zobrist keys of a black and of a white token on every index
+  private final long[] blackKeys;
+  private final long[] whiteKeys;
+
+  private final long[] present;
+  private final long[] black;
+  private final long[] white;
+  private long positionKey;
+  // number of black and of white tokens
+  private int blackCount;
+  private int whiteCount;
+  // the legal moves of each color, and the cells to check again, indexed by color ordinal
+  private final long[][] legal;
+  private final long[][] dirty;
+  private List<ICell> blackMoves;
+  private List<ICell> whiteMoves;
+
+  /**
+   * Constructor for a HexagonBitboard. Takes in a side length for the board.
+   *
+   * @param sideLength the number of rings of hexagons apart from the center one in the board.
+   * @throws IllegalArgumentException if the side length is less than 3.
+   */
+  public HexagonBitboard(int sideLength) {
+    // Throw an exception if the side length is less than 3 because the board will be too small
+    // to play a game.
+    if (sideLength < 3) {
+      throw new IllegalArgumentException("Side length must be greater than 2");
+    }
+    this.sideLength = sideLength;
+    this.registry = HexagonCellRegistry.forSideLength(sideLength);
+    this.rays = this.buildRays();
+    this.blackKeys = new long[this.registry.size()];
+    this.whiteKeys = new long[this.registry.size()];
+    for (int index = 0; index < this.registry.size(); index++) {
+      this.blackKeys[index] = Zobrist.cellKey(this.registry.get(index), TokenColor.BLACK);
+      this.whiteKeys[index] = Zobrist.cellKey(this.registry.get(index), TokenColor.WHITE);
+    }
+
+    int words = (this.registry.size() + 63) >>> 6;
+    this.present = new long[words];
+    this.black = new long[words];
+    this.white = new long[words];
+    this.legal = new long[2][words];
+    this.dirty = new long[2][words];
+  }
+
+  /**
+   * Copy constructor for a HexagonBitboard. The precomputed tables are immutable and are shared
+   * with the given board, only the token bitsets are copied.
+   *
+   * @param other the board to copy.
+   */
+  public HexagonBitboard(HexagonBitboard other) {
+    this.sideLength = other.sideLength;
+    this.registry = other.registry;
+    this.rays = other.rays;
+    this.blackKeys = other.blackKeys;
+    this.whiteKeys = other.whiteKeys;
+    this.positionKey = other.positionKey;
+    this.blackCount = other.blackCount;
+    this.whiteCount = other.whiteCount;
+    this.present = other.present.clone();
+    this.black = other.black.clone();
+    this.white = other.white.clone();
+    this.legal = new long[][]{other.legal[0].clone(), other.legal[1].clone()};
+    this.dirty = new long[][]{other.dirty[0].clone(), other.dirty[1].clone()};
+    this.blackMoves = other.blackMoves;
+    this.whiteMoves = other.whiteMoves;
+  }
+
+  // helper to precompute the cells walked from every cell in every direction
+  private int[][][] buildRays() {
+    int[][] directions = this.getBoardDirections();
+    int[][][] ret = new int[this.registry.size()][6][];
+    for (int index = 0; index < this.registry.size(); index++) {
+      HexagonCell cell = this.registry.get(index);
+      for (int direction = 0; direction < 6; direction++) {
+        List<Integer> ray = new ArrayList<>();
+        int q = cell.q() + directions[0][direction];
+        int r = cell.r() + directions[1][direction];
+        int s = cell.s() + directions[2][direction];
+        while (isInBounds(q, r, s)) {
+          ray.add(this.registry.indexOf(q, r));
+          q += directions[0][direction];
+          r += directions[1][direction];
+          s += directions[2][direction];
+        }
+        ret[index][direction] = ray.stream().mapToInt(Integer::intValue).toArray();
+      }
+    }
+    return ret;
+  }
+
+  // helper to check if the target cell is in bounds
+  private boolean isInBounds(int q, int r, int s) {
+    return Math.abs(q) < sideLength && Math.abs(r) < sideLength && Math.abs(s) < sideLength;
+  }
+
+  // Returns the index of the given cell, throws an exception if the cell is null or out of bounds.
+  private int indexOf(ICell cell) {
+    int index = this.registry.indexOf(cell);
+    if (index < 0) {
+      throw new IllegalArgumentException("Invalid coordinates for the target cell, "
+              + "coordinates out of bounds");
+    }
+    return index;
+  }
+
+  private static boolean get(long[] bits, int index) {
+    return (bits[index >>> 6] & (1L << index)) != 0;
+  }
+
+  private static void set(long[] bits, int index) {
+    bits[index >>> 6] |= 1L << index;
+  }
+
+  private static void clear(long[] bits, int index) {
+    bits[index >>> 6] &= ~(1L << index);
+  }
+
+  @Override
+  public void newCellOwner(ICell cell, Optional<TokenColor> color) {
+    int index = this.indexOf(cell);
+    if (color == null) {
+      throw new IllegalArgumentException("Null color passed into this method.");
+    }
+    set(this.present, index);
+    if (get(this.black, index)) {
+      this.positionKey ^= this.blackKeys[index];
+      this.blackCount--;
+    } else if (get(this.white, index)) {
+      this.positionKey ^= this.whiteKeys[index];
+      this.whiteCount--;
+    }
+    clear(this.black, index);
+    clear(this.white, index);
+    if (color.isPresent()) {
+      boolean isBlack = color.get() == TokenColor.BLACK;
+      set(isBlack ? this.black : this.white, index);
+      this.positionKey ^= isBlack ? this.blackKeys[index] : this.whiteKeys[index];
+      this.addToCount(isBlack ? this.black : this.white, 1);
+    }
+    this.touch(index);
+  }
+
+  // marks the cells whose legality a change of the cell at index may have changed: the cell itself
+  // and, in every direction, the first empty cell past the tokens next to it.
+  private void touch(int index) {
+    set(this.dirty[0], index);
+    set(this.dirty[1], index);
+    for (int[] ray : this.rays[index]) {
+      for (int target : ray) {
+        if (!get(this.black, target) && !get(this.white, target)) {
+          set(this.dirty[0], target);
+          set(this.dirty[1], target);
+          break;
+        }
+      }
+    }
+    this.blackMoves = null;
+    this.whiteMoves = null;
+  }
+
+  @Override
+  public Optional<TokenColor> getCellOccupant(ICell cell) throws IllegalArgumentException {
+    return this.occupant(this.indexOf(cell));
+  }
+
+  // returns the occupant of the cell at the given index.
+  private Optional<TokenColor> occupant(int index) {
+    if (get(this.black, index)) {
+      return BLACK;
+    } else if (get(this.white, index)) {
+      return WHITE;
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public boolean validMove(ICell cell, TokenColor colorToAdd, boolean flip) {
+    int index = this.indexOf(cell);
+    if (get(this.black, index) || get(this.white, index)) {
+      throw new IllegalStateException("Cell is already occupied.");
+    }
+
+    long[] own = colorToAdd == TokenColor.BLACK ? this.black : this.white;
+    long[] opponent = colorToAdd == TokenColor.BLACK ? this.white : this.black;
+    if (!flip) {
+      return this.hasCapture(index, own, opponent);
+    }
+    return this.flipCaptures(index, own, opponent, null) > 0;
+  }
+
+  @Override
+  public int countFlips(ICell cell, TokenColor colorToAdd) {
+    int index = this.indexOf(cell);
+    if (get(this.black, index) || get(this.white, index)) {
+      throw new IllegalStateException("Cell is already occupied.");
+    }
+
+    long[] own = colorToAdd == TokenColor.BLACK ? this.black : this.white;
+    long[] opponent = colorToAdd == TokenColor.BLACK ? this.white : this.black;
+    int flipped = 0;
+    for (int[] ray : this.rays[index]) {
+      if (ray.length < 2 || !get(opponent, ray[0])) {
+        continue;
+      }
+      int k = 1;
+      while (k < ray.length && get(opponent, ray[k])) {
+        k++;
+      }
+      if (k < ray.length && get(own, ray[k])) {
+        flipped += k;
+      }
+    }
+    return flipped;
+  }
+
+  @Override
+  public MoveUndo makeMove(ICell cell, TokenColor colorToAdd, MoveUndo undo) {
+    int index = this.indexOf(cell);
+    if (undo == null) {
+      throw new IllegalArgumentException("Null move record passed into this method.");
+    }
+    if (get(this.black, index) || get(this.white, index)) {
+      throw new IllegalStateException("Cell is already occupied.");
+    }
+
+    long[] own = colorToAdd == TokenColor.BLACK ? this.black : this.white;
+    long[] opponent = colorToAdd == TokenColor.BLACK ? this.white : this.black;
+    if (!this.hasCapture(index, own, opponent)) {
+      throw new IllegalStateException("Invalid move");
+    }
+    undo.start(this.registry.get(index), index, colorToAdd);
+    this.flipCaptures(index, own, opponent, undo);
+    set(this.present, index);
+    set(own, index);
+    this.addToCount(own, 1);
+    this.positionKey ^= (own == this.black) ? this.blackKeys[index] : this.whiteKeys[index];
+    this.touch(index);
+    return undo;
+  }
+
+  @Override
+  public void undoMove(MoveUndo undo) {
+    if (undo == null) {
+      throw new IllegalArgumentException("Null move record passed into this method.");
+    }
+    long[] own = undo.getColor() == TokenColor.BLACK ? this.black : this.white;
+    long[] opponent = undo.getColor() == TokenColor.BLACK ? this.white : this.black;
+    for (int i = 0; i < undo.getFlipCount(); i++) {
+      int index = undo.getFlippedIndex(i);
+      clear(own, index);
+      set(opponent, index);
+      this.positionKey ^= this.blackKeys[index] ^ this.whiteKeys[index];
+    }
+    int placed = undo.getPlacedIndex();
+    clear(own, placed);
+    this.addToCount(own, -1 - undo.getFlipCount());
+    this.addToCount(opponent, undo.getFlipCount());
+    this.positionKey ^= (own == this.black) ? this.blackKeys[placed] : this.whiteKeys[placed];
+    for (int i = 0; i < undo.getFlipCount(); i++) {
+      this.touch(undo.getFlippedIndex(i));
+    }
+    this.touch(placed);
+  }
+
+  // returns whether placing a token at index captures at least one opponent token.
+  private boolean hasCapture(int index, long[] own, long[] opponent) {
+    for (int[] ray : this.rays[index]) {
+      if (ray.length < 2 || !get(opponent, ray[0])) {
+        continue;
+      }
+      for (int k = 1; k < ray.length; k++) {
+        int target = ray[k];
+        if (get(own, target)) {
+          return true;
+        } else if (!get(opponent, target)) {
+          break;
+        }
+      }
+    }
+    return false;
+  }
+
+  // flips every token captured by placing a token at index and returns how many were flipped. The
+  // flipped cells are recorded in undo unless it is null.
+  private int flipCaptures(int index, long[] own, long[] opponent, MoveUndo undo) {
+    int flipped = 0;
+    for (int[] ray : this.rays[index]) {
+      if (ray.length < 2 || !get(opponent, ray[0])) {
+        continue;
+      }
+      int k = 1;
+      while (k < ray.length && get(opponent, ray[k])) {
+        k++;
+      }
+      if (k < ray.length && get(own, ray[k])) {
+        for (int j = 0; j < k; j++) {
+          clear(opponent, ray[j]);
+          set(own, ray[j]);
+          this.positionKey ^= this.blackKeys[ray[j]] ^ this.whiteKeys[ray[j]];
+          this.touch(ray[j]);
+          if (undo != null) {
+            undo.addFlip(this.registry.get(ray[j]), ray[j]);
+          }
+        }
+        flipped += k;
+      }
+    }
+    this.addToCount(own, flipped);
+    this.addToCount(opponent, -flipped);
+    return flipped;
+  }
+
+  // adds the given amount to the count of the tokens in the given bitset.
+  private void addToCount(long[] bits, int amount) {
+    if (bits == this.black) {
+      this.blackCount += amount;
+    } else {
+      this.whiteCount += amount;
+    }
+  }
+
+  @Override
+  public String toString() {
+    int rows = 2 * sideLength;
+    int columns = 2 * sideLength;
+
+    // Create a 2D array to represent the board
+    String[][] boardArray = new String[rows][columns];
+
+    // Initialize the array with " " for empty cells
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < columns; j++) {
+        boardArray[i][j] = " ";
+      }
+    }
+
+    // Populate the board with player symbols or "-" based on the cell state
+    for (int index = 0; index < this.registry.size(); index++) {
+      if (get(this.present, index)) {
+        HexagonCell cell = this.registry.get(index);
+        int x = cell.q() + sideLength; //q
+        int y = cell.r() + sideLength; //r
+        boardArray[y][x] = this.occupant(index).map(TokenColor::toString).orElse("-");
+      }
+    }
+
+    // Adjusts the spacing for every line in the board
+    for (int i = 0; i < rows; i++) {
+      for (int j = i; j > 0; j--) {
+        boardArray[i][0] = boardArray[i][0] + " ";
+      }
+    }
+
+    // Build the string representation of the board
+    StringBuilder boardString = new StringBuilder();
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < columns; j++) {
+        boardString.append(boardArray[i][j]).append(" ");
+      }
+      boardString.append("\n");
+    }
+    return boardString.toString();
+  }
+
+  @Override
+  public int getColorCount(TokenColor color) {
+    return color == TokenColor.BLACK ? this.blackCount : this.whiteCount;
+  }
+
+  @Override
+  public int scoreDifference(TokenColor color) {
+    int difference = this.blackCount - this.whiteCount;
+    return (color == TokenColor.BLACK) ? difference : -difference;
+  }
+
+  @Override
+  public List<ICell> validMovesLeft(TokenColor colorToAdd) {
+    boolean isBlack = colorToAdd == TokenColor.BLACK;
+    List<ICell> cached = isBlack ? this.blackMoves : this.whiteMoves;
+    if (cached != null) {
+      return cached;
+    }
+
+    long[] own = isBlack ? this.black : this.white;
+    long[] opponent = isBlack ? this.white : this.black;
+    long[] legalMoves = this.legal[colorToAdd.ordinal()];
+    long[] dirtyCells = this.dirty[colorToAdd.ordinal()];
+    int count = 0;
+    for (int word = 0; word < this.present.length; word++) {
+      // Only the registered cells that are empty can be a valid move.
+      long empty = this.present[word] & ~(this.black[word] | this.white[word]);
+      long check = dirtyCells[word];
+      dirtyCells[word] = 0;
+      legalMoves[word] &= ~check;
+      check &= empty;
+      while (check != 0) {
+        int index = (word << 6) + Long.numberOfTrailingZeros(check);
+        check &= check - 1;
+        if (this.hasCapture(index, own, opponent)) {
+          legalMoves[word] |= 1L << index;
+        }
+      }
+      count += Long.bitCount(legalMoves[word]);
+    }
+
+    List<ICell> validMoves = new ArrayList<>(count);
+    for (int word = 0; word < legalMoves.length; word++) {
+      for (long bits = legalMoves[word]; bits != 0; bits &= bits - 1) {
+        validMoves.add(this.registry.get((word << 6) + Long.numberOfTrailingZeros(bits)));
+      }
+    }
+    validMoves = Collections.unmodifiableList(validMoves);
+    if (isBlack) {
+      this.blackMoves = validMoves;
+    } else {
+      this.whiteMoves = validMoves;
+    }
+    return validMoves;
+  }
+
+
+  @Override
+  public Map<ICell, Optional<TokenColor>> getPositionsMapCopy() {
+    Map<ICell, Optional<TokenColor>> mapCopy = new HashMap<>();
+    for (int index = 0; index < this.registry.size(); index++) {
+      if (get(this.present, index)) {
+        mapCopy.put(this.registry.get(index), this.occupant(index));
+      }
+    }
+    return Collections.unmodifiableMap(mapCopy);
+  }
+
+  // the bitset of the tokens of the given color, by cell index; callers must not change it.
+  long[] tokens(TokenColor color) {
+    return (color == TokenColor.BLACK) ? this.black : this.white;
+  }
+
+  @Override
+  public long getPositionKey() {
+    return this.positionKey;
+  }
+
+  @Override
+  public int getNumRings() {
+    return sideLength;
+  }
+
+  @Override
+  public int[][] getBoardDirections() {
+    int[][] ret = {
+            {1, -1, 0, 0, -1, 1},
+            {-1, 1, -1, 1, 0, 0},
+            {0, 0, 1, -1, 1, -1}
+    };
+
+    return ret;
+  }
+}
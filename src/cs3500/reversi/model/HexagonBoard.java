@@ -13,6 +13,14 @@ import java.util.Optional;
 public class HexagonBoard implements IBoard {
   private final HashMap<ICell, Optional<TokenColor>> boardPositions;
   private final int sideLength;
+  // the canonical cells of the board, used as the keys of boardPositions
+  private final HexagonCellRegistry registry;
+  // Zobrist key of the tokens on the board
+  private long positionKey;
+  // number of tokens of each color, indexed by color ordinal
+  private final int[] colorCounts = new int[TokenColor.values().length];
+  // legal moves of both colors, updated only around the cells that change
+  private final LegalMoveCache moveCache;
 
   /**
    * Constructor for a HexagonBoard. Takes in a side length for the board.
@@ -27,6 +35,8 @@ public class HexagonBoard implements IBoard {
     }
     this.boardPositions = new HashMap<>();
     this.sideLength = sideLength;
+    this.registry = HexagonCellRegistry.forSideLength(sideLength);
+    this.moveCache = new LegalMoveCache(this.registry.cells(), this.registry::indexOf);
   }
 
   @Override
@@ -34,7 +44,102 @@ public class HexagonBoard implements IBoard {
     // Throws an exception if the cell is null.
     checkCellNotNull(cell);
     checkCellInBounds(cell);
-    this.boardPositions.put(cell, color);
+    checkColorNotNull(color);
+    this.setOccupant(this.registry.intern(cell), color);
+  }
+
+  // sets the occupant of the cell, keeping the position key up to date
+  private void setOccupant(ICell cell, Optional<TokenColor> color) {
+    Optional<TokenColor> previous = this.boardPositions.put(cell, color);
+    if (previous != null && previous.isPresent()) {
+      this.positionKey ^= Zobrist.cellKey(cell, previous.get());
+      this.colorCounts[previous.get().ordinal()]--;
+    }
+    if (color != null && color.isPresent()) {
+      this.positionKey ^= Zobrist.cellKey(cell, color.get());
+      this.colorCounts[color.get().ordinal()]++;
+    }
+    this.moveCache.recordChange(cell, previous);
+  }
+
+  // Tells the move cache which cells the change of the given cell may have made legal or illegal:
+  // the cell itself and, in every direction, the first empty cell past the tokens next to it. The
+  // frontier around the cell is updated as well.
+  private void updateMoveCache(ICell cell) {
+    this.moveCache.invalidate(cell);
+    int[][] directions = this.getBoardDirections();
+    for (int direction = 0; direction < 6; direction++) {
+      int q = cell.coordinate(0) + directions[0][direction];
+      int r = cell.coordinate(1) + directions[1][direction];
+      int s = cell.coordinate(2) + directions[2][direction];
+      while (isInBounds(q, r, s)) {
+        ICell target = this.registry.get(q, r);
+        Optional<TokenColor> occupant = this.boardPositions.get(target);
+        if (occupant == null) {
+          break;
+        }
+        if (occupant.isEmpty()) {
+          this.moveCache.invalidate(target);
+          break;
+        }
+        q += directions[0][direction];
+        r += directions[1][direction];
+        s += directions[2][direction];
+      }
+    }
+
+    if (this.boardPositions.get(cell).isPresent()) {
+      // The empty cells next to a new token are on the frontier, whatever else is next to them.
+      this.moveCache.setFrontier(cell, false);
+      for (ICell neighbor : this.neighbors(cell)) {
+        if (this.boardPositions.get(neighbor).isEmpty()) {
+          this.moveCache.setFrontier(neighbor, true);
+        }
+      }
+    } else {
+      this.updateFrontier(cell);
+      for (ICell neighbor : this.neighbors(cell)) {
+        this.updateFrontier(neighbor);
+      }
+    }
+  }
+
+  // puts the cell on the frontier if it is empty and next to an occupied cell.
+  private void updateFrontier(ICell cell) {
+    Optional<TokenColor> occupant = this.boardPositions.get(cell);
+    boolean onFrontier = false;
+    if (occupant != null && occupant.isEmpty()) {
+      for (ICell neighbor : this.neighbors(cell)) {
+        if (this.boardPositions.get(neighbor).isPresent()) {
+          onFrontier = true;
+          break;
+        }
+      }
+    }
+    this.moveCache.setFrontier(cell, onFrontier);
+  }
+
+  // returns the cells on the board next to the given cell.
+  private List<ICell> neighbors(ICell cell) {
+    int[][] directions = this.getBoardDirections();
+    List<ICell> neighbors = new ArrayList<>(6);
+    for (int direction = 0; direction < 6; direction++) {
+      int q = cell.coordinate(0) + directions[0][direction];
+      int r = cell.coordinate(1) + directions[1][direction];
+      int s = cell.coordinate(2) + directions[2][direction];
+      if (isInBounds(q, r, s)) {
+        ICell neighbor = this.registry.get(q, r);
+        if (this.boardPositions.containsKey(neighbor)) {
+          neighbors.add(neighbor);
+        }
+      }
+    }
+    return neighbors;
+  }
+
+  @Override
+  public long getPositionKey() {
+    return this.positionKey;
   }
 
   // Throws an exception if the cell is null.
@@ -44,11 +149,18 @@ public class HexagonBoard implements IBoard {
     }
   }
 
+  // Throws an exception if the color is null.
+  private void checkColorNotNull(Optional<TokenColor> color) {
+    if (color == null) {
+      throw new IllegalArgumentException("Null color passed into this method.");
+    }
+  }
+
   // Throws an exception if the cell is out of bounds.
   private void checkCellInBounds(ICell cell) {
-    if (Math.abs(cell.getCoordinates().get(0)) >= sideLength
-            || Math.abs(cell.getCoordinates().get(1)) >= sideLength
-            || Math.abs(cell.getCoordinates().get(2)) >= sideLength) {
+    if (Math.abs(cell.coordinate(0)) >= sideLength
+            || Math.abs(cell.coordinate(1)) >= sideLength
+            || Math.abs(cell.coordinate(2)) >= sideLength) {
       throw new IllegalArgumentException("Invalid coordinates for the target cell, "
               + "coordinates out of bounds");
     }
@@ -77,6 +189,55 @@ public class HexagonBoard implements IBoard {
     return !cellsFlip.isEmpty();
   }
 
+  @Override
+  public int countFlips(ICell cell, TokenColor colorToAdd) {
+    checkCellNotNull(cell);
+    checkCellInBounds(cell);
+    if (this.boardPositions.get(cell).isPresent()) {
+      throw new IllegalStateException("Cell is already occupied.");
+    }
+    return calculateFlippableCells(cell, colorToAdd).size();
+  }
+
+  @Override
+  public MoveUndo makeMove(ICell cell, TokenColor colorToAdd, MoveUndo undo) {
+    checkCellNotNull(cell);
+    checkCellInBounds(cell);
+    checkUndoNotNull(undo);
+    if (this.boardPositions.get(cell).isPresent()) {
+      throw new IllegalStateException("Cell is already occupied.");
+    }
+
+    List<ICell> cellsFlip = calculateFlippableCells(cell, colorToAdd);
+    if (cellsFlip.isEmpty()) {
+      throw new IllegalStateException("Invalid move");
+    }
+    undo.start(cell, -1, colorToAdd);
+    for (ICell flipped : cellsFlip) {
+      undo.addFlip(flipped, -1);
+    }
+    flipMechanism(cellsFlip, colorToAdd);
+    this.setOccupant(cell, Optional.of(colorToAdd));
+    return undo;
+  }
+
+  @Override
+  public void undoMove(MoveUndo undo) {
+    checkUndoNotNull(undo);
+    Optional<TokenColor> opponent = Optional.of(undo.getColor().next());
+    for (int i = 0; i < undo.getFlipCount(); i++) {
+      this.setOccupant(undo.getFlippedCell(i), opponent);
+    }
+    this.setOccupant(undo.getPlacedCell(), Optional.empty());
+  }
+
+  // Throws an exception if the move record is null.
+  private void checkUndoNotNull(MoveUndo undo) {
+    if (undo == null) {
+      throw new IllegalArgumentException("Null move record passed into this method.");
+    }
+  }
+
   // helper method to calculate the cells that will be flipped
   private List<ICell> calculateFlippableCells(ICell cell, TokenColor colorToAdd) {
     List<ICell> cellsFlip = new ArrayList<>();
@@ -100,23 +261,21 @@ public class HexagonBoard implements IBoard {
                                       int sChange, List<ICell> cellsFlip) {
     boolean foundOppositeColor = false;
     List<ICell> cellsFlipTemp = new ArrayList<>();
-    int targetQ = cell.getCoordinates().get(0) + qChange;
-    int targetR = cell.getCoordinates().get(1) + rChange;
-    int targetS = cell.getCoordinates().get(2) + sChange;
-    ICell firstCell = new HexagonCell(targetQ, targetR, targetS);
-
-    try {
-      if (getCellOccupant(firstCell).isEmpty() || getCellOccupant(firstCell).
-              equals(Optional.of(colorToAdd))) {
-        return;
-      }
-    } catch (IllegalArgumentException ignored) {
+    int targetQ = cell.coordinate(0) + qChange;
+    int targetR = cell.coordinate(1) + rChange;
+    int targetS = cell.coordinate(2) + sChange;
+    if (!isInBounds(targetQ, targetR, targetS)) {
+      return;
+    }
+    ICell firstCell = this.registry.get(targetQ, targetR);
+    if (getCellOccupant(firstCell).isEmpty() || getCellOccupant(firstCell).
+            equals(Optional.of(colorToAdd))) {
       return;
     }
 
     // First cell -> black
     while (isInBounds(targetQ, targetR, targetS)) {
-      ICell targetCell = new HexagonCell(targetQ, targetR, targetS);
+      ICell targetCell = this.registry.get(targetQ, targetR);
       Optional<TokenColor> cellOccupant = boardPositions.get(targetCell);
 
       if (cellOccupant.isEmpty()) {
@@ -164,13 +323,11 @@ public class HexagonBoard implements IBoard {
       }
     }
 
-    System.out.println(getPositionsMapCopy().keySet().size());
     // Populate the board with player symbols or "X" based on the cell state
     for (ICell cell : boardPositions.keySet()) {
       Optional<TokenColor> occupant = boardPositions.get(cell);
-      List<Integer> coordinates = cell.getCoordinates();
-      int x = coordinates.get(0) + sideLength; //q
-      int y = coordinates.get(1) + sideLength; //r
+      int x = cell.coordinate(0) + sideLength; //q
+      int y = cell.coordinate(1) + sideLength; //r
       boardArray[y][x] = occupant.map(TokenColor::toString).orElse("-");
     }
 
@@ -196,43 +353,33 @@ public class HexagonBoard implements IBoard {
 
   @Override
   public int getColorCount(TokenColor color) {
-    int score = 0;
-    // Iterate through all the cells in the board
-    for (ICell cell : this.boardPositions.keySet()) {
-      // If the cell is occupied by the player, increment the score
-      if (this.boardPositions.get(cell).equals(Optional.of(color))) {
-        score++;
-      }
-    }
-    return score;
+    return this.colorCounts[color.ordinal()];
   }
 
+  @Override
+  public int scoreDifference(TokenColor color) {
+    return this.colorCounts[color.ordinal()] - this.colorCounts[color.next().ordinal()];
+  }
+
+  /**
+   * Returns the cells where the given color can place a token. The moves are cached, and only the
+   * cells along the lines of the cells changed since the last call are checked again, so asking
+   * again before the board changes costs nothing. The returned list cannot be modified.
+   *
+   * @param colorToAdd the color to find the moves of.
+   * @return the legal moves of the color.
+   */
   @Override
   public List<ICell> validMovesLeft(TokenColor colorToAdd) {
-    // Create a list to store the valid moves
-    List<ICell> validMoves = new ArrayList<>();
-    // Iterate through all the cells in the board
-    for (ICell cell : this.boardPositions.keySet()) {
-      // If the move is a valid move, for the playerToAdd, add that cell to the return list
-      if (this.getCellOccupant(cell).isEmpty()) {
-        if (validMove(cell, colorToAdd, false)) {
-          validMoves.add(cell);
-        }
-      }
-    }
-    // Return the list of valid moves
-    return validMoves;
+    this.moveCache.processChanges(this.boardPositions::get, this::updateMoveCache);
+    return this.moveCache.validMoves(colorToAdd, this.boardPositions.keySet(),
+            cell -> !calculateFlippableCells(cell, colorToAdd).isEmpty());
   }
 
   @Override
   public Map<ICell, Optional<TokenColor>> getPositionsMapCopy() {
-    Map<ICell, Optional<TokenColor>> mapCopy = new HashMap<>();
-    for (ICell cell : this.boardPositions.keySet()) {
-      ICell addCell = new HexagonCell(cell.getCoordinates().get(0), cell.getCoordinates().get(1),
-              cell.getCoordinates().get(2));
-      mapCopy.put(addCell, this.boardPositions.get(cell));
-    }
-    return Collections.unmodifiableMap(mapCopy);
+    // Cells are immutable, so the copy can share them.
+    return Collections.unmodifiableMap(new HashMap<>(this.boardPositions));
   }
 
   @Override
@@ -2,18 +2,22 @@ package cs3500.reversi.model;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 /**
  * Represents a cell within a reversi game with a hexagonal board.
  * Coordinate system used to represent a hexagonal board is cube coordinates.
  * Information about cube coordinate system
  * <a href="https://www.redblobgames.com/grids/hexagons/">here</a>
+ * The boards hand out canonical instances from a HexagonCellRegistry, which also know their dense
+ * index on the board. Cells made with the public constructor are equal to the canonical ones but
+ * have no index.
  */
 public final class HexagonCell implements ICell {
   private final int q;
   private final int r;
   private final int s;
+  // index in the registry that made this cell, -1 if it was not made by a registry
+  private final int index;
 
   /**
    * Constructor for a HexagonCell. Takes in the cube coordinates of the cell.
@@ -32,6 +36,52 @@ public final class HexagonCell implements ICell {
     this.q = q;
     this.r = r;
     this.s = s;
+    this.index = -1;
+  }
+
+  // Constructor for the canonical cell at the given index of a registry.
+  HexagonCell(int q, int r, int s, int index) {
+    this.q = q;
+    this.r = r;
+    this.s = s;
+    this.index = index;
+  }
+
+  /**
+   * Returns the q coordinate of this cell.
+   *
+   * @return the q coordinate.
+   */
+  public int q() {
+    return this.q;
+  }
+
+  /**
+   * Returns the r coordinate of this cell.
+   *
+   * @return the r coordinate.
+   */
+  public int r() {
+    return this.r;
+  }
+
+  /**
+   * Returns the s coordinate of this cell.
+   *
+   * @return the s coordinate.
+   */
+  public int s() {
+    return this.s;
+  }
+
+  /**
+   * Returns the dense index of this cell in the HexagonCellRegistry that made it, or -1 if it was
+   * made with the public constructor. Registries check the index belongs to them before using it.
+   *
+   * @return the index of this cell, or -1.
+   */
+  public int index() {
+    return this.index;
   }
 
   @Override
@@ -48,7 +98,22 @@ public final class HexagonCell implements ICell {
 
   @Override
   public int hashCode() {
-    return Objects.hash(q, r, s);
+    // Same value as Objects.hash(q, r, s), without boxing the coordinates.
+    return ((31 + q) * 31 + r) * 31 + s;
+  }
+
+  @Override
+  public int coordinate(int i) {
+    switch (i) {
+      case 0:
+        return this.q;
+      case 1:
+        return this.r;
+      case 2:
+        return this.s;
+      default:
+        throw new IndexOutOfBoundsException("No coordinate at position " + i);
+    }
   }
 
   @Override
@@ -0,0 +1,172 @@
+package cs3500.reversi.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The canonical cells of a hexagonal board of one side length. Every cell of the board is made
+ * once, gets a dense index from 0 to size() - 1, and is looked up by its coordinates through a
+ * table instead of being allocated again, so the boards, models and strategies can share the same
+ * instances. Registries are immutable and there is one per side length.
+ */
+public final class HexagonCellRegistry {
+  private static final Map<Integer, HexagonCellRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+  private final int sideLength;
+  private final int rings;
+  // width of the (q, r) lookup table
+  private final int span;
+  // maps (q + rings) * span + (r + rings) to the cell index, -1 for spots outside of the hexagon
+  private final int[] indexTable;
+  private final HexagonCell[] cells;
+  private final List<ICell> cellList;
+
+  private HexagonCellRegistry(int sideLength) {
+    this.sideLength = sideLength;
+    this.rings = sideLength - 1;
+    this.span = 2 * this.rings + 1;
+    this.indexTable = new int[this.span * this.span];
+    Arrays.fill(this.indexTable, -1);
+
+    List<HexagonCell> made = new ArrayList<>();
+    for (int q = -rings; q <= rings; q++) {
+      int r1 = Math.max(-rings, -q - rings);
+      int r2 = Math.min(rings, -q + rings);
+      for (int r = r1; r <= r2; r++) {
+        this.indexTable[(q + rings) * span + (r + rings)] = made.size();
+        made.add(new HexagonCell(q, r, -q - r, made.size()));
+      }
+    }
+    this.cells = made.toArray(new HexagonCell[0]);
+    this.cellList = Collections.unmodifiableList(Arrays.asList(this.cells));
+  }
+
+  /**
+   * Returns the registry of the board with the given side length.
+   *
+   * @param sideLength the number of rings of hexagons apart from the center one in the board.
+   * @return the registry of that board.
+   * @throws IllegalArgumentException if the side length is not positive.
+   */
+  public static HexagonCellRegistry forSideLength(int sideLength) {
+    if (sideLength < 1) {
+      throw new IllegalArgumentException("Side length must be positive");
+    }
+    return REGISTRIES.computeIfAbsent(sideLength, HexagonCellRegistry::new);
+  }
+
+  /**
+   * Returns the side length of the board of this registry.
+   *
+   * @return the side length.
+   */
+  public int getSideLength() {
+    return this.sideLength;
+  }
+
+  /**
+   * Returns the number of cells of the board.
+   *
+   * @return the number of cells.
+   */
+  public int size() {
+    return this.cells.length;
+  }
+
+  /**
+   * Returns the cell with the given index.
+   *
+   * @param index the index of the cell.
+   * @return the canonical cell.
+   * @throws IndexOutOfBoundsException if there is no cell with that index.
+   */
+  public HexagonCell get(int index) {
+    return this.cells[index];
+  }
+
+  /**
+   * Returns the index of the cell with the given q and r coordinates, or -1 if it is not on the
+   * board.
+   *
+   * @param q the q coordinate of the cell.
+   * @param r the r coordinate of the cell.
+   * @return the index of the cell, or -1.
+   */
+  public int indexOf(int q, int r) {
+    int s = -q - r;
+    if (Math.abs(q) > rings || Math.abs(r) > rings || Math.abs(s) > rings) {
+      return -1;
+    }
+    return this.indexTable[(q + rings) * span + (r + rings)];
+  }
+
+  /**
+   * Returns the cell with the given q and r coordinates.
+   *
+   * @param q the q coordinate of the cell.
+   * @param r the r coordinate of the cell.
+   * @return the canonical cell.
+   * @throws IllegalArgumentException if the cell is not on the board.
+   */
+  public HexagonCell get(int q, int r) {
+    int index = this.indexOf(q, r);
+    if (index < 0) {
+      throw new IllegalArgumentException("Invalid coordinates for the target cell, "
+              + "coordinates out of bounds");
+    }
+    return this.cells[index];
+  }
+
+  /**
+   * Returns the index of the given cell, or -1 if it is not a cell of the board. Canonical cells
+   * of this registry are answered without a lookup.
+   *
+   * @param cell the cell to find.
+   * @return the index of the cell, or -1.
+   * @throws IllegalArgumentException if the cell is null.
+   */
+  public int indexOf(ICell cell) {
+    if (cell == null) {
+      throw new IllegalArgumentException("Null cell passed into this method.");
+    }
+    if (cell instanceof HexagonCell) {
+      HexagonCell hex = (HexagonCell) cell;
+      int index = hex.index();
+      if (index >= 0 && index < this.cells.length && this.cells[index] == hex) {
+        return index;
+      }
+    }
+    int q = cell.coordinate(0);
+    int r = cell.coordinate(1);
+    if (q + r + cell.coordinate(2) != 0) {
+      return -1;
+    }
+    return this.indexOf(q, r);
+  }
+
+  /**
+   * Returns the canonical instance of the given cell, or the cell itself if it is not on the
+   * board.
+   *
+   * @param cell the cell to intern.
+   * @return the canonical cell equal to the given one.
+   * @throws IllegalArgumentException if the cell is null.
+   */
+  public ICell intern(ICell cell) {
+    int index = this.indexOf(cell);
+    return (index < 0) ? cell : this.cells[index];
+  }
+
+  /**
+   * Returns every cell of the board in index order.
+   *
+   * @return an unmodifiable list of the cells.
+   */
+  public List<ICell> cells() {
+    return this.cellList;
+  }
+}
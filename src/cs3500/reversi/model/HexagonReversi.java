@@ -1,9 +1,9 @@
 package cs3500.reversi.model;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import cs3500.reversi.controller.IModelFeature;
 
@@ -12,6 +12,11 @@ import cs3500.reversi.controller.IModelFeature;
  * HexReversi is a hexagonal version of the game Reversi.
  */
 public class HexagonReversi extends AbstractReversi {
+  // constructs a game to be made a copy of another with copyGame.
+  private HexagonReversi() {
+    // The fields are set by copyGame.
+  }
+
   /**
    * Constructor for a HexagonReversi model. Takes in a board, current player, pass count, and
    * whether the game has started or not.
@@ -20,6 +25,18 @@ public class HexagonReversi extends AbstractReversi {
    * @throws IllegalArgumentException if the side length is less than 3
    */
   public HexagonReversi(int sideLength) throws IllegalArgumentException {
+    this(sideLength, false);
+  }
+
+  /**
+   * Constructor for a HexagonReversi model that can choose the board implementation. The bitboard
+   * is a faster drop-in replacement for the HexagonBoard, meant for AI heavy games.
+   *
+   * @param sideLength  the side length of the board.
+   * @param useBitboard whether the game is played on a HexagonBitboard instead of a HexagonBoard.
+   * @throws IllegalArgumentException if the side length is less than 3
+   */
+  public HexagonReversi(int sideLength, boolean useBitboard) throws IllegalArgumentException {
     if (sideLength < 3) {
       throw new IllegalArgumentException("Side length must be greater than 2");
     } else {
@@ -30,9 +47,10 @@ public class HexagonReversi extends AbstractReversi {
 
     this.currentTokenColor = TokenColor.BLACK;
     this.passCount = 0;
-    this.board = this.initBoard(sideLength); // rings excluding the center cell = sideLength - 1
+    // rings excluding the center cell = sideLength - 1
+    this.board = this.initBoard(sideLength, useBitboard);
     this.addStartingMoves();
-    this.modelFeatures = new ArrayList<>();
+    this.modelFeatures = new CopyOnWriteArrayList<>();
   }
 
   /**
@@ -52,34 +70,44 @@ public class HexagonReversi extends AbstractReversi {
     this.currentTokenColor = TokenColor.BLACK;
     this.passCount = 0;
     this.board = hexBoard;
-    this.modelFeatures = new ArrayList<>();
+    this.modelFeatures = new CopyOnWriteArrayList<>();
     this.gameRunning = true;
   }
 
   //helper to initialize a board based on sideLength
-  protected IBoard initBoard(int sideLength) throws IllegalStateException {
-    IBoard hexReturn = new HexagonBoard(sideLength);
-    int rings = sideLength - 1;
-    for (int q = -rings; q <= rings; q++) {
-      int r1 = Math.max(-rings, -q - rings);
-      int r2 = Math.min(rings, -q + rings);
-
-      for (int r = r1; r <= r2; r++) {
-        HexagonCell hp = new HexagonCell(q, r, -q - r);
-        hexReturn.newCellOwner(hp, Optional.empty());
-      }
+  protected IBoard initBoard(int sideLength, boolean useBitboard) throws IllegalStateException {
+    IBoard hexReturn = (useBitboard) ? new HexagonBitboard(sideLength)
+            : new HexagonBoard(sideLength);
+    for (ICell cell : HexagonCellRegistry.forSideLength(sideLength).cells()) {
+      hexReturn.newCellOwner(cell, Optional.empty());
     }
     return hexReturn;
   }
 
   //helper to add the starting moves of each player
   private void addStartingMoves() {
-    this.board.newCellOwner(new HexagonCell(-1, 1, 0), Optional.of(TokenColor.WHITE));
-    this.board.newCellOwner(new HexagonCell(-1, 0, 1), Optional.of(TokenColor.BLACK));
-    this.board.newCellOwner(new HexagonCell(1, 0, -1), Optional.of(TokenColor.WHITE));
-    this.board.newCellOwner(new HexagonCell(1, -1, 0), Optional.of(TokenColor.BLACK));
-    this.board.newCellOwner(new HexagonCell(0, -1, 1), Optional.of(TokenColor.WHITE));
-    this.board.newCellOwner(new HexagonCell(0, 1, -1), Optional.of(TokenColor.BLACK ));
+    HexagonCellRegistry cells = HexagonCellRegistry.forSideLength(this.sideLength);
+    this.board.newCellOwner(cells.get(-1, 1), Optional.of(TokenColor.WHITE));
+    this.board.newCellOwner(cells.get(-1, 0), Optional.of(TokenColor.BLACK));
+    this.board.newCellOwner(cells.get(1, 0), Optional.of(TokenColor.WHITE));
+    this.board.newCellOwner(cells.get(1, -1), Optional.of(TokenColor.BLACK));
+    this.board.newCellOwner(cells.get(0, -1), Optional.of(TokenColor.WHITE));
+    this.board.newCellOwner(cells.get(0, 1), Optional.of(TokenColor.BLACK));
+  }
+
+  @Override
+  public ROModel createModelCopy() {
+    HexagonReversi copy = new HexagonReversi();
+    copy.copyGame(this);
+    return copy;
+  }
+
+  @Override
+  public IBoard createBoardCopy() {
+    if (this.board instanceof HexagonBitboard) {
+      return new HexagonBitboard((HexagonBitboard) this.board);
+    }
+    return super.createBoardCopy();
   }
 
 }
@@ -40,6 +40,59 @@ public interface IBoard {
   boolean validMove(ICell cell, TokenColor tokenColor, boolean flip) throws IllegalArgumentException
           , IllegalStateException;
 
+  /**
+   * Returns the number of tokens that placing a token of the given color on the given cell would
+   * flip, without changing the board.
+   *
+   * @param cell       the cell to place the token on.
+   * @param tokenColor the color of the token to place.
+   * @return the number of flipped tokens, 0 if the move captures nothing.
+   * @throws IllegalArgumentException if the cell is null or the coordinates are out of bounds.
+   * @throws IllegalStateException    if the cell is already occupied.
+   */
+  int countFlips(ICell cell, TokenColor tokenColor) throws IllegalArgumentException,
+          IllegalStateException;
+
+  /**
+   * Places a token of the given color on the given cell and flips every cell captured by it,
+   * recording the change in the given record so that it can be reverted with undoMove. The record
+   * is overwritten, which lets a search reuse one record per ply instead of copying the board.
+   *
+   * @param cell       the cell to place the token on.
+   * @param tokenColor the color of the token to place.
+   * @param undo       the record to write the move into.
+   * @return the given record.
+   * @throws IllegalArgumentException if the cell or record is null or the cell is out of bounds.
+   * @throws IllegalStateException    if the cell is already occupied or the move captures nothing.
+   */
+  MoveUndo makeMove(ICell cell, TokenColor tokenColor, MoveUndo undo)
+          throws IllegalArgumentException, IllegalStateException;
+
+  /**
+   * Places a token of the given color on the given cell, flipping every captured cell, and returns
+   * a new record of the move.
+   *
+   * @param cell       the cell to place the token on.
+   * @param tokenColor the color of the token to place.
+   * @return the record of the move.
+   * @throws IllegalArgumentException if the cell is null or out of bounds.
+   * @throws IllegalStateException    if the cell is already occupied or the move captures nothing.
+   */
+  default MoveUndo makeMove(ICell cell, TokenColor tokenColor) throws IllegalArgumentException,
+          IllegalStateException {
+    return this.makeMove(cell, tokenColor, new MoveUndo());
+  }
+
+  /**
+   * Reverts the move in the given record, which must be the last move made on this board that has
+   * not been undone yet. The placed cell becomes empty again and every flipped cell goes back to
+   * the opponent of the move.
+   *
+   * @param undo the record of the move to revert.
+   * @throws IllegalArgumentException if the record is null.
+   */
+  void undoMove(MoveUndo undo) throws IllegalArgumentException;
+
 
   /**
    * Renders the board as a string.
@@ -56,6 +109,16 @@ public interface IBoard {
    */
   int getColorCount(TokenColor tokenColor);
 
+  /**
+   * Returns the number of tokens of the given color minus the number of tokens of the other color.
+   * Boards keep both counts up to date as tokens are placed and flipped, so this takes constant
+   * time.
+   *
+   * @param tokenColor Player whose lead is to be returned.
+   * @return The lead in tokens of the given player, negative if the player is behind.
+   */
+  int scoreDifference(TokenColor tokenColor);
+
 
   /**
    * Returns a list of valid moves left for the given player.
@@ -73,6 +136,15 @@ public interface IBoard {
    */
   Map<ICell, Optional<TokenColor>> getPositionsMapCopy();
 
+  /**
+   * Returns the Zobrist key of the tokens on this board. The key is kept up to date on every
+   * placed and flipped token, and is the same for every board with the same tokens on the same
+   * cells. It does not include whose turn it is.
+   *
+   * @return the Zobrist key of this board.
+   */
+  long getPositionKey();
+
   int getNumRings();
 
   int[][] getBoardDirections();
@@ -11,6 +11,19 @@ public interface ICell {
    */
   List<Integer> getCoordinates();
 
+  /**
+   * Returns one coordinate of the location of this cell, the same as getCoordinates().get(i).
+   * Cells override this to read the coordinate without building the list, which is what hot loops
+   * should call.
+   *
+   * @param i the position of the coordinate in getCoordinates().
+   * @return the coordinate.
+   * @throws IndexOutOfBoundsException if this cell has no coordinate at that position.
+   */
+  default int coordinate(int i) {
+    return this.getCoordinates().get(i);
+  }
+
   /**
    * Returns whether the given object is equal to this cell.
    *
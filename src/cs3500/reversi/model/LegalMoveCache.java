@@ -0,0 +1,179 @@
+package cs3500.reversi.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * The legal moves of both colors on a board, kept up to date across moves. The board records every
+ * cell it changes, which is all a move or an undo costs, and the next time the moves of a color are
+ * asked for it works out from those cells which empty cells are on the frontier (next to an
+ * occupied cell, the only cells where a move can capture) and which ones a change may have made
+ * legal or illegal. Only those cells are checked again, and asking again without a change in
+ * between returns the same list. A cell that was changed and changed back, like every cell of a
+ * move that was made and undone, costs nothing.
+ *
+ * <p>The frontier, the legal moves and the cells to check again are bit sets over the dense cell
+ * indices of the board's registry, so the list of moves is read off the legal moves without going
+ * over the other cells of the board. The moves are listed in the order the board iterates its
+ * cells in, which strategies break ties by; the position of every cell in that order is worked out
+ * again only when the board gains cells.
+ */
+final class LegalMoveCache {
+  // the cells of the board in index order, and the index of a cell
+  private final List<ICell> cells;
+  private final ToIntFunction<ICell> indexOf;
+  // the cells changed since the moves were last worked out, with their occupant back then
+  private final Map<ICell, Optional<TokenColor>> changed;
+  private final BitSet frontier;
+  private final BitSet[] legal;
+  private final BitSet[] dirty;
+  private final List<List<ICell>> cached;
+  // the position of every cell index in the order of the board's cells, and the number of cells
+  // that order had when it was worked out
+  private final int[] ranks;
+  private final int[] byRank;
+  private int rankedCells;
+
+  /**
+   * Constructs an empty cache, for a board without cells.
+   *
+   * @param cells   the cells of the board, in the order of their indices.
+   * @param indexOf the index of a cell in the given cells, negative if it is not one of them.
+   */
+  LegalMoveCache(List<ICell> cells, ToIntFunction<ICell> indexOf) {
+    int colors = TokenColor.values().length;
+    this.cells = cells;
+    this.indexOf = indexOf;
+    // Sized so that the map never grows.
+    this.changed = new HashMap<>(2 * cells.size());
+    this.frontier = new BitSet(cells.size());
+    this.legal = new BitSet[colors];
+    this.dirty = new BitSet[colors];
+    this.cached = new ArrayList<>(colors);
+    for (int i = 0; i < colors; i++) {
+      this.legal[i] = new BitSet(cells.size());
+      this.dirty[i] = new BitSet(cells.size());
+      this.cached.add(null);
+    }
+    this.ranks = new int[cells.size()];
+    this.byRank = new int[cells.size()];
+    this.rankedCells = -1;
+  }
+
+  // Records a change to the cell, which had the given occupant (null if the cell is new), to be
+  // worked out the next time the moves are asked for.
+  void recordChange(ICell cell, Optional<TokenColor> previous) {
+    if (!this.changed.containsKey(cell)) {
+      this.changed.put(cell, previous);
+    }
+  }
+
+  // Passes every cell whose occupant is not the same as when the moves were last worked out to the
+  // board, which then invalidates the cells around it and updates the frontier.
+  void processChanges(Function<ICell, Optional<TokenColor>> occupant, Consumer<ICell> update) {
+    if (!this.changed.isEmpty()) {
+      for (Map.Entry<ICell, Optional<TokenColor>> entry : this.changed.entrySet()) {
+        if (!Objects.equals(occupant.apply(entry.getKey()), entry.getValue())) {
+          update.accept(entry.getKey());
+        }
+      }
+      this.changed.clear();
+    }
+  }
+
+  // Marks the cell to be checked again for both colors. Cells that are not on the board are never
+  // moves and are left out.
+  void invalidate(ICell cell) {
+    int index = this.indexOf.applyAsInt(cell);
+    if (index < 0) {
+      return;
+    }
+    for (int i = 0; i < this.dirty.length; i++) {
+      this.dirty[i].set(index);
+      this.cached.set(i, null);
+    }
+  }
+
+  // Adds the cell to or removes it from the frontier.
+  void setFrontier(ICell cell, boolean onFrontier) {
+    int index = this.indexOf.applyAsInt(cell);
+    if (index < 0 || this.frontier.get(index) == onFrontier) {
+      return;
+    }
+    this.frontier.set(index, onFrontier);
+    this.invalidate(cell);
+  }
+
+  // Returns whether the cell is an empty cell next to an occupied one.
+  boolean isOnFrontier(ICell cell) {
+    int index = this.indexOf.applyAsInt(cell);
+    return index >= 0 && this.frontier.get(index);
+  }
+
+  // Returns the legal moves of the color, in the order of the given cells. Only the frontier
+  // cells changed since the last call are checked with isLegal.
+  List<ICell> validMoves(TokenColor color, Collection<ICell> order, Predicate<ICell> isLegal) {
+    int c = color.ordinal();
+    List<ICell> moves = this.cached.get(c);
+    if (moves != null) {
+      return moves;
+    }
+
+    BitSet legalMoves = this.legal[c];
+    BitSet dirtyCells = this.dirty[c];
+    for (int i = dirtyCells.nextSetBit(0); i >= 0; i = dirtyCells.nextSetBit(i + 1)) {
+      legalMoves.set(i, this.frontier.get(i) && isLegal.test(this.cells.get(i)));
+    }
+    dirtyCells.clear();
+
+    if (order.size() != this.rankedCells) {
+      this.rank(order);
+    }
+    int[] found = new int[legalMoves.cardinality()];
+    int count = 0;
+    for (int i = legalMoves.nextSetBit(0); i >= 0; i = legalMoves.nextSetBit(i + 1)) {
+      found[count++] = this.ranks[i];
+    }
+    Arrays.sort(found);
+    moves = new ArrayList<>(count);
+    for (int rank : found) {
+      moves.add(this.cells.get(this.byRank[rank]));
+    }
+    moves = Collections.unmodifiableList(moves);
+    this.cached.set(c, moves);
+    return moves;
+  }
+
+  // works out the position of every cell of the board in the given order. Cells that are not in
+  // it go after the ones that are, in index order.
+  private void rank(Collection<ICell> order) {
+    Arrays.fill(this.ranks, -1);
+    int rank = 0;
+    for (ICell cell : order) {
+      int index = this.indexOf.applyAsInt(cell);
+      if (index >= 0) {
+        this.ranks[index] = rank;
+        this.byRank[rank++] = index;
+      }
+    }
+    for (int index = 0; index < this.ranks.length; index++) {
+      if (this.ranks[index] < 0) {
+        this.ranks[index] = rank;
+        this.byRank[rank++] = index;
+      }
+    }
+    this.rankedCells = order.size();
+  }
+}
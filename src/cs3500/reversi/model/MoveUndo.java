@@ -0,0 +1,99 @@
+package cs3500.reversi.model;
+
+import java.util.Arrays;
+
+/**
+ * A record of a move made on an IBoard with makeMove, holding the placed cell and every cell the
+ * move flipped so that undoMove can revert the board in place. A record is meant to be reused:
+ * every call to makeMove overwrites it, so a search can keep one record per ply and make and undo
+ * moves without allocating.
+ */
+public final class MoveUndo {
+  private ICell placedCell;
+  private int placedIndex;
+  private TokenColor color;
+  private ICell[] flippedCells;
+  private int[] flippedIndices;
+  private int flipCount;
+
+  /**
+   * Constructs an empty move record.
+   */
+  public MoveUndo() {
+    this.flippedCells = new ICell[16];
+    this.flippedIndices = new int[16];
+    this.flipCount = 0;
+    this.placedIndex = -1;
+  }
+
+  // Starts recording a new move, forgetting the previously recorded one. Boards that do not index
+  // their cells pass -1 as the index.
+  void start(ICell placedCell, int placedIndex, TokenColor color) {
+    this.placedCell = placedCell;
+    this.placedIndex = placedIndex;
+    this.color = color;
+    this.flipCount = 0;
+  }
+
+  // Records a cell flipped by the move.
+  void addFlip(ICell cell, int index) {
+    if (this.flipCount == this.flippedCells.length) {
+      this.flippedCells = Arrays.copyOf(this.flippedCells, 2 * this.flipCount);
+      this.flippedIndices = Arrays.copyOf(this.flippedIndices, 2 * this.flipCount);
+    }
+    this.flippedCells[this.flipCount] = cell;
+    this.flippedIndices[this.flipCount] = index;
+    this.flipCount++;
+  }
+
+  /**
+   * Returns the cell the move placed a token on.
+   *
+   * @return the placed cell.
+   */
+  public ICell getPlacedCell() {
+    return this.placedCell;
+  }
+
+  /**
+   * Returns the color of the token placed by the move.
+   *
+   * @return the color of the move.
+   */
+  public TokenColor getColor() {
+    return this.color;
+  }
+
+  /**
+   * Returns the number of cells flipped by the move.
+   *
+   * @return the number of flipped cells.
+   */
+  public int getFlipCount() {
+    return this.flipCount;
+  }
+
+  /**
+   * Returns the i-th cell flipped by the move.
+   *
+   * @param i the position of the flipped cell in this record.
+   * @return the flipped cell.
+   * @throws IndexOutOfBoundsException if i is not less than the number of flipped cells.
+   */
+  public ICell getFlippedCell(int i) {
+    if (i < 0 || i >= this.flipCount) {
+      throw new IndexOutOfBoundsException("No flipped cell at position " + i);
+    }
+    return this.flippedCells[i];
+  }
+
+  // Returns the board index of the placed cell, for boards that index their cells.
+  int getPlacedIndex() {
+    return this.placedIndex;
+  }
+
+  // Returns the board index of the i-th flipped cell, for boards that index their cells.
+  int getFlippedIndex(int i) {
+    return this.flippedIndices[i];
+  }
+}
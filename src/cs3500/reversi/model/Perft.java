@@ -0,0 +1,160 @@
+package cs3500.reversi.model;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Counts the positions reachable from a board in an exact number of plies, to check that a board
+ * implementation generates the same moves as the reference HexagonBoard and SquareBoard. Every move
+ * is made and undone on the given board, so the board is left as it was.
+ *
+ * <p>A pass takes up a ply: when the color to move has no move but its opponent does, the count
+ * goes on from the same position with the opponent to move and one ply less. A position where
+ * neither color can move ends the game and is counted as one leaf, however many plies are left.
+ */
+public final class Perft {
+  private final IBoard board;
+  private MoveUndo[] undoStack;
+  private long lastLeaves;
+  private long lastNanos;
+
+  /**
+   * Creates a counter for the given board.
+   *
+   * @param board the board to count the positions of.
+   * @throws IllegalArgumentException if the board is null.
+   */
+  public Perft(IBoard board) throws IllegalArgumentException {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null");
+    }
+    this.board = board;
+    this.undoStack = new MoveUndo[0];
+  }
+
+  /**
+   * Returns the number of positions reached after exactly the given number of plies from the
+   * current position of the board.
+   *
+   * @param color the color to move.
+   * @param depth the number of plies to play.
+   * @return the number of leaf positions.
+   * @throws IllegalArgumentException if the color is null or the depth is negative.
+   */
+  public long count(TokenColor color, int depth) throws IllegalArgumentException {
+    this.checkArguments(color, depth);
+    long start = System.nanoTime();
+    long leaves = this.perft(color, depth, 0);
+    this.finish(leaves, start);
+    return leaves;
+  }
+
+  /**
+   * Returns the number of leaf positions below every legal move of the color to move, in the order
+   * the board lists its moves. When the color to move has to pass, the only entry is the pass,
+   * under an empty cell. The values add up to the result of count with the same arguments, except
+   * when the depth is 0 or neither color can move, where the map is empty and count is 1.
+   *
+   * @param color the color to move.
+   * @param depth the number of plies to play, including the root move or pass.
+   * @return the number of leaf positions below every root move.
+   * @throws IllegalArgumentException if the color is null or the depth is negative.
+   */
+  public Map<Optional<ICell>, Long> divide(TokenColor color, int depth)
+          throws IllegalArgumentException {
+    this.checkArguments(color, depth);
+    long start = System.nanoTime();
+    Map<Optional<ICell>, Long> counts = new LinkedHashMap<>();
+    long leaves = 0;
+    if (depth > 0) {
+      List<ICell> moves = this.board.validMovesLeft(color);
+      if (moves.isEmpty() && !this.board.validMovesLeft(color.next()).isEmpty()) {
+        // A pass is the only root move, and takes up a ply as it does in count.
+        leaves = this.perft(color.next(), depth - 1, 0);
+        counts.put(Optional.empty(), leaves);
+      }
+      MoveUndo undo = this.undoStack[0];
+      for (ICell move : moves) {
+        this.board.makeMove(move, color, undo);
+        long moveLeaves = this.perft(color.next(), depth - 1, 1);
+        this.board.undoMove(undo);
+        counts.put(Optional.of(move), moveLeaves);
+        leaves += moveLeaves;
+      }
+    }
+    this.finish(leaves, start);
+    return counts;
+  }
+
+  /**
+   * Returns the number of leaf positions counted by the last call to count or divide.
+   *
+   * @return the number of leaves of the last count.
+   */
+  public long getLastLeaves() {
+    return this.lastLeaves;
+  }
+
+  /**
+   * Returns the number of leaf positions counted per second by the last call to count or divide.
+   *
+   * @return the leaves per second of the last count.
+   */
+  public double getLastLeavesPerSecond() {
+    return (this.lastNanos == 0) ? 0 : this.lastLeaves * 1e9 / this.lastNanos;
+  }
+
+  // counts the leaves below the current position, with one undo record per ply.
+  private long perft(TokenColor color, int depth, int ply) {
+    if (depth == 0) {
+      return 1;
+    }
+    List<ICell> moves = this.board.validMovesLeft(color);
+    if (moves.isEmpty()) {
+      if (this.board.validMovesLeft(color.next()).isEmpty()) {
+        return 1;
+      }
+      return this.perft(color.next(), depth - 1, ply);
+    }
+    // Every move leads to exactly one leaf, so they need not be made.
+    if (depth == 1) {
+      return moves.size();
+    }
+    MoveUndo undo = this.undoStack[ply];
+    long leaves = 0;
+    for (ICell move : moves) {
+      this.board.makeMove(move, color, undo);
+      leaves += this.perft(color.next(), depth - 1, ply + 1);
+      this.board.undoMove(undo);
+    }
+    return leaves;
+  }
+
+  private void checkArguments(TokenColor color, int depth) {
+    if (color == null) {
+      throw new IllegalArgumentException("Color cannot be null");
+    }
+    if (depth < 0) {
+      throw new IllegalArgumentException("Depth cannot be negative");
+    }
+    this.ensureStack(depth);
+  }
+
+  // makes sure there is an undo record for every ply up to the given depth.
+  private void ensureStack(int depth) {
+    if (this.undoStack.length < depth) {
+      MoveUndo[] grown = new MoveUndo[depth];
+      for (int i = 0; i < depth; i++) {
+        grown[i] = (i < this.undoStack.length) ? this.undoStack[i] : new MoveUndo();
+      }
+      this.undoStack = grown;
+    }
+  }
+
+  private void finish(long leaves, long start) {
+    this.lastLeaves = leaves;
+    this.lastNanos = System.nanoTime() - start;
+  }
+}
@@ -16,6 +16,15 @@ public interface ROModel {
    */
   IBoard createBoardCopy();
 
+  /**
+   * Returns a copy of the game, with a copy of the board, the same color to move and the same
+   * passes in a row. The copy does not change with this game and tells no listeners, so it can be
+   * read on another thread while this game goes on.
+   *
+   * @return a copy of the game.
+   */
+  ROModel createModelCopy();
+
   /**
    * Returns whether the game is over.
    *
@@ -32,6 +41,17 @@ public interface ROModel {
    */
   int getScore(TokenColor tokenColor) throws IllegalStateException;
 
+  /**
+   * Returns the score of the given color minus the score of the other color. By default it is
+   * found from the two scores.
+   *
+   * @param tokenColor the color to get the lead of.
+   * @return the lead in tokens of the given color, negative if it is behind.
+   */
+  default int getScoreDifference(TokenColor tokenColor) {
+    return this.getScore(tokenColor) - this.getScore(tokenColor.next());
+  }
+
   /**
    * Returns the current color.
    *
@@ -78,7 +98,31 @@ public interface ROModel {
    */
   boolean validMove(ICell cell) throws IllegalArgumentException;
 
-  List<ICell> getCornerCells();
+  /**
+   * Returns the geometry of the board, with its corners, edges, X-squares and rings. By default it
+   * is found from a copy of the board.
+   *
+   * @return the geometry of the board.
+   */
+  default BoardGeometry getGeometry() {
+    return BoardGeometry.of(this.createBoardCopy());
+  }
+
+  /**
+   * Returns the corner cells of the board.
+   *
+   * @return an unmodifiable list of the corners.
+   */
+  default List<ICell> getCornerCells() {
+    return this.getGeometry().getCornerCells();
+  }
 
-  List<ICell> getEdgeCells();
+  /**
+   * Returns the edge cells of the board, the cells next to a corner.
+   *
+   * @return an unmodifiable list of the edges.
+   */
+  default List<ICell> getEdgeCells() {
+    return this.getGeometry().getEdgeCells();
+  }
 }
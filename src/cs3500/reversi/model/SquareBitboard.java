@@ -0,0 +1,284 @@
+package cs3500.reversi.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Represents a standard 8x8 square board for the game of Reversi stored in two 64-bit words. This
+ * class is a thin adapter that translates the SquareCell coordinates used by SquareReversi, the
+ * strategies and the views (rows and columns from -4 to 4 without 0) to bit indices, and leaves
+ * the move generation to the SquareBitboardEngine. The list of legal moves of each color is kept
+ * until the board changes, so asking for the moves of the same position again is free.
+ */
+public class SquareBitboard implements IBoard {
+  private static final int SIDE_LENGTH = 8;
+  private static final Optional<TokenColor> BLACK = Optional.of(TokenColor.BLACK);
+  private static final Optional<TokenColor> WHITE = Optional.of(TokenColor.WHITE);
+  // the SquareCell for every bit index, the registry index of a cell is its bit index
+  private static final SquareCellRegistry CELLS = SquareCellRegistry.forSideLength(SIDE_LENGTH);
+  // Zobrist keys of a black and of a white token on every bit index
+  private static final long[] BLACK_KEYS = new long[SIDE_LENGTH * SIDE_LENGTH];
+  private static final long[] WHITE_KEYS = new long[SIDE_LENGTH * SIDE_LENGTH];
+
+  static {
+    for (int index = 0; index < CELLS.size(); index++) {
+      BLACK_KEYS[index] = Zobrist.cellKey(CELLS.get(index), TokenColor.BLACK);
+      WHITE_KEYS[index] = Zobrist.cellKey(CELLS.get(index), TokenColor.WHITE);
+    }
+  }
+
+  private long black;
+  private long white;
+  private long positionKey;
+  private List<ICell> blackMoves;
+  private List<ICell> whiteMoves;
+
+  /**
+   * Constructor for an empty SquareBitboard.
+   */
+  public SquareBitboard() {
+    this.black = 0;
+    this.white = 0;
+  }
+
+  /**
+   * Copy constructor for a SquareBitboard.
+   *
+   * @param other the board to copy.
+   */
+  public SquareBitboard(SquareBitboard other) {
+    this.black = other.black;
+    this.white = other.white;
+    this.positionKey = other.positionKey;
+    this.blackMoves = other.blackMoves;
+    this.whiteMoves = other.whiteMoves;
+  }
+
+  // Returns the bit index of the given cell, throws an exception if it is null or out of bounds.
+  private int indexOf(ICell cell) {
+    int index = CELLS.indexOf(cell);
+    if (index < 0) {
+      throw new IllegalArgumentException("Cell coordinates out of bounds");
+    }
+    return index;
+  }
+
+  @Override
+  public void newCellOwner(ICell cell, Optional<TokenColor> color) {
+    int index = this.indexOf(cell);
+    if (color == null) {
+      throw new IllegalArgumentException("Null color passed into this method.");
+    }
+    long bit = 1L << index;
+    if ((this.black & bit) != 0) {
+      this.positionKey ^= BLACK_KEYS[index];
+    } else if ((this.white & bit) != 0) {
+      this.positionKey ^= WHITE_KEYS[index];
+    }
+    this.black &= ~bit;
+    this.white &= ~bit;
+    if (color.isPresent()) {
+      if (color.get() == TokenColor.BLACK) {
+        this.black |= bit;
+        this.positionKey ^= BLACK_KEYS[index];
+      } else {
+        this.white |= bit;
+        this.positionKey ^= WHITE_KEYS[index];
+      }
+    }
+    this.invalidateMoves();
+  }
+
+  // forgets the cached legal moves after a change to the board.
+  private void invalidateMoves() {
+    this.blackMoves = null;
+    this.whiteMoves = null;
+  }
+
+  // flips the tokens in the given mask, keeping the position key up to date
+  private void flip(long flipped) {
+    this.black ^= flipped;
+    this.white ^= flipped;
+    for (long rest = flipped; rest != 0; rest &= rest - 1) {
+      int index = Long.numberOfTrailingZeros(rest);
+      this.positionKey ^= BLACK_KEYS[index] ^ WHITE_KEYS[index];
+    }
+    this.invalidateMoves();
+  }
+
+  @Override
+  public Optional<TokenColor> getCellOccupant(ICell cell) {
+    return this.occupant(1L << this.indexOf(cell));
+  }
+
+  // returns the occupant of the given bit.
+  private Optional<TokenColor> occupant(long bit) {
+    if ((this.black & bit) != 0) {
+      return BLACK;
+    } else if ((this.white & bit) != 0) {
+      return WHITE;
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public boolean validMove(ICell cell, TokenColor colorToAdd, boolean flip) {
+    int index = this.indexOf(cell);
+    if (((this.black | this.white) & (1L << index)) != 0) {
+      throw new IllegalStateException("Cell is already occupied.");
+    }
+
+    boolean isBlack = colorToAdd == TokenColor.BLACK;
+    long player = isBlack ? this.black : this.white;
+    long opponent = isBlack ? this.white : this.black;
+    long flipped = SquareBitboardEngine.flips(player, opponent, index);
+    if (flip) {
+      this.flip(flipped);
+    }
+    return flipped != 0;
+  }
+
+  @Override
+  public int countFlips(ICell cell, TokenColor colorToAdd) {
+    int index = this.indexOf(cell);
+    if (((this.black | this.white) & (1L << index)) != 0) {
+      throw new IllegalStateException("Cell is already occupied.");
+    }
+
+    boolean isBlack = colorToAdd == TokenColor.BLACK;
+    return Long.bitCount(SquareBitboardEngine.flips(isBlack ? this.black : this.white,
+            isBlack ? this.white : this.black, index));
+  }
+
+  @Override
+  public MoveUndo makeMove(ICell cell, TokenColor colorToAdd, MoveUndo undo) {
+    int index = this.indexOf(cell);
+    if (undo == null) {
+      throw new IllegalArgumentException("Null move record passed into this method.");
+    }
+    long bit = 1L << index;
+    if (((this.black | this.white) & bit) != 0) {
+      throw new IllegalStateException("Cell is already occupied.");
+    }
+
+    boolean isBlack = colorToAdd == TokenColor.BLACK;
+    long flipped = SquareBitboardEngine.flips(isBlack ? this.black : this.white,
+            isBlack ? this.white : this.black, index);
+    if (flipped == 0) {
+      throw new IllegalStateException("Invalid move");
+    }
+    undo.start(CELLS.get(index), index, colorToAdd);
+    for (long rest = flipped; rest != 0; rest &= rest - 1) {
+      int flippedIndex = Long.numberOfTrailingZeros(rest);
+      undo.addFlip(CELLS.get(flippedIndex), flippedIndex);
+    }
+    this.flip(flipped);
+    if (isBlack) {
+      this.black |= bit;
+      this.positionKey ^= BLACK_KEYS[index];
+    } else {
+      this.white |= bit;
+      this.positionKey ^= WHITE_KEYS[index];
+    }
+    return undo;
+  }
+
+  @Override
+  public void undoMove(MoveUndo undo) {
+    if (undo == null) {
+      throw new IllegalArgumentException("Null move record passed into this method.");
+    }
+    long flipped = 0;
+    for (int i = 0; i < undo.getFlipCount(); i++) {
+      flipped |= 1L << undo.getFlippedIndex(i);
+    }
+    int placed = undo.getPlacedIndex();
+    long bit = 1L << placed;
+    this.positionKey ^= ((this.black & bit) != 0) ? BLACK_KEYS[placed] : WHITE_KEYS[placed];
+    this.black &= ~bit;
+    this.white &= ~bit;
+    this.flip(flipped);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (int index = 0; index < CELLS.size(); index++) {
+      sb.append(this.occupant(1L << index).map(TokenColor::toString).orElse("-")).append(" ");
+      if (index % SIDE_LENGTH == SIDE_LENGTH - 1) {
+        sb.append("\n");
+      }
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public int getColorCount(TokenColor color) {
+    return Long.bitCount(color == TokenColor.BLACK ? this.black : this.white);
+  }
+
+  @Override
+  public int scoreDifference(TokenColor color) {
+    int difference = Long.bitCount(this.black) - Long.bitCount(this.white);
+    return (color == TokenColor.BLACK) ? difference : -difference;
+  }
+
+  @Override
+  public List<ICell> validMovesLeft(TokenColor colorToAdd) {
+    boolean isBlack = colorToAdd == TokenColor.BLACK;
+    List<ICell> cached = isBlack ? this.blackMoves : this.whiteMoves;
+    if (cached != null) {
+      return cached;
+    }
+    long moves = SquareBitboardEngine.legalMoves(isBlack ? this.black : this.white,
+            isBlack ? this.white : this.black);
+    List<ICell> validMoves = new ArrayList<>(Long.bitCount(moves));
+    while (moves != 0) {
+      validMoves.add(CELLS.get(Long.numberOfTrailingZeros(moves)));
+      moves &= moves - 1;
+    }
+    validMoves = Collections.unmodifiableList(validMoves);
+    if (isBlack) {
+      this.blackMoves = validMoves;
+    } else {
+      this.whiteMoves = validMoves;
+    }
+    return validMoves;
+  }
+
+  @Override
+  public Map<ICell, Optional<TokenColor>> getPositionsMapCopy() {
+    Map<ICell, Optional<TokenColor>> mapCopy = new HashMap<>();
+    for (int index = 0; index < CELLS.size(); index++) {
+      mapCopy.put(CELLS.get(index), this.occupant(1L << index));
+    }
+    return Collections.unmodifiableMap(mapCopy);
+  }
+
+  // the bits of the tokens of the given color, by bit index.
+  long tokens(TokenColor color) {
+    return (color == TokenColor.BLACK) ? this.black : this.white;
+  }
+
+  @Override
+  public long getPositionKey() {
+    return this.positionKey;
+  }
+
+  @Override
+  public int getNumRings() {
+    return SIDE_LENGTH / 2;
+  }
+
+  @Override
+  public int[][] getBoardDirections() {
+    int[][] ret = {{-1, 0}, {1, 0}, {0, -1}, {0, 1},
+            {-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+
+    return ret;
+  }
+}
@@ -0,0 +1,120 @@
+package cs3500.reversi.model;
+
+/**
+ * Move generation for a standard 8x8 square board stored in two 64-bit words, one for the player
+ * to move and one for the opponent. Bit (row * 8 + col) holds the cell in the given row and column,
+ * both counted from 0. All legal moves of a player are generated at once with Kogge-Stone
+ * occluded fills in each of the eight directions, and the flips of a single move are computed by
+ * walking bits, so none of the methods in this class allocate.
+ */
+public final class SquareBitboardEngine {
+  // every cell except those in the first column
+  private static final long NOT_FIRST_COLUMN = 0xFEFEFEFEFEFEFEFEL;
+  // every cell except those in the last column
+  private static final long NOT_LAST_COLUMN = 0x7F7F7F7F7F7F7F7FL;
+
+  private SquareBitboardEngine() {
+    // static utility class
+  }
+
+  /**
+   * Returns a mask of every empty cell where the player can place a token.
+   *
+   * @param player   the tokens of the player to move.
+   * @param opponent the tokens of the opponent.
+   * @return the legal moves of the player as a bit mask.
+   */
+  public static long legalMoves(long player, long opponent) {
+    long empty = ~(player | opponent);
+    long moves = 0;
+
+    // Left shifts move a token towards higher indices: east (+1), south-west (+7), south (+8),
+    // south-east (+9).
+    long pro = opponent & NOT_FIRST_COLUMN;
+    moves |= ((fillLeft(player, pro, 1) & opponent) << 1) & NOT_FIRST_COLUMN & empty;
+    pro = opponent & NOT_LAST_COLUMN;
+    moves |= ((fillLeft(player, pro, 7) & opponent) << 7) & NOT_LAST_COLUMN & empty;
+    moves |= ((fillLeft(player, opponent, 8) & opponent) << 8) & empty;
+    pro = opponent & NOT_FIRST_COLUMN;
+    moves |= ((fillLeft(player, pro, 9) & opponent) << 9) & NOT_FIRST_COLUMN & empty;
+
+    // Right shifts move a token towards lower indices: west (-1), north-east (-7), north (-8),
+    // north-west (-9).
+    pro = opponent & NOT_LAST_COLUMN;
+    moves |= ((fillRight(player, pro, 1) & opponent) >>> 1) & NOT_LAST_COLUMN & empty;
+    pro = opponent & NOT_FIRST_COLUMN;
+    moves |= ((fillRight(player, pro, 7) & opponent) >>> 7) & NOT_FIRST_COLUMN & empty;
+    moves |= ((fillRight(player, opponent, 8) & opponent) >>> 8) & empty;
+    pro = opponent & NOT_LAST_COLUMN;
+    moves |= ((fillRight(player, pro, 9) & opponent) >>> 9) & NOT_LAST_COLUMN & empty;
+    return moves;
+  }
+
+  // Kogge-Stone occluded fill of gen through pro towards higher indices.
+  private static long fillLeft(long gen, long pro, int shift) {
+    gen |= pro & (gen << shift);
+    pro &= pro << shift;
+    gen |= pro & (gen << (2 * shift));
+    pro &= pro << (2 * shift);
+    gen |= pro & (gen << (4 * shift));
+    return gen;
+  }
+
+  // Kogge-Stone occluded fill of gen through pro towards lower indices.
+  private static long fillRight(long gen, long pro, int shift) {
+    gen |= pro & (gen >>> shift);
+    pro &= pro >>> shift;
+    gen |= pro & (gen >>> (2 * shift));
+    pro &= pro >>> (2 * shift);
+    gen |= pro & (gen >>> (4 * shift));
+    return gen;
+  }
+
+  /**
+   * Returns a mask of the opponent tokens flipped when the player places a token on the given
+   * square. The mask is empty if the move captures nothing.
+   *
+   * @param player   the tokens of the player to move.
+   * @param opponent the tokens of the opponent.
+   * @param square   the index of the empty cell the token is placed on.
+   * @return the opponent tokens captured by the move.
+   */
+  public static long flips(long player, long opponent, int square) {
+    long move = 1L << square;
+    long flipped = 0;
+    for (int direction = 0; direction < 8; direction++) {
+      long captured = 0;
+      long cursor = step(move, direction);
+      while ((cursor & opponent) != 0) {
+        captured |= cursor;
+        cursor = step(cursor, direction);
+      }
+      if ((cursor & player) != 0) {
+        flipped |= captured;
+      }
+    }
+    return flipped;
+  }
+
+  // moves every bit one cell in the given direction, dropping bits that leave the board.
+  private static long step(long bits, int direction) {
+    switch (direction) {
+      case 0:
+        return (bits << 1) & NOT_FIRST_COLUMN;
+      case 1:
+        return (bits >>> 1) & NOT_LAST_COLUMN;
+      case 2:
+        return bits << 8;
+      case 3:
+        return bits >>> 8;
+      case 4:
+        return (bits << 9) & NOT_FIRST_COLUMN;
+      case 5:
+        return (bits << 7) & NOT_LAST_COLUMN;
+      case 6:
+        return (bits >>> 7) & NOT_FIRST_COLUMN;
+      default:
+        return (bits >>> 9) & NOT_LAST_COLUMN;
+    }
+  }
+}
@@ -13,6 +13,14 @@ import java.util.Optional;
 public class SquareBoard implements IBoard {
   private final HashMap<ICell, Optional<TokenColor>> boardPositions;
   private final int sideLength;
+  // the canonical cells of the board, used as the keys of boardPositions
+  private final SquareCellRegistry registry;
+  // Zobrist key of the tokens on the board
+  private long positionKey;
+  // number of tokens of each color, indexed by color ordinal
+  private final int[] colorCounts = new int[TokenColor.values().length];
+  // legal moves of both colors, updated only around the cells that change
+  private final LegalMoveCache moveCache;
 
   public SquareBoard(int sideLength) {
     if (sideLength < 2 || sideLength % 2 != 0) {
@@ -20,6 +28,8 @@ public class SquareBoard implements IBoard {
     }
     this.boardPositions = new HashMap<>();
     this.sideLength = sideLength;
+    this.registry = SquareCellRegistry.forSideLength(sideLength);
+    this.moveCache = new LegalMoveCache(this.registry.cells(), this.registry::indexOf);
   }
 
   @Override
@@ -38,6 +48,54 @@ public class SquareBoard implements IBoard {
     return !cellsToFlip.isEmpty();
   }
 
+  @Override
+  public int countFlips(ICell cell, TokenColor colorToAdd) {
+    checkCellNotNull(cell);
+    checkCellInBounds(cell);
+    if (this.boardPositions.get(cell).isPresent()) {
+      throw new IllegalStateException("Cell is already occupied.");
+    }
+    return calculateFlippableCells(cell, colorToAdd).size();
+  }
+
+  @Override
+  public MoveUndo makeMove(ICell cell, TokenColor colorToAdd, MoveUndo undo) {
+    checkCellNotNull(cell);
+    checkCellInBounds(cell);
+    checkUndoNotNull(undo);
+    if (this.boardPositions.get(cell).isPresent()) {
+      throw new IllegalStateException("Cell is already occupied.");
+    }
+
+    List<ICell> cellsToFlip = calculateFlippableCells(cell, colorToAdd);
+    if (cellsToFlip.isEmpty()) {
+      throw new IllegalStateException("Invalid move");
+    }
+    undo.start(cell, -1, colorToAdd);
+    for (ICell flipped : cellsToFlip) {
+      undo.addFlip(flipped, -1);
+    }
+    flipMechanism(cellsToFlip, colorToAdd);
+    this.setOccupant(cell, Optional.of(colorToAdd));
+    return undo;
+  }
+
+  @Override
+  public void undoMove(MoveUndo undo) {
+    checkUndoNotNull(undo);
+    Optional<TokenColor> opponent = Optional.of(undo.getColor().next());
+    for (int i = 0; i < undo.getFlipCount(); i++) {
+      this.setOccupant(undo.getFlippedCell(i), opponent);
+    }
+    this.setOccupant(undo.getPlacedCell(), Optional.empty());
+  }
+
+  private void checkUndoNotNull(MoveUndo undo) {
+    if (undo == null) {
+      throw new IllegalArgumentException("Null move record passed into this method.");
+    }
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
@@ -52,14 +110,12 @@ public class SquareBoard implements IBoard {
         boardArray[i][j] = "_";
       }
     }
-    System.out.println(this.boardPositions.keySet().size());
 
     // Populate the board with player symbols or "X" based on the cell state
     for (ICell cell : boardPositions.keySet()) {
       Optional<TokenColor> occupant = boardPositions.get(cell);
-      List<Integer> coordinates = cell.getCoordinates();
-      int x = Integer.min(coordinates.get(0) + add, sideLength - 1); //q
-      int y = Integer.min(coordinates.get(1) + add, sideLength - 1); //r
+      int x = Integer.min(cell.coordinate(0) + add, sideLength - 1); //q
+      int y = Integer.min(cell.coordinate(1) + add, sideLength - 1); //r
       boardArray[x][y] = occupant.map(TokenColor::toString).orElse("-");
     }
 
@@ -90,31 +146,130 @@ public class SquareBoard implements IBoard {
 
   @Override
   public int getColorCount(TokenColor color) {
-    int count = 0;
-    for (Optional<TokenColor> occupant : boardPositions.values()) {
-      if (occupant.isPresent() && occupant.get() == color) {
-        count++;
-      }
-    }
-    return count;
+    return this.colorCounts[color.ordinal()];
+  }
+
+  @Override
+  public int scoreDifference(TokenColor color) {
+    return this.colorCounts[color.ordinal()] - this.colorCounts[color.next().ordinal()];
   }
 
+  /**
+   * Returns the cells where the given color can place a token. The moves are cached, and only the
+   * cells along the lines of the cells changed since the last call are checked again, so asking
+   * again before the board changes costs nothing. The returned list cannot be modified.
+   *
+   * @param colorToAdd the color to find the moves of.
+   * @return the legal moves of the color.
+   */
   @Override
   public List<ICell> validMovesLeft(TokenColor colorToAdd) {
-    List<ICell> validMoves = new ArrayList<>();
-    for (ICell cell : boardPositions.keySet()) {
-      if (boardPositions.get(cell).isEmpty() && validMove(cell, colorToAdd, false)) {
-        validMoves.add(cell);
-      }
-    }
-    return validMoves;
+    this.moveCache.processChanges(this.boardPositions::get, this::updateMoveCache);
+    return this.moveCache.validMoves(colorToAdd, this.boardPositions.keySet(),
+            cell -> !calculateFlippableCells(cell, colorToAdd).isEmpty());
   }
 
   @Override
   public void newCellOwner(ICell cell, Optional<TokenColor> color) {
     checkCellNotNull(cell);
     this.checkCellInBounds(cell);
-    boardPositions.put(cell, color);
+    checkColorNotNull(color);
+    this.setOccupant(this.registry.intern(cell), color);
+  }
+
+  // sets the occupant of the cell, keeping the position key up to date
+  private void setOccupant(ICell cell, Optional<TokenColor> color) {
+    Optional<TokenColor> previous = this.boardPositions.put(cell, color);
+    if (previous != null && previous.isPresent()) {
+      this.positionKey ^= Zobrist.cellKey(cell, previous.get());
+      this.colorCounts[previous.get().ordinal()]--;
+    }
+    if (color != null && color.isPresent()) {
+      this.positionKey ^= Zobrist.cellKey(cell, color.get());
+      this.colorCounts[color.get().ordinal()]++;
+    }
+    this.moveCache.recordChange(cell, previous);
+  }
+
+  // Tells the move cache which cells the change of the given cell may have made legal or illegal:
+  // the cell itself and, in every direction, the first empty cell past the tokens next to it. The
+  // frontier around the cell is updated as well.
+  private void updateMoveCache(ICell cell) {
+    this.moveCache.invalidate(cell);
+    for (int[] dir : this.getBoardDirections()) {
+      int row = step(cell.coordinate(0), dir[0]);
+      int col = step(cell.coordinate(1), dir[1]);
+      while (Math.abs(row) <= sideLength / 2 && Math.abs(col) <= sideLength / 2) {
+        ICell target = this.registry.get(row, col);
+        Optional<TokenColor> occupant = this.boardPositions.get(target);
+        if (occupant == null) {
+          break;
+        }
+        if (occupant.isEmpty()) {
+          this.moveCache.invalidate(target);
+          break;
+        }
+        row = step(row, dir[0]);
+        col = step(col, dir[1]);
+      }
+    }
+
+    if (this.boardPositions.get(cell).isPresent()) {
+      // The empty cells next to a new token are on the frontier, whatever else is next to them.
+      this.moveCache.setFrontier(cell, false);
+      for (ICell neighbor : this.neighbors(cell)) {
+        if (this.boardPositions.get(neighbor).isEmpty()) {
+          this.moveCache.setFrontier(neighbor, true);
+        }
+      }
+    } else {
+      this.updateFrontier(cell);
+      for (ICell neighbor : this.neighbors(cell)) {
+        this.updateFrontier(neighbor);
+      }
+    }
+  }
+
+  // moves a coordinate one cell in the given direction, skipping 0 which no cell has.
+  private static int step(int coordinate, int delta) {
+    int next = coordinate + delta;
+    return (next == 0) ? next + delta : next;
+  }
+
+  // puts the cell on the frontier if it is empty and next to an occupied cell.
+  private void updateFrontier(ICell cell) {
+    Optional<TokenColor> occupant = this.boardPositions.get(cell);
+    boolean onFrontier = false;
+    if (occupant != null && occupant.isEmpty()) {
+      for (ICell neighbor : this.neighbors(cell)) {
+        if (this.boardPositions.get(neighbor).isPresent()) {
+          onFrontier = true;
+          break;
+        }
+      }
+    }
+    this.moveCache.setFrontier(cell, onFrontier);
+  }
+
+  // returns the cells on the board next to the given cell.
+  private List<ICell> neighbors(ICell cell) {
+    List<ICell> neighbors = new ArrayList<>(8);
+    for (int[] dir : this.getBoardDirections()) {
+      int row = step(cell.coordinate(0), dir[0]);
+      int col = step(cell.coordinate(1), dir[1]);
+      if (Math.abs(row) <= sideLength / 2 && Math.abs(col) <= sideLength / 2) {
+        ICell neighbor = this.registry.get(row, col);
+        if (this.boardPositions.containsKey(neighbor)) {
+          neighbors.add(neighbor);
+        }
+      }
+    }
+    return neighbors;
+  }
+
+  @Override
+  public long getPositionKey() {
+    return this.positionKey;
   }
 
   private void checkCellNotNull(ICell cell) {
@@ -123,10 +278,15 @@ public class SquareBoard implements IBoard {
     }
   }
 
+  private void checkColorNotNull(Optional<TokenColor> color) {
+    if (color == null) {
+      throw new IllegalArgumentException("Null color passed into this method.");
+    }
+  }
+
   private void checkCellInBounds(ICell cell) {
-    List<Integer> coordinates = cell.getCoordinates();
-    int row = coordinates.get(0);
-    int col = coordinates.get(1);
+    int row = cell.coordinate(0);
+    int col = cell.coordinate(1);
     if (Math.abs(row) > sideLength|| Math.abs(col) > sideLength) {
       throw new IllegalArgumentException("Cell coordinates out of bounds");
     }
@@ -145,18 +305,14 @@ public class SquareBoard implements IBoard {
   }
 
   private void checkDirectionAddCells(ICell cell, TokenColor colorToAdd, int dRow, int dCol, List<ICell> cellsToFlip) {
-    List<Integer> coordinates = cell.getCoordinates();
-    int row = coordinates.get(0) + dRow;
-    int col = coordinates.get(1) + dCol;
+    int row = cell.coordinate(0) + dRow;
+    int col = cell.coordinate(1) + dCol;
     List<ICell> tempCells = new ArrayList<>();
     boolean foundOppositeColor = false;
     boolean continueSearch = true;
 
 
     while (continueSearch && Math.abs(row) <= sideLength / 2 && Math.abs(col) <= sideLength / 2) {
-      SquareCell nextCell = new SquareCell(row, col);
-      Optional<TokenColor> cellOccupant = boardPositions.get(nextCell);
-
       if (row == 0) {
         row += dRow;
         continue;
@@ -164,6 +320,8 @@ public class SquareBoard implements IBoard {
         col += dCol;
         continue;
       }
+      SquareCell nextCell = this.registry.get(row, col);
+      Optional<TokenColor> cellOccupant = boardPositions.get(nextCell);
 
       if (cellOccupant.isEmpty()) {
         continueSearch = false;
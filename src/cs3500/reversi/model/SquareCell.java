@@ -3,11 +3,14 @@ package cs3500.reversi.model;
 import java.util.List;
 
 /**
- * Represents a cell within a reversi game with a square board.
+ * Represents a cell within a reversi game with a square board. The boards hand out canonical
+ * instances from a SquareCellRegistry, which also know their dense index on the board.
  */
 public class SquareCell implements ICell{
   private final int row;
   private final int col;
+  // index in the registry that made this cell, -1 if it was not made by a registry
+  private final int index;
 
   /**
    * Constructor for a SquareCell. Takes in a row and column.
@@ -18,6 +21,54 @@ public class SquareCell implements ICell{
   public SquareCell(int row, int col) {
     this.row = row;
     this.col = col;
+    this.index = -1;
+  }
+
+  // Constructor for the canonical cell at the given index of a registry.
+  SquareCell(int row, int col, int index) {
+    this.row = row;
+    this.col = col;
+    this.index = index;
+  }
+
+  /**
+   * Returns the row of this cell.
+   *
+   * @return the row of the cell.
+   */
+  public int row() {
+    return this.row;
+  }
+
+  /**
+   * Returns the column of this cell.
+   *
+   * @return the column of the cell.
+   */
+  public int col() {
+    return this.col;
+  }
+
+  /**
+   * Returns the dense index of this cell in the SquareCellRegistry that made it, or -1 if it was
+   * made with the public constructor. Registries check the index belongs to them before using it.
+   *
+   * @return the index of this cell, or -1.
+   */
+  public int index() {
+    return this.index;
+  }
+
+  @Override
+  public int coordinate(int i) {
+    switch (i) {
+      case 0:
+        return this.row;
+      case 1:
+        return this.col;
+      default:
+        throw new IndexOutOfBoundsException("No coordinate at position " + i);
+    }
   }
 
   @Override
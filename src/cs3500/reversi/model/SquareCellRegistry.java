@@ -0,0 +1,167 @@
+package cs3500.reversi.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The canonical cells of a square board of one side length. Rows and columns go from
+ * -sideLength / 2 to sideLength / 2 without 0, and the cell in the row and column that are the
+ * i-th and j-th from the top left gets the index i * sideLength + j. Cells are looked up by their
+ * coordinates through arithmetic instead of being allocated again, so the boards, models and
+ * strategies can share the same instances. Registries are immutable and there is one per side
+ * length.
+ */
+public final class SquareCellRegistry {
+  private static final Map<Integer, SquareCellRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+  private final int sideLength;
+  private final SquareCell[] cells;
+  private final List<ICell> cellList;
+
+  private SquareCellRegistry(int sideLength) {
+    this.sideLength = sideLength;
+    this.cells = new SquareCell[sideLength * sideLength];
+    for (int index = 0; index < this.cells.length; index++) {
+      this.cells[index] = new SquareCell(this.toCoordinate(index / sideLength),
+              this.toCoordinate(index % sideLength), index);
+    }
+    this.cellList = Collections.unmodifiableList(Arrays.asList(this.cells));
+  }
+
+  /**
+   * Returns the registry of the board with the given side length.
+   *
+   * @param sideLength the number of cells on a side of the board.
+   * @return the registry of that board.
+   * @throws IllegalArgumentException if the side length is not even and positive.
+   */
+  public static SquareCellRegistry forSideLength(int sideLength) {
+    if (sideLength < 2 || sideLength % 2 != 0) {
+      throw new IllegalArgumentException("Side length must be even and positive");
+    }
+    return REGISTRIES.computeIfAbsent(sideLength, SquareCellRegistry::new);
+  }
+
+  // converts a row or column offset from the top left to the coordinate used by SquareCell.
+  private int toCoordinate(int offset) {
+    int half = this.sideLength / 2;
+    return (offset < half) ? offset - half : offset - half + 1;
+  }
+
+  // converts a coordinate to a row or column offset from the top left, -1 if it is off the board.
+  private int toOffset(int coordinate) {
+    int half = this.sideLength / 2;
+    if (coordinate == 0 || Math.abs(coordinate) > half) {
+      return -1;
+    }
+    return (coordinate < 0) ? coordinate + half : coordinate + half - 1;
+  }
+
+  /**
+   * Returns the side length of the board of this registry.
+   *
+   * @return the side length.
+   */
+  public int getSideLength() {
+    return this.sideLength;
+  }
+
+  /**
+   * Returns the number of cells of the board.
+   *
+   * @return the number of cells.
+   */
+  public int size() {
+    return this.cells.length;
+  }
+
+  /**
+   * Returns the cell with the given index.
+   *
+   * @param index the index of the cell.
+   * @return the canonical cell.
+   * @throws IndexOutOfBoundsException if there is no cell with that index.
+   */
+  public SquareCell get(int index) {
+    return this.cells[index];
+  }
+
+  /**
+   * Returns the index of the cell in the given row and column, or -1 if it is not on the board.
+   *
+   * @param row the row of the cell.
+   * @param col the column of the cell.
+   * @return the index of the cell, or -1.
+   */
+  public int indexOf(int row, int col) {
+    int rowOffset = this.toOffset(row);
+    int colOffset = this.toOffset(col);
+    if (rowOffset < 0 || colOffset < 0) {
+      return -1;
+    }
+    return rowOffset * this.sideLength + colOffset;
+  }
+
+  /**
+   * Returns the cell in the given row and column.
+   *
+   * @param row the row of the cell.
+   * @param col the column of the cell.
+   * @return the canonical cell.
+   * @throws IllegalArgumentException if the cell is not on the board.
+   */
+  public SquareCell get(int row, int col) {
+    int index = this.indexOf(row, col);
+    if (index < 0) {
+      throw new IllegalArgumentException("Cell coordinates out of bounds");
+    }
+    return this.cells[index];
+  }
+
+  /**
+   * Returns the index of the given cell, or -1 if it is not a cell of the board. Canonical cells
+   * of this registry are answered without a lookup.
+   *
+   * @param cell the cell to find.
+   * @return the index of the cell, or -1.
+   * @throws IllegalArgumentException if the cell is null.
+   */
+  public int indexOf(ICell cell) {
+    if (cell == null) {
+      throw new IllegalArgumentException("Null cell passed into this method.");
+    }
+    if (cell instanceof SquareCell) {
+      SquareCell square = (SquareCell) cell;
+      int index = square.index();
+      if (index >= 0 && index < this.cells.length && this.cells[index] == square) {
+        return index;
+      }
+    }
+    return this.indexOf(cell.coordinate(0), cell.coordinate(1));
+  }
+
+  /**
+   * Returns the canonical instance of the given cell, or the cell itself if it is not on the
+   * board.
+   *
+   * @param cell the cell to intern.
+   * @return the canonical cell equal to the given one.
+   * @throws IllegalArgumentException if the cell is null.
+   */
+  public ICell intern(ICell cell) {
+    int index = this.indexOf(cell);
+    return (index < 0) ? cell : this.cells[index];
+  }
+
+  /**
+   * Returns every cell of the board in index order.
+   *
+   * @return an unmodifiable list of the cells.
+   */
+  public List<ICell> cells() {
+    return this.cellList;
+  }
+}
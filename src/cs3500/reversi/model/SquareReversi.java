@@ -1,15 +1,19 @@
 package cs3500.reversi.model;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * This class represents a game of SquareReversi. It implements the IReversiModel interface.
  */
 public class SquareReversi extends AbstractReversi {
+  // constructs a game to be made a copy of another with copyGame.
+  private SquareReversi() {
+    // The fields are set by copyGame.
+  }
+
   /**
    * Constructor for a SquareReversi model. Takes in a board, current player, pass count, and
    * whether the game has started or not.
@@ -18,6 +22,22 @@ public class SquareReversi extends AbstractReversi {
    * @throws IllegalArgumentException if the side length is not even or less than 2
    */
   public SquareReversi(int sideLength) throws IllegalArgumentException {
+    this(sideLength, false);
+  }
+
+  /**
+   * Constructor for a SquareReversi model that can choose the board implementation. The bitboard
+   * is a faster drop-in replacement for the SquareBoard, and only supports the standard 8x8 game.
+   *
+   * @param sideLength  the side length of the board.
+   * @param useBitboard whether the game is played on a SquareBitboard instead of a SquareBoard.
+   * @throws IllegalArgumentException if the side length is not even or less than 2, or if a
+   *                                  bitboard is requested for a side length other than 8
+   */
+  public SquareReversi(int sideLength, boolean useBitboard) throws IllegalArgumentException {
+    if (useBitboard && sideLength != 8) {
+      throw new IllegalArgumentException("Bitboards only support a side length of 8");
+    }
     if (sideLength < 2) {
       throw new IllegalArgumentException("Side length must be greater than 2");
     } else if (sideLength % 2 != 0) {
@@ -30,10 +50,10 @@ public class SquareReversi extends AbstractReversi {
 
     this.currentTokenColor = TokenColor.BLACK;
     this.passCount = 0;
-    this.board = new SquareBoard(sideLength);
+    this.board = (useBitboard) ? new SquareBitboard() : new SquareBoard(sideLength);
     this.initBoard(sideLength); // rings excluding the center cell = sideLength - 1
     this.addStartingMoves();
-    this.modelFeatures = new ArrayList<>();
+    this.modelFeatures = new CopyOnWriteArrayList<>();
   }
 
   /**
@@ -53,35 +73,38 @@ public class SquareReversi extends AbstractReversi {
     this.currentTokenColor = TokenColor.BLACK;
     this.passCount = 0;
     this.board = squareBoard;
-    this.modelFeatures = new ArrayList<>();
+    this.modelFeatures = new CopyOnWriteArrayList<>();
     this.gameRunning = true;
   }
 
   //helper to initialize a board based on sideLength
   private void initBoard(int sideLength) {
-    for (int row = -sideLength / 2; row < sideLength / 2 + 1; row++) {
-      if (row == 0) {
-        continue;
-      }
-      for (int col = -sideLength / 2; col < sideLength / 2 + 1; col++) {
-        if (col == 0) {
-          continue;
-        }
-        this.board.newCellOwner(new SquareCell(row, col), Optional.empty());
-      }
+    for (ICell cell : SquareCellRegistry.forSideLength(sideLength).cells()) {
+      this.board.newCellOwner(cell, Optional.empty());
     }
   }
 
   //helper to add the starting moves of each player
   private void addStartingMoves() {
-    board.newCellOwner(new SquareCell(1, 1), Optional.of(TokenColor.BLACK));
-    board.newCellOwner(new SquareCell(-1, 1), Optional.of(TokenColor.WHITE));
-    board.newCellOwner(new SquareCell(1, -1), Optional.of(TokenColor.WHITE));
-    board.newCellOwner(new SquareCell(-1, -1), Optional.of(TokenColor.BLACK));
+    SquareCellRegistry cells = SquareCellRegistry.forSideLength(this.sideLength);
+    board.newCellOwner(cells.get(1, 1), Optional.of(TokenColor.BLACK));
+    board.newCellOwner(cells.get(-1, 1), Optional.of(TokenColor.WHITE));
+    board.newCellOwner(cells.get(1, -1), Optional.of(TokenColor.WHITE));
+    board.newCellOwner(cells.get(-1, -1), Optional.of(TokenColor.BLACK));
+  }
+
+  @Override
+  public ROModel createModelCopy() {
+    SquareReversi copy = new SquareReversi();
+    copy.copyGame(this);
+    return copy;
   }
 
   @Override
   public IBoard createBoardCopy() {
+    if (this.board instanceof SquareBitboard) {
+      return new SquareBitboard((SquareBitboard) this.board);
+    }
     Map<ICell, Optional<TokenColor>> mapCopy = this.board.getPositionsMapCopy();
     IBoard copyBoard = new SquareBoard(this.sideLength);
 
@@ -92,41 +115,8 @@ public class SquareReversi extends AbstractReversi {
   }
 
   @Override
-  public List<ICell> getCornerCells() {
-    List<ICell> cornerCells = new ArrayList<>();
-    cornerCells.add(new SquareCell(-this.sideLength / 2, -this.sideLength / 2));
-    cornerCells.add(new SquareCell(-this.sideLength / 2, this.sideLength / 2));
-    cornerCells.add(new SquareCell(this.sideLength / 2, -this.sideLength / 2));
-    cornerCells.add(new SquareCell(this.sideLength / 2, this.sideLength / 2));
-
-    return cornerCells;
-  }
-
-  @Override
-  public List<ICell> getEdgeCells() {
-    List<ICell> edgeCells = new ArrayList<>();
-    List<ICell> cornerCells = this.getCornerCells();
-
-    // difference in x direction
-    int[][] dc = this.board.getBoardDirections();
-
-
-    for (ICell corner : cornerCells) {
-      //six directions from every cell
-      for (int i = 0; i < 8; i++) {
-        int x = corner.getCoordinates().get(0) + dc[i][0];
-        int y = corner.getCoordinates().get(1) + dc[i][1];
-
-        if(Math.abs(x) > this.sideLength / 2 || Math.abs(y) > this.sideLength / 2) {
-          continue;
-        }
-
-        ICell cell = new SquareCell(x, y);
-        edgeCells.add(cell);
-      }
-    }
-
-    return edgeCells;
+  public BoardGeometry getGeometry() {
+    return BoardGeometry.square(this.sideLength);
   }
 
 }
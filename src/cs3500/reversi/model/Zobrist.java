@@ -0,0 +1,53 @@
+package cs3500.reversi.model;
+
+/**
+ * Zobrist keys for board positions. Every (cell, color) pair has a fixed pseudo-random 64-bit key,
+ * and the key of a position is the XOR of the keys of its occupied cells, so a board can keep its
+ * key up to date with one XOR per placed or flipped token. The cell keys are derived from the cell
+ * coordinates alone, which gives every board implementation of the same geometry the same keys.
+ */
+public final class Zobrist {
+  /**
+   * The key XOR-ed into a position key when white is the color to move. Boards do not know whose
+   * turn it is, so searches add this key themselves.
+   */
+  public static final long WHITE_TO_MOVE = mix(0x5DEECE66DL);
+
+  private Zobrist() {
+    // static utility class
+  }
+
+  /**
+   * Returns the key of a token of the given color on the cell with the given first two coordinates
+   * (q and r for hexagonal cells, row and column for square cells).
+   *
+   * @param first  the first coordinate of the cell.
+   * @param second the second coordinate of the cell.
+   * @param color  the color of the token on the cell.
+   * @return the key of the token.
+   */
+  public static long cellKey(int first, int second, TokenColor color) {
+    long packed = ((long) (first & 0xFFFF) << 32) | ((long) (second & 0xFFFF) << 16)
+            | (color.ordinal() + 1);
+    return mix(packed);
+  }
+
+  /**
+   * Returns the key of a token of the given color on the given cell.
+   *
+   * @param cell  the cell the token is on.
+   * @param color the color of the token.
+   * @return the key of the token.
+   */
+  public static long cellKey(ICell cell, TokenColor color) {
+    return cellKey(cell.coordinate(0), cell.coordinate(1), color);
+  }
+
+  // SplitMix64 finalizer, spreads the packed coordinates over all 64 bits.
+  private static long mix(long z) {
+    z += 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
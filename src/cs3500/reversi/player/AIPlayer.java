@@ -2,6 +2,11 @@ package cs3500.reversi.player;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import cs3500.reversi.controller.IPlayerFeature;
 import cs3500.reversi.model.ICell;
@@ -13,24 +18,119 @@ import cs3500.reversi.strategy.Strategy;
  * Represents an AI player in a game of Reversi. The AI player has a color and a strategy. The AI
  * player can play a move through the controller that is a part of its listeners when it is its
  * turn. The AI player can also listen for moves from the controller.
+ *
+ * <p>When told it is its turn, the AI player does not think on the thread that told it, which is
+ * the thread that made the last move and may be the Swing event thread. It copies the game right
+ * away and chooses its move from the copy on an executor instead, so the game is never read while
+ * it changes. Once the think delay has passed since its turn began, it hands the move to the move
+ * executor, which should be the executor the controller passes turn events on, such as
+ * SwingUtilities::invokeLater, so that the model is only ever changed on one thread. A game
+ * between two AI players takes turns on the executors instead of recursing through the model, and
+ * the delay is scheduled instead of slept. A failure while thinking or playing is passed to the
+ * uncaught exception handler of the thread it happened on.
  */
 public class AIPlayer implements IPlayer {
+  /**
+   * The least time between the turn of an AI player starting and its move, so that people can
+   * follow the game.
+   */
+  public static final long DEFAULT_THINK_DELAY_MILLIS = 500;
+
   private final TokenColor tokenColor;
   private List<IPlayerFeature> listeners;
   private final Strategy strategy;
   private final ROModel model;
+  private final ScheduledExecutorService executor;
+  private final long thinkDelayMillis;
+  private final Executor moveExecutor;
+  // set while a turn is being thought about, so that a turn announced twice is played once
+  private final AtomicBoolean turnPending;
+
+  // the thread all AI players think on unless they are given another, made on first use.
+  private static final class SharedExecutor {
+    private static final ScheduledExecutorService INSTANCE =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+              Thread thread = new Thread(runnable, "reversi-ai");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
 
   /**
-   * Constructor for an AIPlayer. Takes in a color, a strategy, and a read only model.
+   * Constructor for an AIPlayer. Takes in a color, a strategy, and a read only model. The player
+   * thinks on a thread shared by all AI players and plays DEFAULT_THINK_DELAY_MILLIS after its
+   * turn begins at the earliest, on that same thread.
    *
    * @param tokenColor the color of the player.
    * @param strategy   the strategy of the player.
+   * @param model      the model of the game.
    */
   public AIPlayer(TokenColor tokenColor, Strategy strategy, ROModel model) {
+    this(tokenColor, strategy, model, Runnable::run);
+  }
+
+  /**
+   * Constructor for an AIPlayer that thinks on a thread shared by all AI players and plays
+   * DEFAULT_THINK_DELAY_MILLIS after its turn begins at the earliest, on the given executor.
+   *
+   * @param tokenColor   the color of the player.
+   * @param strategy     the strategy of the player.
+   * @param model        the model of the game.
+   * @param moveExecutor the executor to play on, the one the controller passes turn events on.
+   * @throws IllegalArgumentException if the executor is null.
+   */
+  public AIPlayer(TokenColor tokenColor, Strategy strategy, ROModel model,
+                  Executor moveExecutor) {
+    this(tokenColor, strategy, model, SharedExecutor.INSTANCE, DEFAULT_THINK_DELAY_MILLIS,
+            moveExecutor);
+  }
+
+  /**
+   * Constructor for an AIPlayer that thinks on the given executor and plays the given time after
+   * its turn begins at the earliest, on that same executor.
+   *
+   * @param tokenColor       the color of the player.
+   * @param strategy         the strategy of the player.
+   * @param model            the model of the game.
+   * @param executor         the executor to think and play on.
+   * @param thinkDelayMillis the least time between the turn starting and the move.
+   * @throws IllegalArgumentException if the executor is null or the delay is negative.
+   */
+  public AIPlayer(TokenColor tokenColor, Strategy strategy, ROModel model,
+                  ScheduledExecutorService executor, long thinkDelayMillis) {
+    this(tokenColor, strategy, model, executor, thinkDelayMillis, Runnable::run);
+  }
+
+  /**
+   * Constructor for an AIPlayer that thinks on the given executor and plays the given time after
+   * its turn begins at the earliest, on the given move executor.
+   *
+   * @param tokenColor       the color of the player.
+   * @param strategy         the strategy of the player.
+   * @param model            the model of the game.
+   * @param executor         the executor to think on.
+   * @param thinkDelayMillis the least time between the turn starting and the move.
+   * @param moveExecutor     the executor to play on, the one the controller passes turn events
+   *                         on.
+   * @throws IllegalArgumentException if an executor is null or the delay is negative.
+   */
+  public AIPlayer(TokenColor tokenColor, Strategy strategy, ROModel model,
+                  ScheduledExecutorService executor, long thinkDelayMillis,
+                  Executor moveExecutor) {
+    if (executor == null || moveExecutor == null) {
+      throw new IllegalArgumentException("Executor cannot be null");
+    }
+    if (thinkDelayMillis < 0) {
+      throw new IllegalArgumentException("Think delay cannot be negative");
+    }
     this.tokenColor = tokenColor;
     this.strategy = strategy;
     this.listeners = new ArrayList<>();
     this.model = model;
+    this.executor = executor;
+    this.thinkDelayMillis = thinkDelayMillis;
+    this.moveExecutor = moveExecutor;
+    this.turnPending = new AtomicBoolean();
   }
 
   @Override
@@ -38,10 +138,55 @@ public class AIPlayer implements IPlayer {
     this.listeners.add(listener);
   }
 
+  /**
+   * Chooses a move and plays it right away, on the calling thread.
+   */
   @Override
   public void playMove() {
-    List<ICell> moves = this.strategy.chooseMove(model, model.getValidMoves(this.tokenColor));
+    this.submit(this.chooseMoves(this.model));
+  }
+
+  @Override
+  public void listenForMove(TokenColor tokenColor) {
+    // Think about the move on the executor if it is the AI's turn and it is not already doing so.
+    if (tokenColor.equals(this.tokenColor) && this.turnPending.compareAndSet(false, true)) {
+      long turnStart = System.nanoTime();
+      ROModel position;
+      try {
+        // This runs where the turn events are passed on, so the game is not changing right now.
+        position = this.model.createModelCopy();
+      } catch (RuntimeException ex) {
+        this.turnPending.set(false);
+        throw ex;
+      }
+      this.executor.execute(() -> this.report(() -> this.think(position, turnStart)));
+    }
+  }
+
+  // chooses the move and schedules playing it once the think delay is over.
+  private void think(ROModel position, long turnStart) {
+    List<ICell> moves;
+    try {
+      moves = this.chooseMoves(position);
+    } catch (RuntimeException ex) {
+      this.turnPending.set(false);
+      throw ex;
+    }
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - turnStart);
+    this.executor.schedule(() -> this.moveExecutor.execute(() -> this.report(() -> {
+      this.turnPending.set(false);
+      // The game may have moved on while the move was thought about.
+      if (this.tokenColor.equals(this.model.getCurrentColor())) {
+        this.submit(moves);
+      }
+    })), Math.max(0, this.thinkDelayMillis - elapsedMillis), TimeUnit.MILLISECONDS);
+  }
 
+  private List<ICell> chooseMoves(ROModel position) {
+    return this.strategy.chooseMove(position, position.getValidMoves(this.tokenColor));
+  }
+
+  private void submit(List<ICell> moves) {
     if (!model.isGameOver()) {
       // If passing is the best move, the strategy returns an empty list.
       if (moves.isEmpty()) {
@@ -49,12 +194,6 @@ public class AIPlayer implements IPlayer {
           listener.pass();
         }
       } else { // Else, play the first move of the list of moves that the strategy returns.
-        try {
-          // Delay before move is made.
-          Thread.sleep(500);
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-        }
         for (IPlayerFeature listener : this.listeners) {
           listener.playMove(moves.get(0));
         }
@@ -62,11 +201,14 @@ public class AIPlayer implements IPlayer {
     }
   }
 
-  @Override
-  public void listenForMove(TokenColor tokenColor) {
-    // Play the move if it is the AI's turn.
-    if (tokenColor.equals(this.tokenColor)) {
-      this.playMove();
+  // runs the task, handing a failure to the uncaught exception handler instead of letting the
+  // executor keep it in a future nobody reads.
+  private void report(Runnable task) {
+    try {
+      task.run();
+    } catch (RuntimeException ex) {
+      Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
     }
   }
 }
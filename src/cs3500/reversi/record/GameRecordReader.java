@@ -0,0 +1,155 @@
+package cs3500.reversi.record;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+import cs3500.reversi.model.BoardGeometry;
+
+/**
+ * Reads game records from a stream one after another. The reader does its own buffering and
+ * decodes straight from the buffer, so a stream of records is read about as fast as it can be
+ * read from the disk.
+ */
+public final class GameRecordReader implements Closeable {
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final InputStream in;
+  private final byte[] buffer;
+  private int position;
+  private int limit;
+  private int[] moves;
+
+  /**
+   * Constructs a reader of the records of the given stream, which does not need to be buffered.
+   *
+   * @param in the stream to read from, closed with the reader.
+   * @throws IllegalArgumentException if the stream is null.
+   */
+  public GameRecordReader(InputStream in) {
+    if (in == null) {
+      throw new IllegalArgumentException("Stream cannot be null");
+    }
+    this.in = in;
+    this.buffer = new byte[BUFFER_SIZE];
+    this.moves = new int[128];
+  }
+
+  /**
+   * Reads the next record of the stream.
+   *
+   * @return the game of the record, or empty at the end of the stream.
+   * @throws IOException if the stream could not be read or does not hold a valid record.
+   */
+  public Optional<RecordedGame> next() throws IOException {
+    if (this.position == this.limit && !this.fill()) {
+      return Optional.empty();
+    }
+    if (this.readByte() != RecordFormat.MAGIC) {
+      throw new IOException("Not the start of a game record");
+    }
+    int version = this.readByte();
+    if (version != RecordFormat.VERSION) {
+      throw new IOException("Unknown game record version " + version);
+    }
+    BoardGeometry geometry = this.readGeometry();
+    String black = this.readString();
+    String white = this.readString();
+
+    int count = 0;
+    while (true) {
+      int token = this.readVarint();
+      if (token == RecordFormat.FINISHED || token == RecordFormat.UNFINISHED) {
+        boolean finished = token == RecordFormat.FINISHED;
+        int margin = finished ? RecordFormat.unzigzag(this.readVarint()) : 0;
+        return Optional.of(new RecordedGame(geometry, black, white,
+                Arrays.copyOf(this.moves, count), finished, margin));
+      }
+      int index;
+      if (token == RecordFormat.PASS) {
+        index = -1;
+      } else if (token < RecordFormat.FIRST_CELL
+              || token - RecordFormat.FIRST_CELL >= geometry.getCellCount()) {
+        // A varint of five bytes can come out negative, which is no cell either.
+        throw new IOException("Move token " + token + " is not a cell of the board");
+      } else {
+        index = token - RecordFormat.FIRST_CELL;
+      }
+      if (count == this.moves.length) {
+        this.moves = Arrays.copyOf(this.moves, 2 * count);
+      }
+      this.moves[count++] = index;
+    }
+  }
+
+  private BoardGeometry readGeometry() throws IOException {
+    int shape = this.readByte();
+    int side = this.readVarint();
+    try {
+      if (shape == RecordFormat.HEXAGON) {
+        return BoardGeometry.hexagon(side);
+      } else if (shape == RecordFormat.SQUARE) {
+        return BoardGeometry.square(side);
+      }
+    } catch (IllegalArgumentException ex) {
+      throw new IOException("Invalid board size " + side, ex);
+    }
+    throw new IOException("Unknown board shape " + shape);
+  }
+
+  private String readString() throws IOException {
+    int length = this.readVarint();
+    if (length < 0) {
+      throw new IOException("Negative string length " + length);
+    }
+    if (length <= this.limit - this.position) {
+      String value = new String(this.buffer, this.position, length, StandardCharsets.UTF_8);
+      this.position += length;
+      return value;
+    }
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) this.readByte();
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private int readVarint() throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      int b = this.readByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Varint is too long");
+  }
+
+  private int readByte() throws IOException {
+    if (this.position == this.limit && !this.fill()) {
+      throw new EOFException("Game record is cut short");
+    }
+    return this.buffer[this.position++] & 0xFF;
+  }
+
+  // reads more of the stream into the buffer, returning false at the end of the stream.
+  private boolean fill() throws IOException {
+    int read = this.in.read(this.buffer, 0, this.buffer.length);
+    if (read <= 0) {
+      return false;
+    }
+    this.position = 0;
+    this.limit = read;
+    return true;
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.in.close();
+  }
+}
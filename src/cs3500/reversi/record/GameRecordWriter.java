@@ -0,0 +1,214 @@
+package cs3500.reversi.record;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cs3500.reversi.controller.IModelFeature;
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.ROModel;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * Writes game records to a stream while the games are played. Recording a model adds a listener
+ * to it that keeps the record of the game in memory as the moves are made and writes it to the
+ * stream in one piece when the game is over, so any number of games played at once, on any
+ * threads, can be recorded to the same stream without their records mixing. Games that are not
+ * over when the writer is closed are written as unfinished.
+ *
+ * <p>A listener cannot throw the IOException of a failed write, so the writer keeps the first one
+ * and throws it from flush and close, and writes nothing after it.
+ */
+public final class GameRecordWriter implements Closeable, Flushable {
+  private final OutputStream out;
+  private final Set<Recorder> recording;
+  private IOException failure;
+  private long written;
+  private boolean closed;
+
+  /**
+   * Constructs a writer that writes records to the given stream.
+   *
+   * @param out the stream to write to, closed with the writer.
+   * @throws IllegalArgumentException if the stream is null.
+   */
+  public GameRecordWriter(OutputStream out) {
+    if (out == null) {
+      throw new IllegalArgumentException("Stream cannot be null");
+    }
+    this.out = out;
+    this.recording = ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * Starts recording the game of the given model, which must not have any moves made yet.
+   *
+   * @param model     the model of the game.
+   * @param blackName the name of the strategy or player of black.
+   * @param whiteName the name of the strategy or player of white.
+   * @return the listener added to the model.
+   * @throws IllegalArgumentException if an argument is null.
+   * @throws IllegalStateException    if the writer is closed.
+   */
+  public IModelFeature record(IReversiModel model, String blackName, String whiteName) {
+    if (model == null || blackName == null || whiteName == null) {
+      throw new IllegalArgumentException("Null argument(s) given to record");
+    }
+    synchronized (this) {
+      if (this.closed) {
+        throw new IllegalStateException("Writer is closed");
+      }
+    }
+    Recorder recorder = new Recorder(model, blackName, whiteName);
+    this.recording.add(recorder);
+    model.addListener(recorder);
+    return recorder;
+  }
+
+  /**
+   * Returns the number of records written to the stream so far.
+   *
+   * @return the number of records written.
+   */
+  public synchronized long getRecordsWritten() {
+    return this.written;
+  }
+
+  private synchronized void write(byte[] record, int length) {
+    if (this.failure != null || this.closed) {
+      return;
+    }
+    try {
+      this.out.write(record, 0, length);
+      this.written++;
+    } catch (IOException ex) {
+      this.failure = ex;
+    }
+  }
+
+  /**
+   * Flushes the records written so far to the stream.
+   *
+   * @throws IOException if a record could not be written or the stream could not be flushed.
+   */
+  @Override
+  public synchronized void flush() throws IOException {
+    if (this.failure != null) {
+      throw this.failure;
+    }
+    this.out.flush();
+  }
+
+  /**
+   * Writes the games still being recorded as unfinished and closes the stream.
+   *
+   * @throws IOException if a record could not be written or the stream could not be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    for (Recorder recorder : this.recording) {
+      recorder.finish(false);
+    }
+    synchronized (this) {
+      if (this.closed) {
+        return;
+      }
+      this.closed = true;
+      try {
+        if (this.failure != null) {
+          throw this.failure;
+        }
+        this.out.flush();
+      } finally {
+        this.out.close();
+      }
+    }
+  }
+
+  // keeps the record of one game until it is over.
+  private final class Recorder implements IModelFeature {
+    private final ROModel model;
+    private final BoardGeometry geometry;
+    private byte[] bytes;
+    private int length;
+
+    private Recorder(ROModel model, String blackName, String whiteName) {
+      this.model = model;
+      this.geometry = model.getGeometry();
+      this.bytes = new byte[64];
+      this.writeByte(RecordFormat.MAGIC);
+      this.writeByte(RecordFormat.VERSION);
+      this.writeByte(this.geometry.isHexagon() ? RecordFormat.HEXAGON : RecordFormat.SQUARE);
+      this.writeVarint(this.geometry.getSideLength());
+      this.writeString(blackName);
+      this.writeString(whiteName);
+    }
+
+    @Override
+    public synchronized void notifyMoveMade(TokenColor tokenColor, Optional<ICell> cell) {
+      if (this.bytes != null) {
+        this.writeVarint(cell.isPresent()
+                ? this.geometry.indexOf(cell.get()) + RecordFormat.FIRST_CELL : RecordFormat.PASS);
+      }
+    }
+
+    @Override
+    public void notifyPlayerMove(TokenColor tokenColor) {
+      if (this.model.isGameOver()) {
+        this.finish(true);
+      }
+    }
+
+    @Override
+    public void advanceFrame() {
+      // Nothing to draw.
+    }
+
+    // ends the record and writes it, once.
+    private synchronized void finish(boolean over) {
+      if (this.bytes == null) {
+        return;
+      }
+      if (over) {
+        this.writeVarint(RecordFormat.FINISHED);
+        this.writeVarint(RecordFormat.zigzag(this.model.getScoreDifference(TokenColor.BLACK)));
+      } else {
+        this.writeVarint(RecordFormat.UNFINISHED);
+      }
+      GameRecordWriter.this.write(this.bytes, this.length);
+      GameRecordWriter.this.recording.remove(this);
+      this.bytes = null;
+    }
+
+    private void writeByte(int value) {
+      if (this.length == this.bytes.length) {
+        this.bytes = Arrays.copyOf(this.bytes, 2 * this.bytes.length);
+      }
+      this.bytes[this.length++] = (byte) value;
+    }
+
+    private void writeVarint(int value) {
+      while ((value & ~0x7F) != 0) {
+        this.writeByte((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      this.writeByte(value);
+    }
+
+    private void writeString(String value) {
+      byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+      this.writeVarint(utf8.length);
+      for (byte b : utf8) {
+        this.writeByte(b);
+      }
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package cs3500.reversi.record;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A file mapped into memory in chunks of a fixed size, so that it can be larger than the 2 GB a
+ * single MappedByteBuffer can hold. Chunks are mapped the first time they are used, which makes
+ * the file grow to the end of that chunk. Values are read and written straight in the mapping; a
+ * value must not cross the end of a chunk, which the callers make sure of by using chunks that
+ * are a multiple of the size of their records.
+ */
+final class MappedFile implements Closeable {
+  private final FileChannel channel;
+  private final long chunkSize;
+  private final List<MappedByteBuffer> chunks;
+
+  /**
+   * Maps the file of the given channel.
+   *
+   * @param channel   the channel of the file, open for reading and writing.
+   * @param chunkSize the size of a chunk in bytes, at most Integer.MAX_VALUE.
+   */
+  MappedFile(FileChannel channel, long chunkSize) {
+    this.channel = channel;
+    this.chunkSize = chunkSize;
+    this.chunks = new ArrayList<>();
+  }
+
+  // the chunk holding the byte at the offset, mapped if it is not yet.
+  private MappedByteBuffer chunk(long offset) {
+    int index = (int) (offset / this.chunkSize);
+    while (this.chunks.size() <= index) {
+      this.chunks.add(null);
+    }
+    MappedByteBuffer chunk = this.chunks.get(index);
+    if (chunk == null) {
+      try {
+        chunk = this.channel.map(FileChannel.MapMode.READ_WRITE, index * this.chunkSize,
+                this.chunkSize);
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+      this.chunks.set(index, chunk);
+    }
+    return chunk;
+  }
+
+  long getLong(long offset) {
+    return this.chunk(offset).getLong((int) (offset % this.chunkSize));
+  }
+
+  void putLong(long offset, long value) {
+    this.chunk(offset).putLong((int) (offset % this.chunkSize), value);
+  }
+
+  int getInt(long offset) {
+    return this.chunk(offset).getInt((int) (offset % this.chunkSize));
+  }
+
+  void putInt(long offset, int value) {
+    this.chunk(offset).putInt((int) (offset % this.chunkSize), value);
+  }
+
+  /**
+   * Returns the size of the file, which is zero for a new file.
+   *
+   * @return the size in bytes.
+   * @throws IOException if the size could not be read.
+   */
+  long fileSize() throws IOException {
+    return this.channel.size();
+  }
+
+  /**
+   * Writes the changes to the mapped chunks to the disk.
+   */
+  void force() {
+    for (MappedByteBuffer chunk : this.chunks) {
+      if (chunk != null) {
+        chunk.force();
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.force();
+    this.chunks.clear();
+    this.channel.close();
+  }
+}
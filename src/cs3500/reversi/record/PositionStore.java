@@ -0,0 +1,517 @@
+package cs3500.reversi.record;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.BoardSymmetry;
+import cs3500.reversi.model.CanonicalPosition;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.model.Zobrist;
+
+/**
+ * A database of positions on disk, with how the games that went through each position ended.
+ * Positions are appended to a data file of fixed-size records, each holding the position key, the
+ * board packed in two bits per cell, the color to move and the outcome counts. A second file next
+ * to it, with ".idx" after the name, holds an open-addressing hash table from position keys to
+ * record numbers. Positions that are the same up to a rotation or reflection of the board share a
+ * record: the key is that of the canonical form from BoardSymmetry, and the board is stored in
+ * that form.
+ *
+ * <p>Both files are memory-mapped, so a lookup reads the index slots and the packed board of the
+ * record straight from the mapping without making any objects, and a store of tens of millions of
+ * positions costs no heap. The index can always be rebuilt from the data file, and is when it is
+ * missing or behind. Positions are numbered from 0 in the order they were added. A store is not
+ * safe to use from more than one thread.
+ */
+public final class PositionStore implements Closeable {
+  private static final int DATA_MAGIC = 0x52565053; // "RVPS"
+  private static final int INDEX_MAGIC = 0x52565049; // "RVPI"
+  private static final int VERSION = 2;
+  private static final int HEXAGON = 0;
+  private static final int SQUARE = 1;
+
+  // offsets in the header of the data file, which takes the place of the first record
+  private static final long DATA_MAGIC_AT = 0;
+  private static final long DATA_VERSION_AT = 4;
+  private static final long SHAPE_AT = 8;
+  private static final long SIDE_AT = 12;
+  private static final long RECORD_SIZE_AT = 16;
+  private static final long COUNT_AT = 24;
+
+  // offsets in the header of the index file
+  private static final long INDEX_MAGIC_AT = 0;
+  private static final long INDEX_VERSION_AT = 4;
+  private static final long CAPACITY_AT = 8;
+  private static final long TABLE_AT = 16;
+  private static final long INDEXED_AT = 24;
+  private static final long INDEX_HEADER_SIZE = 64;
+
+  // an index slot is the key and the record number, which is 0 for an empty slot
+  private static final long SLOT_SIZE = 16;
+  private static final long FIRST_CAPACITY = 1 << 12;
+  private static final long RECORDS_PER_CHUNK = 1 << 16;
+  private static final long INDEX_CHUNK_SIZE = 1 << 24;
+
+  private final BoardGeometry geometry;
+  private final BoardSymmetry symmetry;
+  private final MappedFile data;
+  private final MappedFile index;
+  private final int words;
+  private final int recordSize;
+  // offsets in a record, after the key and the board
+  private final int toMoveAt;
+  private final int gamesAt;
+  private final int blackWinsAt;
+  private final int whiteWinsAt;
+  private final int drawsAt;
+  private final int marginSumAt;
+  // the board being looked up, packed like a record
+  private final long[] packed;
+  private long count;
+  private long capacity;
+  private long table;
+
+  private PositionStore(BoardGeometry geometry, FileChannel dataChannel,
+                        FileChannel indexChannel) throws IOException {
+    this.geometry = geometry;
+    this.symmetry = BoardSymmetry.of(geometry);
+    this.words = (2 * geometry.getCellCount() + 63) / 64;
+    this.toMoveAt = 8 + 8 * this.words;
+    this.gamesAt = this.toMoveAt + 4;
+    this.blackWinsAt = this.toMoveAt + 8;
+    this.whiteWinsAt = this.toMoveAt + 12;
+    this.drawsAt = this.toMoveAt + 16;
+    this.marginSumAt = this.toMoveAt + 24;
+    this.recordSize = this.marginSumAt + 8;
+    this.packed = new long[this.words];
+    this.data = new MappedFile(dataChannel, this.recordSize * RECORDS_PER_CHUNK);
+    this.index = new MappedFile(indexChannel, INDEX_CHUNK_SIZE);
+    this.openData();
+    this.openIndex();
+  }
+
+  /**
+   * Opens the store at the given path, creating it if the file does not exist.
+   *
+   * @param path     the path of the data file; the index is the same path with ".idx" after it.
+   * @param geometry the geometry of the board of every position of the store.
+   * @return the open store.
+   * @throws IllegalArgumentException if an argument is null, or the store holds positions of
+   *                                  another board.
+   * @throws IOException              if a file could not be opened or the data file is not a
+   *                                  position store.
+   */
+  public static PositionStore open(Path path, BoardGeometry geometry) throws IOException {
+    if (path == null || geometry == null) {
+      throw new IllegalArgumentException("Path and geometry cannot be null");
+    }
+    Path indexPath = path.resolveSibling(path.getFileName() + ".idx");
+    FileChannel dataChannel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+    FileChannel indexChannel = null;
+    try {
+      indexChannel = FileChannel.open(indexPath, StandardOpenOption.CREATE,
+              StandardOpenOption.READ, StandardOpenOption.WRITE);
+      return new PositionStore(geometry, dataChannel, indexChannel);
+    } catch (IOException | RuntimeException ex) {
+      dataChannel.close();
+      if (indexChannel != null) {
+        indexChannel.close();
+      }
+      throw ex;
+    }
+  }
+
+  private void openData() throws IOException {
+    int shape = this.geometry.isHexagon() ? HEXAGON : SQUARE;
+    if (this.data.fileSize() == 0) {
+      this.data.putInt(DATA_MAGIC_AT, DATA_MAGIC);
+      this.data.putInt(DATA_VERSION_AT, VERSION);
+      this.data.putInt(SHAPE_AT, shape);
+      this.data.putInt(SIDE_AT, this.geometry.getSideLength());
+      this.data.putInt(RECORD_SIZE_AT, this.recordSize);
+      this.data.putLong(COUNT_AT, 0);
+    }
+    if (this.data.getInt(DATA_MAGIC_AT) != DATA_MAGIC) {
+      throw new IOException("Not a position store");
+    }
+    int version = this.data.getInt(DATA_VERSION_AT);
+    if (version != VERSION) {
+      throw new IOException("Unknown position store version " + version);
+    }
+    if (this.data.getInt(SHAPE_AT) != shape
+            || this.data.getInt(SIDE_AT) != this.geometry.getSideLength()
+            || this.data.getInt(RECORD_SIZE_AT) != this.recordSize) {
+      throw new IllegalArgumentException("Store holds positions of another board");
+    }
+    this.count = this.data.getLong(COUNT_AT);
+  }
+
+  private void openIndex() throws IOException {
+    long indexed;
+    if (this.index.fileSize() >= INDEX_HEADER_SIZE
+            && this.index.getInt(INDEX_MAGIC_AT) == INDEX_MAGIC
+            && this.index.getInt(INDEX_VERSION_AT) == VERSION
+            && this.index.getLong(INDEXED_AT) <= this.count) {
+      this.capacity = this.index.getLong(CAPACITY_AT);
+      this.table = this.index.getLong(TABLE_AT);
+      indexed = this.index.getLong(INDEXED_AT);
+    } else {
+      // Missing, broken or ahead of the data: build it again from the records.
+      this.index.putInt(INDEX_MAGIC_AT, INDEX_MAGIC);
+      this.index.putInt(INDEX_VERSION_AT, VERSION);
+      long capacity = FIRST_CAPACITY;
+      while (capacity < 2 * this.count) {
+        capacity *= 2;
+      }
+      this.newTable(INDEX_HEADER_SIZE, capacity);
+      this.index.putLong(INDEXED_AT, 0);
+      indexed = 0;
+    }
+    // Catch up with the records appended since the index was last written.
+    for (long record = indexed + 1; record <= this.count; record++) {
+      this.indexRecord(record);
+    }
+  }
+
+  // clears a table of the given capacity at the given offset and makes it the table of the index.
+  private void newTable(long offset, long capacity) {
+    for (long at = offset; at < offset + capacity * SLOT_SIZE; at += 8) {
+      this.index.putLong(at, 0);
+    }
+    this.table = offset;
+    this.capacity = capacity;
+    this.index.putLong(TABLE_AT, offset);
+    this.index.putLong(CAPACITY_AT, capacity);
+  }
+
+  // adds the given record to the index, growing it first if it is half full.
+  private void indexRecord(long record) {
+    if (2 * record > this.capacity) {
+      this.grow();
+    }
+    long key = this.data.getLong(this.recordOffset(record));
+    long mask = this.capacity - 1;
+    long slot = key & mask;
+    while (this.index.getLong(this.table + slot * SLOT_SIZE + 8) != 0) {
+      slot = (slot + 1) & mask;
+    }
+    this.index.putLong(this.table + slot * SLOT_SIZE, key);
+    this.index.putLong(this.table + slot * SLOT_SIZE + 8, record);
+    this.index.putLong(INDEXED_AT, record);
+  }
+
+  // moves the index to a table of twice the size, written after the current one so that the
+  // current one stays valid until the header points to the new one.
+  private void grow() {
+    long oldTable = this.table;
+    long oldCapacity = this.capacity;
+    long newTable = oldTable + oldCapacity * SLOT_SIZE;
+    long newCapacity = 2 * oldCapacity;
+    long mask = newCapacity - 1;
+    for (long at = newTable; at < newTable + newCapacity * SLOT_SIZE; at += 8) {
+      this.index.putLong(at, 0);
+    }
+    for (long slot = 0; slot < oldCapacity; slot++) {
+      long record = this.index.getLong(oldTable + slot * SLOT_SIZE + 8);
+      if (record != 0) {
+        long key = this.index.getLong(oldTable + slot * SLOT_SIZE);
+        long to = key & mask;
+        while (this.index.getLong(newTable + to * SLOT_SIZE + 8) != 0) {
+          to = (to + 1) & mask;
+        }
+        this.index.putLong(newTable + to * SLOT_SIZE, key);
+        this.index.putLong(newTable + to * SLOT_SIZE + 8, record);
+      }
+    }
+    this.table = newTable;
+    this.capacity = newCapacity;
+    this.index.putLong(TABLE_AT, newTable);
+    this.index.putLong(CAPACITY_AT, newCapacity);
+  }
+
+  private long recordOffset(long record) {
+    return record * this.recordSize;
+  }
+
+  // packs the canonical form of the board into this.packed and returns the key of the position.
+  private long pack(IBoard board, TokenColor toMove) {
+    if (board == null || toMove == null) {
+      throw new IllegalArgumentException("Board and color cannot be null");
+    }
+    CanonicalPosition canonical = this.symmetry.canonicalize(board);
+    for (int i = 0; i < this.words; i++) {
+      this.packed[i] = 0;
+    }
+    for (int i = 0; i < this.geometry.getCellCount(); i++) {
+      Optional<TokenColor> occupant = board.getCellOccupant(this.geometry.cellAt(i));
+      if (occupant.isPresent()) {
+        long code = occupant.get().ordinal() + 1;
+        int to = this.symmetry.apply(canonical.getTransform(), i);
+        this.packed[to >>> 5] |= code << ((to & 31) << 1);
+      }
+    }
+    return canonical.getKey() ^ (toMove == TokenColor.WHITE ? Zobrist.WHITE_TO_MOVE : 0);
+  }
+
+  // the record of the packed position, or minus one minus the empty slot where it would go.
+  private long lookUp(long key, TokenColor toMove) {
+    long mask = this.capacity - 1;
+    for (long slot = key & mask; ; slot = (slot + 1) & mask) {
+      long at = this.table + slot * SLOT_SIZE;
+      long record = this.index.getLong(at + 8);
+      if (record == 0) {
+        return -1 - slot;
+      }
+      if (this.index.getLong(at) == key && this.holdsPacked(record, toMove)) {
+        return record;
+      }
+    }
+  }
+
+  private boolean holdsPacked(long record, TokenColor toMove) {
+    long offset = this.recordOffset(record);
+    if (this.data.getInt(offset + this.toMoveAt) != toMove.ordinal()) {
+      return false;
+    }
+    for (int i = 0; i < this.words; i++) {
+      if (this.data.getLong(offset + 8 + 8L * i) != this.packed[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the number of positions in the store.
+   *
+   * @return the number of positions.
+   */
+  public long size() {
+    return this.count;
+  }
+
+  /**
+   * Returns the geometry of the board of the positions of the store.
+   *
+   * @return the geometry of the board.
+   */
+  public BoardGeometry getGeometry() {
+    return this.geometry;
+  }
+
+  /**
+   * Looks up the given position, or any position the same as it up to a symmetry of the board.
+   *
+   * @param board  the board, of the geometry of the store.
+   * @param toMove the color to move.
+   * @return the number of the position, or -1 if it is not in the store.
+   * @throws IllegalArgumentException if an argument is null.
+   */
+  public long find(IBoard board, TokenColor toMove) {
+    long found = this.lookUp(this.pack(board, toMove), toMove);
+    return (found > 0) ? found - 1 : -1;
+  }
+
+  /**
+   * Counts a game that went through the given position, adding the position if it is not in the
+   * store yet.
+   *
+   * @param board  the board, of the geometry of the store.
+   * @param toMove the color to move.
+   * @param margin by how many tokens black won the game.
+   * @return the number of the position.
+   * @throws IllegalArgumentException if an argument is null.
+   */
+  public long add(IBoard board, TokenColor toMove, int margin) {
+    long key = this.pack(board, toMove);
+    long record = this.lookUp(key, toMove);
+    if (record < 0) {
+      record = this.count + 1;
+      long offset = this.recordOffset(record);
+      this.data.putLong(offset, key);
+      for (int i = 0; i < this.words; i++) {
+        this.data.putLong(offset + 8 + 8L * i, this.packed[i]);
+      }
+      this.data.putInt(offset + this.toMoveAt, toMove.ordinal());
+      this.count = record;
+      this.data.putLong(COUNT_AT, record);
+      this.indexRecord(record);
+    }
+    long offset = this.recordOffset(record);
+    this.increment(offset + this.gamesAt);
+    if (margin > 0) {
+      this.increment(offset + this.blackWinsAt);
+    } else if (margin < 0) {
+      this.increment(offset + this.whiteWinsAt);
+    } else {
+      this.increment(offset + this.drawsAt);
+    }
+    this.data.putLong(offset + this.marginSumAt, this.data.getLong(offset + this.marginSumAt)
+            + margin);
+    return record - 1;
+  }
+
+  private void increment(long offset) {
+    this.data.putInt(offset, this.data.getInt(offset) + 1);
+  }
+
+  /**
+   * Counts every position of the given game, from the start to the position before the last
+   * move. Games that were not played to the end are left out, since they have no result.
+   *
+   * @param game the game to add.
+   * @return the number of positions counted.
+   * @throws IllegalArgumentException if the game is null or was played on another board.
+   * @throws IllegalStateException    if a move of the game is invalid.
+   */
+  public int addGame(RecordedGame game) {
+    if (game == null) {
+      throw new IllegalArgumentException("Game cannot be null");
+    }
+    if (game.getGeometry() != this.geometry) {
+      throw new IllegalArgumentException("Game was played on another board");
+    }
+    if (!game.isFinished()) {
+      return 0;
+    }
+    IBoard board = RecordedGame.newModel(this.geometry).createBoardCopy();
+    TokenColor toMove = TokenColor.BLACK;
+    for (int turn = 0; turn < game.getMoveCount(); turn++) {
+      this.add(board, toMove, game.getMargin());
+      Optional<ICell> move = game.getMove(turn);
+      if (move.isPresent()) {
+        board.makeMove(move.get(), toMove);
+      }
+      toMove = toMove.next();
+    }
+    return game.getMoveCount();
+  }
+
+  private long offsetOf(long position) {
+    if (position < 0 || position >= this.count) {
+      throw new IllegalArgumentException("No position " + position);
+    }
+    return this.recordOffset(position + 1);
+  }
+
+  /**
+   * Returns the key of the given position, the key of its canonical form with the color to move
+   * folded in.
+   *
+   * @param position the number of the position.
+   * @return the key of the position.
+   * @throws IllegalArgumentException if there is no such position.
+   */
+  public long getKey(long position) {
+    return this.data.getLong(this.offsetOf(position));
+  }
+
+  /**
+   * Returns the occupant of a cell of the canonical form of the given position.
+   *
+   * @param position the number of the position.
+   * @param cell     the index of the cell in the geometry of the store.
+   * @return the color on the cell, or empty if it is empty.
+   * @throws IllegalArgumentException if there is no such position or cell.
+   */
+  public Optional<TokenColor> getOccupant(long position, int cell) {
+    if (cell < 0 || cell >= this.geometry.getCellCount()) {
+      throw new IllegalArgumentException("No cell " + cell);
+    }
+    long word = this.data.getLong(this.offsetOf(position) + 8 + 8L * (cell >>> 5));
+    int code = (int) (word >>> ((cell & 31) << 1)) & 3;
+    return (code == 0) ? Optional.empty() : Optional.of(TokenColor.values()[code - 1]);
+  }
+
+  /**
+   * Returns the color to move in the given position.
+   *
+   * @param position the number of the position.
+   * @return the color to move.
+   * @throws IllegalArgumentException if there is no such position.
+   */
+  public TokenColor getToMove(long position) {
+    return TokenColor.values()[this.data.getInt(this.offsetOf(position) + this.toMoveAt)];
+  }
+
+  /**
+   * Returns the number of games that went through the given position.
+   *
+   * @param position the number of the position.
+   * @return the number of games.
+   * @throws IllegalArgumentException if there is no such position.
+   */
+  public int getGames(long position) {
+    return this.data.getInt(this.offsetOf(position) + this.gamesAt);
+  }
+
+  /**
+   * Returns the number of games through the given position that black won.
+   *
+   * @param position the number of the position.
+   * @return the number of wins of black.
+   * @throws IllegalArgumentException if there is no such position.
+   */
+  public int getBlackWins(long position) {
+    return this.data.getInt(this.offsetOf(position) + this.blackWinsAt);
+  }
+
+  /**
+   * Returns the number of games through the given position that white won.
+   *
+   * @param position the number of the position.
+   * @return the number of wins of white.
+   * @throws IllegalArgumentException if there is no such position.
+   */
+  public int getWhiteWins(long position) {
+    return this.data.getInt(this.offsetOf(position) + this.whiteWinsAt);
+  }
+
+  /**
+   * Returns the number of games through the given position that were drawn.
+   *
+   * @param position the number of the position.
+   * @return the number of draws.
+   * @throws IllegalArgumentException if there is no such position.
+   */
+  public int getDraws(long position) {
+    return this.data.getInt(this.offsetOf(position) + this.drawsAt);
+  }
+
+  /**
+   * Returns the sum of the margins of black over the games through the given position, so the
+   * average margin is this over the number of games.
+   *
+   * @param position the number of the position.
+   * @return the sum of the margins.
+   * @throws IllegalArgumentException if there is no such position.
+   */
+  public long getMarginSum(long position) {
+    return this.data.getLong(this.offsetOf(position) + this.marginSumAt);
+  }
+
+  /**
+   * Writes every change to the disk.
+   */
+  public void force() {
+    this.data.force();
+    this.index.force();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      this.data.close();
+    } finally {
+      this.index.close();
+    }
+  }
+}
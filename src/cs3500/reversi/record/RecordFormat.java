@@ -0,0 +1,42 @@
+package cs3500.reversi.record;
+
+/**
+ * The binary format of game records. A stream of records is just the records one after another,
+ * so records can be appended to a file and streams joined. A record is
+ *
+ * <pre>
+ *   MAGIC VERSION shape side black white move* end
+ * </pre>
+ *
+ * <p>where shape is a byte, 0 for a hexagonal board and 1 for a square one, side is the side
+ * length as a varint, and black and white are the names of the strategies as a varint length
+ * followed by that many bytes of UTF-8. Every move is one varint, PASS for a pass and the index of
+ * the cell in the cell registry of the board plus FIRST_CELL otherwise, which takes a single byte
+ * on every board of up to 124 cells. The record ends with FINISHED followed by the margin of black
+ * as a zigzag varint if the game was played to the end, and with UNFINISHED if it was not.
+ *
+ * <p>Varints are unsigned LEB128: seven bits per byte, lowest first, with the high bit set on
+ * every byte but the last. Zigzag maps 0, -1, 1, -2 and so on to 0, 1, 2, 3 so that small
+ * negative numbers stay short.
+ */
+final class RecordFormat {
+  static final int MAGIC = 0xA7;
+  static final int VERSION = 1;
+  static final int HEXAGON = 0;
+  static final int SQUARE = 1;
+  static final int FINISHED = 0;
+  static final int PASS = 1;
+  static final int UNFINISHED = 2;
+  static final int FIRST_CELL = 3;
+
+  private RecordFormat() {
+  }
+
+  static int zigzag(int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  static int unzigzag(int value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
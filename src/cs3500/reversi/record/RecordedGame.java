@@ -0,0 +1,168 @@
+package cs3500.reversi.record;
+
+import java.util.Optional;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * A game read back from a game record: the board it was played on, who played it, its moves and
+ * its result. The moves are kept as cell indices, so games can be looked through without making
+ * a model, and replay plays them on one.
+ */
+public final class RecordedGame {
+  private final BoardGeometry geometry;
+  private final String blackName;
+  private final String whiteName;
+  private final int[] moves;
+  private final boolean finished;
+  private final int margin;
+
+  /**
+   * Constructs a recorded game.
+   *
+   * @param geometry  the geometry of the board.
+   * @param blackName the name of the player of black.
+   * @param whiteName the name of the player of white.
+   * @param moves     the index of the cell of every move, or -1 for a pass.
+   * @param finished  whether the game was played to the end.
+   * @param margin    by how many tokens black won, if the game was finished.
+   */
+  RecordedGame(BoardGeometry geometry, String blackName, String whiteName, int[] moves,
+               boolean finished, int margin) {
+    this.geometry = geometry;
+    this.blackName = blackName;
+    this.whiteName = whiteName;
+    this.moves = moves;
+    this.finished = finished;
+    this.margin = margin;
+  }
+
+  /**
+   * Returns the geometry of the board the game was played on, which tells its shape and size.
+   *
+   * @return the geometry of the board.
+   */
+  public BoardGeometry getGeometry() {
+    return this.geometry;
+  }
+
+  /**
+   * Returns the name of the strategy or player of black.
+   *
+   * @return the name of black.
+   */
+  public String getBlackName() {
+    return this.blackName;
+  }
+
+  /**
+   * Returns the name of the strategy or player of white.
+   *
+   * @return the name of white.
+   */
+  public String getWhiteName() {
+    return this.whiteName;
+  }
+
+  /**
+   * Returns the number of moves and passes of the game.
+   *
+   * @return the number of turns played.
+   */
+  public int getMoveCount() {
+    return this.moves.length;
+  }
+
+  /**
+   * Returns the move made on the given turn.
+   *
+   * @param turn the turn, counted from 0.
+   * @return the cell played on, or empty for a pass.
+   * @throws IllegalArgumentException if there is no such turn.
+   */
+  public Optional<ICell> getMove(int turn) {
+    if (turn < 0 || turn >= this.moves.length) {
+      throw new IllegalArgumentException("No turn " + turn);
+    }
+    int index = this.moves[turn];
+    return (index < 0) ? Optional.empty() : Optional.of(this.geometry.cellAt(index));
+  }
+
+  /**
+   * Returns whether the game was played to the end.
+   *
+   * @return whether the game is finished.
+   */
+  public boolean isFinished() {
+    return this.finished;
+  }
+
+  /**
+   * Returns by how many tokens black won.
+   *
+   * @return the score of black minus the score of white at the end.
+   * @throws IllegalStateException if the game was not played to the end.
+   */
+  public int getMargin() {
+    if (!this.finished) {
+      throw new IllegalStateException("Game was not played to the end");
+    }
+    return this.margin;
+  }
+
+  /**
+   * Plays the game on a new model of its board, backed by a bitboard where there is one for the
+   * board.
+   *
+   * @return the model after the last move.
+   * @throws IllegalStateException if a move is invalid or the game does not end as recorded.
+   */
+  public IReversiModel replay() {
+    IReversiModel model = newModel(this.geometry);
+    this.replayInto(model);
+    return model;
+  }
+
+  // a new model of a board of the given geometry, backed by a bitboard where there is one.
+  static IReversiModel newModel(BoardGeometry geometry) {
+    int side = geometry.getSideLength();
+    if (geometry.isHexagon()) {
+      return new HexagonReversi(side, true);
+    }
+    // The square bitboard only has the standard 8x8 board.
+    return new SquareReversi(side, side == 8);
+  }
+
+  /**
+   * Starts the given model and plays the game on it.
+   *
+   * @param model the model of a new game on a board of the same shape and size.
+   * @throws IllegalArgumentException if the model is null or has another board.
+   * @throws IllegalStateException    if a move is invalid or the game does not end as recorded.
+   */
+  public void replayInto(IReversiModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+    if (model.getGeometry() != this.geometry) {
+      throw new IllegalArgumentException("Model has a different board than the recorded game");
+    }
+    model.startGame();
+    for (int index : this.moves) {
+      if (index < 0) {
+        model.passTurn(true);
+      } else {
+        model.placeCurrentPlayerPiece(this.geometry.cellAt(index));
+      }
+    }
+    if (this.finished && (!model.isGameOver() || this.margin
+            != model.getScore(TokenColor.BLACK) - model.getScore(TokenColor.WHITE))) {
+      throw new IllegalStateException("Game does not end as recorded");
+    }
+  }
+}
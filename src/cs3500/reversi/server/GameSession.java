@@ -0,0 +1,345 @@
+package cs3500.reversi.server;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.ROModel;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.strategy.Strategy;
+
+/**
+ * One game run by a GameSessionManager on a thread of its own. The colors with a strategy are
+ * played by it, the same way an AI player would play them but without waiting between moves, and
+ * the other colors are played by calling playMove and pass, which return once the move is on the
+ * board or throw if it could not be played. Only the thread of the session changes the model:
+ * the board read through getModel is up to date once awaitTurn has returned true for the color
+ * reading it, and does not change until that color has moved.
+ */
+public final class GameSession {
+  private final long id;
+  private final IReversiModel model;
+  private final Map<TokenColor, Strategy> strategies;
+  private final GameSessionManager manager;
+  private final BlockingQueue<PendingMove> pendingMoves;
+  private final AtomicReference<SessionState> state;
+  private final CountDownLatch ended;
+  private volatile Turn turn;
+  private volatile Thread thread;
+  private volatile int margin;
+  private volatile RuntimeException failure;
+
+  // whose turn it is and how many turns came before it, read together so that a move submitted
+  // for one turn is never played on a later one.
+  private static final class Turn {
+    private final TokenColor color;
+    private final int number;
+
+    private Turn(TokenColor color, int number) {
+      this.color = color;
+      this.number = number;
+    }
+  }
+
+  // a move submitted by a caller, played by the thread of the session on the same turn.
+  private static final class PendingMove {
+    private final Optional<ICell> cell;
+    private final int turn;
+    private final CompletableFuture<Void> done;
+
+    private PendingMove(Optional<ICell> cell, int turn) {
+      this.cell = cell;
+      this.turn = turn;
+      this.done = new CompletableFuture<>();
+    }
+  }
+
+  /**
+   * Constructs a session and starts its game, which is played once run is called.
+   *
+   * @param id         the identifier of the session.
+   * @param model      the model of a game that has not started yet.
+   * @param strategies the strategy of each color played by the session.
+   * @param manager    the manager to report moves and the end of the game to.
+   */
+  GameSession(long id, IReversiModel model, Map<TokenColor, Strategy> strategies,
+              GameSessionManager manager) {
+    this.id = id;
+    this.model = model;
+    this.strategies = strategies;
+    this.manager = manager;
+    this.pendingMoves = new LinkedBlockingQueue<>();
+    this.state = new AtomicReference<>(SessionState.RUNNING);
+    this.ended = new CountDownLatch(1);
+    this.model.startGame();
+    this.turn = new Turn(this.model.getCurrentColor(), 0);
+  }
+
+  /**
+   * Plays the game until it is over or the session is stopped, on the thread of the session.
+   */
+  void run() {
+    this.thread = Thread.currentThread();
+    SessionState end = SessionState.FINISHED;
+    try {
+      while (!this.model.isGameOver() && this.state.get() == SessionState.RUNNING) {
+        TokenColor color = this.model.getCurrentColor();
+        Strategy strategy = this.strategies.get(color);
+        if (strategy == null) {
+          this.playPendingMove();
+          this.manager.played();
+        } else {
+          long start = System.nanoTime();
+          List<ICell> moves = strategy.chooseMove(this.model, this.model.getValidMoves(color));
+          this.play(moves.isEmpty() ? Optional.empty() : Optional.of(moves.get(0)));
+          this.manager.played(System.nanoTime() - start);
+        }
+      }
+      this.margin = this.model.getScoreDifference(TokenColor.BLACK);
+    } catch (InterruptedException ex) {
+      end = SessionState.ABANDONED;
+    } catch (RuntimeException ex) {
+      this.failure = ex;
+      end = SessionState.FAILED;
+    } finally {
+      this.finish(end);
+    }
+  }
+
+  // waits for a caller to submit a move for this turn and plays it, telling the caller if it
+  // could not be played.
+  private void playPendingMove() throws InterruptedException {
+    while (true) {
+      PendingMove move = this.pendingMoves.take();
+      if (move.turn != this.turn.number) {
+        move.done.completeExceptionally(new IllegalStateException("It is not your turn!"));
+        continue;
+      }
+      try {
+        this.play(move.cell);
+        move.done.complete(null);
+        return;
+      } catch (IllegalArgumentException | IllegalStateException ex) {
+        move.done.completeExceptionally(ex);
+      }
+    }
+  }
+
+  private void play(Optional<ICell> cell) {
+    if (cell.isPresent()) {
+      this.model.placeCurrentPlayerPiece(cell.get());
+    } else {
+      this.model.passTurn(true);
+    }
+    TokenColor next = this.model.isGameOver() ? null : this.model.getCurrentColor();
+    this.turn = new Turn(next, this.turn.number + 1);
+    synchronized (this) {
+      this.notifyAll();
+    }
+  }
+
+  private void finish(SessionState end) {
+    this.state.compareAndSet(SessionState.RUNNING, end);
+    this.turn = new Turn(null, this.turn.number);
+    for (PendingMove move = this.pendingMoves.poll(); move != null;
+         move = this.pendingMoves.poll()) {
+      move.done.completeExceptionally(new IllegalStateException("Session is over"));
+    }
+    synchronized (this) {
+      this.notifyAll();
+    }
+    // The manager drops the session before anyone waiting for the end is let go.
+    this.manager.ended(this);
+    this.ended.countDown();
+  }
+
+  /**
+   * Places a token of the given color on the cell, for a color not played by a strategy. Returns
+   * once the move has been played.
+   *
+   * @param color the color making the move.
+   * @param cell  the cell to place the token on.
+   * @throws IllegalArgumentException if an argument is null or the color is played by a strategy.
+   * @throws IllegalStateException    if the session is over, it is not the turn of the color, the
+   *                                  move is invalid, or the calling thread was interrupted.
+   */
+  public void playMove(TokenColor color, ICell cell) {
+    if (cell == null) {
+      throw new IllegalArgumentException("Cell cannot be null");
+    }
+    this.submit(color, Optional.of(cell));
+  }
+
+  /**
+   * Passes the turn of the given color, for a color not played by a strategy. Returns once the
+   * pass has been played.
+   *
+   * @param color the color passing.
+   * @throws IllegalArgumentException if the color is null or played by a strategy.
+   * @throws IllegalStateException    if the session is over, it is not the turn of the color, or
+   *                                  the calling thread was interrupted.
+   */
+  public void pass(TokenColor color) {
+    this.submit(color, Optional.empty());
+  }
+
+  private void submit(TokenColor color, Optional<ICell> cell) {
+    if (color == null) {
+      throw new IllegalArgumentException("Color cannot be null");
+    }
+    if (this.strategies.containsKey(color)) {
+      throw new IllegalArgumentException("Color " + color + " is played by a strategy");
+    }
+    Turn current = this.turn;
+    if (this.state.get().isOver()) {
+      throw new IllegalStateException("Session is over");
+    }
+    if (current.color != color) {
+      throw new IllegalStateException("It is not your turn!");
+    }
+    PendingMove move = new PendingMove(cell, current.number);
+    this.pendingMoves.add(move);
+    if (this.state.get().isOver()) {
+      // The session ended after the check and may not have seen the move.
+      move.done.completeExceptionally(new IllegalStateException("Session is over"));
+    }
+    try {
+      move.done.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the move to be played");
+    } catch (ExecutionException ex) {
+      throw (RuntimeException) ex.getCause();
+    }
+  }
+
+  /**
+   * Waits until it is the turn of the given color or the session is over.
+   *
+   * @param color   the color to wait for.
+   * @param timeout the longest time to wait.
+   * @param unit    the unit of the timeout.
+   * @return whether it is the turn of the color, false if the session is over or the time ran out.
+   * @throws IllegalArgumentException if the color or unit is null.
+   * @throws InterruptedException     if the calling thread was interrupted while waiting.
+   */
+  public boolean awaitTurn(TokenColor color, long timeout, TimeUnit unit)
+          throws InterruptedException {
+    if (color == null || unit == null) {
+      throw new IllegalArgumentException("Null argument(s) given to awaitTurn");
+    }
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    synchronized (this) {
+      while (this.turn.color != color && !this.state.get().isOver()) {
+        long left = deadline - System.nanoTime();
+        if (left <= 0) {
+          return false;
+        }
+        TimeUnit.NANOSECONDS.timedWait(this, left);
+      }
+    }
+    return this.turn.color == color && !this.state.get().isOver();
+  }
+
+  /**
+   * Waits until the session is over.
+   *
+   * @param timeout the longest time to wait.
+   * @param unit    the unit of the timeout.
+   * @return whether the session is over.
+   * @throws InterruptedException if the calling thread was interrupted while waiting.
+   */
+  public boolean awaitEnd(long timeout, TimeUnit unit) throws InterruptedException {
+    return this.ended.await(timeout, unit);
+  }
+
+  /**
+   * Stops the game if it is still being played. The session ends as ABANDONED once the move being
+   * chosen, if any, is done.
+   */
+  public void quit() {
+    if (this.state.compareAndSet(SessionState.RUNNING, SessionState.ABANDONED)) {
+      Thread running = this.thread;
+      if (running != null) {
+        running.interrupt();
+      }
+    }
+  }
+
+  /**
+   * Returns the identifier of the session, unique within its manager.
+   *
+   * @return the identifier.
+   */
+  public long getId() {
+    return this.id;
+  }
+
+  /**
+   * Returns the stage the session is at.
+   *
+   * @return the state of the session.
+   */
+  public SessionState getState() {
+    return this.state.get();
+  }
+
+  /**
+   * Returns whose turn it is.
+   *
+   * @return the color to move, or empty if the session is over.
+   */
+  public Optional<TokenColor> getTurn() {
+    return this.state.get().isOver() ? Optional.empty() : Optional.ofNullable(this.turn.color);
+  }
+
+  /**
+   * Returns the number of moves and passes played so far.
+   *
+   * @return the number of turns played.
+   */
+  public int getMoveCount() {
+    return this.turn.number;
+  }
+
+  /**
+   * Returns a read only view of the model of the game. It is changed by the thread of the session,
+   * see the class comment for when it may be read.
+   *
+   * @return the model of the game.
+   */
+  public ROModel getModel() {
+    return this.model;
+  }
+
+  /**
+   * Returns by how many tokens black won the game.
+   *
+   * @return the score of black minus the score of white.
+   * @throws IllegalStateException if the game was not played to the end.
+   */
+  public int getMargin() {
+    if (this.state.get() != SessionState.FINISHED) {
+      throw new IllegalStateException("Game was not played to the end");
+    }
+    return this.margin;
+  }
+
+  /**
+   * Returns why the session failed.
+   *
+   * @return the exception that stopped the game, or empty if it did not fail.
+   */
+  public Optional<RuntimeException> getFailure() {
+    return Optional.ofNullable(this.failure);
+  }
+}
@@ -0,0 +1,202 @@
+package cs3500.reversi.server;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.strategy.Strategy;
+
+/**
+ * Runs any number of games at once in one program, each in a GameSession with its own model and
+ * its own thread, made without views, players or controllers. A game between two strategies plays
+ * itself, and in a game against one strategy the other color is played through the session. A
+ * session that ends is dropped by the manager, and nothing ends the program.
+ *
+ * <p>Unless given a thread factory, the manager runs every session on a virtual thread when the
+ * Java runtime has them (Java 21 and later), so thousands of games waiting for moves cost little,
+ * and on a daemon thread of its own otherwise. The manager counts the moves played by all of its
+ * sessions and how long every AI move took, which getStats reads.
+ */
+public final class GameSessionManager implements AutoCloseable {
+  private final Supplier<IReversiModel> modelFactory;
+  private final ThreadFactory threadFactory;
+  private final Map<Long, GameSession> sessions;
+  private final AtomicLong nextId;
+  private final LongAdder started;
+  private final LongAdder ended;
+  private final LongAdder moves;
+  private final LatencyHistogram latencies;
+  private final long startNanos;
+  private volatile boolean closed;
+
+  /**
+   * Constructs a manager that runs its sessions on virtual threads if it can.
+   *
+   * @param modelFactory makes the model of a new game, which is started by the manager.
+   * @throws IllegalArgumentException if the factory is null.
+   */
+  public GameSessionManager(Supplier<IReversiModel> modelFactory) {
+    this(modelFactory, defaultThreadFactory());
+  }
+
+  /**
+   * Constructs a manager that runs every session on a new thread of the given factory.
+   *
+   * @param modelFactory  makes the model of a new game, which is started by the manager.
+   * @param threadFactory makes the thread of a new session.
+   * @throws IllegalArgumentException if an argument is null.
+   */
+  public GameSessionManager(Supplier<IReversiModel> modelFactory, ThreadFactory threadFactory) {
+    if (modelFactory == null || threadFactory == null) {
+      throw new IllegalArgumentException("Null argument(s) given to manager constructor.");
+    }
+    this.modelFactory = modelFactory;
+    this.threadFactory = threadFactory;
+    this.sessions = new ConcurrentHashMap<>();
+    this.nextId = new AtomicLong();
+    this.started = new LongAdder();
+    this.ended = new LongAdder();
+    this.moves = new LongAdder();
+    this.latencies = new LatencyHistogram();
+    this.startNanos = System.nanoTime();
+  }
+
+  // makes virtual threads if the runtime has them and daemon platform threads otherwise. The
+  // virtual thread API is reached by reflection so that the code still builds for Java 11.
+  private static ThreadFactory defaultThreadFactory() {
+    try {
+      Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder = builderType.getMethod("name", String.class, long.class)
+              .invoke(builder, "reversi-session-", 1L);
+      return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException | RuntimeException ex) {
+      AtomicLong count = new AtomicLong();
+      return runnable -> {
+        Thread thread = new Thread(runnable, "reversi-session-" + count.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      };
+    }
+  }
+
+  /**
+   * Starts a game between two strategies, which plays itself to the end. Every game needs its own
+   * instances of the strategies.
+   *
+   * @param black the strategy playing black.
+   * @param white the strategy playing white.
+   * @return the session of the game.
+   * @throws IllegalArgumentException if a strategy is null.
+   * @throws IllegalStateException    if the manager is closed.
+   */
+  public GameSession startGame(Strategy black, Strategy white) {
+    if (black == null || white == null) {
+      throw new IllegalArgumentException("Strategies cannot be null");
+    }
+    Map<TokenColor, Strategy> strategies = new EnumMap<>(TokenColor.class);
+    strategies.put(TokenColor.BLACK, black);
+    strategies.put(TokenColor.WHITE, white);
+    return this.start(strategies);
+  }
+
+  /**
+   * Starts a game in which the given color is played through the session, by calling its
+   * playMove and pass, and the other color by the given strategy.
+   *
+   * @param color    the color played through the session.
+   * @param opponent the strategy playing the other color.
+   * @return the session of the game.
+   * @throws IllegalArgumentException if an argument is null.
+   * @throws IllegalStateException    if the manager is closed.
+   */
+  public GameSession startGameAgainst(TokenColor color, Strategy opponent) {
+    if (color == null || opponent == null) {
+      throw new IllegalArgumentException("Null argument(s) given to startGameAgainst");
+    }
+    Map<TokenColor, Strategy> strategies = new EnumMap<>(TokenColor.class);
+    strategies.put(color.next(), opponent);
+    return this.start(strategies);
+  }
+
+  private GameSession start(Map<TokenColor, Strategy> strategies) {
+    if (this.closed) {
+      throw new IllegalStateException("Manager is closed");
+    }
+    GameSession session = new GameSession(this.nextId.incrementAndGet(),
+            this.modelFactory.get(), strategies, this);
+    this.sessions.put(session.getId(), session);
+    this.started.increment();
+    this.threadFactory.newThread(session::run).start();
+    if (this.closed) {
+      // The manager was closed while the session was being started.
+      session.quit();
+    }
+    return session;
+  }
+
+  /**
+   * Returns the session with the given identifier if it is still being played.
+   *
+   * @param id the identifier of the session.
+   * @return the session, or empty if there is no active session with that identifier.
+   */
+  public Optional<GameSession> getSession(long id) {
+    return Optional.ofNullable(this.sessions.get(id));
+  }
+
+  /**
+   * Returns the number of sessions being played.
+   *
+   * @return the number of active sessions.
+   */
+  public int getActiveSessionCount() {
+    return this.sessions.size();
+  }
+
+  /**
+   * Returns a snapshot of the numbers of the manager: its sessions, the moves played, and the
+   * latency of the AI moves.
+   *
+   * @return the numbers of the manager right now.
+   */
+  public SessionStats getStats() {
+    return new SessionStats(this.sessions.size(), this.started.sum(), this.ended.sum(),
+            this.moves.sum(), System.nanoTime() - this.startNanos, this.latencies.snapshot());
+  }
+
+  /**
+   * Quits every session still being played and stops new ones from being started.
+   */
+  @Override
+  public void close() {
+    this.closed = true;
+    for (GameSession session : this.sessions.values()) {
+      session.quit();
+    }
+  }
+
+  // counts a move played through a session.
+  void played() {
+    this.moves.increment();
+  }
+
+  // counts an AI move that took the given time.
+  void played(long latencyNanos) {
+    this.moves.increment();
+    this.latencies.record(latencyNanos);
+  }
+
+  // drops a session that is over.
+  void ended(GameSession session) {
+    this.sessions.remove(session.getId());
+    this.ended.increment();
+  }
+}
@@ -0,0 +1,92 @@
+package cs3500.reversi.server;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of move latencies that any number of game threads can record into without locking.
+ * Latencies are counted in buckets that split every power of two into eight, so a percentile read
+ * back from it is at most an eighth more than the exact one, and the histogram takes the same
+ * space however many moves are recorded.
+ */
+final class LatencyHistogram {
+  private static final int SUB_BITS = 3;
+  private static final int SUB_COUNT = 1 << SUB_BITS;
+  static final int BUCKETS = 64 * SUB_COUNT;
+
+  private final AtomicLongArray counts;
+
+  LatencyHistogram() {
+    this.counts = new AtomicLongArray(BUCKETS);
+  }
+
+  /**
+   * Counts one move that took the given time.
+   *
+   * @param nanos how long the move took, a negative time is counted as 0.
+   */
+  void record(long nanos) {
+    this.counts.incrementAndGet(indexOf(Math.max(0, nanos)));
+  }
+
+  /**
+   * Returns a copy of the counts of every bucket, which does not change when more moves are
+   * recorded.
+   *
+   * @return the counts of the buckets.
+   */
+  long[] snapshot() {
+    long[] copy = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      copy[i] = this.counts.get(i);
+    }
+    return copy;
+  }
+
+  // the bucket of the value: values below 16 have a bucket each, and every power of two above
+  // that is split into SUB_COUNT buckets by the bits after the highest one.
+  static int indexOf(long value) {
+    if (value < SUB_COUNT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+    return (exponent - SUB_BITS + 1) * SUB_COUNT + sub;
+  }
+
+  // the largest value that falls in the bucket.
+  static long upperBoundOf(int index) {
+    if (index < SUB_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_COUNT - 1;
+    long lower = (long) (SUB_COUNT + index % SUB_COUNT) << shift;
+    return lower + (1L << shift) - 1;
+  }
+
+  /**
+   * Returns the latency at the given percentile of the counted moves, rounded up to the end of its
+   * bucket.
+   *
+   * @param counts     the counts of the buckets.
+   * @param percentile the percentile, between 0 and 100.
+   * @return the latency in nanoseconds, or 0 if no moves were counted.
+   */
+  static long valueAt(long[] counts, double percentile) {
+    long total = 0;
+    for (long count : counts) {
+      total += count;
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return upperBoundOf(i);
+      }
+    }
+    return upperBoundOf(counts.length - 1);
+  }
+}
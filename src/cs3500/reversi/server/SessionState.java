@@ -0,0 +1,32 @@
+package cs3500.reversi.server;
+
+/**
+ * An Enum for the stages a game session goes through.
+ */
+public enum SessionState {
+  /**
+   * The game is being played.
+   */
+  RUNNING,
+  /**
+   * The game was played to the end.
+   */
+  FINISHED,
+  /**
+   * The game was stopped before the end, by a player quitting or the manager closing.
+   */
+  ABANDONED,
+  /**
+   * The game was stopped because a strategy failed or chose an invalid move.
+   */
+  FAILED;
+
+  /**
+   * Returns whether a session in this state is over.
+   *
+   * @return whether the state is not RUNNING.
+   */
+  public boolean isOver() {
+    return this != RUNNING;
+  }
+}
@@ -0,0 +1,130 @@
+package cs3500.reversi.server;
+
+import java.util.Locale;
+
+/**
+ * The numbers of a game session manager at one moment: how many sessions it is running and has
+ * run, how many moves have been played, and how long the AI moves took. A snapshot does not change
+ * once it is taken, and two snapshots give the rate of moves in between them.
+ */
+public final class SessionStats {
+  private final int activeSessions;
+  private final long startedSessions;
+  private final long endedSessions;
+  private final long moves;
+  private final long elapsedNanos;
+  private final long[] latencyCounts;
+
+  /**
+   * Constructs a snapshot of the numbers of a manager.
+   *
+   * @param activeSessions  the number of sessions being played.
+   * @param startedSessions the number of sessions ever started.
+   * @param endedSessions   the number of sessions that are over.
+   * @param moves           the number of moves and passes played in all sessions.
+   * @param elapsedNanos    how long the manager has been running.
+   * @param latencyCounts   the counts of the latency histogram of the AI moves.
+   */
+  SessionStats(int activeSessions, long startedSessions, long endedSessions, long moves,
+               long elapsedNanos, long[] latencyCounts) {
+    this.activeSessions = activeSessions;
+    this.startedSessions = startedSessions;
+    this.endedSessions = endedSessions;
+    this.moves = moves;
+    this.elapsedNanos = elapsedNanos;
+    this.latencyCounts = latencyCounts;
+  }
+
+  /**
+   * Returns the number of sessions being played.
+   *
+   * @return the number of active sessions.
+   */
+  public int getActiveSessions() {
+    return this.activeSessions;
+  }
+
+  /**
+   * Returns the number of sessions the manager has started.
+   *
+   * @return the number of started sessions.
+   */
+  public long getStartedSessions() {
+    return this.startedSessions;
+  }
+
+  /**
+   * Returns the number of sessions that are over, however they ended.
+   *
+   * @return the number of ended sessions.
+   */
+  public long getEndedSessions() {
+    return this.endedSessions;
+  }
+
+  /**
+   * Returns the number of moves and passes played in all the sessions of the manager.
+   *
+   * @return the number of moves.
+   */
+  public long getMoves() {
+    return this.moves;
+  }
+
+  /**
+   * Returns how long the manager had been running when the snapshot was taken.
+   *
+   * @return the time in nanoseconds.
+   */
+  public long getElapsedNanos() {
+    return this.elapsedNanos;
+  }
+
+  /**
+   * Returns the number of moves played per second since the manager was made.
+   *
+   * @return the average rate of moves.
+   */
+  public double getMovesPerSecond() {
+    return (this.elapsedNanos == 0) ? 0 : this.moves * 1e9 / this.elapsedNanos;
+  }
+
+  /**
+   * Returns the number of moves played per second between the given earlier snapshot and this one.
+   *
+   * @param earlier a snapshot of the same manager taken before this one.
+   * @return the rate of moves in between the snapshots.
+   * @throws IllegalArgumentException if the snapshot is null or not earlier than this one.
+   */
+  public double getMovesPerSecondSince(SessionStats earlier) {
+    if (earlier == null || earlier.elapsedNanos > this.elapsedNanos) {
+      throw new IllegalArgumentException("Snapshot must be an earlier one");
+    }
+    long nanos = this.elapsedNanos - earlier.elapsedNanos;
+    return (nanos == 0) ? 0 : (this.moves - earlier.moves) * 1e9 / nanos;
+  }
+
+  /**
+   * Returns the time an AI move took at the given percentile, from the moment the turn came to the
+   * AI until its move was on the board. The time is rounded up by at most an eighth.
+   *
+   * @param percentile the percentile, such as 50 for the median or 99.
+   * @return the latency in nanoseconds, or 0 if no AI moves have been played.
+   * @throws IllegalArgumentException if the percentile is not between 0 and 100.
+   */
+  public long getMoveLatencyNanos(double percentile) {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100");
+    }
+    return LatencyHistogram.valueAt(this.latencyCounts, percentile);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(Locale.ROOT, "active=%d started=%d ended=%d moves=%d moves/s=%.1f "
+                    + "p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms", this.activeSessions,
+            this.startedSessions, this.endedSessions, this.moves, this.getMovesPerSecond(),
+            this.getMoveLatencyNanos(50) / 1e6, this.getMoveLatencyNanos(90) / 1e6,
+            this.getMoveLatencyNanos(99) / 1e6, this.getMoveLatencyNanos(100) / 1e6);
+  }
+}
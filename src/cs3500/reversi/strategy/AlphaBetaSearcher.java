@@ -0,0 +1,259 @@
+package cs3500.reversi.strategy;
+
+import java.util.List;
+
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.MoveUndo;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.model.Zobrist;
+
+/**
+ * The negamax alpha-beta search of the strategies that search the game tree. A searcher belongs to
+ * one thread at a time: it keeps its own reusable move records and counts its own positions, and
+ * shares only the transposition table and the thinking budget, so several searchers can search
+ * different moves of the same position at once, each on its own copy of the board. Unfinished
+ * positions are scored by the difference in tokens, or by a PatternEvaluator of the searcher that
+ * follows every move made and undone.
+ */
+final class AlphaBetaSearcher {
+  // score of a won game, on top of the final difference in tokens
+  static final int WIN_SCORE = 10000;
+  // how many nodes are searched between two looks at the clock
+  private static final int CLOCK_CHECK_INTERVAL = 1024;
+  // how many nodes are searched between two reports to the shared budget
+  private static final int REPORT_INTERVAL = 256;
+
+  private final TranspositionTable table;
+  private final PatternEvaluator evaluator;
+  private SearchBudget budget;
+  private MoveUndo[] undoStack;
+  private long nodes;
+  private long unreported;
+  // the shared count of the budget when this searcher last reported to it
+  private long reported;
+  private boolean enforced;
+  private boolean aborted;
+
+  /**
+   * Constructs a searcher that stores searched positions in the given table and scores positions
+   * by the difference in tokens.
+   *
+   * @param table the transposition table to use.
+   */
+  AlphaBetaSearcher(TranspositionTable table) {
+    this(table, null);
+  }
+
+  /**
+   * Constructs a searcher that stores searched positions in the given table and scores positions
+   * with the given evaluator.
+   *
+   * @param table     the transposition table to use.
+   * @param evaluator the evaluator of this searcher alone, or null to score by the difference in
+   *                  tokens.
+   */
+  AlphaBetaSearcher(TranspositionTable table, PatternEvaluator evaluator) {
+    this.table = table;
+    this.evaluator = evaluator;
+    this.undoStack = new MoveUndo[0];
+  }
+
+  // prepares the searcher to search moves to the given depth within the given budget.
+  void begin(SearchBudget budget, int depth) {
+    this.budget = budget;
+    this.reported = budget.getNodes();
+    this.enforced = budget.isEnforced();
+    this.aborted = budget.isStopped();
+    this.ensureUndoStack(depth + 1);
+  }
+
+  // returns the score of playing the move for the given color, searched to the given depth with
+  // the window (alpha, beta) seen from that color. The score is meaningless if the budget ran out.
+  int searchMove(IBoard board, ICell move, TokenColor color, int depth, int alpha, int beta) {
+    if (this.evaluator != null) {
+      this.evaluator.reset(board);
+    }
+    this.makeMove(board, move, color, this.undoStack[0]);
+    int score = -this.negamax(board, color.next(), depth - 1, 1, -beta, -alpha, false);
+    this.undoMove(board, this.undoStack[0]);
+    this.report();
+    return score;
+  }
+
+  // whether this searcher or another one searching with the same budget used it up.
+  boolean isAborted() {
+    return this.aborted;
+  }
+
+  // returns the score of the board for the given color to move, searched to the given depth.
+  private int negamax(IBoard board, TokenColor color, int depth, int ply, int alpha, int beta,
+                      boolean passed) {
+    if (this.outOfBudget()) {
+      return 0;
+    }
+    if (depth <= 0) {
+      return this.evaluate(board, color);
+    }
+
+    long key = board.getPositionKey() ^ (color == TokenColor.WHITE ? Zobrist.WHITE_TO_MOVE : 0);
+    long entry = this.table.probe(key);
+    int tableMove = TranspositionTable.NO_MOVE;
+    if (entry != 0) {
+      tableMove = TranspositionTable.getMove(entry);
+      if (TranspositionTable.getDepth(entry) >= depth) {
+        int stored = TranspositionTable.getScore(entry);
+        int bound = TranspositionTable.getBound(entry);
+        if (bound == TranspositionTable.EXACT
+                || (bound == TranspositionTable.LOWER_BOUND && stored >= beta)
+                || (bound == TranspositionTable.UPPER_BOUND && stored <= alpha)) {
+          return stored;
+        }
+      }
+    }
+
+    List<ICell> moves = board.validMovesLeft(color);
+    if (moves.isEmpty()) {
+      if (passed) {
+        return finalScore(board, color);
+      }
+      // Passing does not use up depth, the next position either has a move or ends the game.
+      return -this.negamax(board, color.next(), depth, ply, -beta, -alpha, true);
+    }
+
+    // The best move stored for this position is searched first, then the others in order.
+    int first = indexOfMove(moves, tableMove);
+    int originalAlpha = alpha;
+    int best = -Integer.MAX_VALUE;
+    int bestMove = TranspositionTable.NO_MOVE;
+    MoveUndo undo = this.undoStack[ply];
+    for (int i = -1; i < moves.size(); i++) {
+      if (i == first || (i == -1 && first < 0)) {
+        continue;
+      }
+      ICell move = moves.get(i < 0 ? first : i);
+      this.makeMove(board, move, color, undo);
+      int score = -this.negamax(board, color.next(), depth - 1, ply + 1, -beta, -alpha, false);
+      this.undoMove(board, undo);
+      if (this.aborted) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        bestMove = TranspositionTable.encodeMove(move);
+      }
+      if (best > alpha) {
+        alpha = best;
+      }
+      if (alpha >= beta) {
+        break;
+      }
+    }
+
+    int bound = TranspositionTable.EXACT;
+    if (best <= originalAlpha) {
+      bound = TranspositionTable.UPPER_BOUND;
+    } else if (best >= beta) {
+      bound = TranspositionTable.LOWER_BOUND;
+    }
+    this.table.store(key, Math.min(depth, 0xFF), bound, bestMove, best);
+    return best;
+  }
+
+  // counts a searched node and returns whether the search has to stop.
+  private boolean outOfBudget() {
+    this.nodes++;
+    this.unreported++;
+    if (this.unreported >= REPORT_INTERVAL) {
+      this.report();
+    }
+    if (this.enforced && !this.aborted
+            && (this.budget.isOverNodeLimit(this.reported + this.unreported)
+            || (this.nodes % CLOCK_CHECK_INTERVAL == 0 && this.budget.isPastDeadline()))) {
+      this.aborted = true;
+      this.budget.stop();
+    }
+    return this.aborted;
+  }
+
+  // adds the positions searched since the last report to the budget and sees whether another
+  // searcher stopped the search.
+  private void report() {
+    this.reported = this.budget.addNodes(this.unreported);
+    this.unreported = 0;
+    if (this.budget.isStopped()) {
+      this.aborted = true;
+    }
+  }
+
+  // returns the position in the list of the move with the given code, or -1 if there is none.
+  private static int indexOfMove(List<ICell> moves, int code) {
+    if (code == TranspositionTable.NO_MOVE) {
+      return -1;
+    }
+    for (int i = 0; i < moves.size(); i++) {
+      if (TranspositionTable.encodeMove(moves.get(i)) == code) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  // makes the move on the board and on the evaluator following it.
+  private void makeMove(IBoard board, ICell move, TokenColor color, MoveUndo undo) {
+    board.makeMove(move, color, undo);
+    if (this.evaluator != null) {
+      this.evaluator.apply(undo);
+    }
+  }
+
+  // undoes the move on the board and on the evaluator following it.
+  private void undoMove(IBoard board, MoveUndo undo) {
+    board.undoMove(undo);
+    if (this.evaluator != null) {
+      this.evaluator.revert(undo);
+    }
+  }
+
+  // scores an unfinished board for the given color, below the score of any won game.
+  private int evaluate(IBoard board, TokenColor color) {
+    if (this.evaluator == null) {
+      return board.scoreDifference(color);
+    }
+    int score = this.evaluator.evaluate(board, color);
+    return Math.max(-WIN_SCORE + 1, Math.min(WIN_SCORE - 1, score));
+  }
+
+  // scores a finished game for the given color, so that any win beats any unfinished position.
+  private static int finalScore(IBoard board, TokenColor color) {
+    int difference = board.scoreDifference(color);
+    if (difference > 0) {
+      return WIN_SCORE + difference;
+    } else if (difference < 0) {
+      return -WIN_SCORE + difference;
+    }
+    return 0;
+  }
+
+  // makes sure there is a reusable move record for every ply of the search.
+  private void ensureUndoStack(int size) {
+    if (this.undoStack.length < size) {
+      MoveUndo[] grown = new MoveUndo[size];
+      for (int i = 0; i < size; i++) {
+        grown[i] = (i < this.undoStack.length) ? this.undoStack[i] : new MoveUndo();
+      }
+      this.undoStack = grown;
+    }
+  }
+
+  // counts the empty cells of the board, which bounds how deep the game can go.
+  static int countEmptyCells(IBoard board) {
+    int empty = 0;
+    for (ICell cell : board.getPositionsMapCopy().keySet()) {
+      if (board.getCellOccupant(cell).isEmpty()) {
+        empty++;
+      }
+    }
+    return empty;
+  }
+}
@@ -0,0 +1,205 @@
+package cs3500.reversi.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.ROModel;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * This class represents a strategy that searches the game tree with negamax alpha-beta pruning
+ * and iterative deepening. The search goes one ply deeper at a time until it runs out of its
+ * thinking budget, either a wall-clock deadline or a limit on the number of searched positions,
+ * and plays the best move found by the deepest search that was completed. Positions are scored by
+ * the difference in tokens, or by pattern weights with a PatternEvaluator, and finished games are
+ * scored so that a win beats any unfinished position. It works on any board, since it only makes
+ * and undoes moves on a copy of the board. Searched positions are kept in a transposition table,
+ * which cuts off positions reached again by another move order and searches the best move of the
+ * previous depth first. The table is kept between moves, so it can be shared with other searches
+ * of the same game.
+ */
+public class AlphaBetaStrat implements Strategy {
+  private final TokenColor tokenColor;
+  private final long timeBudgetMillis;
+  private final long nodeLimit;
+  private final TranspositionTable table;
+
+  private final AlphaBetaSearcher searcher;
+
+  private SearchBudget budget;
+  private int lastDepth;
+  private long lastNodes;
+  private long lastElapsedNanos;
+
+  /**
+   * Constructs an alpha-beta strategy that thinks for one second per move.
+   *
+   * @param tokenColor the color of the player using this strategy.
+   */
+  public AlphaBetaStrat(TokenColor tokenColor) {
+    this(tokenColor, 1000, Long.MAX_VALUE);
+  }
+
+  /**
+   * Constructs an alpha-beta strategy with the given thinking budget and its own 16 megabyte
+   * transposition table. The search stops at whichever limit is reached first.
+   *
+   * @param tokenColor       the color of the player using this strategy.
+   * @param timeBudgetMillis the wall-clock time the strategy may think for per move.
+   * @param nodeLimit        the number of positions the strategy may search per move.
+   * @throws IllegalArgumentException if the time budget or node limit is not positive.
+   */
+  public AlphaBetaStrat(TokenColor tokenColor, long timeBudgetMillis, long nodeLimit) {
+    this(tokenColor, timeBudgetMillis, nodeLimit, new TranspositionTable(16));
+  }
+
+  /**
+   * Constructs an alpha-beta strategy with the given thinking budget and transposition table.
+   *
+   * @param tokenColor       the color of the player using this strategy.
+   * @param timeBudgetMillis the wall-clock time the strategy may think for per move.
+   * @param nodeLimit        the number of positions the strategy may search per move.
+   * @param table            the transposition table to store searched positions in.
+   * @throws IllegalArgumentException if the time budget or node limit is not positive, or the
+   *                                  table is null.
+   */
+  public AlphaBetaStrat(TokenColor tokenColor, long timeBudgetMillis, long nodeLimit,
+                        TranspositionTable table) {
+    this(tokenColor, timeBudgetMillis, nodeLimit, table, null, false);
+  }
+
+  /**
+   * Constructs an alpha-beta strategy with the given thinking budget and transposition table that
+   * scores positions with pattern weights. Boards the weights are not for are scored with the
+   * default weights of their board. The table should not be shared with a strategy that scores
+   * positions another way.
+   *
+   * @param tokenColor       the color of the player using this strategy.
+   * @param timeBudgetMillis the wall-clock time the strategy may think for per move.
+   * @param nodeLimit        the number of positions the strategy may search per move.
+   * @param table            the transposition table to store searched positions in.
+   * @param weights          the weights to score positions with, or null for the default weights.
+   * @throws IllegalArgumentException if the time budget or node limit is not positive, or the
+   *                                  table is null.
+   */
+  public AlphaBetaStrat(TokenColor tokenColor, long timeBudgetMillis, long nodeLimit,
+                        TranspositionTable table, PatternWeights weights) {
+    this(tokenColor, timeBudgetMillis, nodeLimit, table, weights, true);
+  }
+
+  private AlphaBetaStrat(TokenColor tokenColor, long timeBudgetMillis, long nodeLimit,
+                         TranspositionTable table, PatternWeights weights, boolean patterns) {
+    if (timeBudgetMillis <= 0 || nodeLimit <= 0) {
+      throw new IllegalArgumentException("Time budget and node limit must be positive");
+    }
+    if (table == null) {
+      throw new IllegalArgumentException("Transposition table cannot be null");
+    }
+    this.tokenColor = tokenColor;
+    this.timeBudgetMillis = timeBudgetMillis;
+    this.nodeLimit = nodeLimit;
+    this.table = table;
+    this.searcher = new AlphaBetaSearcher(table,
+            patterns ? new PatternEvaluator(weights) : null);
+  }
+
+  @Override
+  public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
+    long start = System.nanoTime();
+    this.budget = new SearchBudget(start + this.timeBudgetMillis * 1_000_000L, this.nodeLimit);
+    this.lastDepth = 0;
+
+    IBoard board = model.createBoardCopy();
+    List<ICell> rootMoves = new ArrayList<>(filteredMoves.isEmpty()
+            ? board.validMovesLeft(tokenColor) : filteredMoves);
+    if (rootMoves.isEmpty()) {
+      this.recordStats(start);
+      return List.of();
+    }
+
+    // The number of empty cells bounds how deep the game can go.
+    int maxDepth = AlphaBetaSearcher.countEmptyCells(board);
+    ICell bestMove = rootMoves.get(0);
+    for (int depth = 1; depth <= maxDepth; depth++) {
+      ICell candidate = this.searchRoot(board, rootMoves, depth);
+      if (this.budget.isStopped()) {
+        break;
+      }
+      bestMove = candidate;
+      this.lastDepth = depth;
+      // The first depth is always completed so that there is a searched move to play.
+      this.budget.enforce();
+      // Search the best move of this depth first at the next depth, for earlier cutoffs.
+      rootMoves.remove(bestMove);
+      rootMoves.add(0, bestMove);
+    }
+    this.recordStats(start);
+    return List.of(bestMove);
+  }
+
+  // searches every root move to the given depth and returns the best one.
+  private ICell searchRoot(IBoard board, List<ICell> rootMoves, int depth) {
+    this.searcher.begin(this.budget, depth);
+    int alpha = -Integer.MAX_VALUE;
+    ICell bestMove = rootMoves.get(0);
+    for (ICell move : rootMoves) {
+      int score = this.searcher.searchMove(board, move, tokenColor, depth, alpha,
+              Integer.MAX_VALUE);
+      if (this.searcher.isAborted()) {
+        return bestMove;
+      }
+      if (score > alpha) {
+        alpha = score;
+        bestMove = move;
+      }
+    }
+    return bestMove;
+  }
+
+  // records the statistics of the last search.
+  private void recordStats(long start) {
+    this.lastNodes = this.budget.getNodes();
+    this.lastElapsedNanos = System.nanoTime() - start;
+  }
+
+  /**
+   * Returns the transposition table this strategy stores searched positions in.
+   *
+   * @return the transposition table of this strategy.
+   */
+  public TranspositionTable getTranspositionTable() {
+    return this.table;
+  }
+
+  /**
+   * Returns the depth of the deepest search completed for the last move chosen.
+   *
+   * @return the depth reached by the last search.
+   */
+  public int getLastDepth() {
+    return this.lastDepth;
+  }
+
+  /**
+   * Returns the number of positions searched for the last move chosen.
+   *
+   * @return the number of nodes searched by the last search.
+   */
+  public long getLastNodes() {
+    return this.lastNodes;
+  }
+
+  /**
+   * Returns how many positions per second the last search went through.
+   *
+   * @return the nodes per second of the last search.
+   */
+  public double getLastNodesPerSecond() {
+    if (this.lastElapsedNanos == 0) {
+      return 0;
+    }
+    return this.lastNodes * 1e9 / this.lastElapsedNanos;
+  }
+}
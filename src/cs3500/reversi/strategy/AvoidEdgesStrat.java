@@ -26,16 +26,19 @@ public class AvoidEdgesStrat implements Strategy {
 
   @Override
   public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
+    return this.chooseMove(new TurnContext(model), filteredMoves);
+  }
+
+  @Override
+  public List<ICell> chooseMove(TurnContext context, List<ICell> filteredMoves) {
     List<ICell> choices = (filteredMoves.isEmpty())
-            ? model.createBoardCopy().validMovesLeft(tokenColor) : filteredMoves;
-    List<ICell> retList = new ArrayList<>(choices);
+            ? context.getValidMoves(tokenColor) : filteredMoves;
+    List<ICell> retList = new ArrayList<>(choices.size());
 
-    System.out.println("AvoidEdgesStrat");
-    System.out.println(model.getEdgeCells().size());
     // Removes all cells adjacent to corners from the list of available moves.
-    for(ICell cell : model.getEdgeCells()) {
-      if (choices.contains(cell)) {
-        retList.remove(cell);
+    for (ICell cell : choices) {
+      if (!context.isEdge(cell)) {
+        retList.add(cell);
       }
     }
 
@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import cs3500.reversi.model.TokenColor;
-import cs3500.reversi.model.IBoard;
 import cs3500.reversi.model.ICell;
 import cs3500.reversi.model.ROModel;
 
@@ -25,16 +24,19 @@ public class ChooseCornersStrat implements Strategy {
 
   @Override
   public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
-    IBoard board = model.createBoardCopy();
-    List<ICell> choices = (filteredMoves.isEmpty()) ? board.validMovesLeft(tokenColor) :
+    return this.chooseMove(new TurnContext(model), filteredMoves);
+  }
+
+  @Override
+  public List<ICell> chooseMove(TurnContext context, List<ICell> filteredMoves) {
+    List<ICell> choices = (filteredMoves.isEmpty()) ? context.getValidMoves(tokenColor) :
             filteredMoves;
     List<ICell> retList = new ArrayList<>();
-    int sideLength = model.getDimensions();
 
 
-    // Adds all corner cells to the list of available moves.
-    for(ICell cell : model.getCornerCells()) {
-      if(choices.contains(cell)) {
+    // Keeps the available moves on corner cells, which the geometry finds in constant time.
+    for (ICell cell : choices) {
+      if (context.isCorner(cell)) {
         retList.add(cell);
       }
     }
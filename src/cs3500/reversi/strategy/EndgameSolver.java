@@ -0,0 +1,305 @@
+package cs3500.reversi.strategy;
+
+import java.util.List;
+
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.MoveUndo;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * Solves the end of a game exactly: searches every line of play to the end of the game with
+ * negamax alpha-beta and scores finished games by their final token margin, so the move it finds
+ * is the best one against any reply and its score is the margin both colors can force.
+ *
+ * <p>The empty cells are kept in an array, split into fixed regions of the board (the quadrants of
+ * a square board, the six corners of a hexagonal board), with a bit per region that is set while
+ * the region has an odd number of empty cells. Moves in odd regions are tried first, since playing
+ * last in a region tends to win it. With many empty cells left, moves are also ordered fastest
+ * first, by how few replies they leave the opponent, which is the order that finds cutoffs soonest.
+ * The last few empty cells are played by a routine that walks the array of empty cells directly
+ * and allocates nothing. A color that cannot move passes, as with passTurn, and the game ends when
+ * neither color can move.
+ */
+final class EndgameSolver {
+  // at most this many empty cells are left to the routine that walks the empty cells directly
+  private static final int LAST_FEW = 4;
+  // at least this many empty cells have their moves ordered by the replies they leave
+  private static final int FASTEST_FIRST = 7;
+
+  private ICell[] empties;
+  private int[] regions;
+  private int emptyCount;
+  private int startCount;
+  private int parity;
+  private MoveUndo[] undoStack;
+  private ICell[][] moveBuffers;
+  private int[][] keyBuffers;
+  private long nodes;
+
+  /**
+   * Creates a solver.
+   */
+  EndgameSolver() {
+    this.empties = new ICell[0];
+    this.regions = new int[0];
+    this.undoStack = new MoveUndo[0];
+    this.moveBuffers = new ICell[0][];
+    this.keyBuffers = new int[0][];
+  }
+
+  /**
+   * Sets up the solver for the position on the board, which it will play on.
+   *
+   * @param board the board of the position to solve.
+   */
+  void begin(IBoard board) {
+    int count = 0;
+    for (ICell cell : board.getPositionsMapCopy().keySet()) {
+      if (board.getCellOccupant(cell).isEmpty()) {
+        count++;
+      }
+    }
+    if (this.empties.length < count) {
+      this.empties = new ICell[count];
+      this.regions = new int[count];
+      this.undoStack = new MoveUndo[count];
+      this.moveBuffers = new ICell[count][];
+      this.keyBuffers = new int[count][];
+      for (int i = 0; i < count; i++) {
+        this.undoStack[i] = new MoveUndo();
+      }
+    }
+    this.emptyCount = 0;
+    this.parity = 0;
+    for (ICell cell : board.getPositionsMapCopy().keySet()) {
+      if (board.getCellOccupant(cell).isEmpty()) {
+        this.empties[this.emptyCount] = cell;
+        this.regions[this.emptyCount] = regionOf(cell);
+        this.parity ^= 1 << this.regions[this.emptyCount];
+        this.emptyCount++;
+      }
+    }
+    this.startCount = this.emptyCount;
+    this.nodes = 0;
+  }
+
+  /**
+   * Returns the number of empty cells of the position the solver was set up for.
+   *
+   * @return the number of empty cells.
+   */
+  int getEmptyCount() {
+    return this.emptyCount;
+  }
+
+  /**
+   * Returns the number of positions searched since the solver was set up.
+   *
+   * @return the number of searched positions.
+   */
+  long getNodes() {
+    return this.nodes;
+  }
+
+  /**
+   * Returns the exact final margin of the given color after it makes the given move and both
+   * colors play perfectly, or a bound on it when the margin is outside the window.
+   *
+   * @param board the board the solver was set up for.
+   * @param move  the move to make.
+   * @param color the color making the move.
+   * @param alpha the margin the color can already reach.
+   * @param beta  the margin the opponent can already hold the color to.
+   * @return the final margin of the color.
+   */
+  int solveMove(IBoard board, ICell move, TokenColor color, int alpha, int beta) {
+    int slot = this.slotOf(move);
+    this.play(board, slot, color);
+    int score = -this.solve(board, color.next(), -beta, -alpha, false);
+    this.unplay(board, slot);
+    return score;
+  }
+
+  /**
+   * Returns the exact final margin of the color to move when both colors play perfectly.
+   *
+   * @param board the board the solver was set up for.
+   * @param color the color to move.
+   * @return the final margin of the color.
+   */
+  int solvePosition(IBoard board, TokenColor color) {
+    return this.solve(board, color, -Integer.MAX_VALUE, Integer.MAX_VALUE, false);
+  }
+
+  // the negamax search with the moves of the board, ordered by parity and with enough empty
+  // cells left also by the replies they leave.
+  private int solve(IBoard board, TokenColor color, int alpha, int beta, boolean passed) {
+    if (this.emptyCount <= LAST_FEW) {
+      return this.solveLastFew(board, color, alpha, beta, passed);
+    }
+    this.nodes++;
+    List<ICell> moves = board.validMovesLeft(color);
+    if (moves.isEmpty()) {
+      if (passed) {
+        return board.scoreDifference(color);
+      }
+      return -this.solve(board, color.next(), -beta, -alpha, true);
+    }
+
+    int ply = this.undoPly();
+    int count = this.orderMoves(board, moves, color, ply);
+    ICell[] ordered = this.moveBuffers[ply];
+    int best = -Integer.MAX_VALUE;
+    for (int i = 0; i < count; i++) {
+      int slot = this.slotOf(ordered[i]);
+      this.play(board, slot, color);
+      int score = -this.solve(board, color.next(), -beta, -alpha, false);
+      this.unplay(board, slot);
+      if (score > best) {
+        best = score;
+        if (best > alpha) {
+          alpha = best;
+          if (alpha >= beta) {
+            break;
+          }
+        }
+      }
+    }
+    return best;
+  }
+
+  // the negamax search of the last few empty cells, which tries the empty cells in parity order
+  // and checks each with validMove instead of listing the moves.
+  private int solveLastFew(IBoard board, TokenColor color, int alpha, int beta, boolean passed) {
+    this.nodes++;
+    if (this.emptyCount == 0) {
+      return board.scoreDifference(color);
+    }
+    int best = -Integer.MAX_VALUE;
+    // The first round tries the cells of odd regions, the second those of even regions.
+    for (int round = 0; round < 2; round++) {
+      for (int slot = this.emptyCount - 1; slot >= 0; slot--) {
+        boolean odd = (this.parity & (1 << this.regions[slot])) != 0;
+        if (odd != (round == 0) || !board.validMove(this.empties[slot], color, false)) {
+          continue;
+        }
+        this.play(board, slot, color);
+        int score = -this.solveLastFew(board, color.next(), -beta, -alpha, false);
+        this.unplay(board, slot);
+        if (score > best) {
+          best = score;
+          if (best > alpha) {
+            alpha = best;
+            if (alpha >= beta) {
+              return best;
+            }
+          }
+        }
+      }
+    }
+    if (best != -Integer.MAX_VALUE) {
+      return best;
+    }
+    if (passed) {
+      return board.scoreDifference(color);
+    }
+    return -this.solveLastFew(board, color.next(), -beta, -alpha, true);
+  }
+
+  // fills the move buffer of the ply with the moves in the order to search them and returns how
+  // many there are.
+  private int orderMoves(IBoard board, List<ICell> moves, TokenColor color, int ply) {
+    int count = moves.size();
+    if (this.moveBuffers[ply] == null || this.moveBuffers[ply].length < count) {
+      this.moveBuffers[ply] = new ICell[Math.max(count, 16)];
+      this.keyBuffers[ply] = new int[Math.max(count, 16)];
+    }
+    ICell[] ordered = this.moveBuffers[ply];
+    int[] keys = this.keyBuffers[ply];
+    boolean fastestFirst = this.emptyCount >= FASTEST_FIRST;
+    for (int i = 0; i < count; i++) {
+      ICell move = moves.get(i);
+      int slot = this.slotOf(move);
+      int key = ((this.parity & (1 << this.regions[slot])) != 0) ? 0 : 1;
+      if (fastestFirst) {
+        this.play(board, slot, color);
+        key += 2 * board.validMovesLeft(color.next()).size();
+        this.unplay(board, slot);
+      }
+      // Insertion sort, stable so that equal moves keep the order of the board.
+      int j = i;
+      while (j > 0 && keys[j - 1] > key) {
+        ordered[j] = ordered[j - 1];
+        keys[j] = keys[j - 1];
+        j--;
+      }
+      ordered[j] = move;
+      keys[j] = key;
+    }
+    return count;
+  }
+
+  // makes the move on the cell in the given slot of the empty cells, moving the cell past the
+  // last empty cell.
+  private void play(IBoard board, int slot, TokenColor color) {
+    int last = this.emptyCount - 1;
+    board.makeMove(this.empties[slot], color, this.undoStack[this.undoPly()]);
+    this.swap(slot, last);
+    this.parity ^= 1 << this.regions[last];
+    this.emptyCount--;
+  }
+
+  // undoes the move made by play on the cell that was in the given slot.
+  private void unplay(IBoard board, int slot) {
+    this.emptyCount++;
+    int last = this.emptyCount - 1;
+    this.parity ^= 1 << this.regions[last];
+    this.swap(slot, last);
+    board.undoMove(this.undoStack[this.undoPly()]);
+  }
+
+  // the index of the undo record and move buffer of the current ply, one per move made.
+  private int undoPly() {
+    return this.startCount - this.emptyCount;
+  }
+
+  private void swap(int i, int j) {
+    ICell cell = this.empties[i];
+    this.empties[i] = this.empties[j];
+    this.empties[j] = cell;
+    int region = this.regions[i];
+    this.regions[i] = this.regions[j];
+    this.regions[j] = region;
+  }
+
+  // the slot of the given empty cell.
+  private int slotOf(ICell cell) {
+    for (int slot = 0; slot < this.emptyCount; slot++) {
+      if (this.empties[slot].equals(cell)) {
+        return slot;
+      }
+    }
+    throw new IllegalArgumentException("Cell is not empty: " + cell);
+  }
+
+  /**
+   * Returns the region of the board the cell is in: the quadrant of a square cell, or for a
+   * hexagonal cell the corner of the board its largest coordinate points to.
+   *
+   * @param cell the cell.
+   * @return the region, from 0 to 5.
+   */
+  static int regionOf(ICell cell) {
+    if (cell.getCoordinates().size() < 3) {
+      return (cell.coordinate(0) > 0 ? 2 : 0) + (cell.coordinate(1) > 0 ? 1 : 0);
+    }
+    int axis = 0;
+    for (int i = 1; i < 3; i++) {
+      if (Math.abs(cell.coordinate(i)) > Math.abs(cell.coordinate(axis))) {
+        axis = i;
+      }
+    }
+    return 2 * axis + (cell.coordinate(axis) > 0 ? 1 : 0);
+  }
+}
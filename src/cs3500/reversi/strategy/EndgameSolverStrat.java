@@ -0,0 +1,149 @@
+package cs3500.reversi.strategy;
+
+import java.util.List;
+
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.ROModel;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * This class represents a strategy that plays the end of a game perfectly. While many cells are
+ * empty it lets another strategy choose, and once no more than a threshold of cells are empty it
+ * solves the rest of the game exactly and plays the move with the best final token margin that
+ * can be forced against any reply. The position is solved on a bitboard copy of the board when
+ * there is one of its shape.
+ */
+public class EndgameSolverStrat implements Strategy {
+  /**
+   * The number of empty cells at and below which the strategy solves the game by default.
+   */
+  public static final int DEFAULT_THRESHOLD = 12;
+
+  private final TokenColor tokenColor;
+  private final Strategy fallback;
+  private final int threshold;
+  private final EndgameSolver solver;
+
+  private boolean lastSolved;
+  private int lastMargin;
+  private long lastNodes;
+  private long lastElapsedNanos;
+
+  /**
+   * Constructs an endgame solver strategy that solves the game from DEFAULT_THRESHOLD empty cells.
+   *
+   * @param tokenColor the color of the player using this strategy.
+   * @param fallback   the strategy choosing moves while more cells are empty.
+   * @throws IllegalArgumentException if the fallback strategy is null.
+   */
+  public EndgameSolverStrat(TokenColor tokenColor, Strategy fallback) {
+    this(tokenColor, fallback, DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Constructs an endgame solver strategy that solves the game from the given number of empty
+   * cells. Every empty cell more makes solving several times slower. On a hexagonal board some
+   * cells are never flanked and stay empty to the end of the game, so the threshold there has to
+   * count them as well.
+   *
+   * @param tokenColor the color of the player using this strategy.
+   * @param fallback   the strategy choosing moves while more cells are empty.
+   * @param threshold  the number of empty cells at and below which the game is solved.
+   * @throws IllegalArgumentException if the fallback strategy is null or the threshold is
+   *                                  negative.
+   */
+  public EndgameSolverStrat(TokenColor tokenColor, Strategy fallback, int threshold) {
+    if (fallback == null) {
+      throw new IllegalArgumentException("Fallback strategy cannot be null");
+    }
+    if (threshold < 0) {
+      throw new IllegalArgumentException("Threshold cannot be negative");
+    }
+    this.tokenColor = tokenColor;
+    this.fallback = fallback;
+    this.threshold = threshold;
+    this.solver = new EndgameSolver();
+  }
+
+  @Override
+  public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
+    long start = System.nanoTime();
+    IBoard board = PlayoutState.lightweightCopy(model.createBoardCopy());
+    this.solver.begin(board);
+    if (this.solver.getEmptyCount() > this.threshold) {
+      this.lastSolved = false;
+      return this.fallback.chooseMove(model, filteredMoves);
+    }
+
+    List<ICell> rootMoves = filteredMoves.isEmpty()
+            ? board.validMovesLeft(this.tokenColor) : filteredMoves;
+    ICell bestMove = null;
+    if (rootMoves.isEmpty()) {
+      // The color has to pass, and the margin is what the opponent leaves it.
+      this.lastMargin = this.solver.solvePosition(board, this.tokenColor);
+    } else {
+      int alpha = -Integer.MAX_VALUE;
+      for (ICell move : rootMoves) {
+        // Only a move that beats the best so far needs its exact margin.
+        int score = this.solver.solveMove(board, move, this.tokenColor, alpha,
+                Integer.MAX_VALUE);
+        if (score > alpha) {
+          alpha = score;
+          bestMove = move;
+        }
+      }
+      this.lastMargin = alpha;
+    }
+    this.lastSolved = true;
+    this.lastNodes = this.solver.getNodes();
+    this.lastElapsedNanos = System.nanoTime() - start;
+    return (bestMove == null) ? List.of() : List.of(bestMove);
+  }
+
+  /**
+   * Returns whether the last move was chosen by solving the game, rather than by the fallback
+   * strategy.
+   *
+   * @return whether the last move was solved.
+   */
+  public boolean isLastSolved() {
+    return this.lastSolved;
+  }
+
+  /**
+   * Returns the final token margin of this strategy's color after the last solved move, when both
+   * colors play perfectly to the end of the game. Only meaningful if isLastSolved is true.
+   *
+   * @return the exact final margin of the last solved position.
+   */
+  public int getLastMargin() {
+    return this.lastMargin;
+  }
+
+  /**
+   * Returns the number of positions searched to solve the last solved move.
+   *
+   * @return the number of nodes of the last solve.
+   */
+  public long getLastNodes() {
+    return this.lastNodes;
+  }
+
+  /**
+   * Returns how many positions per second the last solve went through.
+   *
+   * @return the nodes per second of the last solve.
+   */
+  public double getLastNodesPerSecond() {
+    if (this.lastElapsedNanos == 0) {
+      return 0;
+    }
+    return this.lastNodes * 1e9 / this.lastElapsedNanos;
+  }
+
+  @Override
+  public void shutdown() {
+    this.fallback.shutdown();
+  }
+}
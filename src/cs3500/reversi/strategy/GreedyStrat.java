@@ -25,14 +25,19 @@ public class GreedyStrat implements Strategy {
 
   @Override
   public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
+    return this.chooseMove(new TurnContext(model), filteredMoves);
+  }
+
+  @Override
+  public List<ICell> chooseMove(TurnContext context, List<ICell> filteredMoves) {
     List<ICell> choices = (filteredMoves.isEmpty())
-            ? model.createBoardCopy().validMovesLeft(tokenColor) : filteredMoves;
+            ? context.getValidMoves(tokenColor) : filteredMoves;
     List<ICell> retList = new ArrayList<>();
     int minScoreDiff = 0;
 
     // Evaluate the maximum score difference in score for each of the cells.
     for (ICell cell : choices) {
-      int scoreDiff = model.cellsFlipped(cell, tokenColor);
+      int scoreDiff = context.cellsFlipped(cell, tokenColor);
       if (scoreDiff > minScoreDiff) {
         minScoreDiff = scoreDiff;
       }
@@ -40,12 +45,12 @@ public class GreedyStrat implements Strategy {
 
     // Add the cells with the maximum cells flipped to the return list.
     for (ICell cell : choices) {
-      int scoreDiff = model.cellsFlipped(cell, tokenColor);
+      int scoreDiff = context.cellsFlipped(cell, tokenColor);
       if (scoreDiff == minScoreDiff) {
         retList.add(cell);
       }
     }
 
-    return new UpperLeftStrat(tokenColor).chooseMove(model, retList);
+    return new UpperLeftStrat(tokenColor).chooseMove(context, retList);
   }
 }
@@ -7,6 +7,7 @@ import java.util.Optional;
 
 import cs3500.reversi.model.IBoard;
 import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.MoveUndo;
 import cs3500.reversi.model.ROModel;
 import cs3500.reversi.model.TokenColor;
 
@@ -14,10 +15,12 @@ import cs3500.reversi.model.TokenColor;
 /**
  * This class represents a strategy for the game of HexagonReversi. This strategy will choose the
  * move  based on the move that will result in the highest score difference between
- * the strategy's color and the opponent's color.
+ * the strategy's color and the opponent's color. It can score moves with pattern weights instead,
+ * with a PatternEvaluator that follows every move tried on the board.
  */
 public class MiniMaxStrategy implements Strategy {
   private final TokenColor tokenColor;
+  private final PatternEvaluator evaluator;
 
   /**
    * Constructor for a MiniMaxStrategy. Takes in the color of the strategy.
@@ -26,39 +29,67 @@ public class MiniMaxStrategy implements Strategy {
    */
   public MiniMaxStrategy(TokenColor tokenColor) {
     this.tokenColor = tokenColor;
+    this.evaluator = null;
+  }
+
+  /**
+   * Constructor for a MiniMaxStrategy that scores moves with pattern weights. Boards the weights
+   * are not for are scored with the default weights of their board.
+   *
+   * @param tokenColor the color of the strategy.
+   * @param weights    the weights to score moves with, or null for the default weights.
+   */
+  public MiniMaxStrategy(TokenColor tokenColor, PatternWeights weights) {
+    this.tokenColor = tokenColor;
+    this.evaluator = new PatternEvaluator(weights);
   }
 
   @Override
   public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
+    return this.chooseMove(new TurnContext(model), filteredMoves);
+  }
+
+  @Override
+  public List<ICell> chooseMove(TurnContext context, List<ICell> filteredMoves) {
+    // A single copy of the board is searched, every move is made and undone on it in place, so the
+    // copy of the turn is left as it was for the next strategy.
+    IBoard board = context.getBoard();
+    if (this.evaluator != null) {
+      this.evaluator.reset(board);
+    }
+
     // Get valid choices (moves) based on the current state of the game.
-    List<ICell> choices = getValidChoices(model, filteredMoves);
+    List<ICell> choices = getValidChoices(context, filteredMoves);
 
     // Evaluate all possible moves and calculate score differences for each.
-    Map<ICell, Integer> moveScores = evaluateMovesAndGetScores(model, choices);
+    Map<ICell, Integer> moveScores = evaluateMovesAndGetScores(context, board, choices);
 
     // Determine the best move based on score differences.
-    return getBestMove(moveScores, model);
+    return getBestMove(moveScores, context, board);
   }
 
   // Get a list of valid moves, either from filteredMoves or by calculating.
-  private List<ICell> getValidChoices(ROModel model, List<ICell> filteredMoves) {
-    return filteredMoves.isEmpty() ? model.createBoardCopy().validMovesLeft(tokenColor) :
-            filteredMoves;
+  private List<ICell> getValidChoices(TurnContext context, List<ICell> filteredMoves) {
+    return filteredMoves.isEmpty() ? context.getValidMoves(tokenColor) : filteredMoves;
   }
 
   // Evaluate each possible move and calculate the score difference.
-  private Map<ICell, Integer> evaluateMovesAndGetScores(ROModel model, List<ICell> choices) {
+  private Map<ICell, Integer> evaluateMovesAndGetScores(TurnContext context, IBoard board,
+                                                        List<ICell> choices) {
     Map<ICell, Integer> moveScores = new HashMap<>();
+    MoveUndo undo = new MoveUndo();
     for (ICell cell : choices) {
       // Put the score difference for each move into a map using the model copy.
       // **** NEW IMPLEMENTAION: USES ROMODEL ****
-      moveScores.put(cell, calculateScoreDifference(model, Optional.of(cell)));
+      moveScores.put(cell, calculateScoreDifference(context, board, Optional.of(cell), undo));
     }
     return moveScores;
   }
 
   // Calculate the score difference between the player's color and the opponent.
-  private int calculateScoreDifference(ROModel model, Optional<ICell> cell) {
+  private int calculateScoreDifference(TurnContext context, IBoard board, Optional<ICell> cell,
+                                       MoveUndo undo) {
+    ROModel model = context.getModel();
     // If the game is over, skew the score difference to indicate a win or loss.
     if (model.isGameOver()) {
       return model.getWinner().
@@ -66,15 +97,41 @@ public class MiniMaxStrategy implements Strategy {
     }
 
     // If the game isn't over, return the score difference after the move(or pass if the parameter
-    // is empty) is made.
-    IBoard boardCopy = model.createBoardCopy();
-    cell.ifPresent(c -> boardCopy.validMove(c, tokenColor, true));
+    // is empty) is made, then revert the move.
+    if (cell.isEmpty()) {
+      return this.score(board);
+    }
+    // A filtered move that captures nothing leaves the board as it is, like validMove did.
+    if (!board.validMove(cell.get(), tokenColor, false)) {
+      return this.score(board);
+    }
+    board.makeMove(cell.get(), tokenColor, undo);
+    // The flips are counted anyway, so the strategies after this one do not count them again.
+    context.putFlipCount(cell.get(), tokenColor, undo.getFlipCount());
+    int difference;
+    if (this.evaluator != null) {
+      this.evaluator.apply(undo);
+      difference = this.score(board);
+      this.evaluator.revert(undo);
+    } else {
+      // The placed token is not counted, only the flipped ones.
+      difference = board.scoreDifference(tokenColor) - 1;
+    }
+    board.undoMove(undo);
+    return difference;
+  }
 
-    return boardCopy.getColorCount(tokenColor) - boardCopy.getColorCount(getOtherColor(tokenColor));
+  // Score the board as it is, by the difference in tokens or by the evaluator.
+  private int score(IBoard board) {
+    if (this.evaluator != null) {
+      return this.evaluator.evaluate(board, tokenColor);
+    }
+    return board.scoreDifference(tokenColor);
   }
 
   // Determine the best move based on score differences and check if passing is a better option.
-  private List<ICell> getBestMove(Map<ICell, Integer> moveScores, ROModel model) {
+  private List<ICell> getBestMove(Map<ICell, Integer> moveScores, TurnContext context,
+                                  IBoard board) {
     int maxScoreDifference = Integer.MIN_VALUE;
     ICell bestMove = null;
 
@@ -85,7 +142,7 @@ public class MiniMaxStrategy implements Strategy {
       }
     }
 
-    if (shouldPass(model, maxScoreDifference)) {
+    if (shouldPass(context, board, maxScoreDifference)) {
       return List.of();
     }
 
@@ -93,16 +150,12 @@ public class MiniMaxStrategy implements Strategy {
   }
 
   // Determine if passing the turn results in a better outcome than the current best move.
-  private boolean shouldPass(ROModel model, int maxScoreDifference) {
+  private boolean shouldPass(TurnContext context, IBoard board, int maxScoreDifference) {
     // Calculate the score difference for passing the turn.
 
     // **** NEW IMPLEMENTAION: USES ROMODEL ****
-    int passingScoreDifference = calculateScoreDifference(model, Optional.empty());
+    int passingScoreDifference = calculateScoreDifference(context, board, Optional.empty(),
+            null);
     return passingScoreDifference > maxScoreDifference;
   }
-
-  // Utility method to get the color opposite to the one provided.
-  private TokenColor getOtherColor(TokenColor tokenColor) {
-    return tokenColor == TokenColor.BLACK ? TokenColor.WHITE : TokenColor.BLACK;
-  }
 }
@@ -0,0 +1,261 @@
+package cs3500.reversi.strategy;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.model.Zobrist;
+
+/**
+ * A position in the tree of a Monte Carlo search. A node knows the move that led to it, the
+ * position key with the color to move, and the playouts that went through it, scored for the color
+ * that made the move. Its legal moves are listed the first time a descent reaches it and a child is
+ * added for one of them on every later visit, until all of them have a child. A color that cannot
+ * move but whose opponent can gets a single pass child, with no move.
+ *
+ * <p>Several threads may search the same tree without locking it. A descent counts its visit in
+ * every node on its way down as a virtual loss, and only adds the reward once its playout is over,
+ * so threads descending at the same time see the nodes being searched as worse and spread out
+ * over other children. The visits and rewards are packed into one long that is updated atomically,
+ * the moves are listed with a compare-and-set, and the threads adding children each claim the next
+ * move with an atomic counter.
+ */
+final class MonteCarloNode {
+  // the visits a descent counts in a node before its reward is known
+  private static final int VIRTUAL_LOSS = 3;
+
+  private static final AtomicLongFieldUpdater<MonteCarloNode> STATS =
+          AtomicLongFieldUpdater.newUpdater(MonteCarloNode.class, "stats");
+  private static final AtomicReferenceFieldUpdater<MonteCarloNode, Expansion> EXPANSION =
+          AtomicReferenceFieldUpdater.newUpdater(MonteCarloNode.class, Expansion.class,
+                  "expansion");
+
+  private final ICell move;
+  private final TokenColor mover;
+  private final long key;
+
+  // the visits in the low 32 bits and the rewards in half points in the high 32 bits
+  private volatile long stats;
+  private volatile Expansion expansion;
+
+  // the listed moves of a node and the children added for them so far.
+  private static final class Expansion {
+    private final List<ICell> moves;
+    private final boolean terminal;
+    private final AtomicReferenceArray<MonteCarloNode> children;
+    private final AtomicInteger claimed;
+
+    private Expansion(List<ICell> moves, boolean terminal, int childCount) {
+      this.moves = moves;
+      this.terminal = terminal;
+      this.children = new AtomicReferenceArray<>(childCount);
+      this.claimed = new AtomicInteger();
+    }
+  }
+
+  /**
+   * Creates a node.
+   *
+   * @param move  the move that led to the node, or null for a pass or the root.
+   * @param mover the color that made the move, so the opponent of the color to move.
+   * @param key   the position key of the node, see keyOf.
+   */
+  MonteCarloNode(ICell move, TokenColor mover, long key) {
+    this.move = move;
+    this.mover = mover;
+    this.key = key;
+  }
+
+  /**
+   * Returns the key of the position on the board with the given color to move, so that the same
+   * cells with the other color to move is another position.
+   *
+   * @param board  the board of the position.
+   * @param toMove the color to move.
+   * @return the key of the position.
+   */
+  static long keyOf(IBoard board, TokenColor toMove) {
+    long key = board.getPositionKey();
+    return (toMove == TokenColor.WHITE) ? key ^ Zobrist.WHITE_TO_MOVE : key;
+  }
+
+  ICell getMove() {
+    return this.move;
+  }
+
+  TokenColor getMover() {
+    return this.mover;
+  }
+
+  TokenColor getToMove() {
+    return this.mover.next();
+  }
+
+  int getVisits() {
+    return (int) this.stats;
+  }
+
+  boolean isTerminal() {
+    Expansion listed = this.expansion;
+    return listed != null && listed.terminal;
+  }
+
+  boolean isListed() {
+    return this.expansion != null;
+  }
+
+  /**
+   * Lists the moves of the color to move on the board, which must be at the position of this node.
+   * The node becomes terminal when neither color can move. If another thread listed the moves
+   * first, its list is kept.
+   *
+   * @param board the board at the position of this node.
+   */
+  void listMoves(IBoard board) {
+    this.listMoves(board, board.validMovesLeft(this.getToMove()));
+  }
+
+  /**
+   * Lists only the given moves of the color to move, which must be legal on the board.
+   *
+   * @param board the board at the position of this node.
+   * @param legal the moves to list.
+   */
+  void listMoves(IBoard board, List<ICell> legal) {
+    List<ICell> moves = List.copyOf(legal);
+    Expansion listed;
+    if (moves.isEmpty()) {
+      boolean terminal = board.validMovesLeft(this.mover).isEmpty();
+      listed = new Expansion(moves, terminal, terminal ? 0 : 1);
+    } else {
+      listed = new Expansion(moves, false, moves.size());
+    }
+    EXPANSION.compareAndSet(this, null, listed);
+  }
+
+  /**
+   * Adds a child for the next move without one, making the move on the scratch board. The moves
+   * must have been listed. The child starts with the virtual loss of the calling descent, so other
+   * threads never see it unvisited.
+   *
+   * @param state the scratch state, with its board at the position of this node.
+   * @return the new child, or null if every move already has a child or is being given one.
+   */
+  MonteCarloNode expand(PlayoutState state) {
+    Expansion listed = this.expansion;
+    int index = listed.claimed.getAndIncrement();
+    if (index >= listed.children.length()) {
+      return null;
+    }
+    TokenColor toMove = this.getToMove();
+    ICell next = listed.moves.isEmpty() ? null : listed.moves.get(index);
+    if (next != null) {
+      state.makeMove(next, toMove);
+    }
+    MonteCarloNode child = new MonteCarloNode(next, toMove,
+            keyOf(state.getBoard(), toMove.next()));
+    child.addVirtualLoss();
+    listed.children.set(index, child);
+    return child;
+  }
+
+  /**
+   * Returns the child with the highest upper confidence bound, which favours children that won
+   * many of their playouts and children that were rarely tried. Children still being added by
+   * other threads are skipped.
+   *
+   * @param exploration the weight of trying rarely visited children.
+   * @return the child to descend into, or null if no child has been added yet.
+   */
+  MonteCarloNode selectChild(double exploration) {
+    AtomicReferenceArray<MonteCarloNode> children = this.expansion.children;
+    double logVisits = Math.log(this.getVisits());
+    MonteCarloNode best = null;
+    double bestValue = -Double.MAX_VALUE;
+    for (int i = 0; i < children.length(); i++) {
+      MonteCarloNode child = children.get(i);
+      if (child == null) {
+        continue;
+      }
+      // Both numbers come from one read, so they belong to the same playouts.
+      long childStats = child.stats;
+      int visits = (int) childStats;
+      double value = (childStats >>> 32) / 2.0 / visits
+              + exploration * Math.sqrt(logVisits / visits);
+      if (value > bestValue) {
+        bestValue = value;
+        best = child;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Returns the child that was visited the most, which is the move a search plays.
+   *
+   * @return the most visited child, or null if there is none.
+   */
+  MonteCarloNode mostVisitedChild() {
+    Expansion listed = this.expansion;
+    MonteCarloNode best = null;
+    if (listed == null) {
+      return null;
+    }
+    for (int i = 0; i < listed.children.length(); i++) {
+      MonteCarloNode child = listed.children.get(i);
+      if (child != null && (best == null || child.getVisits() > best.getVisits())) {
+        best = child;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Counts a descent through this node as a lost playout until its reward is known.
+   */
+  void addVirtualLoss() {
+    STATS.getAndAdd(this, VIRTUAL_LOSS);
+  }
+
+  /**
+   * Replaces the virtual loss of a descent through this node with the reward of its playout.
+   *
+   * @param halfPoints 2 if the color that moved into this node won the playout, 1 for a draw and
+   *                   0 for a loss.
+   */
+  void update(int halfPoints) {
+    // The virtual loss was added first, so the visits cannot borrow from the rewards.
+    STATS.getAndAdd(this, ((long) halfPoints << 32) - (VIRTUAL_LOSS - 1));
+  }
+
+  /**
+   * Returns the node with the given key among the descendants of this node, searching at most the
+   * given number of plies down. Only nodes that have been added to the tree are searched.
+   *
+   * @param target   the key of the position to find.
+   * @param maxDepth the most plies below this node to search.
+   * @return the node with that key, or null if there is none.
+   */
+  MonteCarloNode find(long target, int maxDepth) {
+    if (this.key == target) {
+      return this;
+    }
+    Expansion listed = this.expansion;
+    if (maxDepth == 0 || listed == null) {
+      return null;
+    }
+    for (int i = 0; i < listed.children.length(); i++) {
+      MonteCarloNode child = listed.children.get(i);
+      MonteCarloNode found = (child == null) ? null : child.find(target, maxDepth - 1);
+      if (found != null) {
+        return found;
+      }
+    }
+    return null;
+  }
+}
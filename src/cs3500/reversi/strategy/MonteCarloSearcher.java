@@ -0,0 +1,149 @@
+package cs3500.reversi.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * Runs the iterations of a Monte Carlo search on one thread. Every iteration descends the tree
+ * from the root, picking children by their upper confidence bound (UCT), adds one new node and
+ * plays random moves from it to the end of the game on the scratch state of this searcher, then
+ * scores the playout in every node it went through. Several searchers may search the same tree at
+ * once, each with its own scratch state, see MonteCarloNode.
+ */
+final class MonteCarloSearcher {
+  // the weight of exploration in the upper confidence bound, sqrt(2) as for rewards from 0 to 1
+  private static final double EXPLORATION = Math.sqrt(2);
+  // how many plies below the old root the new position is looked for, two moves with a pass
+  private static final int REUSE_DEPTH = 3;
+
+  private final PlayoutState state;
+  private final List<MonteCarloNode> path;
+  private long playouts;
+
+  /**
+   * Creates a searcher whose playouts use the given random seed.
+   *
+   * @param seed the seed of the random moves of the playouts.
+   */
+  MonteCarloSearcher(long seed) {
+    this.state = new PlayoutState(seed);
+    this.path = new ArrayList<>();
+  }
+
+  /**
+   * Sets the root position of the next search and resets the playout count.
+   *
+   * @param board a copy of the board at the root position, which only this searcher plays on.
+   */
+  void reset(IBoard board) {
+    this.state.reset(board);
+    this.playouts = 0;
+  }
+
+  /**
+   * Returns the number of playouts this searcher played since it was last reset.
+   *
+   * @return the playouts of this searcher.
+   */
+  long getPlayouts() {
+    return this.playouts;
+  }
+
+  /**
+   * Returns the node of the position on the board with the given color to move. It is found among
+   * the nodes of the old root if it was searched before, so that the playouts through it are kept,
+   * and is a new node otherwise. A search limited to some moves always gets a new node with only
+   * those moves listed.
+   *
+   * @param oldRoot       the root of the last search of the game, or null.
+   * @param board         the board at the position.
+   * @param color         the color to move.
+   * @param filteredMoves the moves to limit the search to, or an empty list for every legal move.
+   * @return the node to search from, with its moves listed.
+   */
+  static MonteCarloNode findRoot(MonteCarloNode oldRoot, IBoard board, TokenColor color,
+                                 List<ICell> filteredMoves) {
+    long key = MonteCarloNode.keyOf(board, color);
+    if (!filteredMoves.isEmpty()) {
+      MonteCarloNode restricted = new MonteCarloNode(null, color.next(), key);
+      restricted.listMoves(board, filteredMoves);
+      return restricted;
+    }
+    MonteCarloNode found = (oldRoot == null) ? null : oldRoot.find(key, REUSE_DEPTH);
+    if (found == null) {
+      found = new MonteCarloNode(null, color.next(), key);
+    }
+    if (!found.isListed()) {
+      found.listMoves(board);
+    }
+    return found;
+  }
+
+  /**
+   * Runs iterations from the root until the budget is used up. The node limit of the budget is
+   * the number of playouts all searchers sharing it may play, and each playout is claimed before
+   * it is played, so no more than that are played.
+   *
+   * @param root   the root of the tree, at the position this searcher was reset to.
+   * @param budget the budget shared by every searcher of the move.
+   */
+  void search(MonteCarloNode root, SearchBudget budget) {
+    while (!budget.isStopped()) {
+      if (budget.isOverNodeLimit(budget.addNodes(1) - 1)) {
+        budget.stop();
+        return;
+      }
+      this.iterate(root);
+      this.playouts++;
+      if (budget.isPastDeadline()) {
+        budget.stop();
+      }
+    }
+  }
+
+  // runs one iteration: descends to a node, adds a child, plays out and backs the result up.
+  private void iterate(MonteCarloNode root) {
+    MonteCarloNode node = root;
+    this.path.clear();
+    node.addVirtualLoss();
+    this.path.add(node);
+    while (true) {
+      if (!node.isListed()) {
+        node.listMoves(this.state.getBoard());
+      }
+      if (node.isTerminal()) {
+        break;
+      }
+      MonteCarloNode child = node.expand(this.state);
+      if (child != null) {
+        this.path.add(child);
+        node = child;
+        break;
+      }
+      child = node.selectChild(EXPLORATION);
+      if (child == null) {
+        // Every child is still being added by other threads, so play out from here.
+        break;
+      }
+      if (child.getMove() != null) {
+        this.state.makeMove(child.getMove(), child.getMover());
+      }
+      child.addVirtualLoss();
+      this.path.add(child);
+      node = child;
+    }
+
+    this.state.playOut(node.getToMove());
+    int blackLead = this.state.getBoard().scoreDifference(TokenColor.BLACK);
+    this.state.rewind();
+
+    for (MonteCarloNode visited : this.path) {
+      int lead = (visited.getMover() == TokenColor.BLACK) ? blackLead : -blackLead;
+      visited.update(lead > 0 ? 2 : (lead == 0 ? 1 : 0));
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package cs3500.reversi.strategy;
+
+import java.util.List;
+
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.ROModel;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * This class represents a strategy that chooses moves with Monte Carlo tree search. Every
+ * iteration descends the tree of searched positions, picking children by their upper confidence
+ * bound (UCT), adds one new position to the tree and plays random moves from it to the end of the
+ * game, then counts the win, loss or draw in every position it went through. The most visited move
+ * of the root is played. It needs no evaluation function and no search depth, so it stays useful
+ * on large boards where alpha-beta cannot search deep.
+ *
+ * <p>Playouts are played on one scratch bitboard that is never copied, making and undoing the
+ * moves of every iteration. The tree is kept between moves of the same game: when the strategy is
+ * asked to move again, the node of the new position is found among the positions searched before
+ * and becomes the new root, so the playouts that went through it are not lost.
+ */
+public class MonteCarloStrat implements Strategy {
+  private final TokenColor tokenColor;
+  private final long timeBudgetMillis;
+  private final long playoutLimit;
+  private final MonteCarloSearcher searcher;
+
+  private MonteCarloNode root;
+  private long lastPlayouts;
+  private int lastReusedPlayouts;
+  private long lastElapsedNanos;
+
+  /**
+   * Constructs a Monte Carlo strategy that thinks for one second per move.
+   *
+   * @param tokenColor the color of the player using this strategy.
+   */
+  public MonteCarloStrat(TokenColor tokenColor) {
+    this(tokenColor, 1000, Long.MAX_VALUE);
+  }
+
+  /**
+   * Constructs a Monte Carlo strategy with the given thinking budget. The search stops at
+   * whichever limit is reached first.
+   *
+   * @param tokenColor       the color of the player using this strategy.
+   * @param timeBudgetMillis the wall-clock time the strategy may think for per move.
+   * @param playoutLimit     the number of playouts the strategy may play per move.
+   * @throws IllegalArgumentException if the time budget or playout limit is not positive.
+   */
+  public MonteCarloStrat(TokenColor tokenColor, long timeBudgetMillis, long playoutLimit) {
+    this(tokenColor, timeBudgetMillis, playoutLimit, System.nanoTime());
+  }
+
+  /**
+   * Constructs a Monte Carlo strategy with the given thinking budget and random seed, so that a
+   * search limited by playouts always chooses the same move.
+   *
+   * @param tokenColor       the color of the player using this strategy.
+   * @param timeBudgetMillis the wall-clock time the strategy may think for per move.
+   * @param playoutLimit     the number of playouts the strategy may play per move.
+   * @param seed             the seed of the random moves of the playouts.
+   * @throws IllegalArgumentException if the time budget or playout limit is not positive.
+   */
+  public MonteCarloStrat(TokenColor tokenColor, long timeBudgetMillis, long playoutLimit,
+                         long seed) {
+    if (timeBudgetMillis <= 0 || playoutLimit <= 0) {
+      throw new IllegalArgumentException("Time budget and playout limit must be positive");
+    }
+    this.tokenColor = tokenColor;
+    this.timeBudgetMillis = timeBudgetMillis;
+    this.playoutLimit = playoutLimit;
+    this.searcher = new MonteCarloSearcher(seed);
+  }
+
+  @Override
+  public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
+    long start = System.nanoTime();
+    SearchBudget budget = new SearchBudget(start + this.timeBudgetMillis * 1_000_000L,
+            this.playoutLimit);
+    IBoard board = model.createBoardCopy();
+    this.searcher.reset(board);
+
+    MonteCarloNode searched = MonteCarloSearcher.findRoot(this.root, board, this.tokenColor,
+            filteredMoves);
+    // A search limited to some moves has its own tree, which is not kept.
+    this.root = filteredMoves.isEmpty() ? searched : null;
+    this.lastReusedPlayouts = searched.getVisits();
+    if (!searched.isTerminal()) {
+      this.searcher.search(searched, budget);
+    }
+    this.lastPlayouts = this.searcher.getPlayouts();
+    this.lastElapsedNanos = System.nanoTime() - start;
+
+    MonteCarloNode best = searched.mostVisitedChild();
+    if (best == null || best.getMove() == null) {
+      return List.of();
+    }
+    return List.of(best.getMove());
+  }
+
+  /**
+   * Forgets the searched tree, for example when a new game starts.
+   */
+  public void clearTree() {
+    this.root = null;
+  }
+
+  /**
+   * Returns the number of playouts played for the last move chosen.
+   *
+   * @return the number of playouts of the last search.
+   */
+  public long getLastPlayouts() {
+    return this.lastPlayouts;
+  }
+
+  /**
+   * Returns the number of playouts through the root position that were played while searching
+   * earlier moves and kept for the last move chosen.
+   *
+   * @return the number of playouts reused by the last search.
+   */
+  public int getLastReusedPlayouts() {
+    return this.lastReusedPlayouts;
+  }
+
+  /**
+   * Returns how many playouts per second the last search played.
+   *
+   * @return the playouts per second of the last search.
+   */
+  public double getLastPlayoutsPerSecond() {
+    if (this.lastElapsedNanos == 0) {
+      return 0;
+    }
+    return this.lastPlayouts * 1e9 / this.lastElapsedNanos;
+  }
+}
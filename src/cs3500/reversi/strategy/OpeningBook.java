@@ -0,0 +1,161 @@
+package cs3500.reversi.strategy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.BoardSymmetry;
+import cs3500.reversi.model.CanonicalPosition;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.model.Zobrist;
+
+/**
+ * An opening book: the move to play in every position of the first plies of a game that the book
+ * knows, made by an OpeningBookBuilder. Positions are stored in their canonical form from
+ * BoardSymmetry, so one entry answers for every rotation and reflection of a position.
+ *
+ * <p>A book file is a header followed by one entry per position, sorted by the canonical key of
+ * the position with the color to move folded in, each holding the key, the cell index of the move
+ * in the canonical form and the number of games behind the move. A book is loaded by mapping the
+ * file, not by reading it, and looked up with a binary search straight in the mapping, so loading
+ * takes no time and a lookup makes no objects apart from the canonical position and the move.
+ * A book never changes and is safe to share between threads and strategies.
+ */
+public final class OpeningBook {
+  static final int MAGIC = 0x52564F42; // "RVOB"
+  static final int VERSION = 1;
+  static final int HEXAGON = 0;
+  static final int SQUARE = 1;
+  static final int HEADER_SIZE = 32;
+  static final int ENTRY_SIZE = 16;
+
+  private final BoardGeometry geometry;
+  private final BoardSymmetry symmetry;
+  private final int plies;
+  private final int count;
+  private final ByteBuffer entries;
+
+  /**
+   * Reads the book in the given buffer, which holds a whole book file.
+   *
+   * @param buffer the book, from its first byte.
+   * @throws IOException if the buffer does not hold a valid book.
+   */
+  OpeningBook(ByteBuffer buffer) throws IOException {
+    if (buffer.remaining() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new IOException("Not an opening book");
+    }
+    int version = buffer.getInt(4);
+    if (version != VERSION) {
+      throw new IOException("Unknown opening book version " + version);
+    }
+    int shape = buffer.getInt(8);
+    int side = buffer.getInt(12);
+    try {
+      if (shape == HEXAGON) {
+        this.geometry = BoardGeometry.hexagon(side);
+      } else if (shape == SQUARE) {
+        this.geometry = BoardGeometry.square(side);
+      } else {
+        throw new IOException("Unknown board shape " + shape);
+      }
+    } catch (IllegalArgumentException ex) {
+      throw new IOException("Invalid board size " + side, ex);
+    }
+    this.plies = buffer.getInt(16);
+    long count = buffer.getLong(24);
+    if (count < 0 || count != (buffer.remaining() - HEADER_SIZE) / ENTRY_SIZE
+            || (buffer.remaining() - HEADER_SIZE) % ENTRY_SIZE != 0) {
+      throw new IOException("Opening book is cut short or too long");
+    }
+    this.count = (int) count;
+    this.symmetry = BoardSymmetry.of(this.geometry);
+    this.entries = buffer;
+  }
+
+  /**
+   * Maps the book file at the given path.
+   *
+   * @param path the path of the book file.
+   * @return the book.
+   * @throws IllegalArgumentException if the path is null.
+   * @throws IOException              if the file could not be mapped or is not a valid book.
+   */
+  public static OpeningBook load(Path path) throws IOException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null");
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("Opening book is too large to map");
+      }
+      // The mapping stays valid after the channel is closed.
+      return new OpeningBook(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Returns the geometry of the board the book is for.
+   *
+   * @return the geometry of the board.
+   */
+  public BoardGeometry getGeometry() {
+    return this.geometry;
+  }
+
+  /**
+   * Returns the number of plies from the start of the game that the book was built for.
+   *
+   * @return the number of plies.
+   */
+  public int getPlies() {
+    return this.plies;
+  }
+
+  /**
+   * Returns the number of positions in the book.
+   *
+   * @return the number of positions.
+   */
+  public int size() {
+    return this.count;
+  }
+
+  /**
+   * Looks up the move to play in the given position.
+   *
+   * @param board  the board, of the geometry of the book.
+   * @param toMove the color to move.
+   * @return the move of the book, or empty if the position is not in the book.
+   * @throws IllegalArgumentException if an argument is null.
+   */
+  public Optional<ICell> lookup(IBoard board, TokenColor toMove) {
+    if (board == null || toMove == null) {
+      throw new IllegalArgumentException("Board and color cannot be null");
+    }
+    CanonicalPosition canonical = this.symmetry.canonicalize(board);
+    long key = canonical.getKey() ^ (toMove == TokenColor.WHITE ? Zobrist.WHITE_TO_MOVE : 0);
+    int low = 0;
+    int high = this.count - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int offset = HEADER_SIZE + middle * ENTRY_SIZE;
+      long found = this.entries.getLong(offset);
+      if (found < key) {
+        low = middle + 1;
+      } else if (found > key) {
+        high = middle - 1;
+      } else {
+        ICell move = this.geometry.cellAt(this.entries.getInt(offset + 8));
+        return Optional.of(canonical.fromCanonical(move));
+      }
+    }
+    return Optional.empty();
+  }
+}
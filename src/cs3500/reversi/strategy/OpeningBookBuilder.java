@@ -0,0 +1,265 @@
+package cs3500.reversi.strategy;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.BoardSymmetry;
+import cs3500.reversi.model.CanonicalPosition;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.model.Zobrist;
+import cs3500.reversi.record.RecordedGame;
+
+/**
+ * Builds an opening book for the first plies of games on one board, from recorded games, from
+ * searches of every line, or from both. For a position seen in recorded games the book plays the
+ * move with the best average margin for the color to move, out of the moves played in at least a
+ * minimum number of games. A move found by searching the position is played instead of the moves
+ * of recorded games. Positions are kept in their canonical form, so games that are rotations or
+ * reflections of each other count towards the same positions.
+ *
+ * <p>Building is meant to be done offline, once; the book is then written to a file and mapped
+ * with OpeningBook.load. A builder is not safe to use from more than one thread.
+ */
+public final class OpeningBookBuilder {
+  private final BoardGeometry geometry;
+  private final BoardSymmetry symmetry;
+  private final int plies;
+  private final int minGames;
+  // the games and the sum of the margins of the mover of every move of every position, by the
+  // key of the position and the cell index of the move in the canonical form
+  private final Map<Long, Map<Integer, long[]>> played;
+  // the move found by searching every searched position
+  private final Map<Long, Integer> searched;
+
+  /**
+   * Constructs a builder of a book for the given board.
+   *
+   * @param geometry the geometry of the board.
+   * @param plies    the number of plies from the start of the game the book covers.
+   * @param minGames the number of games a move of recorded games needs to be in the book.
+   * @throws IllegalArgumentException if the geometry is null, or the plies or minimum number of
+   *                                  games is less than 1.
+   */
+  public OpeningBookBuilder(BoardGeometry geometry, int plies, int minGames) {
+    if (geometry == null) {
+      throw new IllegalArgumentException("Geometry cannot be null");
+    }
+    if (plies < 1 || minGames < 1) {
+      throw new IllegalArgumentException("Plies and minimum number of games must be positive");
+    }
+    this.geometry = geometry;
+    this.symmetry = BoardSymmetry.of(geometry);
+    this.plies = plies;
+    this.minGames = minGames;
+    this.played = new HashMap<>();
+    this.searched = new HashMap<>();
+  }
+
+  // a new game on the board of the book, on a bitboard where there is one.
+  private IReversiModel newGame() {
+    int side = this.geometry.getSideLength();
+    IReversiModel model = this.geometry.isHexagon() ? new HexagonReversi(side, true)
+            : new SquareReversi(side, side == 8);
+    model.startGame();
+    return model;
+  }
+
+  private static long keyOf(CanonicalPosition canonical, TokenColor toMove) {
+    return canonical.getKey() ^ (toMove == TokenColor.WHITE ? Zobrist.WHITE_TO_MOVE : 0);
+  }
+
+  /**
+   * Counts the moves of the first plies of the given game. Games that were not played to the end
+   * are left out, since they have no result.
+   *
+   * @param game the game to count.
+   * @return the number of moves counted.
+   * @throws IllegalArgumentException if the game is null or was played on another board.
+   * @throws IllegalStateException    if a move of the game is invalid.
+   */
+  public int addGame(RecordedGame game) {
+    if (game == null) {
+      throw new IllegalArgumentException("Game cannot be null");
+    }
+    if (game.getGeometry() != this.geometry) {
+      throw new IllegalArgumentException("Game was played on another board");
+    }
+    if (!game.isFinished()) {
+      return 0;
+    }
+    IBoard board = this.newGame().createBoardCopy();
+    TokenColor toMove = TokenColor.BLACK;
+    int counted = 0;
+    for (int turn = 0; turn < Math.min(this.plies, game.getMoveCount()); turn++) {
+      Optional<ICell> move = game.getMove(turn);
+      if (move.isPresent()) {
+        CanonicalPosition canonical = this.symmetry.canonicalize(board);
+        int index = this.geometry.indexOf(canonical.toCanonical(move.get()));
+        long[] stats = this.played.computeIfAbsent(keyOf(canonical, toMove), key -> new HashMap<>())
+                .computeIfAbsent(index, cell -> new long[2]);
+        stats[0]++;
+        stats[1] += (toMove == TokenColor.BLACK) ? game.getMargin() : -game.getMargin();
+        board.makeMove(move.get(), toMove);
+        counted++;
+      }
+      toMove = toMove.next();
+    }
+    return counted;
+  }
+
+  /**
+   * Searches every position reachable in the first plies of a game, once per canonical form, and
+   * puts the move the strategy of the color to move chooses in the book. Every legal move is
+   * followed, so the number of searches grows quickly with the plies; the strategies should have
+   * a fixed budget.
+   *
+   * @param black the strategy searching the positions with black to move.
+   * @param white the strategy searching the positions with white to move.
+   * @return the number of positions searched.
+   * @throws IllegalArgumentException if a strategy is null.
+   */
+  public int addSearchedLines(Strategy black, Strategy white) {
+    if (black == null || white == null) {
+      throw new IllegalArgumentException("Strategies cannot be null");
+    }
+    Set<Long> visited = new HashSet<>();
+    this.search(new ArrayList<>(), black, white, visited);
+    return visited.size();
+  }
+
+  // searches the position after the given line, then every position after one more move.
+  private void search(List<Optional<ICell>> line, Strategy black, Strategy white,
+                      Set<Long> visited) {
+    IReversiModel model = this.newGame();
+    for (Optional<ICell> move : line) {
+      if (move.isPresent()) {
+        model.placeCurrentPlayerPiece(move.get());
+      } else {
+        model.passTurn(true);
+      }
+    }
+    if (model.isGameOver()) {
+      return;
+    }
+    TokenColor toMove = model.getCurrentColor();
+    List<ICell> moves = model.getValidMoves(toMove);
+    if (moves.isEmpty()) {
+      if (line.size() + 1 < this.plies) {
+        line.add(Optional.empty());
+        this.search(line, black, white, visited);
+        line.remove(line.size() - 1);
+      }
+      return;
+    }
+    CanonicalPosition canonical = this.symmetry.canonicalize(model.createBoardCopy());
+    long key = keyOf(canonical, toMove);
+    if (!visited.add(key)) {
+      return;
+    }
+    List<ICell> choice = ((toMove == TokenColor.BLACK) ? black : white).chooseMove(model,
+            List.of());
+    if (!choice.isEmpty() && moves.contains(choice.get(0))) {
+      this.searched.put(key, this.geometry.indexOf(canonical.toCanonical(choice.get(0))));
+    }
+    if (line.size() + 1 < this.plies) {
+      for (ICell move : List.copyOf(moves)) {
+        line.add(Optional.of(move));
+        this.search(line, black, white, visited);
+        line.remove(line.size() - 1);
+      }
+    }
+  }
+
+  // the entries of the book, the cell index of the move by key, in key order.
+  private Map<Long, Integer> moves() {
+    Map<Long, Integer> moves = new TreeMap<>(this.searched);
+    for (Map.Entry<Long, Map<Integer, long[]>> position : this.played.entrySet()) {
+      if (moves.containsKey(position.getKey())) {
+        continue;
+      }
+      int best = -1;
+      long[] bestStats = null;
+      for (Map.Entry<Integer, long[]> move : position.getValue().entrySet()) {
+        long[] stats = move.getValue();
+        if (stats[0] >= this.minGames && (bestStats == null || isBetter(stats, bestStats)
+                || (!isBetter(bestStats, stats) && move.getKey() < best))) {
+          best = move.getKey();
+          bestStats = stats;
+        }
+      }
+      if (best >= 0) {
+        moves.put(position.getKey(), best);
+      }
+    }
+    return moves;
+  }
+
+  // whether the first move has the better average margin, or the same one over more games.
+  private static boolean isBetter(long[] stats, long[] other) {
+    // Compares stats[1] / stats[0] with other[1] / other[0] without dividing.
+    long compare = Long.compare(stats[1] * other[0], other[1] * stats[0]);
+    return compare > 0 || (compare == 0 && stats[0] > other[0]);
+  }
+
+  /**
+   * Writes the book to the given stream, which is not closed.
+   *
+   * @param out the stream to write to.
+   * @throws IllegalArgumentException if the stream is null.
+   * @throws IOException              if the stream could not be written to.
+   */
+  public void write(OutputStream out) throws IOException {
+    if (out == null) {
+      throw new IllegalArgumentException("Stream cannot be null");
+    }
+    Map<Long, Integer> moves = this.moves();
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(OpeningBook.MAGIC);
+    data.writeInt(OpeningBook.VERSION);
+    data.writeInt(this.geometry.isHexagon() ? OpeningBook.HEXAGON : OpeningBook.SQUARE);
+    data.writeInt(this.geometry.getSideLength());
+    data.writeInt(this.plies);
+    data.writeInt(0);
+    data.writeLong(moves.size());
+    for (Map.Entry<Long, Integer> entry : moves.entrySet()) {
+      long[] stats = this.played.getOrDefault(entry.getKey(), Map.of()).get(entry.getValue());
+      data.writeLong(entry.getKey());
+      data.writeInt(entry.getValue());
+      data.writeInt((stats == null) ? 0 : (int) Math.min(stats[0], Integer.MAX_VALUE));
+    }
+    data.flush();
+  }
+
+  /**
+   * Builds the book in memory, as if it had been written to a file and loaded.
+   *
+   * @return the book.
+   */
+  public OpeningBook build() {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try {
+      this.write(bytes);
+      return new OpeningBook(ByteBuffer.wrap(bytes.toByteArray()));
+    } catch (IOException ex) {
+      throw new IllegalStateException("Could not build the opening book", ex);
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package cs3500.reversi.strategy;
+
+import java.util.List;
+import java.util.Optional;
+
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.ROModel;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * This class represents a strategy that plays the opening from an opening book. While the position
+ * is in the book it plays the move of the book, which takes a lookup instead of a search, and once
+ * the game leaves the book, or the book is for another board, it lets another strategy choose.
+ */
+public class OpeningBookStrat implements Strategy {
+  private final TokenColor tokenColor;
+  private final OpeningBook book;
+  private final Strategy fallback;
+  private boolean lastFromBook;
+
+  /**
+   * Constructs an opening book strategy.
+   *
+   * @param tokenColor the color of the player using this strategy.
+   * @param book       the opening book to play from.
+   * @param fallback   the strategy choosing moves out of the book.
+   * @throws IllegalArgumentException if the book or the fallback strategy is null.
+   */
+  public OpeningBookStrat(TokenColor tokenColor, OpeningBook book, Strategy fallback) {
+    if (book == null || fallback == null) {
+      throw new IllegalArgumentException("Book and fallback strategy cannot be null");
+    }
+    this.tokenColor = tokenColor;
+    this.book = book;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
+    return this.chooseMove(new TurnContext(model), filteredMoves);
+  }
+
+  @Override
+  public List<ICell> chooseMove(TurnContext context, List<ICell> filteredMoves) {
+    if (context.getGeometry() == this.book.getGeometry()) {
+      Optional<ICell> move = this.book.lookup(context.getBoard(), this.tokenColor);
+      // The move is checked, so a position that only shares its key with a book position is not
+      // answered with an illegal move.
+      if (move.isPresent() && context.isValidMove(move.get(), this.tokenColor)
+              && (filteredMoves.isEmpty() || filteredMoves.contains(move.get()))) {
+        this.lastFromBook = true;
+        return List.of(move.get());
+      }
+    }
+    this.lastFromBook = false;
+    return this.fallback.chooseMove(context, filteredMoves);
+  }
+
+  /**
+   * Returns whether the last move was played from the book, rather than by the fallback strategy.
+   *
+   * @return whether the last move came from the book.
+   */
+  public boolean isLastFromBook() {
+    return this.lastFromBook;
+  }
+
+  @Override
+  public void shutdown() {
+    this.fallback.shutdown();
+  }
+}
@@ -10,6 +10,7 @@ import cs3500.reversi.model.HexagonReversi;
 import cs3500.reversi.model.IBoard;
 import cs3500.reversi.model.ICell;
 import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.MoveUndo;
 import cs3500.reversi.model.ROModel;
 import cs3500.reversi.model.TokenColor;
 
@@ -35,87 +36,72 @@ public class OurAlgorithmStrat implements Strategy {
 
   @Override
   public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
-    List<ICell> choices = getChoices(model, filteredMoves);
-    HashMap<ICell, Integer> moveScores = evaluateMoves(model, choices);
+    // A single copy of the board is searched, every move is made and undone on it in place.
+    IBoard board = model.createBoardCopy();
+    List<ICell> choices = getChoices(board, filteredMoves);
+    HashMap<ICell, Integer> moveScores = evaluateMoves(model, board, choices);
 
     return getOptimalMove(moveScores, choices);
   }
 
   // gets the move choices of strategy colors player
-  private List<ICell> getChoices(ROModel model, List<ICell> filteredMoves) {
-    return filteredMoves.isEmpty() ? model.createBoardCopy().validMovesLeft(tokenColor) :
-            filteredMoves;
+  private List<ICell> getChoices(IBoard board, List<ICell> filteredMoves) {
+    return filteredMoves.isEmpty() ? board.validMovesLeft(tokenColor) : filteredMoves;
   }
 
   // evaluates the moves of the strategy color player, and opponents highest scoring response
-  private HashMap<ICell, Integer> evaluateMoves(ROModel model, List<ICell> choices) {
+  private HashMap<ICell, Integer> evaluateMoves(ROModel model, IBoard board, List<ICell> choices) {
     HashMap<ICell, Integer> moveScores = new HashMap<>();
+    IReversiModel opponentModel = createOpponentModel(board, model.getDimensions());
+    MoveUndo moveUndo = new MoveUndo();
+    MoveUndo responseUndo = new MoveUndo();
     for (ICell cell : choices) {
-      // USES MODEL
-      IReversiModel modelCopy = createModelCopyWithMove(model, cell);
-      if (playerWonGame(modelCopy)) {
+      board.makeMove(cell, tokenColor, moveUndo);
+      if (playerWonGame(board)) {
+        board.undoMove(moveUndo);
         return new HashMap<>(Collections.singletonMap(cell, 0));
       }
 
-      // USES BOARD NOW
-      moveScores.put(cell, getOpponentHighestScore(modelCopy));
+      // A finished game leaves the opponent without a response.
+      moveScores.put(cell, gameOver(board) ? 0
+              : getOpponentHighestScore(opponentModel, board, responseUndo));
+      board.undoMove(moveUndo);
     }
     return moveScores;
   }
 
-  // creates a model copy with the move of the strategy color player
-  private IReversiModel createModelCopyWithMove(ROModel model, ICell cell) {
-    IBoard board = model.createBoardCopy();
-    IReversiModel modelCopy = new HexagonReversi(board, model.getDimensions());
-    modelCopy.placeCurrentPlayerPiece(cell);
-    return modelCopy;
-  }
-
-  // creates a model copy with the move of the strategy color player
-  private IReversiModel createBoardCopyWithMove(ROModel model, ICell cell) {
-    IBoard board = model.createBoardCopy();
-    IReversiModel modelCopy = new HexagonReversi(board, model.getDimensions());
-    modelCopy.placeCurrentPlayerPiece(cell);
-    return modelCopy;
+  // creates a model over the searched board whose current player is the opponent, so that the
+  // opponent's strategies see every move made on the board.
+  private IReversiModel createOpponentModel(IBoard board, int dimensions) {
+    IReversiModel opponentModel = new HexagonReversi(board, dimensions);
+    if (!opponentModel.getCurrentColor().equals(getOtherColor(tokenColor))) {
+      opponentModel.passTurn(false);
+    }
+    return opponentModel;
   }
 
   // gets the highest score of the opponent color player for a given
   // move of the strategy color player
-  private int getOpponentHighestScore(IReversiModel modelCopy) {
-    List<ICell> opponentResponses = opponentMoves(modelCopy);
+  private int getOpponentHighestScore(IReversiModel opponentModel, IBoard board,
+                                      MoveUndo responseUndo) {
+    List<ICell> opponentResponses = opponentMoves(opponentModel);
     return opponentResponses.stream()
-            .mapToInt(response -> evaluateOpponentMove(modelCopy, response))
+            .mapToInt(response -> evaluateOpponentMove(board, response, responseUndo))
             .max()
             .orElse(0);
   }
 
-
-
   // evaluates the score of the opponent color player for a given move of the strategy color player
-  private int evaluateOpponentMove(IReversiModel modelCopy, ICell opponentMove) {
-    IReversiModel newModelCopy =
-            new HexagonReversi(modelCopy.createBoardCopy(), modelCopy.getDimensions());
-    newModelCopy.passTurn(false);
-
-    newModelCopy.placeCurrentPlayerPiece(opponentMove);
-    return newModelCopy.getScore(getOtherColor(tokenColor)) - newModelCopy.getScore(tokenColor);
-  }
-
-  // gets the moves of the opponent color player
-  private List<ICell> opponentMoves(IReversiModel modelCopy) {
+  private int evaluateOpponentMove(IBoard board, ICell opponentMove, MoveUndo responseUndo) {
     TokenColor otherTokenColor = getOtherColor(tokenColor);
-    List<Strategy> opponentStrats = Arrays.asList(
-            new AvoidEdgesStrat(otherTokenColor),
-            new ChooseCornersStrat(otherTokenColor),
-            new GreedyStrat(otherTokenColor)
-    );
-    // Changed to pass in otherColor instead of color
-    return new SandwichStrat(otherTokenColor, opponentStrats)
-            .chooseMove(modelCopy, modelCopy.getValidMoves(otherTokenColor));
+    board.makeMove(opponentMove, otherTokenColor, responseUndo);
+    int score = board.scoreDifference(otherTokenColor);
+    board.undoMove(responseUndo);
+    return score;
   }
 
   // gets the moves of the opponent color player
-  private List<ICell> opponentMoves(IBoard boardCopy) {
+  private List<ICell> opponentMoves(IReversiModel opponentModel) {
     TokenColor otherTokenColor = getOtherColor(tokenColor);
     List<Strategy> opponentStrats = Arrays.asList(
             new AvoidEdgesStrat(otherTokenColor),
@@ -123,22 +109,19 @@ public class OurAlgorithmStrat implements Strategy {
             new GreedyStrat(otherTokenColor)
     );
     // Changed to pass in otherColor instead of color
-    return List.of();
+    return new SandwichStrat(otherTokenColor, opponentStrats)
+            .chooseMove(opponentModel, opponentModel.getValidMoves(otherTokenColor));
   }
 
-  // returns whether strategy player has won the game
-  private boolean playerWonGame(IReversiModel modelCopy) {
-    return modelCopy.isGameOver() && modelCopy.getWinner()
-            .filter(winner -> winner.equals(tokenColor))
-            .isPresent();
+  // returns whether neither player has a move left on the board
+  private boolean gameOver(IBoard board) {
+    return board.validMovesLeft(tokenColor).isEmpty()
+            && board.validMovesLeft(getOtherColor(tokenColor)).isEmpty();
   }
 
   // returns whether strategy player has won the game
-  private boolean playerWonGame(IBoard boardCopy) {
-    return boardCopy.validMovesLeft(tokenColor).isEmpty()
-            && boardCopy.validMovesLeft(getOtherColor(tokenColor)).isEmpty()
-            && boardCopy.getColorCount(tokenColor)
-            > boardCopy.getColorCount(getOtherColor(tokenColor));
+  private boolean playerWonGame(IBoard board) {
+    return gameOver(board) && board.scoreDifference(tokenColor) > 0;
   }
 
   // selects the move for strategy player to make that leaves opponent with the worst best move.
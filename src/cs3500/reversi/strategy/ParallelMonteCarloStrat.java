@@ -0,0 +1,186 @@
+package cs3500.reversi.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.ROModel;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * This class represents a strategy that runs the same Monte Carlo tree search as MonteCarloStrat
+ * on several threads of a ForkJoinPool at once, all growing one shared tree. Nothing is locked:
+ * every thread has its own scratch board to play on, visits and rewards are updated atomically,
+ * and a thread descending through a node counts a virtual loss in it until its playout is over, so
+ * that threads descending at the same time spread out over different lines of play instead of all
+ * following the best one. The tree is kept between moves of the same game like in MonteCarloStrat.
+ */
+public class ParallelMonteCarloStrat implements Strategy {
+  private final TokenColor tokenColor;
+  private final long timeBudgetMillis;
+  private final long playoutLimit;
+  private final List<MonteCarloSearcher> searchers;
+  private final ForkJoinPool pool;
+
+  private MonteCarloNode root;
+  private long lastPlayouts;
+  private int lastReusedPlayouts;
+  private long lastElapsedNanos;
+
+  /**
+   * Constructs a parallel Monte Carlo strategy that thinks for one second per move on the given
+   * number of threads.
+   *
+   * @param tokenColor  the color of the player using this strategy.
+   * @param parallelism the number of threads to search with.
+   * @throws IllegalArgumentException if the parallelism is not positive.
+   */
+  public ParallelMonteCarloStrat(TokenColor tokenColor, int parallelism) {
+    this(tokenColor, parallelism, 1000, Long.MAX_VALUE, System.nanoTime());
+  }
+
+  /**
+   * Constructs a parallel Monte Carlo strategy with the given thinking budget. The search stops at
+   * whichever limit is reached first.
+   *
+   * @param tokenColor       the color of the player using this strategy.
+   * @param parallelism      the number of threads to search with.
+   * @param timeBudgetMillis the wall-clock time the strategy may think for per move.
+   * @param playoutLimit     the number of playouts all threads together may play per move.
+   * @param seed             the seed of the random moves of the playouts of the first thread,
+   *                         the other threads use the following seeds.
+   * @throws IllegalArgumentException if the parallelism, time budget or playout limit is not
+   *                                  positive.
+   */
+  public ParallelMonteCarloStrat(TokenColor tokenColor, int parallelism, long timeBudgetMillis,
+                                 long playoutLimit, long seed) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("Parallelism must be positive");
+    }
+    if (timeBudgetMillis <= 0 || playoutLimit <= 0) {
+      throw new IllegalArgumentException("Time budget and playout limit must be positive");
+    }
+    this.tokenColor = tokenColor;
+    this.timeBudgetMillis = timeBudgetMillis;
+    this.playoutLimit = playoutLimit;
+    this.searchers = new ArrayList<>(parallelism);
+    for (int i = 0; i < parallelism; i++) {
+      this.searchers.add(new MonteCarloSearcher(seed + i));
+    }
+    this.pool = new ForkJoinPool(parallelism);
+  }
+
+  @Override
+  public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
+    long start = System.nanoTime();
+    SearchBudget budget = new SearchBudget(start + this.timeBudgetMillis * 1_000_000L,
+            this.playoutLimit);
+    IBoard board = model.createBoardCopy();
+
+    MonteCarloNode searched = MonteCarloSearcher.findRoot(this.root, board, this.tokenColor,
+            filteredMoves);
+    // A search limited to some moves has its own tree, which is not kept.
+    this.root = filteredMoves.isEmpty() ? searched : null;
+    this.lastReusedPlayouts = searched.getVisits();
+    this.lastPlayouts = 0;
+    if (!searched.isTerminal()) {
+      // Every thread gets its own board, made here since the model is not safe to read from
+      // several threads.
+      List<Playouts> tasks = new ArrayList<>(this.searchers.size());
+      for (MonteCarloSearcher searcher : this.searchers) {
+        searcher.reset(tasks.isEmpty() ? board : model.createBoardCopy());
+        tasks.add(new Playouts(searcher, searched, budget));
+      }
+      this.pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+      for (MonteCarloSearcher searcher : this.searchers) {
+        this.lastPlayouts += searcher.getPlayouts();
+      }
+    }
+    this.lastElapsedNanos = System.nanoTime() - start;
+
+    MonteCarloNode best = searched.mostVisitedChild();
+    if (best == null || best.getMove() == null) {
+      return List.of();
+    }
+    return List.of(best.getMove());
+  }
+
+  // the playouts of one thread.
+  private static final class Playouts extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final MonteCarloSearcher searcher;
+    private final MonteCarloNode root;
+    private final SearchBudget budget;
+
+    private Playouts(MonteCarloSearcher searcher, MonteCarloNode root, SearchBudget budget) {
+      this.searcher = searcher;
+      this.root = root;
+      this.budget = budget;
+    }
+
+    @Override
+    protected void compute() {
+      this.searcher.search(this.root, this.budget);
+    }
+  }
+
+  /**
+   * Stops the threads of this strategy. The strategy cannot choose moves afterwards.
+   */
+  @Override
+  public void shutdown() {
+    this.pool.shutdown();
+  }
+
+  /**
+   * Forgets the searched tree, for example when a new game starts.
+   */
+  public void clearTree() {
+    this.root = null;
+  }
+
+  /**
+   * Returns the number of threads this strategy searches with.
+   *
+   * @return the parallelism of this strategy.
+   */
+  public int getParallelism() {
+    return this.searchers.size();
+  }
+
+  /**
+   * Returns the number of playouts all threads played for the last move chosen.
+   *
+   * @return the number of playouts of the last search.
+   */
+  public long getLastPlayouts() {
+    return this.lastPlayouts;
+  }
+
+  /**
+   * Returns the number of playouts through the root position that were played while searching
+   * earlier moves and kept for the last move chosen.
+   *
+   * @return the number of playouts reused by the last search.
+   */
+  public int getLastReusedPlayouts() {
+    return this.lastReusedPlayouts;
+  }
+
+  /**
+   * Returns how many playouts per second all threads together played in the last search.
+   *
+   * @return the playouts per second of the last search.
+   */
+  public double getLastPlayoutsPerSecond() {
+    if (this.lastElapsedNanos == 0) {
+      return 0;
+    }
+    return this.lastPlayouts * 1e9 / this.lastElapsedNanos;
+  }
+}
@@ -0,0 +1,263 @@
+package cs3500.reversi.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.ROModel;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * This class represents a strategy that runs the same iterative deepening alpha-beta search as
+ * AlphaBetaStrat, but splits the moves at the root of every depth across the threads of a
+ * ForkJoinPool. The best move of the previous depth is searched first on the calling thread to get
+ * a good bound, then the other moves are searched at once, each on its own copy of the board.
+ * The best score found so far is shared as an atomic bound, so a move searched after a good one
+ * has been found only has to prove that it is worse, which prunes harder. All the threads share
+ * the transposition table and the thinking budget of the move.
+ */
+public class ParallelSearchStrat implements Strategy {
+  private final TokenColor tokenColor;
+  private final long timeBudgetMillis;
+  private final long nodeLimit;
+  private final int depthLimit;
+  private final TranspositionTable table;
+  private final ForkJoinPool pool;
+
+  private int lastDepth;
+  private long lastNodes;
+  private long lastElapsedNanos;
+
+  /**
+   * Constructs a parallel search strategy that thinks for one second per move on the given number
+   * of threads.
+   *
+   * @param tokenColor  the color of the player using this strategy.
+   * @param parallelism the number of threads to search with.
+   * @throws IllegalArgumentException if the parallelism is not positive.
+   */
+  public ParallelSearchStrat(TokenColor tokenColor, int parallelism) {
+    this(tokenColor, parallelism, 1000, Long.MAX_VALUE, Integer.MAX_VALUE,
+            new TranspositionTable(64));
+  }
+
+  /**
+   * Constructs a parallel search strategy with the given thinking budget and transposition table.
+   * The search stops at whichever limit is reached first.
+   *
+   * @param tokenColor       the color of the player using this strategy.
+   * @param parallelism      the number of threads to search with.
+   * @param timeBudgetMillis the wall-clock time the strategy may think for per move.
+   * @param nodeLimit        the number of positions all threads together may search per move.
+   * @param depthLimit       the deepest depth to search to.
+   * @param table            the transposition table to store searched positions in.
+   * @throws IllegalArgumentException if the parallelism, time budget, node limit or depth limit
+   *                                  is not positive, or the table is null.
+   */
+  public ParallelSearchStrat(TokenColor tokenColor, int parallelism, long timeBudgetMillis,
+                             long nodeLimit, int depthLimit, TranspositionTable table) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("Parallelism must be positive");
+    }
+    if (timeBudgetMillis <= 0 || nodeLimit <= 0 || depthLimit <= 0) {
+      throw new IllegalArgumentException("Time budget, node limit and depth limit must be "
+              + "positive");
+    }
+    if (table == null) {
+      throw new IllegalArgumentException("Transposition table cannot be null");
+    }
+    this.tokenColor = tokenColor;
+    this.timeBudgetMillis = timeBudgetMillis;
+    this.nodeLimit = nodeLimit;
+    this.depthLimit = depthLimit;
+    this.table = table;
+    this.pool = new ForkJoinPool(parallelism);
+  }
+
+  @Override
+  public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
+    long start = System.nanoTime();
+    SearchBudget budget = new SearchBudget(start + this.timeBudgetMillis * 1_000_000L,
+            this.nodeLimit);
+    this.lastDepth = 0;
+
+    IBoard board = model.createBoardCopy();
+    List<ICell> rootMoves = new ArrayList<>(filteredMoves.isEmpty()
+            ? board.validMovesLeft(tokenColor) : filteredMoves);
+    if (rootMoves.isEmpty()) {
+      this.recordStats(start, budget);
+      return List.of();
+    }
+
+    int maxDepth = Math.min(this.depthLimit, AlphaBetaSearcher.countEmptyCells(board));
+    ICell bestMove = rootMoves.get(0);
+    for (int depth = 1; depth <= maxDepth; depth++) {
+      ICell candidate = this.searchRoot(model, board, rootMoves, depth, budget);
+      if (budget.isStopped()) {
+        break;
+      }
+      bestMove = candidate;
+      this.lastDepth = depth;
+      // The first depth is always completed so that there is a searched move to play.
+      budget.enforce();
+      // Search the best move of this depth first at the next depth, for a good shared bound.
+      rootMoves.remove(bestMove);
+      rootMoves.add(0, bestMove);
+    }
+    this.recordStats(start, budget);
+    return List.of(bestMove);
+  }
+
+  // searches every root move to the given depth and returns the best one.
+  private ICell searchRoot(ROModel model, IBoard board, List<ICell> rootMoves, int depth,
+                           SearchBudget budget) {
+    AlphaBetaSearcher first = new AlphaBetaSearcher(this.table);
+    first.begin(budget, depth);
+    int firstScore = first.searchMove(board, rootMoves.get(0), tokenColor, depth,
+            -Integer.MAX_VALUE, Integer.MAX_VALUE);
+    if (budget.isStopped() || rootMoves.size() == 1) {
+      return rootMoves.get(0);
+    }
+
+    // Every other move gets its own board, made here since the model is not safe to read from
+    // several threads.
+    List<IBoard> boards = new ArrayList<>(rootMoves.size());
+    boards.add(board);
+    for (int i = 1; i < rootMoves.size(); i++) {
+      boards.add(model.createBoardCopy());
+    }
+    int[] scores = new int[rootMoves.size()];
+    boolean[] exact = new boolean[rootMoves.size()];
+    scores[0] = firstScore;
+    exact[0] = true;
+    AtomicInteger alpha = new AtomicInteger(firstScore);
+    this.pool.invoke(new RootSearch(rootMoves, boards, 1, rootMoves.size(), depth, budget,
+            alpha, scores, exact));
+
+    // Only moves that beat the bound they were searched with have an exact score, the others
+    // are only known to be no better than the best move at the time.
+    int best = 0;
+    for (int i = 1; i < rootMoves.size(); i++) {
+      if (exact[i] && scores[i] > scores[best]) {
+        best = i;
+      }
+    }
+    return rootMoves.get(best);
+  }
+
+  /**
+   * Searches a range of the root moves, splitting it in half until there is one move left.
+   */
+  private final class RootSearch extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final List<ICell> moves;
+    private final List<IBoard> boards;
+    private final int from;
+    private final int to;
+    private final int depth;
+    private final SearchBudget budget;
+    private final AtomicInteger alpha;
+    private final int[] scores;
+    private final boolean[] exact;
+
+    private RootSearch(List<ICell> moves, List<IBoard> boards, int from, int to, int depth,
+                       SearchBudget budget, AtomicInteger alpha, int[] scores, boolean[] exact) {
+      this.moves = moves;
+      this.boards = boards;
+      this.from = from;
+      this.to = to;
+      this.depth = depth;
+      this.budget = budget;
+      this.alpha = alpha;
+      this.scores = scores;
+      this.exact = exact;
+    }
+
+    @Override
+    protected void compute() {
+      if (this.to - this.from > 1) {
+        int middle = (this.from + this.to) >>> 1;
+        invokeAll(new RootSearch(moves, boards, from, middle, depth, budget, alpha, scores, exact),
+                new RootSearch(moves, boards, middle, to, depth, budget, alpha, scores, exact));
+        return;
+      }
+      AlphaBetaSearcher searcher = new AlphaBetaSearcher(table);
+      searcher.begin(this.budget, this.depth);
+      int bound = this.alpha.get();
+      int score = searcher.searchMove(this.boards.get(this.from), this.moves.get(this.from),
+              tokenColor, this.depth, bound, Integer.MAX_VALUE);
+      if (score > bound) {
+        this.alpha.accumulateAndGet(score, Math::max);
+        this.exact[this.from] = true;
+      }
+      this.scores[this.from] = score;
+    }
+  }
+
+  // records the statistics of the last search.
+  private void recordStats(long start, SearchBudget budget) {
+    this.lastNodes = budget.getNodes();
+    this.lastElapsedNanos = System.nanoTime() - start;
+  }
+
+  /**
+   * Stops the threads of this strategy. The strategy cannot choose moves afterwards.
+   */
+  @Override
+  public void shutdown() {
+    this.pool.shutdown();
+  }
+
+  /**
+   * Returns the number of threads this strategy searches with.
+   *
+   * @return the parallelism of this strategy.
+   */
+  public int getParallelism() {
+    return this.pool.getParallelism();
+  }
+
+  /**
+   * Returns the transposition table this strategy stores searched positions in.
+   *
+   * @return the transposition table of this strategy.
+   */
+  public TranspositionTable getTranspositionTable() {
+    return this.table;
+  }
+
+  /**
+   * Returns the depth of the deepest search completed for the last move chosen.
+   *
+   * @return the depth reached by the last search.
+   */
+  public int getLastDepth() {
+    return this.lastDepth;
+  }
+
+  /**
+   * Returns the number of positions searched by all threads for the last move chosen.
+   *
+   * @return the number of nodes searched by the last search.
+   */
+  public long getLastNodes() {
+    return this.lastNodes;
+  }
+
+  /**
+   * Returns how many positions per second all threads together went through in the last search.
+   *
+   * @return the nodes per second of the last search.
+   */
+  public double getLastNodesPerSecond() {
+    if (this.lastElapsedNanos == 0) {
+      return 0;
+    }
+    return this.lastNodes * 1e9 / this.lastElapsedNanos;
+  }
+}
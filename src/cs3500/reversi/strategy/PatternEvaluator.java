@@ -0,0 +1,229 @@
+package cs3500.reversi.strategy;
+
+import java.util.Arrays;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.MoveUndo;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * Scores boards with PatternWeights: the sum of the weights of every pattern of the board, plus
+ * the mobility and frontier terms. The evaluator follows a board through a search rather than
+ * reading it again at every node. After reset reads the whole board, apply and revert take the
+ * record of a move made or undone on the board and change only the indices of the patterns with a
+ * flipped or placed cell, the running sum of their weights and the frontier counts. Mobility is
+ * counted when a board is scored, and only if its weight is not zero.
+ *
+ * <p>An evaluator belongs to one search on one board at a time: a search that splits over threads
+ * needs one evaluator per thread.
+ */
+public final class PatternEvaluator {
+  private final PatternWeights preferred;
+
+  private BoardGeometry geometry;
+  private PatternWeights weights;
+  private PatternSet patterns;
+  private int[] digits;
+  private int[] indices;
+  private int[] emptyNeighbors;
+  // the tokens of each color next to an empty cell, by digit, and the empty cells next to one
+  private final int[] frontier;
+  private int patternScore;
+
+  /**
+   * Constructs an evaluator with the given weights. Boards of another shape or size are scored
+   * with the default weights of their board.
+   *
+   * @param weights the weights to score boards of their geometry with, or null to score every
+   *                board with its default weights.
+   */
+  public PatternEvaluator(PatternWeights weights) {
+    this.preferred = weights;
+    this.frontier = new int[3];
+  }
+
+  /**
+   * Reads the whole board, which the evaluator then follows through apply and revert.
+   *
+   * @param board the board to follow.
+   * @throws IllegalArgumentException if the board is null.
+   */
+  public void reset(IBoard board) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null");
+    }
+    BoardGeometry geometry = BoardGeometry.of(board);
+    if (geometry != this.geometry) {
+      this.geometry = geometry;
+      this.weights = (this.preferred != null && this.preferred.getGeometry() == geometry)
+              ? this.preferred : PatternWeights.defaults(geometry);
+      this.patterns = this.weights.getPatterns();
+      this.indices = new int[this.patterns.getPatternCount()];
+      this.emptyNeighbors = new int[geometry.getCellCount()];
+    }
+    this.digits = this.patterns.digitsOf(board);
+    this.patternScore = 0;
+    for (int pattern = 0; pattern < this.indices.length; pattern++) {
+      this.indices[pattern] = PatternSet.indexOf(this.patterns.cellsOf(pattern), this.digits);
+      this.patternScore += this.weights.tables[this.patterns.getFamily(pattern)]
+              [this.indices[pattern]];
+    }
+    Arrays.fill(this.frontier, 0);
+    for (int cell = 0; cell < this.digits.length; cell++) {
+      int empty = 0;
+      for (int neighbor : this.patterns.neighbors[cell]) {
+        if (this.digits[neighbor] == 0) {
+          empty++;
+        }
+      }
+      this.emptyNeighbors[cell] = empty;
+      if (empty > 0) {
+        this.frontier[this.digits[cell]]++;
+      }
+    }
+  }
+
+  /**
+   * Follows a move just made on the board.
+   *
+   * @param move the record of the move.
+   * @throws IllegalStateException if the evaluator has not been reset.
+   */
+  public void apply(MoveUndo move) {
+    if (this.digits == null) {
+      throw new IllegalStateException("Evaluator has not read a board");
+    }
+    int digit = (move.getColor() == TokenColor.BLACK) ? 1 : 2;
+    int placed = this.geometry.indexOf(move.getPlacedCell());
+    this.change(placed, digit);
+    for (int neighbor : this.patterns.neighbors[placed]) {
+      this.emptyNeighbors[neighbor]--;
+      if (this.emptyNeighbors[neighbor] == 0) {
+        this.frontier[this.digits[neighbor]]--;
+      }
+    }
+    if (this.emptyNeighbors[placed] > 0) {
+      this.frontier[digit]++;
+    }
+    for (int i = 0; i < move.getFlipCount(); i++) {
+      this.flip(this.geometry.indexOf(move.getFlippedCell(i)), digit);
+    }
+  }
+
+  /**
+   * Follows the undoing of a move on the board, the last move applied and not yet reverted.
+   *
+   * @param move the record of the move.
+   * @throws IllegalStateException if the evaluator has not been reset.
+   */
+  public void revert(MoveUndo move) {
+    if (this.digits == null) {
+      throw new IllegalStateException("Evaluator has not read a board");
+    }
+    int digit = (move.getColor() == TokenColor.BLACK) ? 1 : 2;
+    for (int i = 0; i < move.getFlipCount(); i++) {
+      this.flip(this.geometry.indexOf(move.getFlippedCell(i)), 3 - digit);
+    }
+    int placed = this.geometry.indexOf(move.getPlacedCell());
+    if (this.emptyNeighbors[placed] > 0) {
+      this.frontier[digit]--;
+    }
+    for (int neighbor : this.patterns.neighbors[placed]) {
+      if (this.emptyNeighbors[neighbor] == 0) {
+        this.frontier[this.digits[neighbor]]++;
+      }
+      this.emptyNeighbors[neighbor]++;
+    }
+    this.change(placed, 0);
+  }
+
+  // turns the token on the cell over to the given digit.
+  private void flip(int cell, int digit) {
+    if (this.emptyNeighbors[cell] > 0) {
+      this.frontier[this.digits[cell]]--;
+      this.frontier[digit]++;
+    }
+    this.change(cell, digit);
+  }
+
+  // sets the digit of the cell, updating the patterns it is in and their weights.
+  private void change(int cell, int digit) {
+    int delta = digit - this.digits[cell];
+    this.digits[cell] = digit;
+    int[] cellPatterns = this.patterns.cellPatterns[cell];
+    int[] cellPowers = this.patterns.cellPowers[cell];
+    for (int i = 0; i < cellPatterns.length; i++) {
+      int pattern = cellPatterns[i];
+      int[] table = this.weights.tables[this.patterns.getFamily(pattern)];
+      int old = this.indices[pattern];
+      int index = old + delta * cellPowers[i];
+      this.indices[pattern] = index;
+      this.patternScore += table[index] - table[old];
+    }
+  }
+
+  /**
+   * Scores the board the evaluator follows for the given color, in 1/UNITS_PER_DISC of a token.
+   *
+   * @param board the board the evaluator follows, to count the moves of each color on.
+   * @param color the color to score the board for.
+   * @return the score of the board for the color.
+   * @throws IllegalStateException if the evaluator has not been reset.
+   */
+  public int evaluate(IBoard board, TokenColor color) {
+    if (this.digits == null) {
+      throw new IllegalStateException("Evaluator has not read a board");
+    }
+    int score = this.patternScore
+            + this.weights.getFrontierWeight() * (this.frontier[1] - this.frontier[2]);
+    if (this.weights.getMobilityWeight() != 0) {
+      score += this.weights.getMobilityWeight() * (board.validMovesLeft(TokenColor.BLACK).size()
+              - board.validMovesLeft(TokenColor.WHITE).size());
+    }
+    return (color == TokenColor.BLACK) ? score : -score;
+  }
+
+  /**
+   * Returns the index of a pattern of the board the evaluator follows.
+   *
+   * @param pattern the number of the pattern.
+   * @return the index of the pattern.
+   * @throws IllegalStateException     if the evaluator has not been reset.
+   * @throws IndexOutOfBoundsException if there is no such pattern.
+   */
+  public int getPatternIndex(int pattern) {
+    if (this.digits == null) {
+      throw new IllegalStateException("Evaluator has not read a board");
+    }
+    return this.indices[pattern];
+  }
+
+  /**
+   * Returns the number of tokens of the given color next to an empty cell, on the board the
+   * evaluator follows.
+   *
+   * @param color the color to count.
+   * @return the number of frontier tokens of the color.
+   * @throws IllegalStateException if the evaluator has not been reset.
+   */
+  public int getFrontier(TokenColor color) {
+    if (this.digits == null) {
+      throw new IllegalStateException("Evaluator has not read a board");
+    }
+    return this.frontier[(color == TokenColor.BLACK) ? 1 : 2];
+  }
+
+  /**
+   * Returns the weights the board the evaluator follows is scored with.
+   *
+   * @return the weights in use.
+   * @throws IllegalStateException if the evaluator has not been reset.
+   */
+  public PatternWeights getWeights() {
+    if (this.weights == null) {
+      throw new IllegalStateException("Evaluator has not read a board");
+    }
+    return this.weights;
+  }
+}
@@ -0,0 +1,333 @@
+package cs3500.reversi.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.BoardSymmetry;
+import cs3500.reversi.model.HexagonCell;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * The patterns a PatternEvaluator reads off a board of one shape and size: short lines and regions
+ * of cells whose contents, read as a number in base 3, index a table of weights. Patterns come in
+ * families that share one table. A square board has the edge, the 3x3 corner region and the
+ * diagonal from a corner; a hexagonal board has the side between two vertices, the region within
+ * two cells of a vertex and the axis from a vertex through the center. Every family is one base
+ * pattern and all its images under the symmetries of the board, the same cells in another order
+ * included, so a position and its mirror images always get the same score. Lines are cut at
+ * MAX_LENGTH cells, which bounds a table at 3^10 weights; the image read from the other end covers
+ * the rest of a longer line.
+ *
+ * <p>The cell of index j of a pattern counts 3^j times its digit: 0 for an empty cell, 1 for a
+ * black token and 2 for a white one. The tables are worked out once per shape and size and shared.
+ */
+public final class PatternSet {
+  /**
+   * The most cells a pattern has.
+   */
+  public static final int MAX_LENGTH = 10;
+
+  private static final Map<BoardGeometry, PatternSet> SETS = new ConcurrentHashMap<>();
+
+  private final BoardGeometry geometry;
+  private final String[] familyNames;
+  private final int[] familyLengths;
+  // the family and the cell indices of every pattern
+  private final int[] patternFamilies;
+  private final int[][] patternCells;
+  // the patterns every cell is in and the power of 3 it counts for in each
+  final int[][] cellPatterns;
+  final int[][] cellPowers;
+  // the cell indices of the neighbors of every cell
+  final int[][] neighbors;
+
+  private PatternSet(BoardGeometry geometry, List<String> names, List<int[]> bases) {
+    this.geometry = geometry;
+    BoardSymmetry symmetry = BoardSymmetry.of(geometry);
+    List<String> familyNames = new ArrayList<>();
+    List<Integer> familyLengths = new ArrayList<>();
+    List<Integer> patternFamilies = new ArrayList<>();
+    List<int[]> patternCells = new ArrayList<>();
+    for (int i = 0; i < bases.size(); i++) {
+      int[] base = bases.get(i);
+      if (base.length == 0) {
+        continue;
+      }
+      // The images are told apart by their cells in order, so a line read from either end is two
+      // patterns.
+      Set<List<Integer>> images = new LinkedHashSet<>();
+      for (int t = 0; t < symmetry.getTransformCount(); t++) {
+        List<Integer> image = new ArrayList<>(base.length);
+        for (int cell : base) {
+          image.add(symmetry.apply(t, cell));
+        }
+        images.add(image);
+      }
+      int family = familyNames.size();
+      familyNames.add(names.get(i));
+      familyLengths.add(base.length);
+      for (List<Integer> image : images) {
+        patternFamilies.add(family);
+        patternCells.add(image.stream().mapToInt(Integer::intValue).toArray());
+      }
+    }
+    this.familyNames = familyNames.toArray(new String[0]);
+    this.familyLengths = familyLengths.stream().mapToInt(Integer::intValue).toArray();
+    this.patternFamilies = patternFamilies.stream().mapToInt(Integer::intValue).toArray();
+    this.patternCells = patternCells.toArray(new int[0][]);
+
+    int cells = geometry.getCellCount();
+    int[] counts = new int[cells];
+    for (int[] pattern : this.patternCells) {
+      for (int cell : pattern) {
+        counts[cell]++;
+      }
+    }
+    this.cellPatterns = new int[cells][];
+    this.cellPowers = new int[cells][];
+    for (int cell = 0; cell < cells; cell++) {
+      this.cellPatterns[cell] = new int[counts[cell]];
+      this.cellPowers[cell] = new int[counts[cell]];
+      counts[cell] = 0;
+    }
+    for (int pattern = 0; pattern < this.patternCells.length; pattern++) {
+      int power = 1;
+      for (int cell : this.patternCells[pattern]) {
+        this.cellPatterns[cell][counts[cell]] = pattern;
+        this.cellPowers[cell][counts[cell]] = power;
+        counts[cell]++;
+        power *= 3;
+      }
+    }
+    this.neighbors = neighborsOf(geometry);
+  }
+
+  /**
+   * Returns the patterns of the given board.
+   *
+   * @param geometry the geometry of the board.
+   * @return the patterns of the board.
+   * @throws IllegalArgumentException if the geometry is null.
+   */
+  public static PatternSet of(BoardGeometry geometry) {
+    if (geometry == null) {
+      throw new IllegalArgumentException("Geometry cannot be null");
+    }
+    return SETS.computeIfAbsent(geometry, PatternSet::make);
+  }
+
+  private static PatternSet make(BoardGeometry geometry) {
+    if (geometry.isHexagon()) {
+      int outer = geometry.getSideLength() - 1;
+      // The side from the vertex (outer, -outer, 0) to the next vertex, and the axis from it
+      // through the center to the opposite vertex.
+      int[] side = new int[Math.min(outer + 1, MAX_LENGTH)];
+      for (int k = 0; k < side.length; k++) {
+        side[k] = geometry.indexOf(new HexagonCell(outer - k, -outer, k));
+      }
+      int[] axis = new int[Math.min(2 * outer + 1, MAX_LENGTH)];
+      for (int k = 0; k < axis.length; k++) {
+        axis[k] = geometry.indexOf(new HexagonCell(outer - k, k - outer, 0));
+      }
+      // The cells within two steps of the vertex, nearest first.
+      List<Integer> region = new ArrayList<>();
+      for (int distance = 0; distance <= 2; distance++) {
+        for (int i = 0; i < geometry.getCellCount(); i++) {
+          HexagonCell cell = (HexagonCell) geometry.cellAt(i);
+          int away = Math.max(Math.abs(cell.q() - outer),
+                  Math.max(Math.abs(cell.r() + outer), Math.abs(cell.s())));
+          if (away == distance) {
+            region.add(i);
+          }
+        }
+      }
+      return new PatternSet(geometry, List.of("side", "vertex", "axis"),
+              List.of(side, region.stream().mapToInt(Integer::intValue).toArray(), axis));
+    }
+
+    int side = geometry.getSideLength();
+    // Square cells are indexed row by row from the top left corner.
+    int[] edge = new int[Math.min(side, MAX_LENGTH)];
+    int[] diagonal = new int[Math.min(side, MAX_LENGTH)];
+    for (int k = 0; k < edge.length; k++) {
+      edge[k] = k;
+      diagonal[k] = k * side + k;
+    }
+    int corner = Math.min(side, 3);
+    int[] region = new int[corner * corner];
+    for (int k = 0; k < region.length; k++) {
+      region[k] = (k / corner) * side + k % corner;
+    }
+    return new PatternSet(geometry, List.of("edge", "corner", "diagonal"),
+            List.of(edge, region, diagonal));
+  }
+
+  // the cell indices of the cells next to every cell of the board.
+  private static int[][] neighborsOf(BoardGeometry geometry) {
+    int cells = geometry.getCellCount();
+    int[][] neighbors = new int[cells][];
+    int side = geometry.getSideLength();
+    int[][] directions = geometry.isHexagon()
+            ? new int[][]{{1, -1, 0}, {1, 0, -1}, {0, 1, -1}, {-1, 1, 0}, {-1, 0, 1}, {0, -1, 1}}
+            : new int[][]{{-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}};
+    for (int i = 0; i < cells; i++) {
+      int[] found = new int[directions.length];
+      int count = 0;
+      for (int[] direction : directions) {
+        int index;
+        if (geometry.isHexagon()) {
+          HexagonCell cell = (HexagonCell) geometry.cellAt(i);
+          index = geometry.indexOf(new HexagonCell(cell.q() + direction[0],
+                  cell.r() + direction[1], cell.s() + direction[2]));
+        } else {
+          int row = i / side + direction[0];
+          int col = i % side + direction[1];
+          index = (row < 0 || row >= side || col < 0 || col >= side) ? -1 : row * side + col;
+        }
+        if (index >= 0) {
+          found[count++] = index;
+        }
+      }
+      neighbors[i] = Arrays.copyOf(found, count);
+    }
+    return neighbors;
+  }
+
+  /**
+   * Returns the geometry of the board of these patterns.
+   *
+   * @return the geometry of the board.
+   */
+  public BoardGeometry getGeometry() {
+    return this.geometry;
+  }
+
+  /**
+   * Returns the number of families of patterns, which is the number of weight tables.
+   *
+   * @return the number of families.
+   */
+  public int getFamilyCount() {
+    return this.familyNames.length;
+  }
+
+  /**
+   * Returns the name of a family of patterns.
+   *
+   * @param family the number of the family.
+   * @return the name of the family.
+   * @throws IndexOutOfBoundsException if there is no such family.
+   */
+  public String getFamilyName(int family) {
+    return this.familyNames[family];
+  }
+
+  /**
+   * Returns the number of cells of the patterns of a family.
+   *
+   * @param family the number of the family.
+   * @return the number of cells of its patterns.
+   * @throws IndexOutOfBoundsException if there is no such family.
+   */
+  public int getFamilyLength(int family) {
+    return this.familyLengths[family];
+  }
+
+  /**
+   * Returns the number of weights in the table of a family, 3 to the number of its cells.
+   *
+   * @param family the number of the family.
+   * @return the size of its table.
+   * @throws IndexOutOfBoundsException if there is no such family.
+   */
+  public int getTableSize(int family) {
+    int size = 1;
+    for (int i = 0; i < this.familyLengths[family]; i++) {
+      size *= 3;
+    }
+    return size;
+  }
+
+  /**
+   * Returns the number of patterns of the board, of all families.
+   *
+   * @return the number of patterns.
+   */
+  public int getPatternCount() {
+    return this.patternCells.length;
+  }
+
+  /**
+   * Returns the family of a pattern.
+   *
+   * @param pattern the number of the pattern.
+   * @return the number of its family.
+   * @throws IndexOutOfBoundsException if there is no such pattern.
+   */
+  public int getFamily(int pattern) {
+    return this.patternFamilies[pattern];
+  }
+
+  /**
+   * Returns the cell indices of a pattern, the cell that counts 3^j at position j.
+   *
+   * @param pattern the number of the pattern.
+   * @return a copy of the cell indices of the pattern.
+   * @throws IndexOutOfBoundsException if there is no such pattern.
+   */
+  public int[] getCells(int pattern) {
+    return this.patternCells[pattern].clone();
+  }
+
+  /**
+   * Reads the index of every pattern off the given board into the given array.
+   *
+   * @param board   the board, of the geometry of these patterns.
+   * @param indices the array to write the index of pattern i to at i, at least as long as the
+   *                number of patterns.
+   * @throws IllegalArgumentException if an argument is null or the array is too short.
+   */
+  public void indicesOf(IBoard board, int[] indices) {
+    if (board == null || indices == null) {
+      throw new IllegalArgumentException("Board and indices cannot be null");
+    }
+    if (indices.length < this.patternCells.length) {
+      throw new IllegalArgumentException("Indices array is too short");
+    }
+    int[] digits = this.digitsOf(board);
+    for (int pattern = 0; pattern < this.patternCells.length; pattern++) {
+      indices[pattern] = indexOf(this.patternCells[pattern], digits);
+    }
+  }
+
+  // the digit of every cell of the board.
+  int[] digitsOf(IBoard board) {
+    int[] digits = new int[this.geometry.getCellCount()];
+    for (int i = 0; i < digits.length; i++) {
+      digits[i] = board.getCellOccupant(this.geometry.cellAt(i))
+              .map(color -> color == TokenColor.BLACK ? 1 : 2).orElse(0);
+    }
+    return digits;
+  }
+
+  // the index of the pattern with the given cells on a board with the given digits.
+  static int indexOf(int[] cells, int[] digits) {
+    int index = 0;
+    for (int j = cells.length - 1; j >= 0; j--) {
+      index = 3 * index + digits[cells[j]];
+    }
+    return index;
+  }
+
+  // the cells of the given pattern without a copy.
+  int[] cellsOf(int pattern) {
+    return this.patternCells[pattern];
+  }
+}
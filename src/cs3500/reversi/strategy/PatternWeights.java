@@ -0,0 +1,289 @@
+package cs3500.reversi.strategy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cs3500.reversi.model.BoardGeometry;
+
+/**
+ * The weights of a PatternEvaluator for one board: a table per family of patterns, indexed by the
+ * base 3 index of a pattern, and a weight per move of mobility and per token on the frontier. All
+ * weights are in 1/UNITS_PER_DISC of a token and score the board for black, so a board scores the
+ * final token difference it predicts for black, times UNITS_PER_DISC. Weights never change and
+ * are safe to share between threads.
+ *
+ * <p>A weights file is a header, the mobility and frontier weights, then the table of every family
+ * in order, each after the number of cells of its patterns. A file only loads for the board it was
+ * made for, with the same patterns.
+ */
+public final class PatternWeights {
+  /**
+   * The number of units of an evaluation that make up a token.
+   */
+  public static final int UNITS_PER_DISC = 16;
+
+  static final int MAGIC = 0x52565057; // "RVPW"
+  static final int VERSION = 1;
+  static final int HEXAGON = 0;
+  static final int SQUARE = 1;
+
+  private static final Map<BoardGeometry, PatternWeights> DEFAULTS = new ConcurrentHashMap<>();
+
+  private final PatternSet patterns;
+  final int[][] tables;
+  private final int mobility;
+  private final int frontier;
+
+  /**
+   * Constructs the weights of the given board.
+   *
+   * @param geometry the geometry of the board.
+   * @param tables   the table of every family of patterns of the board, which is copied.
+   * @param mobility the weight of every move black has more than white.
+   * @param frontier the weight of every token black has more than white next to an empty cell.
+   * @throws IllegalArgumentException if the geometry or tables are null, or there is not a table
+   *                                  of the right size for every family of patterns.
+   */
+  public PatternWeights(BoardGeometry geometry, int[][] tables, int mobility, int frontier) {
+    if (geometry == null || tables == null) {
+      throw new IllegalArgumentException("Geometry and tables cannot be null");
+    }
+    this.patterns = PatternSet.of(geometry);
+    if (tables.length != this.patterns.getFamilyCount()) {
+      throw new IllegalArgumentException("Expected " + this.patterns.getFamilyCount()
+              + " tables but got " + tables.length);
+    }
+    this.tables = new int[tables.length][];
+    for (int family = 0; family < tables.length; family++) {
+      if (tables[family] == null || tables[family].length != this.patterns.getTableSize(family)) {
+        throw new IllegalArgumentException("Table " + family + " must have "
+                + this.patterns.getTableSize(family) + " weights");
+      }
+      this.tables[family] = tables[family].clone();
+    }
+    this.mobility = mobility;
+    this.frontier = frontier;
+  }
+
+  /**
+   * Returns the default weights of the given board, which know only what the simple strategies
+   * do: corners are worth taking, the cells next to them are not, and having more moves and fewer
+   * tokens next to empty cells is good. They are a starting point until weights are tuned.
+   *
+   * @param geometry the geometry of the board.
+   * @return the default weights of the board.
+   * @throws IllegalArgumentException if the geometry is null.
+   */
+  public static PatternWeights defaults(BoardGeometry geometry) {
+    if (geometry == null) {
+      throw new IllegalArgumentException("Geometry cannot be null");
+    }
+    return DEFAULTS.computeIfAbsent(geometry, PatternWeights::makeDefaults);
+  }
+
+  private static PatternWeights makeDefaults(BoardGeometry geometry) {
+    PatternSet patterns = PatternSet.of(geometry);
+    // A cell is in several patterns, so each of them gets its share of the value of the cell.
+    int[] coverage = new int[geometry.getCellCount()];
+    for (int pattern = 0; pattern < patterns.getPatternCount(); pattern++) {
+      for (int cell : patterns.cellsOf(pattern)) {
+        coverage[cell]++;
+      }
+    }
+    int[][] tables = new int[patterns.getFamilyCount()][];
+    for (int family = 0; family < tables.length; family++) {
+      int first = 0;
+      while (patterns.getFamily(first) != family) {
+        first++;
+      }
+      // Every pattern of a family is an image of the first, and its cells have the same values.
+      int[] cells = patterns.cellsOf(first);
+      int[] values = new int[cells.length];
+      for (int j = 0; j < cells.length; j++) {
+        int value = 0;
+        if (geometry.isCorner(geometry.cellAt(cells[j]))) {
+          value = 6 * UNITS_PER_DISC;
+        } else if (geometry.isXSquare(geometry.cellAt(cells[j]))) {
+          value = -3 * UNITS_PER_DISC;
+        } else if (geometry.isEdge(geometry.cellAt(cells[j]))) {
+          value = -UNITS_PER_DISC;
+        }
+        values[j] = Math.round((float) value / coverage[cells[j]]);
+      }
+      tables[family] = new int[patterns.getTableSize(family)];
+      for (int index = 0; index < tables[family].length; index++) {
+        int rest = index;
+        for (int j = 0; j < cells.length; j++) {
+          int digit = rest % 3;
+          rest /= 3;
+          tables[family][index] += (digit == 1) ? values[j] : (digit == 2) ? -values[j] : 0;
+        }
+      }
+    }
+    return new PatternWeights(geometry, tables, UNITS_PER_DISC, -UNITS_PER_DISC / 2);
+  }
+
+  /**
+   * Reads the weights file at the given path.
+   *
+   * @param path the path of the weights file.
+   * @return the weights.
+   * @throws IllegalArgumentException if the path is null.
+   * @throws IOException              if the file could not be read or is not a valid weights
+   *                                  file.
+   */
+  public static PatternWeights load(Path path) throws IOException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null");
+    }
+    try (InputStream in = Files.newInputStream(path)) {
+      return read(in);
+    }
+  }
+
+  /**
+   * Reads weights written by write from the given stream, which is not closed.
+   *
+   * @param in the stream to read from.
+   * @return the weights.
+   * @throws IllegalArgumentException if the stream is null.
+   * @throws IOException              if the stream could not be read or does not hold valid
+   *                                  weights.
+   */
+  public static PatternWeights read(InputStream in) throws IOException {
+    if (in == null) {
+      throw new IllegalArgumentException("Stream cannot be null");
+    }
+    DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+    try {
+      if (data.readInt() != MAGIC) {
+        throw new IOException("Not a weights file");
+      }
+      int version = data.readInt();
+      if (version != VERSION) {
+        throw new IOException("Unknown weights version " + version);
+      }
+      int shape = data.readInt();
+      int side = data.readInt();
+      BoardGeometry geometry;
+      try {
+        if (shape == HEXAGON) {
+          geometry = BoardGeometry.hexagon(side);
+        } else if (shape == SQUARE) {
+          geometry = BoardGeometry.square(side);
+        } else {
+          throw new IOException("Unknown board shape " + shape);
+        }
+      } catch (IllegalArgumentException ex) {
+        throw new IOException("Invalid board size " + side, ex);
+      }
+      PatternSet patterns = PatternSet.of(geometry);
+      int families = data.readInt();
+      if (families != patterns.getFamilyCount()) {
+        throw new IOException("Weights do not match the patterns of the board");
+      }
+      int mobility = data.readInt();
+      int frontier = data.readInt();
+      int[][] tables = new int[families][];
+      for (int family = 0; family < families; family++) {
+        if (data.readInt() != patterns.getFamilyLength(family)) {
+          throw new IOException("Weights do not match the patterns of the board");
+        }
+        tables[family] = new int[patterns.getTableSize(family)];
+        for (int index = 0; index < tables[family].length; index++) {
+          tables[family][index] = data.readInt();
+        }
+      }
+      return new PatternWeights(geometry, tables, mobility, frontier);
+    } catch (EOFException ex) {
+      throw new IOException("Weights file is cut short", ex);
+    }
+  }
+
+  /**
+   * Writes the weights to the given stream, which is not closed.
+   *
+   * @param out the stream to write to.
+   * @throws IllegalArgumentException if the stream is null.
+   * @throws IOException              if the stream could not be written to.
+   */
+  public void write(OutputStream out) throws IOException {
+    if (out == null) {
+      throw new IllegalArgumentException("Stream cannot be null");
+    }
+    BoardGeometry geometry = this.patterns.getGeometry();
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeInt(geometry.isHexagon() ? HEXAGON : SQUARE);
+    data.writeInt(geometry.getSideLength());
+    data.writeInt(this.tables.length);
+    data.writeInt(this.mobility);
+    data.writeInt(this.frontier);
+    for (int family = 0; family < this.tables.length; family++) {
+      data.writeInt(this.patterns.getFamilyLength(family));
+      for (int weight : this.tables[family]) {
+        data.writeInt(weight);
+      }
+    }
+    data.flush();
+  }
+
+  /**
+   * Returns the geometry of the board of these weights.
+   *
+   * @return the geometry of the board.
+   */
+  public BoardGeometry getGeometry() {
+    return this.patterns.getGeometry();
+  }
+
+  /**
+   * Returns the patterns these weights are for.
+   *
+   * @return the patterns of the board.
+   */
+  public PatternSet getPatterns() {
+    return this.patterns;
+  }
+
+  /**
+   * Returns the weight of a pattern of the given family with the given index.
+   *
+   * @param family the number of the family.
+   * @param index  the index of the pattern.
+   * @return the weight.
+   * @throws IndexOutOfBoundsException if there is no such family or index.
+   */
+  public int getWeight(int family, int index) {
+    return this.tables[family][index];
+  }
+
+  /**
+   * Returns the weight of every move black has more than white.
+   *
+   * @return the mobility weight.
+   */
+  public int getMobilityWeight() {
+    return this.mobility;
+  }
+
+  /**
+   * Returns the weight of every token black has more than white next to an empty cell.
+   *
+   * @return the frontier weight.
+   */
+  public int getFrontierWeight() {
+    return this.frontier;
+  }
+}
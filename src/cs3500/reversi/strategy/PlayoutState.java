@@ -0,0 +1,125 @@
+package cs3500.reversi.strategy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import cs3500.reversi.model.HexagonBitboard;
+import cs3500.reversi.model.HexagonBoard;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.MoveUndo;
+import cs3500.reversi.model.SquareBitboard;
+import cs3500.reversi.model.SquareBoard;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * The scratch state one thread of a Monte Carlo search plays on: a board, a stack of undo records
+ * and a random number generator. Every descent and playout starts at the root position, makes its
+ * moves on the board and undoes them all at the end, so the board is never copied during a search
+ * and the undo records are reused from one playout to the next.
+ */
+final class PlayoutState {
+  private final SplittableRandom random;
+  private IBoard board;
+  private MoveUndo[] undoStack;
+  private int movesMade;
+
+  /**
+   * Creates a scratch state with the given random seed.
+   *
+   * @param seed the seed of the random moves of the playouts.
+   */
+  PlayoutState(long seed) {
+    this.random = new SplittableRandom(seed);
+    this.undoStack = new MoveUndo[0];
+  }
+
+  /**
+   * Sets the root position the descents and playouts start from. Map boards are copied into the
+   * bitboard of the same shape when there is one, since playouts make most of their moves there.
+   *
+   * @param root a copy of the board at the root position, which may be played on.
+   */
+  void reset(IBoard root) {
+    this.board = lightweightCopy(root);
+    this.movesMade = 0;
+  }
+
+  IBoard getBoard() {
+    return this.board;
+  }
+
+  /**
+   * Makes a move on the board, recording it so that rewind can undo it.
+   *
+   * @param move  the cell to place the token on.
+   * @param color the color of the token.
+   */
+  void makeMove(ICell move, TokenColor color) {
+    if (this.movesMade == this.undoStack.length) {
+      MoveUndo[] grown = new MoveUndo[Math.max(16, this.undoStack.length * 2)];
+      for (int i = 0; i < grown.length; i++) {
+        grown[i] = (i < this.undoStack.length) ? this.undoStack[i] : new MoveUndo();
+      }
+      this.undoStack = grown;
+    }
+    this.board.makeMove(move, color, this.undoStack[this.movesMade++]);
+  }
+
+  /**
+   * Plays random moves for both colors until neither can move, passing when only one of them
+   * cannot.
+   *
+   * @param color the color to move first.
+   */
+  void playOut(TokenColor color) {
+    boolean passed = false;
+    while (true) {
+      List<ICell> moves = this.board.validMovesLeft(color);
+      if (moves.isEmpty()) {
+        if (passed) {
+          return;
+        }
+        passed = true;
+      } else {
+        passed = false;
+        this.makeMove(moves.get(this.random.nextInt(moves.size())), color);
+      }
+      color = color.next();
+    }
+  }
+
+  /**
+   * Undoes every move made since the root position was set or last rewound to.
+   */
+  void rewind() {
+    while (this.movesMade > 0) {
+      this.board.undoMove(this.undoStack[--this.movesMade]);
+    }
+  }
+
+  /**
+   * Returns a bitboard copy of a map board, or the board itself when there is no bitboard of its
+   * shape or it already is one. Searches that make many moves on one board copy it with this.
+   *
+   * @param board the board to copy.
+   * @return a bitboard with the same position, or the given board.
+   */
+  static IBoard lightweightCopy(IBoard board) {
+    IBoard copy;
+    if (board instanceof HexagonBoard) {
+      copy = new HexagonBitboard(board.getNumRings());
+    } else if (board instanceof SquareBoard && board.getNumRings() == 4) {
+      copy = new SquareBitboard();
+    } else {
+      return board;
+    }
+    // Empty cells are set too, since a new hexagonal bitboard has no cells until they are set.
+    for (Map.Entry<ICell, Optional<TokenColor>> entry : board.getPositionsMapCopy().entrySet()) {
+      copy.newCellOwner(entry.getKey(), entry.getValue());
+    }
+    return copy;
+  }
+}
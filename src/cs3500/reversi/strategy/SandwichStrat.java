@@ -26,14 +26,27 @@ public class SandwichStrat implements Strategy {
 
   @Override
   public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
-    // Use Strat1 to get the best move. Pass the list of moves to the next strategy.
-    List<ICell> filter = (filteredMoves.isEmpty()) ? model.getValidMoves(tokenColor)
+    return this.chooseMove(new TurnContext(model), filteredMoves);
+  }
+
+  @Override
+  public List<ICell> chooseMove(TurnContext context, List<ICell> filteredMoves) {
+    // Use Strat1 to get the best move. Pass the list of moves to the next strategy, along with the
+    // context of the turn so that the moves, flips, corners and edges are only worked out once.
+    List<ICell> filter = (filteredMoves.isEmpty()) ? context.getValidMoves(tokenColor)
             : filteredMoves;
 
     for (int i = 0; i < strategyList.size(); i++) {
-      List<ICell> newFilter = strategyList.get(i).chooseMove(model, filter);
+      List<ICell> newFilter = strategyList.get(i).chooseMove(context, filter);
       filter = newFilter;
     }
     return filter;
   }
+
+  @Override
+  public void shutdown() {
+    for (Strategy strategy : this.strategyList) {
+      strategy.shutdown();
+    }
+  }
 }
@@ -0,0 +1,70 @@
+package cs3500.reversi.strategy;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The thinking budget of one move, shared by every thread searching for it. The searchers report
+ * the positions they search in batches and only look at the shared state when they do, so the
+ * threads rarely touch the same memory, and the first one to find the budget used up stops all of
+ * them.
+ */
+final class SearchBudget {
+  private final long deadline;
+  private final long nodeLimit;
+  private final AtomicLong nodes;
+  private volatile boolean enforced;
+  private volatile boolean stopped;
+
+  /**
+   * Constructs a budget that starts out not enforced, so that the first depth of the search is
+   * always completed.
+   *
+   * @param deadline  the System.nanoTime() at which the search has to stop.
+   * @param nodeLimit the number of positions all searchers may search together.
+   */
+  SearchBudget(long deadline, long nodeLimit) {
+    this.deadline = deadline;
+    this.nodeLimit = nodeLimit;
+    this.nodes = new AtomicLong();
+  }
+
+  // starts stopping the searchers once the budget is used up.
+  void enforce() {
+    this.enforced = true;
+  }
+
+  // whether the searchers have to stop once the budget is used up.
+  boolean isEnforced() {
+    return this.enforced;
+  }
+
+  // adds positions searched by one searcher to the shared count and returns the new count.
+  long addNodes(long count) {
+    return this.nodes.addAndGet(count);
+  }
+
+  // whether the given number of positions uses up the node limit.
+  boolean isOverNodeLimit(long count) {
+    return count >= this.nodeLimit;
+  }
+
+  // whether the time of the search is up.
+  boolean isPastDeadline() {
+    return System.nanoTime() >= this.deadline;
+  }
+
+  // tells every searcher to stop.
+  void stop() {
+    this.stopped = true;
+  }
+
+  // whether a searcher found the budget used up.
+  boolean isStopped() {
+    return this.stopped;
+  }
+
+  // the number of positions reported so far.
+  long getNodes() {
+    return this.nodes.get();
+  }
+}
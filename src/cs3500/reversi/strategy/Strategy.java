@@ -19,4 +19,26 @@ public interface Strategy {
    * @return  a list of moves where the first ICell is the best move for the given strategy
    */
   List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves);
+
+  /**
+   * Chooses a move like chooseMove of the model, using the legal moves, flip counts, corners,
+   * edges and board copy already worked out in the given context of the turn. Strategies that are
+   * chained with others, like in Sandwich, override this to share that work instead of repeating
+   * it. By default the context is not used.
+   * @param context the analysis of the position of this turn
+   * @param filteredMoves the list of moves to choose from
+   * @return  a list of moves where the first ICell is the best move for the given strategy
+   */
+  default List<ICell> chooseMove(TurnContext context, List<ICell> filteredMoves) {
+    return this.chooseMove(context.getModel(), filteredMoves);
+  }
+
+  /**
+   * Stops the threads of this strategy once it has no more moves to choose, such as at the end of
+   * a game. Strategies that choose on the calling thread have nothing to stop, which is the
+   * default, and strategies that let others choose stop them too.
+   */
+  default void shutdown() {
+    // Nothing to stop.
+  }
 }
\ No newline at end of file
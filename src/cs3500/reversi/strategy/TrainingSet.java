@@ -0,0 +1,165 @@
+package cs3500.reversi.strategy;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.MoveUndo;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.record.RecordedGame;
+
+/**
+ * Positions of one board labelled with the margin black won the game by, for a WeightTuner to fit
+ * PatternWeights to. A position is kept as what the evaluation reads off it, not as a board: the
+ * index of every pattern, black's moves minus white's and black's frontier tokens minus white's,
+ * all in primitive arrays that grow as positions are added. A million positions of the 8x8 board
+ * take about 46 megabytes. A training set is not safe to add to from more than one thread.
+ */
+public final class TrainingSet {
+  private final BoardGeometry geometry;
+  private final int patternCount;
+  private final PatternEvaluator evaluator;
+  private int size;
+  // the index of pattern j of position i at i * patternCount + j; every index is below 3^10
+  char[] indices;
+  short[] mobility;
+  short[] frontier;
+  short[] margins;
+
+  /**
+   * Constructs an empty training set for the given board.
+   *
+   * @param geometry the geometry of the board.
+   * @throws IllegalArgumentException if the geometry is null.
+   */
+  public TrainingSet(BoardGeometry geometry) {
+    if (geometry == null) {
+      throw new IllegalArgumentException("Geometry cannot be null");
+    }
+    this.geometry = geometry;
+    this.patternCount = PatternSet.of(geometry).getPatternCount();
+    this.evaluator = new PatternEvaluator(PatternWeights.defaults(geometry));
+    this.indices = new char[16 * this.patternCount];
+    this.mobility = new short[16];
+    this.frontier = new short[16];
+    this.margins = new short[16];
+  }
+
+  /**
+   * Adds the position after every move of the given game, labelled with its margin. Games that
+   * were not played to the end are left out, since they have no result.
+   *
+   * @param game the game to add.
+   * @return the number of positions added.
+   * @throws IllegalArgumentException if the game is null or was played on another board.
+   * @throws IllegalStateException    if a move of the game is invalid.
+   */
+  public int addGame(RecordedGame game) {
+    if (game == null) {
+      throw new IllegalArgumentException("Game cannot be null");
+    }
+    if (game.getGeometry() != this.geometry) {
+      throw new IllegalArgumentException("Game was played on another board");
+    }
+    if (!game.isFinished()) {
+      return 0;
+    }
+    int side = this.geometry.getSideLength();
+    IReversiModel model = this.geometry.isHexagon() ? new HexagonReversi(side, true)
+            : new SquareReversi(side, side == 8);
+    model.startGame();
+    IBoard board = model.createBoardCopy();
+    // The evaluator follows the game instead of reading the board after every move.
+    this.evaluator.reset(board);
+    MoveUndo undo = new MoveUndo();
+    TokenColor toMove = TokenColor.BLACK;
+    int added = 0;
+    for (int turn = 0; turn < game.getMoveCount(); turn++) {
+      Optional<ICell> move = game.getMove(turn);
+      if (move.isPresent()) {
+        board.makeMove(move.get(), toMove, undo);
+        this.evaluator.apply(undo);
+        this.addFollowed(board, game.getMargin());
+        added++;
+      }
+      toMove = toMove.next();
+    }
+    return added;
+  }
+
+  /**
+   * Adds the given position, labelled with the given margin.
+   *
+   * @param board  the position, a board of the geometry of this set.
+   * @param margin the number of tokens black won the game through the position by.
+   * @throws IllegalArgumentException if the board is null or of another geometry.
+   */
+  public void add(IBoard board, int margin) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null");
+    }
+    if (BoardGeometry.of(board) != this.geometry) {
+      throw new IllegalArgumentException("Board is of another geometry");
+    }
+    this.evaluator.reset(board);
+    this.addFollowed(board, margin);
+  }
+
+  // adds the position the evaluator follows.
+  private void addFollowed(IBoard board, int margin) {
+    if (this.size == this.margins.length) {
+      int grown = 2 * this.size;
+      this.indices = Arrays.copyOf(this.indices, grown * this.patternCount);
+      this.mobility = Arrays.copyOf(this.mobility, grown);
+      this.frontier = Arrays.copyOf(this.frontier, grown);
+      this.margins = Arrays.copyOf(this.margins, grown);
+    }
+    int offset = this.size * this.patternCount;
+    for (int pattern = 0; pattern < this.patternCount; pattern++) {
+      this.indices[offset + pattern] = (char) this.evaluator.getPatternIndex(pattern);
+    }
+    this.mobility[this.size] = (short) (board.validMovesLeft(TokenColor.BLACK).size()
+            - board.validMovesLeft(TokenColor.WHITE).size());
+    this.frontier[this.size] = (short) (this.evaluator.getFrontier(TokenColor.BLACK)
+            - this.evaluator.getFrontier(TokenColor.WHITE));
+    this.margins[this.size] = (short) margin;
+    this.size++;
+  }
+
+  /**
+   * Returns the geometry of the board of the positions.
+   *
+   * @return the geometry of the board.
+   */
+  public BoardGeometry getGeometry() {
+    return this.geometry;
+  }
+
+  /**
+   * Returns the number of positions in the set.
+   *
+   * @return the number of positions.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Returns the margin the i-th position is labelled with.
+   *
+   * @param i the number of the position.
+   * @return the number of tokens black won the game through the position by.
+   * @throws IndexOutOfBoundsException if there is no such position.
+   */
+  public int getMargin(int i) {
+    if (i < 0 || i >= this.size) {
+      throw new IndexOutOfBoundsException("No position " + i);
+    }
+    return this.margins[i];
+  }
+}
@@ -0,0 +1,235 @@
+package cs3500.reversi.strategy;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import cs3500.reversi.model.ICell;
+
+/**
+ * A fixed-size hash table of searched positions, keyed by Zobrist position keys, that lets a
+ * search reuse the score and best move of a position it has already searched. The table is safe
+ * to share between threads without locks: every entry is stored as two longs, the packed data and
+ * the position key XOR-ed with that data, so an entry torn by two threads writing at once fails the
+ * key check on the next probe and reads as a miss instead of as a wrong score.
+ *
+ * <p>The packed data holds the depth of the search in bits 0-7, the kind of bound in bits 8-9,
+ * the best move plus one in bits 10-26 (0 if there is none), the score in bits 27-58 and a valid
+ * flag in bit 63. An entry is replaced when a different position hashes to it or when the new
+ * search is at least as deep as the stored one.</p>
+ */
+public final class TranspositionTable {
+  /**
+   * The stored score is the exact score of the position.
+   */
+  public static final int EXACT = 0;
+  /**
+   * The stored score is a lower bound, the search of the position failed high.
+   */
+  public static final int LOWER_BOUND = 1;
+  /**
+   * The stored score is an upper bound, the search of the position failed low.
+   */
+  public static final int UPPER_BOUND = 2;
+
+  /**
+   * The move code of "no move".
+   */
+  public static final int NO_MOVE = -1;
+
+  private static final int BOUND_SHIFT = 8;
+  private static final int MOVE_SHIFT = 10;
+  private static final int SCORE_SHIFT = 27;
+  private static final long VALID = 1L << 63;
+
+  private final AtomicLongArray slots;
+  private final int mask;
+  private final LongAdder probes;
+  private final LongAdder hits;
+  private final LongAdder stores;
+
+  /**
+   * Constructs a table that uses about the given number of megabytes. The number of entries is
+   * rounded down to a power of two.
+   *
+   * @param megabytes the memory the table may use.
+   * @throws IllegalArgumentException if the size is not positive.
+   */
+  public TranspositionTable(int megabytes) {
+    if (megabytes <= 0) {
+      throw new IllegalArgumentException("Table size must be positive");
+    }
+    // Every entry is two longs, 16 bytes.
+    long entries = Long.highestOneBit(megabytes * (1L << 20) / 16);
+    entries = Math.min(entries, 1L << 29);
+    this.slots = new AtomicLongArray((int) (2 * entries));
+    this.mask = (int) (entries - 1);
+    this.probes = new LongAdder();
+    this.hits = new LongAdder();
+    this.stores = new LongAdder();
+  }
+
+  /**
+   * Looks up the given position.
+   *
+   * @param key the position key, including the color to move.
+   * @return the packed data stored for the position, or 0 if the position is not in the table.
+   */
+  public long probe(long key) {
+    this.probes.increment();
+    int slot = this.slotOf(key);
+    long data = this.slots.getOpaque(slot + 1);
+    long check = this.slots.getOpaque(slot);
+    if ((data & VALID) == 0 || (check ^ data) != key) {
+      return 0;
+    }
+    this.hits.increment();
+    return data;
+  }
+
+  /**
+   * Stores the result of a search of the given position.
+   *
+   * @param key   the position key, including the color to move.
+   * @param depth the depth the position was searched to, from 0 to 255.
+   * @param bound one of EXACT, LOWER_BOUND and UPPER_BOUND.
+   * @param move  the code of the best move, or NO_MOVE.
+   * @param score the score of the position.
+   * @throws IllegalArgumentException if the depth or bound is out of range.
+   */
+  public void store(long key, int depth, int bound, int move, int score) {
+    if (depth < 0 || depth > 0xFF || bound < EXACT || bound > UPPER_BOUND) {
+      throw new IllegalArgumentException("Depth or bound out of range");
+    }
+    int slot = this.slotOf(key);
+    long oldData = this.slots.getOpaque(slot + 1);
+    long oldCheck = this.slots.getOpaque(slot);
+    boolean samePosition = (oldData & VALID) != 0 && (oldCheck ^ oldData) == key;
+    if (samePosition && depth < getDepth(oldData)) {
+      return;
+    }
+    long data = VALID
+            | depth
+            | ((long) bound << BOUND_SHIFT)
+            | ((long) (move + 1) << MOVE_SHIFT)
+            | ((score & 0xFFFFFFFFL) << SCORE_SHIFT);
+    this.slots.setOpaque(slot, key ^ data);
+    this.slots.setOpaque(slot + 1, data);
+    this.stores.increment();
+  }
+
+  // returns the index of the first long of the entry of the given key.
+  private int slotOf(long key) {
+    return ((int) (key ^ (key >>> 32)) & this.mask) << 1;
+  }
+
+  /**
+   * Empties the table and resets its counters.
+   */
+  public void clear() {
+    for (int i = 0; i < this.slots.length(); i++) {
+      this.slots.setOpaque(i, 0);
+    }
+    this.probes.reset();
+    this.hits.reset();
+    this.stores.reset();
+  }
+
+  /**
+   * Returns the number of entries of the table.
+   *
+   * @return the capacity of the table.
+   */
+  public int getCapacity() {
+    return this.mask + 1;
+  }
+
+  /**
+   * Returns the number of lookups since the table was created or cleared.
+   *
+   * @return the number of probes.
+   */
+  public long getProbes() {
+    return this.probes.sum();
+  }
+
+  /**
+   * Returns the number of lookups that found their position.
+   *
+   * @return the number of hits.
+   */
+  public long getHits() {
+    return this.hits.sum();
+  }
+
+  /**
+   * Returns the number of entries written.
+   *
+   * @return the number of stores.
+   */
+  public long getStores() {
+    return this.stores.sum();
+  }
+
+  /**
+   * Returns the fraction of lookups that found their position, or 0 if there were none.
+   *
+   * @return the hit rate of the table.
+   */
+  public double getHitRate() {
+    long probed = this.probes.sum();
+    return (probed == 0) ? 0 : (double) this.hits.sum() / probed;
+  }
+
+  /**
+   * Returns the depth stored in the given packed data.
+   *
+   * @param data data returned by probe.
+   * @return the depth of the stored search.
+   */
+  public static int getDepth(long data) {
+    return (int) (data & 0xFF);
+  }
+
+  /**
+   * Returns the kind of bound stored in the given packed data.
+   *
+   * @param data data returned by probe.
+   * @return one of EXACT, LOWER_BOUND and UPPER_BOUND.
+   */
+  public static int getBound(long data) {
+    return (int) ((data >>> BOUND_SHIFT) & 0x3);
+  }
+
+  /**
+   * Returns the move code stored in the given packed data.
+   *
+   * @param data data returned by probe.
+   * @return the code of the best move, or NO_MOVE.
+   */
+  public static int getMove(long data) {
+    return (int) ((data >>> MOVE_SHIFT) & 0x1FFFF) - 1;
+  }
+
+  /**
+   * Returns the score stored in the given packed data.
+   *
+   * @param data data returned by probe.
+   * @return the stored score.
+   */
+  public static int getScore(long data) {
+    return (int) (data >>> SCORE_SHIFT);
+  }
+
+  /**
+   * Returns the move code of the given cell, built from its first two coordinates. Cells of the
+   * same board have distinct codes.
+   *
+   * @param cell the cell of the move.
+   * @return the code of the move.
+   */
+  public static int encodeMove(ICell cell) {
+    int first = cell.coordinate(0);
+    int second = cell.coordinate(1);
+    return ((first + 128) << 8) | (second + 128);
+  }
+}
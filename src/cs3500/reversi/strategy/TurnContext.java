@@ -0,0 +1,192 @@
+package cs3500.reversi.strategy;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.ROModel;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * The analysis of one position that the strategies choosing a single move share, so that a chain
+ * of strategies like SandwichStrat lists the legal moves, counts the flips of a move, looks up the
+ * geometry of the board and copies the board at most once per turn instead of once per strategy.
+ * Everything is worked out the first time it is asked for and kept for the rest of the turn.
+ *
+ * <p>A context belongs to one turn: once a move is played on the model it is out of date and a new
+ * one has to be made. It is not safe to use from several threads at once.
+ */
+public final class TurnContext {
+  private final ROModel model;
+  private final Map<TokenColor, List<ICell>> validMoves;
+  private final Map<TokenColor, Set<ICell>> validMoveSets;
+  private final Map<TokenColor, Map<ICell, Integer>> flipCounts;
+  private IBoard board;
+  private BoardGeometry geometry;
+
+  /**
+   * Creates the context of the current position of the model.
+   *
+   * @param model the model to choose a move on.
+   * @throws IllegalArgumentException if the model is null.
+   */
+  public TurnContext(ROModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+    this.model = model;
+    this.validMoves = new EnumMap<>(TokenColor.class);
+    this.validMoveSets = new EnumMap<>(TokenColor.class);
+    this.flipCounts = new EnumMap<>(TokenColor.class);
+  }
+
+  /**
+   * Returns the model this context analyses.
+   *
+   * @return the model of this turn.
+   */
+  public ROModel getModel() {
+    return this.model;
+  }
+
+  /**
+   * Returns a copy of the board of the model, made the first time it is asked for. Every strategy
+   * of the turn gets the same copy, so a strategy that makes moves on it has to undo them before it
+   * returns.
+   *
+   * @return the shared board copy of this turn.
+   */
+  public IBoard getBoard() {
+    if (this.board == null) {
+      this.board = this.model.createBoardCopy();
+    }
+    return this.board;
+  }
+
+  /**
+   * Returns the legal moves of the given color, as getValidMoves of the model.
+   *
+   * @param tokenColor the color to move.
+   * @return the unmodifiable list of legal moves of the color.
+   */
+  public List<ICell> getValidMoves(TokenColor tokenColor) {
+    List<ICell> moves = this.validMoves.get(tokenColor);
+    if (moves == null) {
+      moves = List.copyOf(this.model.getValidMoves(tokenColor));
+      this.validMoves.put(tokenColor, moves);
+    }
+    return moves;
+  }
+
+  /**
+   * Returns whether the cell is a legal move of the given color.
+   *
+   * @param cell       the cell to check.
+   * @param tokenColor the color to move.
+   * @return whether the color may play on the cell.
+   */
+  public boolean isValidMove(ICell cell, TokenColor tokenColor) {
+    Set<ICell> moves = this.validMoveSets.get(tokenColor);
+    if (moves == null) {
+      moves = new HashSet<>(this.getValidMoves(tokenColor));
+      this.validMoveSets.put(tokenColor, moves);
+    }
+    return moves.contains(cell);
+  }
+
+  /**
+   * Returns the number of tokens the given color would flip by playing on the cell, the same as
+   * cellsFlipped of the model.
+   *
+   * @param cell       the cell to play on.
+   * @param tokenColor the color to move.
+   * @return the number of flipped tokens.
+   */
+  public int cellsFlipped(ICell cell, TokenColor tokenColor) {
+    Map<ICell, Integer> counts = this.flipCountsOf(tokenColor);
+    Integer count = counts.get(cell);
+    if (count == null) {
+      count = this.model.cellsFlipped(cell, tokenColor);
+      counts.put(cell, count);
+    }
+    return count;
+  }
+
+  /**
+   * Keeps the number of tokens a legal move flips, counted by a strategy that made the move on
+   * the board, so that cellsFlipped does not count it again.
+   *
+   * @param cell       the cell of the legal move.
+   * @param tokenColor the color that made the move.
+   * @param count      the number of flipped tokens.
+   */
+  void putFlipCount(ICell cell, TokenColor tokenColor, int count) {
+    this.flipCountsOf(tokenColor).put(cell, count);
+  }
+
+  private Map<ICell, Integer> flipCountsOf(TokenColor tokenColor) {
+    Map<ICell, Integer> counts = this.flipCounts.get(tokenColor);
+    if (counts == null) {
+      counts = new HashMap<>();
+      this.flipCounts.put(tokenColor, counts);
+    }
+    return counts;
+  }
+
+  /**
+   * Returns the geometry of the board of the model, with its corners, edges, X-squares and rings.
+   *
+   * @return the geometry of the board.
+   */
+  public BoardGeometry getGeometry() {
+    if (this.geometry == null) {
+      this.geometry = this.model.getGeometry();
+    }
+    return this.geometry;
+  }
+
+  /**
+   * Returns the corner cells of the board, as getCornerCells of the model.
+   *
+   * @return the unmodifiable list of corner cells.
+   */
+  public List<ICell> getCornerCells() {
+    return this.getGeometry().getCornerCells();
+  }
+
+  /**
+   * Returns whether the cell is a corner cell of the board.
+   *
+   * @param cell the cell to check.
+   * @return whether the cell is a corner.
+   */
+  public boolean isCorner(ICell cell) {
+    return this.getGeometry().isCorner(cell);
+  }
+
+  /**
+   * Returns the edge cells of the board, the cells next to its corners, as getEdgeCells of the
+   * model.
+   *
+   * @return the unmodifiable list of edge cells.
+   */
+  public List<ICell> getEdgeCells() {
+    return this.getGeometry().getEdgeCells();
+  }
+
+  /**
+   * Returns whether the cell is an edge cell of the board.
+   *
+   * @param cell the cell to check.
+   * @return whether the cell is next to a corner.
+   */
+  public boolean isEdge(ICell cell) {
+    return this.getGeometry().isEdge(cell);
+  }
+}
@@ -26,15 +26,21 @@ public class UpperLeftStrat implements Strategy {
 
   @Override
   public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
+    return this.chooseMove(new TurnContext(model), filteredMoves);
+  }
+
+  @Override
+  public List<ICell> chooseMove(TurnContext context, List<ICell> filteredMoves) {
+    ROModel model = context.getModel();
     if (!model.isGameOver()) {
       boolean allValidFilteredMoves =
-              filteredMoves.stream().allMatch(c -> model.getValidMoves(tokenColor).contains(c))
+              filteredMoves.stream().allMatch(c -> context.isValidMove(c, tokenColor))
                       && !filteredMoves.isEmpty();
 
       ICell returnCell = new HexagonCell(0, -model.getDimensions(), model.getDimensions());
       List<ICell> choices =
               new ArrayList<>(allValidFilteredMoves ? filteredMoves :
-                      model.getValidMoves(tokenColor));
+                      context.getValidMoves(tokenColor));
 
       // Sort based on (s - r)
       if (model.getCurrentColor().equals(tokenColor)) {
@@ -53,16 +59,16 @@ public class UpperLeftStrat implements Strategy {
   private static class UpperLeftComparator implements Comparator<ICell> {
     @Override
     public int compare(ICell cell1, ICell cell2) {
-      int sMinusR1 = cell1.getCoordinates().get(2) - cell1.getCoordinates().get(1);
-      int sMinusR2 = cell2.getCoordinates().get(2) - cell2.getCoordinates().get(1);
+      int sMinusR1 = cell1.coordinate(2) - cell1.coordinate(1);
+      int sMinusR2 = cell2.coordinate(2) - cell2.coordinate(1);
 
       // Compare based on s - r value
       int result = Integer.compare(sMinusR2, sMinusR1);
 
       // If s - r values are the same, compare based on maximum of s
       if (result == 0) {
-        int maxS1R1 = cell1.getCoordinates().get(2);
-        int maxS2R2 = cell2.getCoordinates().get(2);
+        int maxS1R1 = cell1.coordinate(2);
+        int maxS2R2 = cell2.coordinate(2);
         result = Integer.compare(maxS2R2, maxS1R1);
       }
       return result;
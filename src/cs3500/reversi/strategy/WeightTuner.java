@@ -0,0 +1,301 @@
+package cs3500.reversi.strategy;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+import cs3500.reversi.model.BoardGeometry;
+
+/**
+ * Fits PatternWeights to a TrainingSet by batch gradient descent on the squared difference
+ * between the score of every position and the margin its game ended with. Every iteration goes
+ * over all the positions once, split into one part per thread of a ForkJoinPool: each thread sums
+ * the errors of its positions into its own gradient, then the weights are split the same way and
+ * each thread adds up the gradients of its share of the weights and moves them. The step of a
+ * weight is divided by the sum of the squares of its feature over the positions, so a pattern
+ * index seen in a handful of positions moves as fast as one seen in every position, and an index
+ * never seen keeps its starting weight.
+ *
+ * <p>Weights are fitted in tokens and rounded to 1/UNITS_PER_DISC of a token by getWeights. The
+ * training set is read when the tuner is constructed; positions added to it later are left out.
+ * A tuner is not safe to use from more than one thread, and its threads run until it is closed.
+ */
+public final class WeightTuner implements AutoCloseable {
+  private final TrainingSet training;
+  private final BoardGeometry geometry;
+  private final PatternSet patterns;
+  private final int positions;
+  private final int patternCount;
+  private final double rate;
+  private final int parts;
+  private final ForkJoinPool pool;
+
+  // where the table of every family starts in the weights, then the mobility and frontier weights
+  private final int[] familyOffsets;
+  private final int[] patternOffsets;
+  private final int mobilityWeight;
+  private final int frontierWeight;
+  private final double[] weights;
+  // the sum of the squares of the feature of every weight over the training positions, plus one
+  private final double[] scales;
+  private final double[][] gradients;
+  private final double[] partLosses;
+
+  private int iterations;
+  private long elapsedNanos;
+
+  /**
+   * Constructs a tuner of the weights of the board of the training set, starting from the given
+   * weights.
+   *
+   * @param training    the positions to fit the weights to.
+   * @param initial     the weights to start from, of the board of the training set.
+   * @param rate        the fraction of its average error every weight moves by per iteration.
+   * @param parallelism the number of threads to compute the gradient on.
+   * @throws IllegalArgumentException if the training set or weights are null, the weights are for
+   *                                  another board, the training set is empty, or the rate or
+   *                                  parallelism is not positive.
+   */
+  public WeightTuner(TrainingSet training, PatternWeights initial, double rate,
+                     int parallelism) {
+    if (training == null || initial == null) {
+      throw new IllegalArgumentException("Training set and weights cannot be null");
+    }
+    if (initial.getGeometry() != training.getGeometry()) {
+      throw new IllegalArgumentException("Weights are for another board than the training set");
+    }
+    if (training.size() == 0) {
+      throw new IllegalArgumentException("Training set is empty");
+    }
+    if (!(rate > 0) || parallelism <= 0) {
+      throw new IllegalArgumentException("Rate and parallelism must be positive");
+    }
+    this.training = training;
+    this.geometry = training.getGeometry();
+    this.patterns = initial.getPatterns();
+    this.positions = training.size();
+    this.patternCount = this.patterns.getPatternCount();
+    this.rate = rate;
+    this.parts = Math.min(parallelism, this.positions);
+    this.pool = new ForkJoinPool(parallelism);
+
+    this.familyOffsets = new int[this.patterns.getFamilyCount()];
+    int size = 0;
+    for (int family = 0; family < this.familyOffsets.length; family++) {
+      this.familyOffsets[family] = size;
+      size += this.patterns.getTableSize(family);
+    }
+    this.mobilityWeight = size;
+    this.frontierWeight = size + 1;
+    this.patternOffsets = new int[this.patternCount];
+    for (int pattern = 0; pattern < this.patternCount; pattern++) {
+      this.patternOffsets[pattern] = this.familyOffsets[this.patterns.getFamily(pattern)];
+    }
+
+    this.weights = new double[size + 2];
+    for (int family = 0; family < this.familyOffsets.length; family++) {
+      for (int index = 0; index < this.patterns.getTableSize(family); index++) {
+        this.weights[this.familyOffsets[family] + index] = (double) initial.getWeight(family,
+                index) / PatternWeights.UNITS_PER_DISC;
+      }
+    }
+    this.weights[this.mobilityWeight] =
+            (double) initial.getMobilityWeight() / PatternWeights.UNITS_PER_DISC;
+    this.weights[this.frontierWeight] =
+            (double) initial.getFrontierWeight() / PatternWeights.UNITS_PER_DISC;
+
+    this.scales = new double[size + 2];
+    Arrays.fill(this.scales, 1);
+    for (int i = 0; i < this.positions; i++) {
+      int offset = i * this.patternCount;
+      for (int pattern = 0; pattern < this.patternCount; pattern++) {
+        this.scales[this.patternOffsets[pattern] + training.indices[offset + pattern]]++;
+      }
+      this.scales[this.mobilityWeight] += training.mobility[i] * training.mobility[i];
+      this.scales[this.frontierWeight] += training.frontier[i] * training.frontier[i];
+    }
+    this.gradients = new double[this.parts][size + 2];
+    this.partLosses = new double[this.parts];
+  }
+
+  /**
+   * Runs one iteration of gradient descent over the whole training set.
+   *
+   * @return the mean squared error of the training positions before the iteration, in tokens
+   *         squared.
+   * @throws IllegalStateException if the tuner is closed.
+   */
+  public double iterate() {
+    this.checkOpen();
+    long start = System.nanoTime();
+    this.pool.invoke(new Split(0, this.parts, part -> {
+      int from = (int) ((long) this.positions * part / this.parts);
+      int to = (int) ((long) this.positions * (part + 1) / this.parts);
+      this.partLosses[part] = this.accumulate(this.training, from, to, this.gradients[part]);
+    }));
+    this.pool.invoke(new Split(0, this.parts, part -> {
+      int from = (int) ((long) this.weights.length * part / this.parts);
+      int to = (int) ((long) this.weights.length * (part + 1) / this.parts);
+      for (int w = from; w < to; w++) {
+        double gradient = 0;
+        for (double[] partGradient : this.gradients) {
+          gradient += partGradient[w];
+          partGradient[w] = 0;
+        }
+        this.weights[w] -= this.rate * gradient / this.scales[w];
+      }
+    }));
+    this.iterations++;
+    this.elapsedNanos += System.nanoTime() - start;
+    double loss = 0;
+    for (double partLoss : this.partLosses) {
+      loss += partLoss;
+    }
+    return loss / this.positions;
+  }
+
+  /**
+   * Returns the mean squared error of the current weights on the given positions, such as a
+   * validation set of games the weights are not fitted to.
+   *
+   * @param set the positions to score.
+   * @return the mean squared error, in tokens squared, or 0 if the set is empty.
+   * @throws IllegalArgumentException if the set is null or of another board.
+   * @throws IllegalStateException    if the tuner is closed.
+   */
+  public double loss(TrainingSet set) {
+    this.checkOpen();
+    if (set == null) {
+      throw new IllegalArgumentException("Set cannot be null");
+    }
+    if (set.getGeometry() != this.geometry) {
+      throw new IllegalArgumentException("Set is of another board");
+    }
+    if (set.size() == 0) {
+      return 0;
+    }
+    double[] losses = new double[this.parts];
+    this.pool.invoke(new Split(0, this.parts, part -> {
+      int from = (int) ((long) set.size() * part / this.parts);
+      int to = (int) ((long) set.size() * (part + 1) / this.parts);
+      losses[part] = this.accumulate(set, from, to, null);
+    }));
+    double loss = 0;
+    for (double partLoss : losses) {
+      loss += partLoss;
+    }
+    return loss / set.size();
+  }
+
+  // adds the error of every position from the first up to the last, left out, to the gradient of
+  // every weight it depends on, if there is a gradient, and returns the sum of the squared errors.
+  private double accumulate(TrainingSet set, int from, int to, double[] gradient) {
+    char[] indices = set.indices;
+    double loss = 0;
+    for (int i = from; i < to; i++) {
+      int offset = i * this.patternCount;
+      double score = this.weights[this.mobilityWeight] * set.mobility[i]
+              + this.weights[this.frontierWeight] * set.frontier[i];
+      for (int pattern = 0; pattern < this.patternCount; pattern++) {
+        score += this.weights[this.patternOffsets[pattern] + indices[offset + pattern]];
+      }
+      double error = score - set.margins[i];
+      loss += error * error;
+      if (gradient != null) {
+        for (int pattern = 0; pattern < this.patternCount; pattern++) {
+          gradient[this.patternOffsets[pattern] + indices[offset + pattern]] += error;
+        }
+        gradient[this.mobilityWeight] += error * set.mobility[i];
+        gradient[this.frontierWeight] += error * set.frontier[i];
+      }
+    }
+    return loss;
+  }
+
+  /**
+   * Returns the current weights, rounded to 1/UNITS_PER_DISC of a token.
+   *
+   * @return the weights.
+   */
+  public PatternWeights getWeights() {
+    int[][] tables = new int[this.familyOffsets.length][];
+    for (int family = 0; family < tables.length; family++) {
+      tables[family] = new int[this.patterns.getTableSize(family)];
+      for (int index = 0; index < tables[family].length; index++) {
+        tables[family][index] = toUnits(this.weights[this.familyOffsets[family] + index]);
+      }
+    }
+    return new PatternWeights(this.geometry, tables, toUnits(this.weights[this.mobilityWeight]),
+            toUnits(this.weights[this.frontierWeight]));
+  }
+
+  private static int toUnits(double tokens) {
+    return (int) Math.round(tokens * PatternWeights.UNITS_PER_DISC);
+  }
+
+  /**
+   * Returns the number of iterations run so far.
+   *
+   * @return the number of iterations.
+   */
+  public int getIterations() {
+    return this.iterations;
+  }
+
+  /**
+   * Returns how many iterations per second have been run so far.
+   *
+   * @return the iterations per second.
+   */
+  public double getIterationsPerSecond() {
+    if (this.elapsedNanos == 0) {
+      return 0;
+    }
+    return this.iterations * 1e9 / this.elapsedNanos;
+  }
+
+  /**
+   * Stops the threads of this tuner. The weights can still be read, but no more iterations can be
+   * run.
+   */
+  @Override
+  public void close() {
+    this.pool.shutdown();
+  }
+
+  private void checkOpen() {
+    if (this.pool.isShutdown()) {
+      throw new IllegalStateException("Tuner is closed");
+    }
+  }
+
+  /**
+   * Runs the given action for every part in a range, splitting the range in half until there is
+   * one part left.
+   */
+  private static final class Split extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int from;
+    private final int to;
+    private final IntConsumer action;
+
+    private Split(int from, int to, IntConsumer action) {
+      this.from = from;
+      this.to = to;
+      this.action = action;
+    }
+
+    @Override
+    protected void compute() {
+      if (this.to - this.from > 1) {
+        int middle = (this.from + this.to) >>> 1;
+        invokeAll(new Split(this.from, middle, this.action),
+                new Split(middle, this.to, this.action));
+        return;
+      }
+      this.action.accept(this.from);
+    }
+  }
+}
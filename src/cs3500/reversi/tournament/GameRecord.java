@@ -0,0 +1,36 @@
+package cs3500.reversi.tournament;
+
+/**
+ * The result of one game of a tournament: who played black, who played white, and by how many
+ * tokens black won.
+ */
+final class GameRecord {
+  private final int black;
+  private final int white;
+  private final int margin;
+
+  /**
+   * Constructs the record of a game.
+   *
+   * @param black  the index of the strategy that played black.
+   * @param white  the index of the strategy that played white.
+   * @param margin by how many tokens black won, negative if white won.
+   */
+  GameRecord(int black, int white, int margin) {
+    this.black = black;
+    this.white = white;
+    this.margin = margin;
+  }
+
+  int getBlack() {
+    return this.black;
+  }
+
+  int getWhite() {
+    return this.white;
+  }
+
+  int getMargin() {
+    return this.margin;
+  }
+}
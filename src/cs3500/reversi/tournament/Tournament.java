@@ -0,0 +1,156 @@
+package cs3500.reversi.tournament;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.strategy.Strategy;
+
+/**
+ * A round-robin tournament between strategies, played without views, players or controllers.
+ * Every pair of strategies plays the same number of games, taking turns at playing black, and
+ * every game is played on a thread of a pool with its own model and its own new instances of the
+ * two strategies, so any number of games can run at once. The strategies of a game are shut down
+ * when it ends.
+ */
+public final class Tournament {
+  private final Supplier<IReversiModel> modelFactory;
+  private final BiFunction<String, TokenColor, Strategy> strategyFactory;
+  private final List<String> names;
+  private final int gamesPerPairing;
+
+  /**
+   * Constructs a tournament.
+   *
+   * @param modelFactory    makes the model of a new game, which is started by the tournament.
+   * @param strategyFactory makes a new instance of the strategy with the given name for the given
+   *                        color.
+   * @param names           the names of the strategies taking part.
+   * @param gamesPerPairing the number of games every pair of strategies plays.
+   * @throws IllegalArgumentException if an argument is null, there are fewer than two strategies,
+   *                                  a strategy takes part twice, or the number of games is not
+   *                                  positive.
+   */
+  public Tournament(Supplier<IReversiModel> modelFactory,
+                    BiFunction<String, TokenColor, Strategy> strategyFactory, List<String> names,
+                    int gamesPerPairing) {
+    if (modelFactory == null || strategyFactory == null || names == null) {
+      throw new IllegalArgumentException("Null argument(s) given to tournament constructor.");
+    }
+    if (names.size() < 2) {
+      throw new IllegalArgumentException("A tournament needs at least two strategies");
+    }
+    if (new HashSet<>(names).size() != names.size()) {
+      throw new IllegalArgumentException("A strategy cannot take part twice");
+    }
+    if (gamesPerPairing <= 0) {
+      throw new IllegalArgumentException("Number of games must be positive");
+    }
+    this.modelFactory = modelFactory;
+    this.strategyFactory = strategyFactory;
+    this.names = List.copyOf(names);
+    this.gamesPerPairing = gamesPerPairing;
+  }
+
+  /**
+   * Plays every game of the tournament on the given number of threads and returns the results
+   * once all of them are over.
+   *
+   * @param threads the number of games to play at once.
+   * @return the results of the tournament.
+   * @throws IllegalArgumentException if the number of threads is not positive.
+   * @throws IllegalStateException    if a game could not be played, or the thread running the
+   *                                  tournament was interrupted.
+   */
+  public TournamentResult run(int threads) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Number of threads must be positive");
+    }
+    long start = System.nanoTime();
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      List<int[]> pairings = new ArrayList<>();
+      List<Future<Integer>> margins = new ArrayList<>();
+      for (int first = 0; first < this.names.size(); first++) {
+        for (int second = first + 1; second < this.names.size(); second++) {
+          for (int game = 0; game < this.gamesPerPairing; game++) {
+            int black = (game % 2 == 0) ? first : second;
+            int white = (game % 2 == 0) ? second : first;
+            pairings.add(new int[]{black, white});
+            margins.add(pool.submit(() -> this.playGame(black, white)));
+          }
+        }
+      }
+
+      List<GameRecord> games = new ArrayList<>(margins.size());
+      for (int i = 0; i < margins.size(); i++) {
+        int[] pairing = pairings.get(i);
+        games.add(new GameRecord(pairing[0], pairing[1], margins.get(i).get()));
+      }
+      return new TournamentResult(this.names, games, System.nanoTime() - start);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Tournament was interrupted");
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("A game could not be played: " + e.getCause().getMessage(),
+              e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  // plays one game between the strategies with the given indices and returns by how many tokens
+  // black won, negative if white won.
+  private int playGame(int black, int white) {
+    IReversiModel model = this.modelFactory.get();
+    Strategy blackStrategy = this.strategyFactory.apply(this.names.get(black), TokenColor.BLACK);
+    try {
+      Strategy whiteStrategy = this.strategyFactory.apply(this.names.get(white),
+              TokenColor.WHITE);
+      try {
+        return playGame(model, blackStrategy, whiteStrategy);
+      } finally {
+        // Strategies that search on threads of their own would keep them until the end of the
+        // program otherwise, and a tournament makes two of them for every game.
+        whiteStrategy.shutdown();
+      }
+    } finally {
+      blackStrategy.shutdown();
+    }
+  }
+
+  /**
+   * Plays a whole game between the given strategies on the given model, the same way AI players
+   * would but without waiting between moves: a strategy that returns no move passes, and otherwise
+   * the first move it returns is played.
+   *
+   * @param model the model of a game that has not started yet.
+   * @param black the strategy playing black.
+   * @param white the strategy playing white.
+   * @return by how many tokens black won, negative if white won.
+   * @throws IllegalStateException if a strategy chooses an invalid move.
+   */
+  public static int playGame(IReversiModel model, Strategy black, Strategy white) {
+    model.startGame();
+    while (!model.isGameOver()) {
+      TokenColor color = model.getCurrentColor();
+      Strategy strategy = (color == TokenColor.BLACK) ? black : white;
+      List<ICell> moves = strategy.chooseMove(model, model.getValidMoves(color));
+      if (moves.isEmpty()) {
+        model.passTurn(true);
+      } else {
+        model.placeCurrentPlayerPiece(moves.get(0));
+      }
+    }
+    return model.getScoreDifference(TokenColor.BLACK);
+  }
+}
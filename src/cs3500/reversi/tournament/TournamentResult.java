@@ -0,0 +1,266 @@
+package cs3500.reversi.tournament;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The results of a tournament: the standing of every strategy and how fast the games were played.
+ * Elo ratings are fitted to all the games at once rather than updated game by game, so they do not
+ * depend on the order the games finished in. Every strategy also gets two draws against a virtual
+ * opponent rated 1500, which keeps the rating of a strategy that won or lost every game finite.
+ * The ratings are then shifted so that their mean is 1500.
+ */
+public final class TournamentResult {
+  private static final double MEAN_RATING = 1500;
+  private static final int FIT_ITERATIONS = 2000;
+  private static final double FIT_STEP = 400;
+
+  private final List<Standing> standings;
+  private final int games;
+  private final long elapsedNanos;
+
+  /**
+   * Constructs the results of the given games.
+   *
+   * @param names        the names of the strategies.
+   * @param games        every game of the tournament.
+   * @param elapsedNanos how long the tournament took.
+   */
+  TournamentResult(List<String> names, List<GameRecord> games, long elapsedNanos) {
+    int n = names.size();
+    int[] played = new int[n];
+    int[] wins = new int[n];
+    int[] losses = new int[n];
+    long[] margins = new long[n];
+    int[][] pairGames = new int[n][n];
+    double[][] pairPoints = new double[n][n];
+    for (GameRecord game : games) {
+      int black = game.getBlack();
+      int white = game.getWhite();
+      played[black]++;
+      played[white]++;
+      margins[black] += game.getMargin();
+      margins[white] -= game.getMargin();
+      pairGames[black][white]++;
+      pairGames[white][black]++;
+      if (game.getMargin() > 0) {
+        wins[black]++;
+        losses[white]++;
+        pairPoints[black][white] += 1;
+      } else if (game.getMargin() < 0) {
+        wins[white]++;
+        losses[black]++;
+        pairPoints[white][black] += 1;
+      } else {
+        pairPoints[black][white] += 0.5;
+        pairPoints[white][black] += 0.5;
+      }
+    }
+
+    double[] ratings = fitRatings(pairGames, pairPoints);
+    List<Standing> made = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      made.add(new Standing(names.get(i), played[i], wins[i], losses[i],
+              played[i] - wins[i] - losses[i],
+              (played[i] == 0) ? 0 : (double) margins[i] / played[i], ratings[i]));
+    }
+    made.sort(Comparator.comparingDouble(Standing::getElo).reversed());
+    this.standings = Collections.unmodifiableList(made);
+    this.games = games.size();
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  // fits Elo ratings to the games between every pair of strategies by gradient steps on the
+  // difference between the points every strategy scored and the points its ratings predict.
+  private static double[] fitRatings(int[][] pairGames, double[][] pairPoints) {
+    int n = pairGames.length;
+    double[] ratings = new double[n];
+    for (int iteration = 0; iteration < FIT_ITERATIONS; iteration++) {
+      double[] next = new double[n];
+      for (int i = 0; i < n; i++) {
+        // the two draws against the virtual opponent rated 1500, 0 before the shift
+        double games = 2;
+        double actual = 1;
+        double expected = 2 * expectedScore(ratings[i], 0);
+        for (int j = 0; j < n; j++) {
+          if (pairGames[i][j] > 0) {
+            games += pairGames[i][j];
+            actual += pairPoints[i][j];
+            expected += pairGames[i][j] * expectedScore(ratings[i], ratings[j]);
+          }
+        }
+        next[i] = ratings[i] + FIT_STEP * (actual - expected) / games;
+      }
+      ratings = next;
+    }
+    double mean = 0;
+    for (double rating : ratings) {
+      mean += rating / n;
+    }
+    for (int i = 0; i < n; i++) {
+      ratings[i] += MEAN_RATING - mean;
+    }
+    return ratings;
+  }
+
+  // the score a player with the first rating is expected to get against one with the second.
+  private static double expectedScore(double rating, double opponent) {
+    return 1 / (1 + Math.pow(10, (opponent - rating) / 400));
+  }
+
+  /**
+   * Returns the standing of every strategy, best rated first.
+   *
+   * @return an unmodifiable list of the standings.
+   */
+  public List<Standing> getStandings() {
+    return this.standings;
+  }
+
+  /**
+   * Returns the number of games played.
+   *
+   * @return the number of games.
+   */
+  public int getGames() {
+    return this.games;
+  }
+
+  /**
+   * Returns how many games were played per second of wall-clock time.
+   *
+   * @return the games per second of the tournament.
+   */
+  public double getGamesPerSecond() {
+    if (this.elapsedNanos == 0) {
+      return 0;
+    }
+    return this.games * 1e9 / this.elapsedNanos;
+  }
+
+  /**
+   * Writes the standings as a table that lines up in a terminal.
+   *
+   * @param out where to write the table.
+   * @throws IOException if the table cannot be written.
+   */
+  public void writeTable(Appendable out) throws IOException {
+    out.append(String.format(Locale.ROOT, "%-8s %6s %6s %6s %6s %8s %8s%n", "strategy", "games",
+            "wins", "losses", "draws", "margin", "elo"));
+    for (Standing standing : this.standings) {
+      out.append(String.format(Locale.ROOT, "%-8s %6d %6d %6d %6d %8.2f %8.1f%n",
+              standing.getName(), standing.getGames(), standing.getWins(), standing.getLosses(),
+              standing.getDraws(), standing.getMeanMargin(), standing.getElo()));
+    }
+    out.append(String.format(Locale.ROOT, "%d games, %.1f games per second%n", this.games,
+            this.getGamesPerSecond()));
+  }
+
+  /**
+   * Writes the standings as CSV with a header row, one row per strategy.
+   *
+   * @param out where to write the CSV.
+   * @throws IOException if the CSV cannot be written.
+   */
+  public void writeCsv(Appendable out) throws IOException {
+    out.append("strategy,games,wins,losses,draws,mean_margin,elo,games_per_second\n");
+    for (Standing standing : this.standings) {
+      out.append(String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%.4f,%.1f,%.2f%n",
+              standing.getName(), standing.getGames(), standing.getWins(), standing.getLosses(),
+              standing.getDraws(), standing.getMeanMargin(), standing.getElo(),
+              this.getGamesPerSecond()));
+    }
+  }
+
+  /**
+   * The results of one strategy in a tournament.
+   */
+  public static final class Standing {
+    private final String name;
+    private final int games;
+    private final int wins;
+    private final int losses;
+    private final int draws;
+    private final double meanMargin;
+    private final double elo;
+
+    private Standing(String name, int games, int wins, int losses, int draws, double meanMargin,
+                     double elo) {
+      this.name = name;
+      this.games = games;
+      this.wins = wins;
+      this.losses = losses;
+      this.draws = draws;
+      this.meanMargin = meanMargin;
+      this.elo = elo;
+    }
+
+    /**
+     * Returns the name of the strategy.
+     *
+     * @return the name of the strategy.
+     */
+    public String getName() {
+      return this.name;
+    }
+
+    /**
+     * Returns the number of games the strategy played.
+     *
+     * @return the number of games.
+     */
+    public int getGames() {
+      return this.games;
+    }
+
+    /**
+     * Returns the number of games the strategy won.
+     *
+     * @return the number of wins.
+     */
+    public int getWins() {
+      return this.wins;
+    }
+
+    /**
+     * Returns the number of games the strategy lost.
+     *
+     * @return the number of losses.
+     */
+    public int getLosses() {
+      return this.losses;
+    }
+
+    /**
+     * Returns the number of games that ended with as many tokens of each color.
+     *
+     * @return the number of draws.
+     */
+    public int getDraws() {
+      return this.draws;
+    }
+
+    /**
+     * Returns by how many tokens the strategy won its games on average, negative if it lost by
+     * more than it won by.
+     *
+     * @return the mean margin of the strategy.
+     */
+    public double getMeanMargin() {
+      return this.meanMargin;
+    }
+
+    /**
+     * Returns the Elo rating fitted to the games of the strategy.
+     *
+     * @return the Elo rating.
+     */
+    public double getElo() {
+      return this.elo;
+    }
+  }
+}
@@ -19,6 +19,7 @@ import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.event.MouseInputAdapter;
 
 import cs3500.reversi.controller.IPlayerFeature;
@@ -158,7 +159,11 @@ public class AbstractPanel extends JPanel {
               concat(" wins!") : " Stalemate";
       String message = "Game Over! " + winner;
       JOptionPane.showMessageDialog(this, message, "Game Over", JOptionPane.INFORMATION_MESSAGE);
-      System.exit(0);
+      // Close the window of this game only, the program ends once no windows are left.
+      Window window = SwingUtilities.getWindowAncestor(this);
+      if (window != null) {
+        window.dispose();
+      }
     }
   }
 
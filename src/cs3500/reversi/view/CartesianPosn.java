@@ -33,9 +33,9 @@ public class CartesianPosn {
    */
   public CartesianPosn getFromHexCell(ICell cell) {
     double sideLength = this.sideLength;
-    double x = sideLength * (Math.sqrt(3) * cell.getCoordinates().get(0)
-            + Math.sqrt(3) / 2 * cell.getCoordinates().get(1));
-    double y = -sideLength * (3.) / 2 * cell.getCoordinates().get(1);
+    double x = sideLength * (Math.sqrt(3) * cell.coordinate(0)
+            + Math.sqrt(3) / 2 * cell.coordinate(1));
+    double y = -sideLength * (3.) / 2 * cell.coordinate(1);
 
     return new CartesianPosn(x, y, sideLength);
   }
@@ -48,8 +48,8 @@ public class CartesianPosn {
    */
   public CartesianPosn getFromSquareCell(ICell cell) {
     double sideLength = this.sideLength;
-    double x = + sideLength * cell.getCoordinates().get(0);
-    double y = + sideLength * cell.getCoordinates().get(1);
+    double x = + sideLength * cell.coordinate(0);
+    double y = + sideLength * cell.coordinate(1);
 
     int xScale = (x < 0) ? -1 : 1;
     int yScale = (y < 0) ? -1 : 1;
@@ -9,6 +9,7 @@ import cs3500.reversi.model.HexagonBoard;
 import cs3500.reversi.model.IBoard;
 import cs3500.reversi.model.ICell;
 import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.ROModel;
 import cs3500.reversi.model.TokenColor;
 
 /**
@@ -160,4 +161,11 @@ public class MockModel implements IReversiModel {
     this.log.append("createBoardCopy called\n");
     return new HexagonBoard(6);
   }
+
+  @Override
+  public ROModel createModelCopy() {
+    // This does not concern testing.
+    this.log.append("createModelCopy called\n");
+    return this;
+  }
 }
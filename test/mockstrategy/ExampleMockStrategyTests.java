@@ -5,6 +5,8 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import cs3500.reversi.controller.Controller;
 import cs3500.reversi.model.HexagonReversi;
@@ -24,11 +26,13 @@ import cs3500.reversi.view.ReversiView;
 public class ExampleMockStrategyTests {
   private IReversiModel model;
   private StringBuilder strategyLog;
+  private CountDownLatch chosen;
 
   // Initialize the model, players, and controller
   private void init() {
     this.strategyLog = new StringBuilder();
-    Strategy mockStrategy = new MockStrategy(strategyLog);
+    this.chosen = new CountDownLatch(1);
+    Strategy mockStrategy = new MockStrategy(strategyLog, chosen);
     this.model = new HexagonReversi(6);
     IPlayer player1 = new AIPlayer(TokenColor.BLACK, mockStrategy, model);
     ReversiView view = new HexagonReversiView(model, TokenColor.BLACK);
@@ -36,10 +40,12 @@ public class ExampleMockStrategyTests {
   }
 
   @Test
-  public void testChooseMoveCalled() {
+  public void testChooseMoveCalled() throws InterruptedException {
     init();
     Assert.assertTrue(strategyLog.toString().isEmpty());
     model.startGame();
+    // The AI player chooses its move on its own thread.
+    Assert.assertTrue(chosen.await(5, TimeUnit.SECONDS));
     Assert.assertTrue(strategyLog.toString().contains("chooseMove called with filteredMoves " +
             "list of size: 6"));
   }
@@ -47,18 +53,22 @@ public class ExampleMockStrategyTests {
   // Mock Strategy class to test whether the chooseMove method is called
   private class MockStrategy implements Strategy {
     private final StringBuilder log;
+    private final CountDownLatch chosen;
 
     /**
      * Constructor for the mock strategy.
      * @param log the log to keep track of when methods are called.
+     * @param chosen the latch to count down once a move is chosen.
      */
-    public MockStrategy(StringBuilder log) {
+    public MockStrategy(StringBuilder log, CountDownLatch chosen) {
       this.log = log;
+      this.chosen = chosen;
     }
 
     @Override
     public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
       log.append("chooseMove called with filteredMoves list of size: " + filteredMoves.size());
+      chosen.countDown();
       return new ArrayList<>();
     }
   }
@@ -0,0 +1,118 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.HexagonCell;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.SquareCell;
+import cs3500.reversi.model.SquareReversi;
+
+/**
+ * This class contains tests for the geometry tables of the board shapes.
+ */
+public class ExampleBoardGeometryTests {
+
+  @Test
+  public void testHexagonCornersAreTheVertices() {
+    BoardGeometry geometry = BoardGeometry.hexagon(4);
+    Assert.assertEquals(Set.of(new HexagonCell(3, -3, 0), new HexagonCell(3, 0, -3),
+            new HexagonCell(0, 3, -3), new HexagonCell(-3, 3, 0), new HexagonCell(-3, 0, 3),
+            new HexagonCell(0, -3, 3)), Set.copyOf(geometry.getCornerCells()));
+    Assert.assertTrue(geometry.isCorner(new HexagonCell(0, -3, 3)));
+    Assert.assertFalse(geometry.isCorner(new HexagonCell(-1, -2, 3)));
+    Assert.assertFalse(geometry.isCorner(new HexagonCell(0, 0, 0)));
+  }
+
+  @Test
+  public void testHexagonEdgesAndXSquaresSurroundCorners() {
+    BoardGeometry geometry = BoardGeometry.hexagon(4);
+    // Each vertex has two neighbors on the outside ring and one further in.
+    Assert.assertEquals(18, geometry.getEdgeCells().size());
+    Assert.assertTrue(geometry.isEdge(new HexagonCell(1, -3, 2)));
+    Assert.assertTrue(geometry.isEdge(new HexagonCell(-1, -2, 3)));
+    Assert.assertTrue(geometry.isEdge(new HexagonCell(0, -2, 2)));
+    Assert.assertFalse(geometry.isEdge(new HexagonCell(0, 1, -1)));
+
+    Assert.assertEquals(6, geometry.getXSquareCells().size());
+    Assert.assertTrue(geometry.isXSquare(new HexagonCell(0, -2, 2)));
+    Assert.assertFalse(geometry.isXSquare(new HexagonCell(1, -3, 2)));
+    for (ICell xSquare : geometry.getXSquareCells()) {
+      Assert.assertTrue(geometry.isEdge(xSquare));
+    }
+  }
+
+  @Test
+  public void testSquareTables() {
+    BoardGeometry geometry = BoardGeometry.square(8);
+    Assert.assertEquals(Set.of(new SquareCell(-4, -4), new SquareCell(-4, 4),
+            new SquareCell(4, -4), new SquareCell(4, 4)), Set.copyOf(geometry.getCornerCells()));
+    Assert.assertEquals(12, geometry.getEdgeCells().size());
+    Assert.assertTrue(geometry.isEdge(new SquareCell(-4, -3)));
+    Assert.assertTrue(geometry.isEdge(new SquareCell(3, 3)));
+    Assert.assertFalse(geometry.isEdge(new SquareCell(-4, -2)));
+    Assert.assertEquals(Set.of(new SquareCell(-3, -3), new SquareCell(-3, 3),
+            new SquareCell(3, -3), new SquareCell(3, 3)), Set.copyOf(geometry.getXSquareCells()));
+  }
+
+  @Test
+  public void testRings() {
+    BoardGeometry hexagon = BoardGeometry.hexagon(6);
+    Assert.assertEquals(6, hexagon.getRingCount());
+    Assert.assertEquals(0, hexagon.ringOf(new HexagonCell(0, 0, 0)));
+    Assert.assertEquals(2, hexagon.ringOf(new HexagonCell(2, -1, -1)));
+    Assert.assertEquals(5, hexagon.ringOf(new HexagonCell(0, 5, -5)));
+    Assert.assertEquals(-1, hexagon.ringOf(new HexagonCell(0, 6, -6)));
+
+    BoardGeometry square = BoardGeometry.square(8);
+    Assert.assertEquals(4, square.getRingCount());
+    Assert.assertEquals(0, square.ringOf(new SquareCell(-1, 1)));
+    Assert.assertEquals(3, square.ringOf(new SquareCell(2, -4)));
+  }
+
+  @Test
+  public void testGeometryIsSharedBySize() {
+    Assert.assertSame(BoardGeometry.hexagon(5), BoardGeometry.hexagon(5));
+    Assert.assertSame(BoardGeometry.hexagon(5), new HexagonReversi(5).getGeometry());
+    Assert.assertSame(BoardGeometry.hexagon(5), BoardGeometry.of(new HexagonReversi(5, true)
+            .createBoardCopy()));
+    Assert.assertSame(BoardGeometry.square(8), new SquareReversi(8, true).getGeometry());
+    Assert.assertSame(BoardGeometry.square(6), BoardGeometry.of(new SquareReversi(6)
+            .createBoardCopy()));
+    Assert.assertNotSame(BoardGeometry.square(6), BoardGeometry.square(8));
+  }
+
+  @Test
+  public void testModelsAnswerFromGeometry() {
+    HexagonReversi model = new HexagonReversi(4);
+    List<ICell> corners = model.getCornerCells();
+    Assert.assertSame(corners, model.getCornerCells());
+    Assert.assertEquals(BoardGeometry.hexagon(4).getEdgeCells(), model.getEdgeCells());
+  }
+
+  @Test
+  public void testShapeAndCellIndices() {
+    BoardGeometry hexagon = BoardGeometry.hexagon(6);
+    Assert.assertTrue(hexagon.isHexagon());
+    Assert.assertEquals(6, hexagon.getSideLength());
+    Assert.assertEquals(91, hexagon.getCellCount());
+    for (int index = 0; index < hexagon.getCellCount(); index++) {
+      Assert.assertEquals(index, hexagon.indexOf(hexagon.cellAt(index)));
+    }
+    BoardGeometry square = BoardGeometry.square(8);
+    Assert.assertFalse(square.isHexagon());
+    Assert.assertEquals(8, square.getSideLength());
+    Assert.assertEquals(64, square.getCellCount());
+    Assert.assertEquals(-1, square.indexOf(new SquareCell(5, 5)));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testTablesCannotBeChanged() {
+    BoardGeometry.square(8).getCornerCells().clear();
+  }
+}
@@ -0,0 +1,145 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.BoardSymmetry;
+import cs3500.reversi.model.CanonicalPosition;
+import cs3500.reversi.model.HexagonCell;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.SquareCell;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * This class contains tests for the symmetries of the board shapes and canonical positions.
+ */
+public class ExampleBoardSymmetryTests {
+
+  // plays the given number of seeded random moves from the start of a game on the model.
+  private static IReversiModel playRandomly(IReversiModel model, int moves, long seed) {
+    Random random = new Random(seed);
+    model.startGame();
+    for (int i = 0; i < moves && !model.isGameOver(); i++) {
+      // Sorted, since boards of the same shape may list their moves in different orders.
+      List<ICell> valid = new ArrayList<>(model.getValidMoves(model.getCurrentColor()));
+      valid.sort(Comparator.comparingInt((ICell cell) -> cell.coordinate(0))
+              .thenComparingInt(cell -> cell.coordinate(1)));
+      if (valid.isEmpty()) {
+        model.passTurn(true);
+      } else {
+        model.placeCurrentPlayerPiece(valid.get(random.nextInt(valid.size())));
+      }
+    }
+    return model;
+  }
+
+  @Test
+  public void testTransformsArePermutationsWithInverses() {
+    for (BoardGeometry geometry : List.of(BoardGeometry.hexagon(6), BoardGeometry.square(8),
+            BoardGeometry.square(6))) {
+      BoardSymmetry symmetry = BoardSymmetry.of(geometry);
+      Assert.assertSame(symmetry, BoardSymmetry.of(geometry));
+      Assert.assertEquals(geometry.isHexagon() ? 12 : 8, symmetry.getTransformCount());
+      Set<String> images = new HashSet<>();
+      for (int t = 0; t < symmetry.getTransformCount(); t++) {
+        Set<Integer> seen = new HashSet<>();
+        StringBuilder image = new StringBuilder();
+        for (int i = 0; i < geometry.getCellCount(); i++) {
+          int to = symmetry.apply(t, i);
+          seen.add(to);
+          image.append(to).append(',');
+          Assert.assertEquals(i, symmetry.apply(symmetry.inverse(t), to));
+          Assert.assertEquals(geometry.isCorner(geometry.cellAt(i)),
+                  geometry.isCorner(geometry.cellAt(to)));
+        }
+        Assert.assertEquals(geometry.getCellCount(), seen.size());
+        images.add(image.toString());
+      }
+      // Every transform is a different one.
+      Assert.assertEquals(symmetry.getTransformCount(), images.size());
+      for (int i = 0; i < geometry.getCellCount(); i++) {
+        Assert.assertEquals(i, symmetry.apply(0, i));
+      }
+    }
+  }
+
+  @Test
+  public void testHexagonRotationAndReflection() {
+    BoardSymmetry symmetry = BoardSymmetry.of(BoardGeometry.hexagon(4));
+    Assert.assertEquals(new HexagonCell(1, 2, -3),
+            symmetry.apply(1, new HexagonCell(3, -1, -2)));
+    Assert.assertEquals(new HexagonCell(3, -2, -1),
+            symmetry.apply(6, new HexagonCell(3, -1, -2)));
+    Assert.assertEquals(new SquareCell(2, -4),
+            BoardSymmetry.of(BoardGeometry.square(8)).apply(1, new SquareCell(4, 2)));
+  }
+
+  @Test
+  public void testSymmetricPositionsShareCanonicalKey() {
+    for (IReversiModel model : List.of(playRandomly(new HexagonReversi(6), 20, 3),
+            playRandomly(new SquareReversi(8), 20, 3), playRandomly(new SquareReversi(6), 10, 5))) {
+      IBoard board = model.createBoardCopy();
+      BoardSymmetry symmetry = BoardSymmetry.of(model.getGeometry());
+      CanonicalPosition canonical = symmetry.canonicalize(board);
+      IBoard canonicalBoard = symmetry.apply(canonical.getTransform(), board);
+      Assert.assertEquals(canonical.getKey(), canonicalBoard.getPositionKey());
+      for (int t = 0; t < symmetry.getTransformCount(); t++) {
+        IBoard image = symmetry.apply(t, board);
+        CanonicalPosition fromImage = symmetry.canonicalize(image);
+        Assert.assertEquals(canonical.getKey(), fromImage.getKey());
+        Assert.assertEquals(canonicalBoard.getPositionsMapCopy(),
+                symmetry.apply(fromImage.getTransform(), image).getPositionsMapCopy());
+      }
+      Assert.assertEquals(board.getPositionKey(),
+              symmetry.apply(symmetry.inverse(canonical.getTransform()), canonicalBoard)
+                      .getPositionKey());
+    }
+  }
+
+  @Test
+  public void testBitboardsCanonicalizeLikeBoards() {
+    for (boolean hexagon : new boolean[]{true, false}) {
+      IReversiModel plain = hexagon ? new HexagonReversi(6) : new SquareReversi(8);
+      IReversiModel bitboard = hexagon ? new HexagonReversi(6, true) : new SquareReversi(8, true);
+      playRandomly(plain, 30, 11);
+      playRandomly(bitboard, 30, 11);
+      BoardSymmetry symmetry = BoardSymmetry.of(plain.getGeometry());
+      CanonicalPosition expected = symmetry.canonicalize(plain.createBoardCopy());
+      CanonicalPosition actual = symmetry.canonicalize(bitboard.createBoardCopy());
+      Assert.assertEquals(expected.getKey(), actual.getKey());
+      Assert.assertEquals(expected.getTransform(), actual.getTransform());
+    }
+  }
+
+  @Test
+  public void testMovesMapIntoAndOutOfCanonicalForm() {
+    IReversiModel model = playRandomly(new HexagonReversi(6), 15, 7);
+    IBoard board = model.createBoardCopy();
+    BoardSymmetry symmetry = BoardSymmetry.of(model.getGeometry());
+    CanonicalPosition canonical = symmetry.canonicalize(board);
+    IBoard canonicalBoard = symmetry.apply(canonical.getTransform(), board);
+    TokenColor color = model.getCurrentColor();
+    for (ICell move : model.getValidMoves(color)) {
+      ICell mapped = canonical.toCanonical(move);
+      Assert.assertTrue(canonicalBoard.validMove(mapped, color, false));
+      Assert.assertEquals(move, canonical.fromCanonical(mapped));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoSuchTransformThrows() {
+    BoardSymmetry.of(BoardGeometry.square(8)).apply(8, 0);
+  }
+}
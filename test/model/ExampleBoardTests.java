@@ -2,10 +2,14 @@ package model;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntFunction;
 
+import cs3500.reversi.model.HexagonBitboard;
 import cs3500.reversi.model.TokenColor;
 import cs3500.reversi.model.HexagonBoard;
 import cs3500.reversi.model.HexagonCell;
@@ -13,14 +17,27 @@ import cs3500.reversi.model.IBoard;
 
 
 /**
- * This class contains tests for the HexagonBoard class.d
+ * This class contains tests for the HexagonBoard class, run against both the map-backed board and
+ * the HexagonBitboard.
  */
+@RunWith(Parameterized.class)
 public class ExampleBoardTests {
 
+  private final IntFunction<IBoard> newBoard;
   IBoard hexagonBoardThree;
 
+  public ExampleBoardTests(String name, IntFunction<IBoard> newBoard) {
+    this.newBoard = newBoard;
+  }
+
+  @Parameterized.Parameters(name = "{0}")
+  public static List<Object[]> boards() {
+    return List.of(new Object[]{"HexagonBoard", (IntFunction<IBoard>) HexagonBoard::new},
+            new Object[]{"HexagonBitboard", (IntFunction<IBoard>) HexagonBitboard::new});
+  }
+
   private void init() {
-    this.hexagonBoardThree = new HexagonBoard(3);
+    this.hexagonBoardThree = this.newBoard.apply(3);
     hexagonBoardThree.newCellOwner(new HexagonCell(0, 0, 0), Optional.empty());
     hexagonBoardThree.newCellOwner(new HexagonCell(1, -1, 0), Optional.of(TokenColor.BLACK));
     hexagonBoardThree.newCellOwner(new HexagonCell(1, 0, -1), Optional.of(TokenColor.BLACK));
@@ -76,6 +93,12 @@ public class ExampleBoardTests {
             Optional.of(TokenColor.WHITE));
   }
 
+  @Test(expected = IllegalArgumentException.class)
+  public void testAddingNullColor() {
+    this.init();
+    this.hexagonBoardThree.newCellOwner(new HexagonCell(0, 0, 0), null);
+  }
+
 
   // TESTS FOR GETCELLOCCUPANT
   @Test
@@ -268,6 +291,6 @@ public class ExampleBoardTests {
 
   @Test(expected = IllegalArgumentException.class)
   public void testBoardLessThanThreeRingsThrows() {
-    IBoard board = new HexagonBoard(2);
+    IBoard board = this.newBoard.apply(2);
   }
 }
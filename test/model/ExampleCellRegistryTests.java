@@ -0,0 +1,82 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import cs3500.reversi.model.HexagonCell;
+import cs3500.reversi.model.HexagonCellRegistry;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.SquareCell;
+import cs3500.reversi.model.SquareCellRegistry;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * This class contains tests for the registries of canonical cells of every board size.
+ */
+public class ExampleCellRegistryTests {
+
+  @Test
+  public void testHexagonRegistryIndicesAreDense() {
+    HexagonCellRegistry registry = HexagonCellRegistry.forSideLength(6);
+    Assert.assertSame(registry, HexagonCellRegistry.forSideLength(6));
+    Assert.assertEquals(91, registry.size());
+    for (int index = 0; index < registry.size(); index++) {
+      HexagonCell cell = registry.get(index);
+      Assert.assertEquals(index, cell.index());
+      Assert.assertEquals(index, registry.indexOf(cell));
+      Assert.assertEquals(index, registry.indexOf(cell.q(), cell.r()));
+      Assert.assertSame(cell, registry.get(cell.q(), cell.r()));
+      Assert.assertEquals(cell.getCoordinates().get(2).intValue(), cell.coordinate(2));
+    }
+  }
+
+  @Test
+  public void testHexagonRegistryInternsEqualCells() {
+    HexagonCellRegistry registry = HexagonCellRegistry.forSideLength(6);
+    ICell made = new HexagonCell(2, -1, -1);
+    Assert.assertEquals(-1, ((HexagonCell) made).index());
+    Assert.assertSame(registry.get(2, -1), registry.intern(made));
+    Assert.assertEquals(made, registry.intern(made));
+
+    ICell offBoard = new HexagonCell(6, -6, 0);
+    Assert.assertEquals(-1, registry.indexOf(offBoard));
+    Assert.assertSame(offBoard, registry.intern(offBoard));
+  }
+
+  @Test
+  public void testSquareRegistrySkipsZero() {
+    SquareCellRegistry registry = SquareCellRegistry.forSideLength(8);
+    Assert.assertEquals(64, registry.size());
+    Assert.assertEquals(0, registry.indexOf(-4, -4));
+    Assert.assertEquals(63, registry.indexOf(4, 4));
+    Assert.assertEquals(-1, registry.indexOf(0, 1));
+    Assert.assertEquals(-1, registry.indexOf(5, 1));
+    Assert.assertSame(registry.get(1, -1), registry.intern(new SquareCell(1, -1)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testHexagonRegistryRejectsOffBoardLookup() {
+    HexagonCellRegistry.forSideLength(3).get(3, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSquareRegistryRejectsOddSideLength() {
+    SquareCellRegistry.forSideLength(7);
+  }
+
+  @Test
+  public void testModelsHandOutCanonicalCells() {
+    HexagonReversi hex = new HexagonReversi(6);
+    hex.startGame();
+    for (ICell move : hex.getValidMoves(TokenColor.BLACK)) {
+      Assert.assertSame(HexagonCellRegistry.forSideLength(6).intern(move), move);
+    }
+    SquareReversi square = new SquareReversi(8);
+    square.startGame();
+    for (ICell move : square.getValidMoves(TokenColor.BLACK)) {
+      Assert.assertSame(SquareCellRegistry.forSideLength(8).intern(move), move);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import cs3500.reversi.model.HexagonCell;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * This class contains tests for the HexagonBitboard class that only apply to the bitboard. The
+ * board contract itself is tested against both engines by ExampleBoardTests.
+ */
+public class ExampleHexagonBitboardTests {
+
+  @Test
+  public void testCopyDoesNotShareState() {
+    HexagonReversi model = new HexagonReversi(4, true);
+    IBoard copy = model.createBoardCopy();
+    copy.newCellOwner(new HexagonCell(0, 0, 0), Optional.of(TokenColor.WHITE));
+    Assert.assertTrue(model.getCellState(new HexagonCell(0, 0, 0)).isEmpty());
+  }
+
+  @Test
+  public void testRandomGamesAgreeWithHexagonBoard() {
+    Random random = new Random(3500);
+    for (int game = 0; game < 20; game++) {
+      IBoard reference = new HexagonReversi(6).createBoardCopy();
+      IBoard bitboard = new HexagonReversi(6, true).createBoardCopy();
+      TokenColor color = TokenColor.BLACK;
+      int passes = 0;
+      while (passes < 2) {
+        List<ICell> expected = reference.validMovesLeft(color);
+        List<ICell> actual = bitboard.validMovesLeft(color);
+        Assert.assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+        if (actual.isEmpty()) {
+          passes++;
+        } else {
+          passes = 0;
+          ICell move = actual.get(random.nextInt(actual.size()));
+          reference.validMove(move, color, true);
+          reference.newCellOwner(move, Optional.of(color));
+          bitboard.validMove(move, color, true);
+          bitboard.newCellOwner(move, Optional.of(color));
+        }
+        Assert.assertEquals(reference.getPositionsMapCopy(), bitboard.getPositionsMapCopy());
+        color = color.next();
+      }
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.MoveUndo;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * This class contains tests for the legal moves the boards keep up to date across moves.
+ */
+public class ExampleLegalMoveCacheTests {
+
+  // finds the legal moves of the color by checking every empty cell of the board
+  private Set<ICell> scanMoves(IBoard board, TokenColor color) {
+    Set<ICell> moves = new HashSet<>();
+    for (ICell cell : board.getPositionsMapCopy().keySet()) {
+      if (board.getCellOccupant(cell).isEmpty() && board.validMove(cell, color, false)) {
+        moves.add(cell);
+      }
+    }
+    return moves;
+  }
+
+  // plays a random game, mixing make/undo with the model style of flipping and placing, and
+  // checks the cached moves of both colors against a full scan after every change
+  private void checkCacheMatchesScan(IBoard board, long seed) {
+    Random random = new Random(seed);
+    MoveUndo undo = new MoveUndo();
+    TokenColor color = TokenColor.BLACK;
+    int passes = 0;
+    while (passes < 2) {
+      for (TokenColor c : TokenColor.values()) {
+        Assert.assertEquals(scanMoves(board, c), new HashSet<>(board.validMovesLeft(c)));
+      }
+      List<ICell> moves = board.validMovesLeft(color);
+      if (moves.isEmpty()) {
+        passes++;
+      } else {
+        passes = 0;
+        board.makeMove(moves.get(random.nextInt(moves.size())), color, undo);
+        Assert.assertEquals(scanMoves(board, color.next()),
+                new HashSet<>(board.validMovesLeft(color.next())));
+        board.undoMove(undo);
+        Assert.assertEquals(new HashSet<>(moves), new HashSet<>(board.validMovesLeft(color)));
+
+        ICell move = moves.get(random.nextInt(moves.size()));
+        if (random.nextBoolean()) {
+          board.makeMove(move, color, undo);
+        } else {
+          board.validMove(move, color, true);
+          board.newCellOwner(move, Optional.of(color));
+        }
+      }
+      color = color.next();
+    }
+  }
+
+  @Test
+  public void testHexagonBoardCache() {
+    checkCacheMatchesScan(new HexagonReversi(5).createBoardCopy(), 5);
+  }
+
+  @Test
+  public void testHexagonBitboardCache() {
+    checkCacheMatchesScan(new HexagonReversi(6, true).createBoardCopy(), 6);
+  }
+
+  @Test
+  public void testSquareBoardCache() {
+    checkCacheMatchesScan(new SquareReversi(8).createBoardCopy(), 7);
+  }
+
+  @Test
+  public void testSquareBitboardCache() {
+    checkCacheMatchesScan(new SquareReversi(8, true).createBoardCopy(), 8);
+  }
+
+  @Test
+  public void testRepeatedCallsReturnSameList() {
+    IBoard board = new HexagonReversi(6).createBoardCopy();
+    List<ICell> moves = board.validMovesLeft(TokenColor.BLACK);
+    Assert.assertSame(moves, board.validMovesLeft(TokenColor.BLACK));
+    board.makeMove(moves.get(0), TokenColor.BLACK);
+    Assert.assertNotSame(moves, board.validMovesLeft(TokenColor.BLACK));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testCachedMovesCannotBeModified() {
+    IBoard board = new SquareReversi(8).createBoardCopy();
+    board.validMovesLeft(TokenColor.BLACK).clear();
+  }
+}
@@ -0,0 +1,158 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import cs3500.reversi.model.HexagonCell;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.MoveUndo;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * This class contains tests for making and undoing moves on every IBoard implementation.
+ */
+public class ExampleMoveUndoTests {
+
+  // plays a random game on the board, undoing every legal move once before playing one
+  private void checkMakeUndoRestoresBoard(IBoard board, long seed) {
+    Random random = new Random(seed);
+    MoveUndo undo = new MoveUndo();
+    TokenColor color = TokenColor.BLACK;
+    int passes = 0;
+    while (passes < 2) {
+      List<ICell> moves = board.validMovesLeft(color);
+      if (moves.isEmpty()) {
+        passes++;
+      } else {
+        passes = 0;
+        Map<ICell, Optional<TokenColor>> before = board.getPositionsMapCopy();
+        for (ICell move : moves) {
+          long key = board.getPositionKey();
+          int counted = board.countFlips(move, color);
+          Assert.assertEquals(key, board.getPositionKey());
+          board.makeMove(move, color, undo);
+          Assert.assertEquals(board.getCellOccupant(move), Optional.of(color));
+          Assert.assertEquals(move, undo.getPlacedCell());
+          Assert.assertTrue(undo.getFlipCount() > 0);
+          Assert.assertEquals(counted, undo.getFlipCount());
+          board.undoMove(undo);
+          Assert.assertEquals(before, board.getPositionsMapCopy());
+        }
+        checkCounts(board);
+        board.makeMove(moves.get(random.nextInt(moves.size())), color, undo);
+      }
+      color = color.next();
+    }
+  }
+
+  // checks the kept token counts against a count of the tokens on the board
+  private void checkCounts(IBoard board) {
+    int black = 0;
+    int white = 0;
+    for (Optional<TokenColor> occupant : board.getPositionsMapCopy().values()) {
+      if (occupant.equals(Optional.of(TokenColor.BLACK))) {
+        black++;
+      } else if (occupant.equals(Optional.of(TokenColor.WHITE))) {
+        white++;
+      }
+    }
+    Assert.assertEquals(black, board.getColorCount(TokenColor.BLACK));
+    Assert.assertEquals(white, board.getColorCount(TokenColor.WHITE));
+    Assert.assertEquals(black - white, board.scoreDifference(TokenColor.BLACK));
+    Assert.assertEquals(white - black, board.scoreDifference(TokenColor.WHITE));
+  }
+
+  @Test
+  public void testCountsFollowModelStyleMoves() {
+    IBoard board = new HexagonReversi(5, true).createBoardCopy();
+    ICell cell = board.validMovesLeft(TokenColor.BLACK).get(0);
+    board.validMove(cell, TokenColor.BLACK, true);
+    board.newCellOwner(cell, Optional.of(TokenColor.BLACK));
+    checkCounts(board);
+    board.newCellOwner(cell, Optional.of(TokenColor.WHITE));
+    checkCounts(board);
+    board.newCellOwner(cell, Optional.empty());
+    checkCounts(board);
+  }
+
+  @Test
+  public void testMakeUndoHexagonBoard() {
+    checkMakeUndoRestoresBoard(new HexagonReversi(5).createBoardCopy(), 1);
+  }
+
+  @Test
+  public void testMakeUndoHexagonBitboard() {
+    checkMakeUndoRestoresBoard(new HexagonReversi(5, true).createBoardCopy(), 1);
+  }
+
+  @Test
+  public void testMakeUndoSquareBoard() {
+    checkMakeUndoRestoresBoard(new SquareReversi(8).createBoardCopy(), 2);
+  }
+
+  @Test
+  public void testMakeUndoSquareBitboard() {
+    checkMakeUndoRestoresBoard(new SquareReversi(8, true).createBoardCopy(), 2);
+  }
+
+  @Test
+  public void testMakeMoveMatchesValidMoveAndPlace() {
+    IBoard board = new HexagonReversi(4).createBoardCopy();
+    IBoard expected = new HexagonReversi(4).createBoardCopy();
+    ICell cell = board.validMovesLeft(TokenColor.BLACK).get(0);
+    MoveUndo undo = board.makeMove(cell, TokenColor.BLACK);
+    expected.validMove(cell, TokenColor.BLACK, true);
+    expected.newCellOwner(cell, Optional.of(TokenColor.BLACK));
+    Assert.assertEquals(expected.getPositionsMapCopy(), board.getPositionsMapCopy());
+    Assert.assertEquals(undo.getFlipCount(), 1);
+  }
+
+  @Test
+  public void testCellsFlippedDoesNotChangeTheModel() {
+    for (IReversiModel model : List.of(new HexagonReversi(5), new HexagonReversi(5, true),
+            new SquareReversi(8), new SquareReversi(8, true))) {
+      model.startGame();
+      Map<ICell, Optional<TokenColor>> before = model.createBoardCopy().getPositionsMapCopy();
+      IBoard board = model.createBoardCopy();
+      for (ICell move : model.getValidMoves(TokenColor.BLACK)) {
+        Assert.assertEquals(board.countFlips(move, TokenColor.BLACK),
+                model.cellsFlipped(move, TokenColor.BLACK));
+      }
+      for (ICell cell : before.keySet()) {
+        if (before.get(cell).isEmpty() && board.countFlips(cell, TokenColor.WHITE) == 0) {
+          // A move that captures nothing loses every token of the color, as before.
+          Assert.assertEquals(-model.getScore(TokenColor.WHITE),
+                  model.cellsFlipped(cell, TokenColor.WHITE));
+        }
+      }
+      Assert.assertEquals(before, model.createBoardCopy().getPositionsMapCopy());
+    }
+  }
+
+  @Test
+  public void testCountFlipsOfMoveThatCapturesNothing() {
+    IBoard board = new HexagonReversi(4, true).createBoardCopy();
+    Assert.assertEquals(0, board.countFlips(new HexagonCell(0, 0, 0), TokenColor.BLACK));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testMakeMoveThatCapturesNothingThrows() {
+    IBoard board = new HexagonReversi(4, true).createBoardCopy();
+    board.makeMove(new HexagonCell(0, 0, 0), TokenColor.BLACK);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMakeMoveNullRecordThrows() {
+    IBoard board = new HexagonReversi(4).createBoardCopy();
+    board.makeMove(board.validMovesLeft(TokenColor.BLACK).get(0), TokenColor.BLACK, null);
+  }
+}
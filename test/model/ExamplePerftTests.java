@@ -0,0 +1,225 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import cs3500.reversi.model.HexagonCell;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.Perft;
+import cs3500.reversi.model.SquareCell;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * This class contains tests for Perft, and checks every board implementation against the counts
+ * of the reference boards in perft.txt. A new board implementation should be added to
+ * testBitboardsMatchFixtures or a test like it.
+ */
+public class ExamplePerftTests {
+  // The map boards are only checked on the smaller counts, to keep the tests fast.
+  private static final long MAP_BOARD_LIMIT = 400_000;
+
+  // one line of perft.txt.
+  private static final class Fixture {
+    private final String board;
+    private final int depth;
+    private final long leaves;
+    // the moves played before counting, as coordinates joined by commas or "pass"
+    private final List<String> moves;
+
+    private Fixture(String board, int depth, long leaves, List<String> moves) {
+      this.board = board;
+      this.depth = depth;
+      this.leaves = leaves;
+      this.moves = moves;
+    }
+  }
+
+  private static List<Fixture> readFixtures() throws IOException {
+    List<Fixture> fixtures = new ArrayList<>();
+    InputStream in = ExamplePerftTests.class.getResourceAsStream("perft.txt");
+    Assert.assertNotNull("perft.txt is missing", in);
+    try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(in, StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith("#")) {
+          continue;
+        }
+        String[] parts = line.split("\\s+");
+        fixtures.add(new Fixture(parts[0], Integer.parseInt(parts[1]),
+                Long.parseLong(parts[2]), List.of(parts).subList(3, parts.length)));
+      }
+    }
+    return fixtures;
+  }
+
+  private static IReversiModel start(String board, boolean bitboard) {
+    IReversiModel model = board.startsWith("hex")
+            ? new HexagonReversi(Integer.parseInt(board.substring(3)), bitboard)
+            : new SquareReversi(Integer.parseInt(board.substring(6)), bitboard);
+    model.startGame();
+    return model;
+  }
+
+  // plays the moves of a fixture on the model.
+  private static void play(IReversiModel model, List<String> moves) {
+    for (String move : moves) {
+      if (move.equals("pass")) {
+        model.passTurn(true);
+        continue;
+      }
+      String[] coordinates = move.split(",");
+      ICell cell = coordinates.length == 3
+              ? new HexagonCell(Integer.parseInt(coordinates[0]),
+              Integer.parseInt(coordinates[1]), Integer.parseInt(coordinates[2]))
+              : new SquareCell(Integer.parseInt(coordinates[0]), Integer.parseInt(coordinates[1]));
+      model.placeCurrentPlayerPiece(cell);
+    }
+  }
+
+  private static void assertMatches(Fixture fixture, boolean bitboard) {
+    IReversiModel model = start(fixture.board, bitboard);
+    play(model, fixture.moves);
+    Perft perft = new Perft(model.createBoardCopy());
+    String name = fixture.board + (bitboard ? "-bitboard" : "") + " depth " + fixture.depth;
+    Assert.assertEquals(name, fixture.leaves, perft.count(model.getCurrentColor(),
+            fixture.depth));
+    if (!fixture.moves.isEmpty()) {
+      // The split counts of a position in the middle of a game, such as a pass, add up too.
+      long total = 0;
+      for (long leaves : perft.divide(model.getCurrentColor(), fixture.depth).values()) {
+        total += leaves;
+      }
+      Assert.assertEquals(name, fixture.leaves, total);
+    }
+  }
+
+  @Test
+  public void testMapBoardsMatchFixtures() throws IOException {
+    for (Fixture fixture : readFixtures()) {
+      if (fixture.leaves <= MAP_BOARD_LIMIT) {
+        assertMatches(fixture, false);
+      }
+    }
+  }
+
+  @Test
+  public void testBitboardsMatchFixtures() throws IOException {
+    for (Fixture fixture : readFixtures()) {
+      // The square bitboard only supports the 8x8 board.
+      if (fixture.board.startsWith("hex") || fixture.board.equals("square8")) {
+        assertMatches(fixture, true);
+      }
+    }
+  }
+
+  @Test
+  public void testStandardSquareCounts() {
+    IReversiModel model = start("square8", true);
+    Perft perft = new Perft(model.createBoardCopy());
+    long[] expected = {1, 4, 12, 56, 244, 1396, 8200, 55092, 390216};
+    for (int depth = 0; depth < expected.length; depth++) {
+      Assert.assertEquals(expected[depth], perft.count(TokenColor.BLACK, depth));
+    }
+    Assert.assertEquals(390216, perft.getLastLeaves());
+    Assert.assertTrue(perft.getLastLeavesPerSecond() > 0);
+  }
+
+  @Test
+  public void testDivideAddsUpToCount() {
+    for (boolean bitboard : new boolean[]{false, true}) {
+      IReversiModel model = start("hex6", bitboard);
+      IBoard board = model.createBoardCopy();
+      Perft perft = new Perft(board);
+      Map<Optional<ICell>, Long> counts = perft.divide(model.getCurrentColor(), 5);
+      List<ICell> moves = new ArrayList<>();
+      for (Optional<ICell> move : counts.keySet()) {
+        moves.add(move.orElseThrow());
+      }
+      Assert.assertEquals(board.validMovesLeft(model.getCurrentColor()), moves);
+      long total = 0;
+      for (long leaves : counts.values()) {
+        total += leaves;
+      }
+      Assert.assertEquals(780, total);
+      Assert.assertEquals(780, perft.getLastLeaves());
+    }
+  }
+
+  @Test
+  public void testCountLeavesBoardUnchanged() {
+    IReversiModel model = start("hex5", true);
+    IBoard board = model.createBoardCopy();
+    Map<ICell, Optional<TokenColor>> before = board.getPositionsMapCopy();
+    long key = board.getPositionKey();
+    new Perft(board).count(TokenColor.BLACK, 6);
+    Assert.assertEquals(before, board.getPositionsMapCopy());
+    Assert.assertEquals(key, board.getPositionKey());
+  }
+
+  @Test
+  public void testPassTakesUpAPly() {
+    // Plays seeded random moves on a small board until the color to move has to pass.
+    IReversiModel model = start("square4", false);
+    Random random = new Random(7);
+    TokenColor color = model.getCurrentColor();
+    while (!model.getValidMoves(color).isEmpty()
+            || model.getValidMoves(color.next()).isEmpty()) {
+      if (model.isGameOver()) {
+        model = start("square4", false);
+      } else if (model.getValidMoves(color).isEmpty()) {
+        model.passTurn(true);
+      } else {
+        List<ICell> moves = model.getValidMoves(color);
+        model.placeCurrentPlayerPiece(moves.get(random.nextInt(moves.size())));
+      }
+      color = model.getCurrentColor();
+    }
+
+    IBoard board = model.createBoardCopy();
+    Perft perft = new Perft(board);
+    Assert.assertEquals(1, perft.count(color, 1));
+    Assert.assertEquals(board.validMovesLeft(color.next()).size(), perft.count(color, 2));
+    // The pass is the only root move of divide, and its count is the count of the position.
+    Assert.assertEquals(Map.of(Optional.empty(), perft.count(color, 2)), perft.divide(color, 2));
+    Assert.assertEquals(perft.count(color, 2), perft.getLastLeaves());
+  }
+
+  @Test
+  public void testGameOverIsOneLeaf() {
+    IReversiModel model = start("hex3", false);
+    Perft perft = new Perft(model.createBoardCopy());
+    Assert.assertEquals(perft.count(TokenColor.BLACK, 5), perft.count(TokenColor.BLACK, 20));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullBoard() {
+    new Perft(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeDepth() {
+    new Perft(new SquareReversi(8).createBoardCopy()).count(TokenColor.BLACK, -1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullColor() {
+    new Perft(new SquareReversi(8).createBoardCopy()).divide(null, 1);
+  }
+}
@@ -0,0 +1,71 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.SquareBitboardEngine;
+import cs3500.reversi.model.SquareCell;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * This class contains tests for the SquareBitboard and SquareBitboardEngine classes that only
+ * apply to the bitboard. The board contract itself is tested against both engines by
+ * ExampleSquareEightBoardTests.
+ */
+public class ExampleSquareBitboardTests {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testZeroCoordinateIsOutOfBounds() {
+    new SquareReversi(8, true).createBoardCopy().getCellOccupant(new SquareCell(0, 1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBitboardOnlySupportsEight() {
+    new SquareReversi(6, true);
+  }
+
+  @Test
+  public void testEngineDoesNotWrapAroundColumns() {
+    // black on the last column of row 0, white on the last column of row 1 and the first of row 2
+    long player = 1L << 7;
+    long opponent = (1L << 15) | (1L << 16);
+    Assert.assertEquals(SquareBitboardEngine.legalMoves(player, opponent), 1L << 23);
+    Assert.assertEquals(SquareBitboardEngine.flips(player, opponent, 23), 1L << 15);
+  }
+
+  @Test
+  public void testRandomGamesAgreeWithSquareBoard() {
+    Random random = new Random(3500);
+    for (int game = 0; game < 50; game++) {
+      IBoard reference = new SquareReversi(8).createBoardCopy();
+      IBoard bitboard = new SquareReversi(8, true).createBoardCopy();
+      TokenColor color = TokenColor.BLACK;
+      int passes = 0;
+      while (passes < 2) {
+        List<ICell> expected = reference.validMovesLeft(color);
+        List<ICell> actual = bitboard.validMovesLeft(color);
+        Assert.assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+        if (actual.isEmpty()) {
+          passes++;
+        } else {
+          passes = 0;
+          ICell move = actual.get(random.nextInt(actual.size()));
+          reference.validMove(move, color, true);
+          reference.newCellOwner(move, Optional.of(color));
+          bitboard.validMove(move, color, true);
+          bitboard.newCellOwner(move, Optional.of(color));
+        }
+        Assert.assertEquals(reference.getPositionsMapCopy(), bitboard.getPositionsMapCopy());
+        color = color.next();
+      }
+    }
+  }
+}
@@ -0,0 +1,162 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.SquareCell;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * This class contains tests for the boards of an 8x8 SquareReversi, run against both the
+ * map-backed SquareBoard and the SquareBitboard. The smaller boards of ExampleSquareBoardTests
+ * have no bitboard.
+ */
+@RunWith(Parameterized.class)
+public class ExampleSquareEightBoardTests {
+
+  private final boolean useBitboard;
+  IBoard board;
+
+  public ExampleSquareEightBoardTests(String name, boolean useBitboard) {
+    this.useBitboard = useBitboard;
+  }
+
+  @Parameterized.Parameters(name = "{0}")
+  public static List<Object[]> boards() {
+    return List.of(new Object[]{"SquareBoard", false}, new Object[]{"SquareBitboard", true});
+  }
+
+  private void init() {
+    this.board = new SquareReversi(8, this.useBitboard).createBoardCopy();
+  }
+
+  // TESTS FOR NEWCELLOWNER
+  @Test
+  public void testAddingToCellWithoutOwner() {
+    this.init();
+    this.board.newCellOwner(new SquareCell(-4, -4), Optional.of(TokenColor.BLACK));
+    Assert.assertEquals(this.board.getCellOccupant(new SquareCell(-4, -4)),
+            Optional.of(TokenColor.BLACK));
+    Assert.assertEquals(this.board.getColorCount(TokenColor.BLACK), 3);
+  }
+
+  @Test
+  public void testAddingToCellWithOwner() {
+    this.init();
+    this.board.newCellOwner(new SquareCell(1, 1), Optional.of(TokenColor.WHITE));
+    Assert.assertEquals(this.board.getCellOccupant(new SquareCell(1, 1)),
+            Optional.of(TokenColor.WHITE));
+    Assert.assertEquals(this.board.getColorCount(TokenColor.BLACK), 1);
+    Assert.assertEquals(this.board.getColorCount(TokenColor.WHITE), 3);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAddingOutOfBounds() {
+    this.init();
+    this.board.newCellOwner(new SquareCell(9, 1), Optional.of(TokenColor.WHITE));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAddingNullCell() {
+    this.init();
+    this.board.newCellOwner(null, Optional.of(TokenColor.WHITE));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAddingNullColor() {
+    this.init();
+    this.board.newCellOwner(new SquareCell(-4, -4), null);
+  }
+
+  // TESTS FOR GETCELLOCCUPANT
+  @Test
+  public void testGetEmptyCell() {
+    this.init();
+    Assert.assertTrue(this.board.getCellOccupant(new SquareCell(-4, -4)).isEmpty());
+  }
+
+  @Test
+  public void testGetNonEmptyCell() {
+    this.init();
+    Assert.assertEquals(this.board.getCellOccupant(new SquareCell(1, 1)),
+            Optional.of(TokenColor.BLACK));
+    Assert.assertEquals(this.board.getCellOccupant(new SquareCell(-1, 1)),
+            Optional.of(TokenColor.WHITE));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetOutOfBounds() {
+    this.init();
+    this.board.getCellOccupant(new SquareCell(-9, 1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetNullCellState() {
+    this.init();
+    this.board.getCellOccupant(null);
+  }
+
+  // TESTS FOR VALIDMOVE
+  @Test(expected = IllegalArgumentException.class)
+  public void testValidMoveOutOfBounds() {
+    this.init();
+    this.board.validMove(new SquareCell(9, 1), TokenColor.WHITE, false);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testValidMoveNullCell() {
+    this.init();
+    this.board.validMove(null, TokenColor.WHITE, false);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testValidMoveOccupiedCellThrowsException() {
+    this.init();
+    this.board.validMove(new SquareCell(1, 1), TokenColor.WHITE, false);
+  }
+
+  @Test
+  public void testValidMoveWithFlippingBool() {
+    this.init();
+    Assert.assertTrue(this.board.validMove(new SquareCell(-2, 1), TokenColor.BLACK, true));
+    Assert.assertEquals(this.board.getCellOccupant(new SquareCell(-1, 1)),
+            Optional.of(TokenColor.BLACK));
+    // The token itself is not placed.
+    Assert.assertTrue(this.board.getCellOccupant(new SquareCell(-2, 1)).isEmpty());
+    Assert.assertEquals(this.board.getColorCount(TokenColor.BLACK), 3);
+    Assert.assertEquals(this.board.getColorCount(TokenColor.WHITE), 1);
+  }
+
+  @Test
+  public void testValidMoveWithoutFlippingBool() {
+    this.init();
+    Assert.assertTrue(this.board.validMove(new SquareCell(-2, 1), TokenColor.BLACK, false));
+    Assert.assertEquals(this.board.getCellOccupant(new SquareCell(-1, 1)),
+            Optional.of(TokenColor.WHITE));
+  }
+
+  @Test
+  public void testInvalidMoveWithFlippingBool() {
+    this.init();
+    Assert.assertFalse(this.board.validMove(new SquareCell(-4, -4), TokenColor.BLACK, true));
+    Assert.assertEquals(this.board.getColorCount(TokenColor.BLACK), 2);
+    Assert.assertEquals(this.board.getColorCount(TokenColor.WHITE), 2);
+  }
+
+  @Test
+  public void testValidMovesLeft() {
+    this.init();
+    Assert.assertEquals(new HashSet<>(this.board.validMovesLeft(TokenColor.BLACK)),
+            new HashSet<>(List.of(new SquareCell(-2, 1), new SquareCell(1, -2),
+                    new SquareCell(-1, 2), new SquareCell(2, -1))));
+    Assert.assertEquals(this.board.validMovesLeft(TokenColor.WHITE).size(), 4);
+  }
+}
@@ -13,6 +13,7 @@ import cs3500.reversi.player.HumanPlayer;
 import cs3500.reversi.model.IBoard;
 import cs3500.reversi.player.IPlayer;
 import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.ROModel;
 
 /**
  * This class contains tests for the SquareBoard class.
@@ -53,6 +54,47 @@ public class ExampleSquareModelTests {
     Assert.assertEquals(this.basicModelFour.getDimensions(), 4);
   }
 
+  @Test
+  public void testModelCopyOfSmallestGame() {
+    ROModel copy = new SquareReversi(2).createModelCopy();
+    Assert.assertEquals(2, copy.getDimensions());
+    Assert.assertEquals(TokenColor.BLACK, copy.getCurrentColor());
+    Assert.assertTrue(copy.isGameOver());
+  }
+
+  @Test
+  public void testModelCopyKeepsTurnAndPasses() {
+    IReversiModel model = new SquareReversi(4);
+    model.passTurn(true);
+    model.passTurn(true);
+    ROModel copy = model.createModelCopy();
+    Assert.assertEquals(TokenColor.BLACK, copy.getCurrentColor());
+    // Both colors still have moves, so only the passes end the game.
+    Assert.assertFalse(copy.getValidMoves(TokenColor.BLACK).isEmpty());
+    Assert.assertTrue(copy.isGameOver());
+    Assert.assertTrue(model.isGameOver());
+  }
+
+  @Test
+  public void testModelCopyDoesNotChangeWithTheGame() {
+    IReversiModel model = new SquareReversi(4);
+    model.passTurn(true);
+    ROModel copy = model.createModelCopy();
+    model.placeCurrentPlayerPiece(model.getValidMoves(TokenColor.WHITE).get(0));
+    Assert.assertEquals(TokenColor.WHITE, copy.getCurrentColor());
+    Assert.assertEquals(2, copy.getScore(TokenColor.WHITE));
+    Assert.assertEquals(4, model.getScore(TokenColor.WHITE));
+    Assert.assertFalse(copy.isGameOver());
+  }
+
+  @Test
+  public void testScoreDifference() {
+    IReversiModel model = new SquareReversi(4);
+    model.placeCurrentPlayerPiece(model.getValidMoves(TokenColor.BLACK).get(0));
+    Assert.assertEquals(3, model.getScoreDifference(TokenColor.BLACK));
+    Assert.assertEquals(-3, model.getScoreDifference(TokenColor.WHITE));
+  }
+
   @Test(expected = IllegalArgumentException.class)
   public void testInvalidGameConfig() {
     this.init();
@@ -0,0 +1,87 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.MoveUndo;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+
+/**
+ * This class contains tests for the Zobrist position keys kept by every IBoard implementation.
+ */
+public class ExampleZobristTests {
+
+  // plays the same random game on both boards, checking the keys agree and survive make and undo
+  private void checkKeysAgree(IBoard board, IBoard other, long seed) {
+    Random random = new Random(seed);
+    MoveUndo undo = new MoveUndo();
+    MoveUndo otherUndo = new MoveUndo();
+    Set<Long> seen = new HashSet<>();
+    TokenColor color = TokenColor.BLACK;
+    int passes = 0;
+    while (passes < 2) {
+      Assert.assertEquals(board.getPositionKey(), other.getPositionKey());
+      List<ICell> moves = board.validMovesLeft(color);
+      if (moves.isEmpty()) {
+        passes++;
+      } else {
+        passes = 0;
+        long before = board.getPositionKey();
+        for (ICell move : moves) {
+          board.makeMove(move, color, undo);
+          Assert.assertNotEquals(before, board.getPositionKey());
+          board.undoMove(undo);
+          Assert.assertEquals(before, board.getPositionKey());
+        }
+        ICell move = moves.get(random.nextInt(moves.size()));
+        board.makeMove(move, color, undo);
+        other.makeMove(move, color, otherUndo);
+        // Every move adds a token, so no position can come back.
+        Assert.assertTrue(seen.add(board.getPositionKey()));
+      }
+      color = color.next();
+    }
+  }
+
+  @Test
+  public void testHexagonBoardsAgree() {
+    checkKeysAgree(new HexagonReversi(5).createBoardCopy(),
+            new HexagonReversi(5, true).createBoardCopy(), 3);
+  }
+
+  @Test
+  public void testSquareBoardsAgree() {
+    checkKeysAgree(new SquareReversi(8).createBoardCopy(),
+            new SquareReversi(8, true).createBoardCopy(), 4);
+  }
+
+  @Test
+  public void testValidMoveKeepsKeyInStep() {
+    IBoard board = new HexagonReversi(4).createBoardCopy();
+    IBoard other = new HexagonReversi(4, true).createBoardCopy();
+    ICell cell = board.validMovesLeft(TokenColor.BLACK).get(0);
+    board.validMove(cell, TokenColor.BLACK, true);
+    other.validMove(cell, TokenColor.BLACK, true);
+    Assert.assertEquals(board.getPositionKey(), other.getPositionKey());
+  }
+
+  @Test
+  public void testCopyKeepsKey() {
+    HexagonReversi model = new HexagonReversi(4, true);
+    model.startGame();
+    model.placeCurrentPlayerPiece(model.getValidMoves(TokenColor.BLACK).get(0));
+    Assert.assertEquals(model.createBoardCopy().getPositionKey(),
+            model.createBoardCopy().getPositionKey());
+    Assert.assertNotEquals(model.createBoardCopy().getPositionKey(),
+            new HexagonReversi(4, true).createBoardCopy().getPositionKey());
+  }
+}
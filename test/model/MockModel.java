@@ -162,4 +162,10 @@ public class MockModel implements ROModel {
     }
     return copyBoard;
   }
+
+  @Override
+  public ROModel createModelCopy() {
+    log.append("createModelCopy called\n");
+    return new MockModel(this.createBoardCopy(), this.sideLength, this.log);
+  }
 }
@@ -0,0 +1,244 @@
+package player;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import cs3500.reversi.controller.Controller;
+import cs3500.reversi.controller.IModelFeature;
+import cs3500.reversi.controller.IPlayerFeature;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.ROModel;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.player.AIPlayer;
+import cs3500.reversi.strategy.GreedyStrat;
+import mockplayerview.MockView;
+
+/**
+ * A JUnit 4 test class for the AI player choosing and playing its moves off the thread that told
+ * it about its turn.
+ */
+public class ExampleAIPlayerTests {
+  private ScheduledExecutorService executor;
+  private IReversiModel model;
+  private RecordingFeature feature;
+
+  // a listener of the player that records the moves it is told to make.
+  private static class RecordingFeature implements IPlayerFeature {
+    private final List<ICell> moves = new ArrayList<>();
+    private final CountDownLatch played = new CountDownLatch(1);
+    private volatile Thread thread;
+
+    @Override
+    public synchronized void playMove(ICell cell) {
+      this.moves.add(cell);
+      this.thread = Thread.currentThread();
+      this.played.countDown();
+    }
+
+    @Override
+    public void pass() {
+      this.played.countDown();
+    }
+
+    @Override
+    public void quit() {
+      // Not used by the AI player.
+    }
+
+    synchronized int count() {
+      return this.moves.size();
+    }
+  }
+
+  @Before
+  public void init() {
+    this.executor = Executors.newSingleThreadScheduledExecutor();
+    this.model = new HexagonReversi(6);
+    this.model.startGame();
+    this.feature = new RecordingFeature();
+  }
+
+  @After
+  public void shutdown() {
+    this.executor.shutdownNow();
+  }
+
+  private AIPlayer player(long delayMillis) {
+    AIPlayer player = new AIPlayer(TokenColor.BLACK, new GreedyStrat(TokenColor.BLACK), model,
+            executor, delayMillis);
+    player.addListener(feature);
+    return player;
+  }
+
+  // waits for everything the executor has been given to run up to the given delay.
+  private void flush(long delayMillis) throws Exception {
+    this.executor.schedule(() -> { }, delayMillis, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testMoveIsPlayedOnExecutor() throws Exception {
+    this.player(0).listenForMove(TokenColor.BLACK);
+    Assert.assertTrue(feature.played.await(5, TimeUnit.SECONDS));
+    Assert.assertEquals(1, feature.count());
+    Assert.assertNotSame(Thread.currentThread(), feature.thread);
+    Assert.assertTrue(model.getValidMoves(TokenColor.BLACK).contains(feature.moves.get(0)));
+  }
+
+  @Test
+  public void testOtherColorIsIgnored() throws Exception {
+    this.player(0).listenForMove(TokenColor.WHITE);
+    this.flush(50);
+    Assert.assertEquals(0, feature.count());
+  }
+
+  @Test
+  public void testTurnAnnouncedTwiceIsPlayedOnce() throws Exception {
+    AIPlayer player = this.player(200);
+    player.listenForMove(TokenColor.BLACK);
+    player.listenForMove(TokenColor.BLACK);
+    this.flush(400);
+    Assert.assertEquals(1, feature.count());
+  }
+
+  @Test
+  public void testMoveWaitsForThinkDelay() throws Exception {
+    long start = System.nanoTime();
+    this.player(100).listenForMove(TokenColor.BLACK);
+    Assert.assertTrue(feature.played.await(5, TimeUnit.SECONDS));
+    Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 100);
+  }
+
+  @Test
+  public void testMoveIsDroppedIfTurnIsOver() throws Exception {
+    this.player(200).listenForMove(TokenColor.BLACK);
+    this.model.passTurn(true);
+    this.flush(400);
+    Assert.assertEquals(0, feature.count());
+  }
+
+  @Test
+  public void testPlayMoveIsSynchronous() {
+    this.player(AIPlayer.DEFAULT_THINK_DELAY_MILLIS).playMove();
+    Assert.assertEquals(1, feature.count());
+    Assert.assertSame(Thread.currentThread(), feature.thread);
+  }
+
+  @Test
+  public void testMoveIsPlacedOnEventExecutor() throws Exception {
+    ExecutorService events = Executors.newSingleThreadExecutor();
+    try {
+      Thread eventThread = events.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+      IReversiModel game = new HexagonReversi(6);
+      AtomicReference<Thread> placer = new AtomicReference<>();
+      CountDownLatch placed = new CountDownLatch(1);
+      game.addListener(new IModelFeature() {
+        @Override
+        public void notifyPlayerMove(TokenColor tokenColor) {
+          // Only the move matters.
+        }
+
+        @Override
+        public void notifyMoveMade(TokenColor tokenColor, Optional<ICell> cell) {
+          // told from inside placeCurrentPlayerPiece, on the thread that changes the model
+          placer.set(Thread.currentThread());
+          placed.countDown();
+        }
+
+        @Override
+        public void advanceFrame() {
+          // Nothing to draw.
+        }
+      });
+      AIPlayer player = new AIPlayer(TokenColor.BLACK, new GreedyStrat(TokenColor.BLACK), game,
+              executor, 0, events);
+      new Controller(game, new MockView(new StringBuilder()), player, TokenColor.BLACK, events,
+          () -> { });
+      events.submit(game::startGame).get(5, TimeUnit.SECONDS);
+      Assert.assertTrue(placed.await(5, TimeUnit.SECONDS));
+      Assert.assertSame(eventThread, placer.get());
+    } finally {
+      events.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testStrategyReadsACopyOfTheGame() throws Exception {
+    AtomicReference<ROModel> seen = new AtomicReference<>();
+    GreedyStrat greedy = new GreedyStrat(TokenColor.BLACK);
+    AIPlayer player = new AIPlayer(TokenColor.BLACK, (position, moves) -> {
+      seen.set(position);
+      return greedy.chooseMove(position, moves);
+    }, model, executor, 0);
+    player.addListener(feature);
+    player.listenForMove(TokenColor.BLACK);
+    Assert.assertTrue(feature.played.await(5, TimeUnit.SECONDS));
+    Assert.assertNotSame(model, seen.get());
+    Assert.assertEquals(TokenColor.BLACK, seen.get().getCurrentColor());
+    Assert.assertEquals(model.getValidMoves(TokenColor.BLACK),
+            seen.get().getValidMoves(TokenColor.BLACK));
+  }
+
+  @Test
+  public void testModelTellsEveryListenerBeforeFailing() {
+    IReversiModel model = new HexagonReversi(6);
+    List<TokenColor> told = new ArrayList<>();
+    model.addListener(new IModelFeature() {
+      @Override
+      public void notifyPlayerMove(TokenColor tokenColor) {
+        throw new IllegalArgumentException("broken listener");
+      }
+
+      @Override
+      public void advanceFrame() {
+        // Nothing to draw.
+      }
+    });
+    model.addListener(new IModelFeature() {
+      @Override
+      public void notifyPlayerMove(TokenColor tokenColor) {
+        told.add(tokenColor);
+      }
+
+      @Override
+      public void advanceFrame() {
+        // Nothing to draw.
+      }
+    });
+    try {
+      model.startGame();
+      Assert.fail("The failure of the first listener was lost");
+    } catch (IllegalStateException ex) {
+      Assert.assertTrue(ex.getCause() instanceof IllegalArgumentException);
+    }
+    Assert.assertEquals(List.of(TokenColor.BLACK), told);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullExecutorThrows() {
+    new AIPlayer(TokenColor.BLACK, new GreedyStrat(TokenColor.BLACK), model, null, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullMoveExecutorThrows() {
+    new AIPlayer(TokenColor.BLACK, new GreedyStrat(TokenColor.BLACK), model, executor, 0, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeDelayThrows() {
+    new AIPlayer(TokenColor.BLACK, new GreedyStrat(TokenColor.BLACK), model, executor, -1);
+  }
+}
@@ -0,0 +1,262 @@
+package record;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import cs3500.reversi.controller.IModelFeature;
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.record.GameRecordReader;
+import cs3500.reversi.record.GameRecordWriter;
+import cs3500.reversi.record.RecordedGame;
+import cs3500.reversi.strategy.GreedyStrat;
+import cs3500.reversi.strategy.RandomStrat;
+import cs3500.reversi.tournament.Tournament;
+
+/**
+ * This class tests writing game records while games are played and reading them back.
+ */
+public class GameRecordTests {
+
+  // a listener that keeps every move the model tells it about.
+  private static class MoveLog implements IModelFeature {
+    private final List<Optional<ICell>> moves = new ArrayList<>();
+    private final List<String> events = new ArrayList<>();
+
+    @Override
+    public void notifyMoveMade(TokenColor tokenColor, Optional<ICell> cell) {
+      this.moves.add(cell);
+      this.events.add("move " + tokenColor);
+    }
+
+    @Override
+    public void notifyPlayerMove(TokenColor tokenColor) {
+      this.events.add("turn " + tokenColor);
+    }
+
+    @Override
+    public void advanceFrame() {
+      // Nothing to draw.
+    }
+  }
+
+  private static List<RecordedGame> readAll(byte[] bytes) throws IOException {
+    List<RecordedGame> games = new ArrayList<>();
+    try (GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(bytes))) {
+      for (Optional<RecordedGame> game = reader.next(); game.isPresent(); game = reader.next()) {
+        games.add(game.get());
+      }
+    }
+    return games;
+  }
+
+  private static List<Optional<ICell>> movesOf(RecordedGame game) {
+    List<Optional<ICell>> moves = new ArrayList<>();
+    for (int turn = 0; turn < game.getMoveCount(); turn++) {
+      moves.add(game.getMove(turn));
+    }
+    return moves;
+  }
+
+  @Test
+  public void testGamesReadBackAsPlayed() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    List<IReversiModel> models = List.of(new HexagonReversi(6), new SquareReversi(8, true),
+            new HexagonReversi(4, true));
+    List<MoveLog> logs = new ArrayList<>();
+    try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+      for (IReversiModel model : models) {
+        MoveLog log = new MoveLog();
+        model.addListener(log);
+        logs.add(log);
+        writer.record(model, "random", "g\u00e9n\u00e9reux");
+        Tournament.playGame(model, new RandomStrat(TokenColor.BLACK),
+                new RandomStrat(TokenColor.WHITE));
+      }
+      Assert.assertEquals(3, writer.getRecordsWritten());
+    }
+
+    List<RecordedGame> games = readAll(bytes.toByteArray());
+    Assert.assertEquals(3, games.size());
+    for (int i = 0; i < games.size(); i++) {
+      RecordedGame game = games.get(i);
+      IReversiModel model = models.get(i);
+      Assert.assertSame(model.getGeometry(), game.getGeometry());
+      Assert.assertEquals("random", game.getBlackName());
+      Assert.assertEquals("g\u00e9n\u00e9reux", game.getWhiteName());
+      Assert.assertTrue(game.isFinished());
+      Assert.assertEquals(model.getScore(TokenColor.BLACK) - model.getScore(TokenColor.WHITE),
+              game.getMargin());
+      Assert.assertEquals(logs.get(i).moves, movesOf(game));
+      Assert.assertEquals(model.createBoardCopy().getPositionsMapCopy(),
+              game.replay().createBoardCopy().getPositionsMapCopy());
+    }
+  }
+
+  @Test
+  public void testMoveTakesOneByte() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    IReversiModel model = new HexagonReversi(6);
+    try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+      writer.record(model, "g", "g");
+      Tournament.playGame(model, new GreedyStrat(TokenColor.BLACK),
+              new GreedyStrat(TokenColor.WHITE));
+    }
+    RecordedGame game = readAll(bytes.toByteArray()).get(0);
+    // magic, version, shape, side, two one letter names, the moves, the end and the margin
+    int header = 4 + 2 + 2;
+    Assert.assertTrue(bytes.size() <= header + game.getMoveCount() + 3);
+  }
+
+  @Test
+  public void testInterleavedGamesStayApart() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    IReversiModel first = new HexagonReversi(4);
+    IReversiModel second = new SquareReversi(6);
+    try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+      writer.record(first, "first", "first");
+      writer.record(second, "second", "second");
+      first.startGame();
+      second.startGame();
+      List<IReversiModel> models = List.of(first, second);
+      while (!first.isGameOver() || !second.isGameOver()) {
+        for (IReversiModel model : models) {
+          if (!model.isGameOver()) {
+            List<ICell> moves = model.getValidMoves(model.getCurrentColor());
+            if (moves.isEmpty()) {
+              model.passTurn(true);
+            } else {
+              model.placeCurrentPlayerPiece(moves.get(0));
+            }
+          }
+        }
+      }
+    }
+    List<RecordedGame> games = readAll(bytes.toByteArray());
+    Assert.assertEquals(2, games.size());
+    for (RecordedGame game : games) {
+      IReversiModel model = game.getBlackName().equals("first") ? first : second;
+      Assert.assertEquals(model.createBoardCopy().getPositionsMapCopy(),
+              game.replay().createBoardCopy().getPositionsMapCopy());
+    }
+  }
+
+  @Test
+  public void testUnfinishedGameIsWrittenOnClose() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    IReversiModel model = new HexagonReversi(6);
+    GameRecordWriter writer = new GameRecordWriter(bytes);
+    writer.record(model, "b", "w");
+    model.startGame();
+    model.placeCurrentPlayerPiece(model.getValidMoves(TokenColor.BLACK).get(0));
+    model.passTurn(true);
+    writer.close();
+
+    RecordedGame game = readAll(bytes.toByteArray()).get(0);
+    Assert.assertFalse(game.isFinished());
+    Assert.assertEquals(2, game.getMoveCount());
+    Assert.assertFalse(game.getMove(1).isPresent());
+    IReversiModel replayed = game.replay();
+    Assert.assertEquals(TokenColor.BLACK, replayed.getCurrentColor());
+  }
+
+  @Test
+  public void testMoveIsToldBeforeNextTurn() {
+    IReversiModel model = new HexagonReversi(4);
+    MoveLog log = new MoveLog();
+    model.addListener(log);
+    model.startGame();
+    model.placeCurrentPlayerPiece(model.getValidMoves(TokenColor.BLACK).get(0));
+    model.passTurn(true);
+    Assert.assertEquals(List.of("turn B", "move B", "turn W", "turn W", "move W", "turn B"),
+            log.events);
+  }
+
+  @Test(expected = IOException.class)
+  public void testNotARecordThrows() throws IOException {
+    readAll(new byte[]{1, 2, 3});
+  }
+
+  @Test(expected = EOFException.class)
+  public void testCutShortRecordThrows() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    IReversiModel model = new HexagonReversi(4);
+    try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+      writer.record(model, "g", "g");
+      Tournament.playGame(model, new GreedyStrat(TokenColor.BLACK),
+              new GreedyStrat(TokenColor.WHITE));
+    }
+    byte[] record = bytes.toByteArray();
+    readAll(Arrays.copyOf(record, record.length - 2));
+  }
+
+  // A record written out by hand: the magic byte, version 1, an 8x8 square board, the name of
+  // black, then the given bytes.
+  private static byte[] squareRecord(int... rest) {
+    int[] start = {0xA7, 1, 1, 8, 1, 'g'};
+    byte[] bytes = new byte[start.length + rest.length];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) (i < start.length ? start[i] : rest[i - start.length]);
+    }
+    return bytes;
+  }
+
+  @Test
+  public void testHandWrittenRecordReads() throws IOException {
+    // the name of white, a pass, a move to the first cell and the end of an unfinished game
+    RecordedGame game = readAll(squareRecord(1, 'g', 1, 3, 2)).get(0);
+    Assert.assertEquals(2, game.getMoveCount());
+    Assert.assertTrue(game.getMove(0).isEmpty());
+    Assert.assertTrue(game.getMove(1).isPresent());
+  }
+
+  @Test(expected = IOException.class)
+  public void testNegativeNameLengthThrows() throws IOException {
+    // The length of the name of white is a varint of five bytes that comes out as -1.
+    readAll(squareRecord(0xFF, 0xFF, 0xFF, 0xFF, 0x0F, 'g', 2));
+  }
+
+  @Test(expected = IOException.class)
+  public void testNegativeMoveTokenThrows() throws IOException {
+    readAll(squareRecord(1, 'g', 0xFF, 0xFF, 0xFF, 0xFF, 0x0F, 2));
+  }
+
+  @Test(expected = IOException.class)
+  public void testMoveOffTheBoardThrows() throws IOException {
+    // 67 is the token of the cell after the 64 cells of the board.
+    readAll(squareRecord(1, 'g', 67, 2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReplayOnOtherBoardThrows() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    IReversiModel model = new HexagonReversi(4);
+    try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+      writer.record(model, "g", "g");
+      model.startGame();
+    }
+    RecordedGame game = readAll(bytes.toByteArray()).get(0);
+    Assert.assertSame(BoardGeometry.hexagon(4), game.getGeometry());
+    game.replayInto(new HexagonReversi(5));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testClosedWriterRecordsNothing() throws IOException {
+    GameRecordWriter writer = new GameRecordWriter(new ByteArrayOutputStream());
+    writer.close();
+    writer.record(new HexagonReversi(4), "b", "w");
+  }
+}
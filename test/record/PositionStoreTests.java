@@ -0,0 +1,213 @@
+package record;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.BoardSymmetry;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.record.GameRecordReader;
+import cs3500.reversi.record.GameRecordWriter;
+import cs3500.reversi.record.PositionStore;
+import cs3500.reversi.record.RecordedGame;
+import cs3500.reversi.strategy.RandomStrat;
+import cs3500.reversi.tournament.Tournament;
+
+/**
+ * This class tests adding positions to a position store on disk and looking them up.
+ */
+public class PositionStoreTests {
+  private Path dir;
+  private Path file;
+
+  @Before
+  public void setUp() throws IOException {
+    this.dir = Files.createTempDirectory("positions");
+    this.file = this.dir.resolve("positions.db");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.list(this.dir)) {
+      for (Path path : (Iterable<Path>) files::iterator) {
+        Files.delete(path);
+      }
+    }
+    Files.delete(this.dir);
+  }
+
+  private static List<RecordedGame> randomGames(IReversiModel[] models) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+      for (IReversiModel model : models) {
+        writer.record(model, "random", "random");
+        Tournament.playGame(model, new RandomStrat(TokenColor.BLACK),
+                new RandomStrat(TokenColor.WHITE));
+      }
+    }
+    List<RecordedGame> games = new ArrayList<>();
+    try (GameRecordReader reader = new GameRecordReader(
+            new ByteArrayInputStream(bytes.toByteArray()))) {
+      for (Optional<RecordedGame> game = reader.next(); game.isPresent(); game = reader.next()) {
+        games.add(game.get());
+      }
+    }
+    return games;
+  }
+
+  @Test
+  public void testAddedPositionIsFound() throws IOException {
+    IReversiModel model = new HexagonReversi(6);
+    model.startGame();
+    try (PositionStore store = PositionStore.open(this.file, model.getGeometry())) {
+      IBoard board = model.createBoardCopy();
+      Assert.assertEquals(-1, store.find(board, TokenColor.BLACK));
+      Assert.assertEquals(0, store.add(board, TokenColor.BLACK, 4));
+      Assert.assertEquals(0, store.add(board, TokenColor.BLACK, -2));
+      Assert.assertEquals(1, store.add(board, TokenColor.WHITE, 0));
+      Assert.assertEquals(0, store.find(board, TokenColor.BLACK));
+      Assert.assertEquals(2, store.size());
+
+      Assert.assertEquals(2, store.getGames(0));
+      Assert.assertEquals(1, store.getBlackWins(0));
+      Assert.assertEquals(1, store.getWhiteWins(0));
+      Assert.assertEquals(0, store.getDraws(0));
+      Assert.assertEquals(2, store.getMarginSum(0));
+      Assert.assertEquals(1, store.getDraws(1));
+      Assert.assertEquals(TokenColor.WHITE, store.getToMove(1));
+      Assert.assertNotEquals(store.getKey(0), store.getKey(1));
+
+      BoardGeometry geometry = model.getGeometry();
+      BoardSymmetry symmetry = BoardSymmetry.of(geometry);
+      int transform = symmetry.canonicalize(board).getTransform();
+      for (int i = 0; i < geometry.getCellCount(); i++) {
+        Assert.assertEquals(board.getCellOccupant(geometry.cellAt(i)),
+                store.getOccupant(0, symmetry.apply(transform, i)));
+      }
+      board.makeMove(model.getValidMoves(TokenColor.BLACK).get(0), TokenColor.BLACK);
+      Assert.assertEquals(-1, store.find(board, TokenColor.WHITE));
+    }
+  }
+
+  @Test
+  public void testSymmetricPositionsShareARecord() throws IOException {
+    IReversiModel model = new SquareReversi(8, true);
+    model.startGame();
+    model.placeCurrentPlayerPiece(model.getValidMoves(TokenColor.BLACK).get(0));
+    IBoard board = model.createBoardCopy();
+    BoardSymmetry symmetry = BoardSymmetry.of(model.getGeometry());
+    try (PositionStore store = PositionStore.open(this.file, model.getGeometry())) {
+      long position = store.add(board, TokenColor.WHITE, 0);
+      for (int t = 0; t < symmetry.getTransformCount(); t++) {
+        IBoard image = symmetry.apply(t, board);
+        Assert.assertEquals(position, store.add(image, TokenColor.WHITE, 2));
+      }
+      Assert.assertEquals(1, store.size());
+      Assert.assertEquals(9, store.getGames(position));
+    }
+  }
+
+  @Test
+  public void testPositionsLastAfterReopen() throws IOException {
+    List<RecordedGame> games = randomGames(new IReversiModel[]{new SquareReversi(8, true),
+        new SquareReversi(8, true), new SquareReversi(8, true)});
+    int counted = 0;
+    try (PositionStore store = PositionStore.open(this.file, BoardGeometry.square(8))) {
+      for (RecordedGame game : games) {
+        counted += store.addGame(game);
+      }
+    }
+    try (PositionStore store = PositionStore.open(this.file, BoardGeometry.square(8))) {
+      long total = 0;
+      for (long position = 0; position < store.size(); position++) {
+        total += store.getGames(position);
+      }
+      Assert.assertEquals(counted, total);
+      // The start is in every game.
+      IReversiModel start = new SquareReversi(8);
+      start.startGame();
+      long first = store.find(start.createBoardCopy(), TokenColor.BLACK);
+      Assert.assertEquals(0, first);
+      Assert.assertEquals(3, store.getGames(first));
+    }
+  }
+
+  @Test
+  public void testIndexGrowsAndIsRebuilt() throws IOException {
+    IReversiModel[] models = new IReversiModel[200];
+    for (int i = 0; i < models.length; i++) {
+      models[i] = new HexagonReversi(6, true);
+    }
+    List<RecordedGame> games = randomGames(models);
+    long size;
+    try (PositionStore store = PositionStore.open(this.file, BoardGeometry.hexagon(6))) {
+      for (RecordedGame game : games) {
+        store.addGame(game);
+      }
+      size = store.size();
+      Assert.assertTrue(size > 4096);
+    }
+    Files.delete(this.dir.resolve("positions.db.idx"));
+    try (PositionStore store = PositionStore.open(this.file, BoardGeometry.hexagon(6))) {
+      Assert.assertEquals(size, store.size());
+      RecordedGame game = games.get(7);
+      IBoard board = new HexagonReversi(6).createBoardCopy();
+      TokenColor toMove = TokenColor.BLACK;
+      for (int turn = 0; turn < game.getMoveCount(); turn++) {
+        long position = store.find(board, toMove);
+        Assert.assertTrue(position >= 0);
+        Assert.assertEquals(toMove, store.getToMove(position));
+        Optional<ICell> move = game.getMove(turn);
+        if (move.isPresent()) {
+          board.makeMove(move.get(), toMove);
+        }
+        toMove = toMove.next();
+      }
+    }
+  }
+
+  @Test
+  public void testUnfinishedGameIsLeftOut() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    IReversiModel model = new HexagonReversi(4);
+    try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+      writer.record(model, "b", "w");
+      model.startGame();
+    }
+    RecordedGame game = new GameRecordReader(new ByteArrayInputStream(bytes.toByteArray()))
+            .next().get();
+    try (PositionStore store = PositionStore.open(this.file, BoardGeometry.hexagon(4))) {
+      Assert.assertEquals(0, store.addGame(game));
+      Assert.assertEquals(0, store.size());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOtherBoardThrows() throws IOException {
+    PositionStore.open(this.file, BoardGeometry.hexagon(6)).close();
+    PositionStore.open(this.file, BoardGeometry.hexagon(5));
+  }
+
+  @Test(expected = IOException.class)
+  public void testNotAStoreThrows() throws IOException {
+    Files.write(this.file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+    PositionStore.open(this.file, BoardGeometry.hexagon(6));
+  }
+}
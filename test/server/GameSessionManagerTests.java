@@ -0,0 +1,184 @@
+package server;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cs3500.reversi.model.HexagonCell;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.server.GameSession;
+import cs3500.reversi.server.GameSessionManager;
+import cs3500.reversi.server.SessionState;
+import cs3500.reversi.server.SessionStats;
+import cs3500.reversi.strategy.GreedyStrat;
+import cs3500.reversi.strategy.Strategy;
+import cs3500.reversi.tournament.Tournament;
+
+/**
+ * This class tests running many games at once with a game session manager.
+ */
+public class GameSessionManagerTests {
+
+  @Test
+  public void testBotGamesPlayToTheEnd() throws InterruptedException {
+    GameSessionManager manager = new GameSessionManager(() -> new HexagonReversi(4));
+    List<GameSession> sessions = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      sessions.add(manager.startGame(new GreedyStrat(TokenColor.BLACK),
+              new GreedyStrat(TokenColor.WHITE)));
+    }
+    int expected = Tournament.playGame(new HexagonReversi(4), new GreedyStrat(TokenColor.BLACK),
+            new GreedyStrat(TokenColor.WHITE));
+    int moves = 0;
+    for (GameSession session : sessions) {
+      Assert.assertTrue(session.awaitEnd(10, TimeUnit.SECONDS));
+      Assert.assertEquals(SessionState.FINISHED, session.getState());
+      Assert.assertEquals(expected, session.getMargin());
+      moves += session.getMoveCount();
+    }
+
+    SessionStats stats = manager.getStats();
+    Assert.assertEquals(0, manager.getActiveSessionCount());
+    Assert.assertEquals(50, stats.getStartedSessions());
+    Assert.assertEquals(50, stats.getEndedSessions());
+    Assert.assertEquals(moves, stats.getMoves());
+    Assert.assertTrue(stats.getMovesPerSecond() > 0);
+    Assert.assertTrue(stats.getMoveLatencyNanos(50) > 0);
+    Assert.assertTrue(stats.getMoveLatencyNanos(50) <= stats.getMoveLatencyNanos(99));
+    Assert.assertTrue(stats.getMoveLatencyNanos(99) <= stats.getMoveLatencyNanos(100));
+  }
+
+  @Test
+  public void testGameAgainstStrategy() throws InterruptedException {
+    GameSessionManager manager = new GameSessionManager(() -> new HexagonReversi(4));
+    GameSession session = manager.startGameAgainst(TokenColor.BLACK,
+            new GreedyStrat(TokenColor.WHITE));
+    Assert.assertEquals(1, manager.getActiveSessionCount());
+    Assert.assertSame(session, manager.getSession(session.getId()).get());
+
+    while (session.awaitTurn(TokenColor.BLACK, 10, TimeUnit.SECONDS)) {
+      List<ICell> moves = session.getModel().getValidMoves(TokenColor.BLACK);
+      if (moves.isEmpty()) {
+        session.pass(TokenColor.BLACK);
+      } else {
+        session.playMove(TokenColor.BLACK, moves.get(0));
+      }
+    }
+    Assert.assertTrue(session.awaitEnd(10, TimeUnit.SECONDS));
+    Assert.assertEquals(SessionState.FINISHED, session.getState());
+    Assert.assertFalse(session.getTurn().isPresent());
+    Assert.assertFalse(manager.getSession(session.getId()).isPresent());
+    Assert.assertEquals(session.getMoveCount(), manager.getStats().getMoves());
+  }
+
+  @Test
+  public void testInvalidMoveKeepsTheTurn() throws InterruptedException {
+    GameSessionManager manager = new GameSessionManager(() -> new HexagonReversi(4));
+    GameSession session = manager.startGameAgainst(TokenColor.BLACK,
+            new GreedyStrat(TokenColor.WHITE));
+    Assert.assertTrue(session.awaitTurn(TokenColor.BLACK, 10, TimeUnit.SECONDS));
+    try {
+      session.playMove(TokenColor.BLACK, new HexagonCell(0, 0, 0));
+      Assert.fail("An invalid move was played");
+    } catch (IllegalStateException ex) {
+      Assert.assertEquals(0, session.getMoveCount());
+    }
+    try {
+      session.playMove(TokenColor.WHITE, new HexagonCell(0, 0, 0));
+      Assert.fail("A move was played for the strategy");
+    } catch (IllegalArgumentException ex) {
+      Assert.assertEquals(TokenColor.BLACK, session.getTurn().get());
+    }
+    session.playMove(TokenColor.BLACK, session.getModel().getValidMoves(TokenColor.BLACK).get(0));
+    Assert.assertTrue(session.getMoveCount() >= 1);
+    manager.close();
+  }
+
+  @Test
+  public void testQuitEndsOnlyThatSession() throws InterruptedException {
+    GameSessionManager manager = new GameSessionManager(() -> new HexagonReversi(4));
+    GameSession quitting = manager.startGameAgainst(TokenColor.BLACK,
+            new GreedyStrat(TokenColor.WHITE));
+    GameSession staying = manager.startGameAgainst(TokenColor.WHITE,
+            new GreedyStrat(TokenColor.BLACK));
+    quitting.quit();
+
+    Assert.assertTrue(quitting.awaitEnd(10, TimeUnit.SECONDS));
+    Assert.assertEquals(SessionState.ABANDONED, quitting.getState());
+    Assert.assertTrue(staying.awaitTurn(TokenColor.WHITE, 10, TimeUnit.SECONDS));
+    Assert.assertEquals(1, manager.getActiveSessionCount());
+    Assert.assertEquals(SessionState.RUNNING, staying.getState());
+    try {
+      quitting.pass(TokenColor.BLACK);
+      Assert.fail("A move was played after quitting");
+    } catch (IllegalStateException ex) {
+      Assert.assertFalse(quitting.getTurn().isPresent());
+    }
+
+    manager.close();
+    Assert.assertTrue(staying.awaitEnd(10, TimeUnit.SECONDS));
+    Assert.assertEquals(SessionState.ABANDONED, staying.getState());
+    Assert.assertEquals(0, manager.getActiveSessionCount());
+  }
+
+  @Test
+  public void testFailingStrategyFailsSession() throws InterruptedException {
+    GameSessionManager manager = new GameSessionManager(() -> new HexagonReversi(4));
+    Strategy invalid = (model, filteredMoves) -> List.of(new HexagonCell(0, 0, 0));
+    GameSession session = manager.startGame(invalid, new GreedyStrat(TokenColor.WHITE));
+    Assert.assertTrue(session.awaitEnd(10, TimeUnit.SECONDS));
+    Assert.assertEquals(SessionState.FAILED, session.getState());
+    Assert.assertTrue(session.getFailure().isPresent());
+    Assert.assertEquals(0, manager.getActiveSessionCount());
+  }
+
+  @Test
+  public void testSessionsRunOnThreadsOfFactory() throws InterruptedException {
+    AtomicInteger made = new AtomicInteger();
+    GameSessionManager manager = new GameSessionManager(() -> new HexagonReversi(4),
+        runnable -> {
+          made.incrementAndGet();
+          return new Thread(runnable);
+        });
+    for (int i = 0; i < 3; i++) {
+      Assert.assertTrue(manager.startGame(new GreedyStrat(TokenColor.BLACK),
+              new GreedyStrat(TokenColor.WHITE)).awaitEnd(10, TimeUnit.SECONDS));
+    }
+    Assert.assertEquals(3, made.get());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testClosedManagerStartsNoGames() {
+    GameSessionManager manager = new GameSessionManager(() -> new HexagonReversi(4));
+    manager.close();
+    manager.startGame(new GreedyStrat(TokenColor.BLACK), new GreedyStrat(TokenColor.WHITE));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testMarginOfUnfinishedGameThrows() {
+    GameSessionManager manager = new GameSessionManager(() -> new HexagonReversi(4));
+    GameSession session = manager.startGameAgainst(TokenColor.BLACK,
+            new GreedyStrat(TokenColor.WHITE));
+    try {
+      session.getMargin();
+    } finally {
+      manager.close();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPercentileOutOfRangeThrows() {
+    new GameSessionManager(() -> new HexagonReversi(4)).getStats().getMoveLatencyNanos(101);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullFactoryThrows() {
+    new GameSessionManager(null);
+  }
+}
@@ -0,0 +1,88 @@
+package strategy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import cs3500.reversi.model.HexagonCell;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.strategy.AlphaBetaStrat;
+
+/**
+ * This class tests the Alpha-Beta Strategy.
+ */
+public class AlphaBetaTests {
+
+  @Test
+  public void testChoosesValidMoveOnHexagonBoard() {
+    IReversiModel model = new HexagonReversi(6);
+    AlphaBetaStrat strategy = new AlphaBetaStrat(TokenColor.BLACK, 200, Long.MAX_VALUE);
+    List<ICell> chosen = strategy.chooseMove(model, List.of());
+    Assert.assertEquals(chosen.size(), 1);
+    Assert.assertTrue(model.getValidMoves(TokenColor.BLACK).contains(chosen.get(0)));
+    Assert.assertTrue(strategy.getLastDepth() >= 1);
+    Assert.assertTrue(strategy.getLastNodesPerSecond() > 0);
+  }
+
+  @Test
+  public void testChoosesValidMoveOnSquareBoard() {
+    IReversiModel model = new SquareReversi(8, true);
+    AlphaBetaStrat strategy = new AlphaBetaStrat(TokenColor.BLACK, 200, Long.MAX_VALUE);
+    List<ICell> chosen = strategy.chooseMove(model, List.of());
+    Assert.assertTrue(model.getValidMoves(TokenColor.BLACK).contains(chosen.get(0)));
+  }
+
+  @Test
+  public void testNodeLimitStopsTheSearch() {
+    IReversiModel model = new HexagonReversi(6, true);
+    AlphaBetaStrat strategy = new AlphaBetaStrat(TokenColor.BLACK, 60000, 500);
+    strategy.chooseMove(model, List.of());
+    Assert.assertTrue(strategy.getLastDepth() >= 1);
+    Assert.assertTrue(strategy.getLastNodes() <= 500);
+    AlphaBetaStrat longer = new AlphaBetaStrat(TokenColor.BLACK, 60000, 50000);
+    longer.chooseMove(model, List.of());
+    Assert.assertTrue(strategy.getLastDepth() < longer.getLastDepth());
+  }
+
+  @Test
+  public void testSearchesSmallBoardToTheEnd() {
+    IReversiModel model = new HexagonReversi(3, true);
+    AlphaBetaStrat strategy = new AlphaBetaStrat(TokenColor.BLACK, 60000, Long.MAX_VALUE);
+    strategy.chooseMove(model, List.of());
+    // 19 cells with 6 starting tokens leave 13 empty cells.
+    Assert.assertEquals(strategy.getLastDepth(), 13);
+  }
+
+  @Test
+  public void testRespectsFilteredMoves() {
+    IReversiModel model = new HexagonReversi(4);
+    ICell onlyChoice = model.getValidMoves(TokenColor.BLACK).get(0);
+    AlphaBetaStrat strategy = new AlphaBetaStrat(TokenColor.BLACK, 100, Long.MAX_VALUE);
+    Assert.assertEquals(strategy.chooseMove(model, List.of(onlyChoice)), List.of(onlyChoice));
+  }
+
+  @Test
+  public void testPassesWithoutMoves() {
+    IReversiModel full = new HexagonReversi(3);
+    IBoard board = full.createBoardCopy();
+    for (ICell cell : board.getPositionsMapCopy().keySet()) {
+      board.newCellOwner(cell, Optional.of(TokenColor.WHITE));
+    }
+    board.newCellOwner(new HexagonCell(0, 0, 0), Optional.empty());
+    IReversiModel model = new HexagonReversi(board, 3);
+    AlphaBetaStrat strategy = new AlphaBetaStrat(TokenColor.BLACK);
+    Assert.assertTrue(strategy.chooseMove(model, List.of()).isEmpty());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNonPositiveBudgetThrows() {
+    new AlphaBetaStrat(TokenColor.BLACK, 0, 10);
+  }
+}
@@ -0,0 +1,157 @@
+package strategy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import cs3500.reversi.model.HexagonCell;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.MoveUndo;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.strategy.EndgameSolverStrat;
+import cs3500.reversi.strategy.Strategy;
+
+/**
+ * This class tests the Endgame Solver Strategy.
+ */
+public class EndgameSolverTests {
+
+  // plays random moves until no more than the given number of cells are empty, or null if the
+  // game ends first.
+  private static IReversiModel randomEndgame(boolean bitboard, int empties, long seed) {
+    Random random = new Random(seed);
+    IReversiModel model = new SquareReversi(8, bitboard);
+    model.startGame();
+    while (!model.isGameOver()) {
+      if (emptyCount(model.createBoardCopy()) <= empties) {
+        return model;
+      }
+      List<ICell> moves = model.getValidMoves(model.getCurrentColor());
+      if (moves.isEmpty()) {
+        model.passTurn(true);
+      } else {
+        model.placeCurrentPlayerPiece(moves.get(random.nextInt(moves.size())));
+      }
+    }
+    return null;
+  }
+
+  private static int emptyCount(IBoard board) {
+    int count = 0;
+    for (ICell cell : board.getPositionsMapCopy().keySet()) {
+      if (board.getCellOccupant(cell).isEmpty()) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  // the final margin of the color to move with perfect play, found by trying every line of play.
+  private static int bruteForce(IBoard board, TokenColor color, boolean passed) {
+    List<ICell> moves = board.validMovesLeft(color);
+    if (moves.isEmpty()) {
+      return passed ? board.scoreDifference(color) : -bruteForce(board, color.next(), true);
+    }
+    int best = -Integer.MAX_VALUE;
+    for (ICell move : moves) {
+      MoveUndo undo = board.makeMove(move, color);
+      best = Math.max(best, -bruteForce(board, color.next(), false));
+      board.undoMove(undo);
+    }
+    return best;
+  }
+
+  @Test
+  public void testFindsExactMarginOfRandomEndgames() {
+    int solved = 0;
+    for (long seed = 0; seed < 30; seed++) {
+      IReversiModel model = randomEndgame(seed % 2 == 0, 7, seed);
+      if (model == null) {
+        continue;
+      }
+      TokenColor toMove = model.getCurrentColor();
+      EndgameSolverStrat strategy = new EndgameSolverStrat(toMove,
+              (m, filtered) -> {
+                throw new AssertionError("Fallback should not be asked");
+              });
+      List<ICell> chosen = strategy.chooseMove(model, List.of());
+      IBoard board = model.createBoardCopy();
+      Assert.assertTrue(strategy.isLastSolved());
+      Assert.assertEquals(bruteForce(board, toMove, false), strategy.getLastMargin());
+      if (!chosen.isEmpty()) {
+        // The chosen move itself must reach that margin.
+        board.makeMove(chosen.get(0), toMove);
+        Assert.assertEquals(strategy.getLastMargin(), -bruteForce(board, toMove.next(), false));
+      }
+      solved++;
+    }
+    Assert.assertTrue(solved > 20);
+  }
+
+  @Test
+  public void testUsesFallbackAboveThreshold() {
+    IReversiModel model = new SquareReversi(8);
+    List<ICell> fallbackMove = List.of(model.getValidMoves(TokenColor.BLACK).get(0));
+    Strategy fallback = (m, filtered) -> fallbackMove;
+    EndgameSolverStrat strategy = new EndgameSolverStrat(TokenColor.BLACK, fallback);
+    Assert.assertEquals(fallbackMove, strategy.chooseMove(model, List.of()));
+    Assert.assertFalse(strategy.isLastSolved());
+  }
+
+  @Test
+  public void testRespectsFilteredMoves() {
+    IReversiModel model = randomEndgame(true, 8, 4);
+    Assert.assertNotNull(model);
+    TokenColor toMove = model.getCurrentColor();
+    List<ICell> moves = model.getValidMoves(toMove);
+    Assert.assertFalse(moves.isEmpty());
+    ICell onlyChoice = moves.get(moves.size() - 1);
+    EndgameSolverStrat strategy = new EndgameSolverStrat(toMove, (m, filtered) -> List.of());
+    Assert.assertEquals(List.of(onlyChoice), strategy.chooseMove(model, List.of(onlyChoice)));
+  }
+
+  @Test
+  public void testPassesWithoutMoves() {
+    IReversiModel full = new HexagonReversi(3);
+    IBoard board = full.createBoardCopy();
+    for (ICell cell : board.getPositionsMapCopy().keySet()) {
+      board.newCellOwner(cell, Optional.of(TokenColor.WHITE));
+    }
+    board.newCellOwner(new HexagonCell(0, 0, 0), Optional.empty());
+    IReversiModel model = new HexagonReversi(board, 3);
+    EndgameSolverStrat strategy = new EndgameSolverStrat(TokenColor.BLACK,
+            (m, filtered) -> List.of());
+    Assert.assertTrue(strategy.chooseMove(model, List.of()).isEmpty());
+    Assert.assertTrue(strategy.isLastSolved());
+    Assert.assertEquals(-(board.getPositionsMapCopy().size() - 1), strategy.getLastMargin());
+  }
+
+  @Test
+  public void testSolvesHexagonStart() {
+    IReversiModel model = new HexagonReversi(3);
+    EndgameSolverStrat strategy = new EndgameSolverStrat(TokenColor.BLACK,
+            (m, filtered) -> List.of(), 19);
+    List<ICell> chosen = strategy.chooseMove(model, List.of());
+    Assert.assertEquals(1, chosen.size());
+    Assert.assertEquals(bruteForce(model.createBoardCopy(), TokenColor.BLACK, false),
+            strategy.getLastMargin());
+    Assert.assertTrue(strategy.getLastNodes() > 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullFallbackThrows() {
+    new EndgameSolverStrat(TokenColor.BLACK, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeThresholdThrows() {
+    new EndgameSolverStrat(TokenColor.BLACK, (m, filtered) -> List.of(), -1);
+  }
+}
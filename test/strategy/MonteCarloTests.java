@@ -0,0 +1,109 @@
+package strategy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import cs3500.reversi.model.HexagonCell;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.strategy.MonteCarloStrat;
+import cs3500.reversi.strategy.RandomStrat;
+import cs3500.reversi.tournament.Tournament;
+
+/**
+ * This class tests the Monte Carlo Tree Search Strategy.
+ */
+public class MonteCarloTests {
+
+  @Test
+  public void testChoosesValidMoveOnHexagonBoard() {
+    IReversiModel model = new HexagonReversi(8);
+    MonteCarloStrat strategy = new MonteCarloStrat(TokenColor.BLACK, 60000, 300, 1);
+    List<ICell> chosen = strategy.chooseMove(model, List.of());
+    Assert.assertEquals(chosen.size(), 1);
+    Assert.assertTrue(model.getValidMoves(TokenColor.BLACK).contains(chosen.get(0)));
+    Assert.assertEquals(strategy.getLastPlayouts(), 300);
+    Assert.assertTrue(strategy.getLastPlayoutsPerSecond() > 0);
+  }
+
+  @Test
+  public void testChoosesValidMoveOnSquareBoards() {
+    for (boolean bitboard : new boolean[]{false, true}) {
+      IReversiModel model = new SquareReversi(8, bitboard);
+      MonteCarloStrat strategy = new MonteCarloStrat(TokenColor.BLACK, 60000, 300, 1);
+      List<ICell> chosen = strategy.chooseMove(model, List.of());
+      Assert.assertTrue(model.getValidMoves(TokenColor.BLACK).contains(chosen.get(0)));
+    }
+  }
+
+  @Test
+  public void testSameSeedChoosesSameMove() {
+    IReversiModel model = new HexagonReversi(6, true);
+    List<ICell> first = new MonteCarloStrat(TokenColor.BLACK, 60000, 500, 7)
+            .chooseMove(model, List.of());
+    List<ICell> second = new MonteCarloStrat(TokenColor.BLACK, 60000, 500, 7)
+            .chooseMove(model, List.of());
+    Assert.assertEquals(first, second);
+  }
+
+  @Test
+  public void testTreeIsReusedAfterOpponentReply() {
+    IReversiModel model = new HexagonReversi(6);
+    model.startGame();
+    MonteCarloStrat strategy = new MonteCarloStrat(TokenColor.BLACK, 60000, 2000, 3);
+    model.placeCurrentPlayerPiece(strategy.chooseMove(model, List.of()).get(0));
+    Assert.assertEquals(0, strategy.getLastReusedPlayouts());
+    model.placeCurrentPlayerPiece(model.getValidMoves(TokenColor.WHITE).get(0));
+
+    strategy.chooseMove(model, List.of());
+    Assert.assertTrue(strategy.getLastReusedPlayouts() > 0);
+    Assert.assertEquals(strategy.getLastPlayouts(), 2000);
+
+    strategy.clearTree();
+    strategy.chooseMove(model, List.of());
+    Assert.assertEquals(0, strategy.getLastReusedPlayouts());
+  }
+
+  @Test
+  public void testBeatsRandomPlayer() {
+    IReversiModel model = new HexagonReversi(4, true);
+    model.startGame();
+    int margin = Tournament.playGame(model,
+            new MonteCarloStrat(TokenColor.BLACK, 60000, 1000, 5),
+            new RandomStrat(TokenColor.WHITE));
+    Assert.assertTrue(margin > 0);
+  }
+
+  @Test
+  public void testRespectsFilteredMoves() {
+    IReversiModel model = new HexagonReversi(4);
+    ICell onlyChoice = model.getValidMoves(TokenColor.BLACK).get(1);
+    MonteCarloStrat strategy = new MonteCarloStrat(TokenColor.BLACK, 60000, 100, 1);
+    Assert.assertEquals(strategy.chooseMove(model, List.of(onlyChoice)), List.of(onlyChoice));
+  }
+
+  @Test
+  public void testPassesWithoutMoves() {
+    IReversiModel full = new HexagonReversi(3);
+    IBoard board = full.createBoardCopy();
+    for (ICell cell : board.getPositionsMapCopy().keySet()) {
+      board.newCellOwner(cell, Optional.of(TokenColor.WHITE));
+    }
+    board.newCellOwner(new HexagonCell(0, 0, 0), Optional.empty());
+    IReversiModel model = new HexagonReversi(board, 3);
+    MonteCarloStrat strategy = new MonteCarloStrat(TokenColor.BLACK, 60000, 100);
+    Assert.assertTrue(strategy.chooseMove(model, List.of()).isEmpty());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNonPositiveBudgetThrows() {
+    new MonteCarloStrat(TokenColor.BLACK, 100, 0);
+  }
+}
@@ -0,0 +1,205 @@
+package strategy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.BoardSymmetry;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.ROModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.record.GameRecordReader;
+import cs3500.reversi.record.GameRecordWriter;
+import cs3500.reversi.record.RecordedGame;
+import cs3500.reversi.strategy.GreedyStrat;
+import cs3500.reversi.strategy.OpeningBook;
+import cs3500.reversi.strategy.OpeningBookBuilder;
+import cs3500.reversi.strategy.OpeningBookStrat;
+import cs3500.reversi.strategy.RandomStrat;
+import cs3500.reversi.strategy.Strategy;
+import cs3500.reversi.tournament.Tournament;
+
+/**
+ * This class tests building opening books and playing from them.
+ */
+public class OpeningBookTests {
+
+  // a strategy that counts how often it is asked and plays the first legal move.
+  private static class CountingStrat implements Strategy {
+    private final TokenColor tokenColor;
+    private int calls;
+
+    CountingStrat(TokenColor tokenColor) {
+      this.tokenColor = tokenColor;
+    }
+
+    @Override
+    public List<ICell> chooseMove(ROModel model, List<ICell> filteredMoves) {
+      this.calls++;
+      List<ICell> moves = model.getValidMoves(this.tokenColor);
+      return moves.isEmpty() ? List.of() : List.of(moves.get(0));
+    }
+  }
+
+  private static OpeningBook greedyBook(int plies) {
+    OpeningBookBuilder builder = new OpeningBookBuilder(BoardGeometry.hexagon(6), plies, 1);
+    Assert.assertTrue(builder.addSearchedLines(new GreedyStrat(TokenColor.BLACK),
+            new GreedyStrat(TokenColor.WHITE)) > 0);
+    return builder.build();
+  }
+
+  private static List<RecordedGame> randomGames(int count) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+      for (int i = 0; i < count; i++) {
+        IReversiModel model = new SquareReversi(8, true);
+        writer.record(model, "random", "random");
+        Tournament.playGame(model, new RandomStrat(TokenColor.BLACK),
+                new RandomStrat(TokenColor.WHITE));
+      }
+    }
+    List<RecordedGame> games = new ArrayList<>();
+    try (GameRecordReader reader = new GameRecordReader(
+            new ByteArrayInputStream(bytes.toByteArray()))) {
+      for (Optional<RecordedGame> game = reader.next(); game.isPresent(); game = reader.next()) {
+        games.add(game.get());
+      }
+    }
+    return games;
+  }
+
+  @Test
+  public void testSearchedBookPlaysTheSearchedMoves() {
+    OpeningBook book = greedyBook(3);
+    Assert.assertEquals(3, book.getPlies());
+    // Every position of the first three plies is in the book.
+    IReversiModel model = new HexagonReversi(6);
+    model.startGame();
+    for (ICell first : List.copyOf(model.getValidMoves(TokenColor.BLACK))) {
+      IReversiModel line = new HexagonReversi(6);
+      line.startGame();
+      line.placeCurrentPlayerPiece(first);
+      Optional<ICell> reply = book.lookup(line.createBoardCopy(), TokenColor.WHITE);
+      Assert.assertTrue(reply.isPresent());
+      // Greedy flips the most tokens, and a symmetry of the board flips as many.
+      int most = 0;
+      for (ICell move : line.getValidMoves(TokenColor.WHITE)) {
+        most = Math.max(most, line.cellsFlipped(move, TokenColor.WHITE));
+      }
+      Assert.assertEquals(most, line.cellsFlipped(reply.get(), TokenColor.WHITE));
+    }
+  }
+
+  @Test
+  public void testSymmetricPositionGetsTheSymmetricMove() {
+    OpeningBook book = greedyBook(2);
+    IReversiModel model = new HexagonReversi(6, true);
+    model.startGame();
+    model.placeCurrentPlayerPiece(model.getValidMoves(TokenColor.BLACK).get(0));
+    IBoard board = model.createBoardCopy();
+    ICell move = book.lookup(board, TokenColor.WHITE).orElseThrow();
+    BoardSymmetry symmetry = BoardSymmetry.of(model.getGeometry());
+    for (int t = 0; t < symmetry.getTransformCount(); t++) {
+      Assert.assertEquals(symmetry.apply(t, move),
+              book.lookup(symmetry.apply(t, board), TokenColor.WHITE).orElseThrow());
+    }
+  }
+
+  @Test
+  public void testRecordedGamesNeedTheMinimumNumberOfGames() throws IOException {
+    List<RecordedGame> games = randomGames(20);
+    OpeningBookBuilder everyMove = new OpeningBookBuilder(BoardGeometry.square(8), 4, 1);
+    OpeningBookBuilder nothing = new OpeningBookBuilder(BoardGeometry.square(8), 4, 21);
+    for (RecordedGame game : games) {
+      Assert.assertEquals(4, everyMove.addGame(game));
+      nothing.addGame(game);
+    }
+    Assert.assertEquals(0, nothing.build().size());
+
+    OpeningBook book = everyMove.build();
+    Assert.assertTrue(book.size() > 1);
+    IReversiModel start = new SquareReversi(8, true);
+    start.startGame();
+    // All four first moves are the same up to a symmetry, so the start has one entry.
+    ICell first = book.lookup(start.createBoardCopy(), TokenColor.BLACK).orElseThrow();
+    Assert.assertTrue(start.getValidMoves(TokenColor.BLACK).contains(first));
+  }
+
+  @Test
+  public void testMappedBookMatchesBuiltBook() throws IOException {
+    OpeningBookBuilder builder = new OpeningBookBuilder(BoardGeometry.hexagon(6), 3, 1);
+    builder.addSearchedLines(new GreedyStrat(TokenColor.BLACK), new GreedyStrat(TokenColor.WHITE));
+    Path file = Files.createTempFile("opening", ".book");
+    try {
+      try (OutputStream out = Files.newOutputStream(file)) {
+        builder.write(out);
+      }
+      OpeningBook built = builder.build();
+      OpeningBook mapped = OpeningBook.load(file);
+      Assert.assertEquals(built.size(), mapped.size());
+      Assert.assertSame(BoardGeometry.hexagon(6), mapped.getGeometry());
+
+      IReversiModel model = new HexagonReversi(6);
+      model.startGame();
+      for (int ply = 0; ply < 3; ply++) {
+        TokenColor color = model.getCurrentColor();
+        Optional<ICell> move = mapped.lookup(model.createBoardCopy(), color);
+        Assert.assertEquals(built.lookup(model.createBoardCopy(), color), move);
+        model.placeCurrentPlayerPiece(move.orElseThrow());
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testStrategyFallsBackOutOfBook() {
+    OpeningBook book = greedyBook(2);
+    CountingStrat fallback = new CountingStrat(TokenColor.BLACK);
+    OpeningBookStrat strat = new OpeningBookStrat(TokenColor.BLACK, book, fallback);
+
+    IReversiModel model = new HexagonReversi(6);
+    model.startGame();
+    List<ICell> move = strat.chooseMove(model, List.of());
+    Assert.assertTrue(strat.isLastFromBook());
+    Assert.assertEquals(0, fallback.calls);
+    model.placeCurrentPlayerPiece(move.get(0));
+    model.placeCurrentPlayerPiece(model.getValidMoves(TokenColor.WHITE).get(0));
+
+    // The third ply is past the end of the book.
+    strat.chooseMove(model, List.of());
+    Assert.assertFalse(strat.isLastFromBook());
+    Assert.assertEquals(1, fallback.calls);
+
+    IReversiModel square = new SquareReversi(8);
+    square.startGame();
+    strat.chooseMove(square, List.of());
+    Assert.assertFalse(strat.isLastFromBook());
+    Assert.assertEquals(2, fallback.calls);
+  }
+
+  @Test(expected = IOException.class)
+  public void testNotABookThrows() throws IOException {
+    Path file = Files.createTempFile("opening", ".book");
+    try {
+      Files.write(file, new byte[]{1, 2, 3});
+      OpeningBook.load(file);
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
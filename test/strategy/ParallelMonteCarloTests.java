@@ -0,0 +1,99 @@
+package strategy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import cs3500.reversi.model.HexagonCell;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.strategy.ParallelMonteCarloStrat;
+
+/**
+ * This class tests the Parallel Monte Carlo Tree Search Strategy.
+ */
+public class ParallelMonteCarloTests {
+
+  @Test
+  public void testChoosesValidMoves() {
+    for (IReversiModel model : List.of(new HexagonReversi(6), new HexagonReversi(6, true),
+            new SquareReversi(8), new SquareReversi(8, true))) {
+      ParallelMonteCarloStrat strategy = new ParallelMonteCarloStrat(TokenColor.BLACK, 4, 60000,
+              400, 1);
+      List<ICell> chosen = strategy.chooseMove(model, List.of());
+      strategy.shutdown();
+      Assert.assertEquals(chosen.size(), 1);
+      Assert.assertTrue(model.getValidMoves(TokenColor.BLACK).contains(chosen.get(0)));
+      Assert.assertTrue(strategy.getLastPlayoutsPerSecond() > 0);
+    }
+  }
+
+  @Test
+  public void testPlayoutLimitIsSharedByThreads() {
+    IReversiModel model = new HexagonReversi(6, true);
+    ParallelMonteCarloStrat strategy = new ParallelMonteCarloStrat(TokenColor.BLACK, 4, 60000,
+            1000, 1);
+    strategy.chooseMove(model, List.of());
+    Assert.assertEquals(1000, strategy.getLastPlayouts());
+    Assert.assertEquals(4, strategy.getParallelism());
+
+    // Asked again about the same position, the whole tree is kept, with every virtual loss
+    // replaced by the result of its playout.
+    strategy.chooseMove(model, List.of());
+    strategy.shutdown();
+    Assert.assertEquals(1000, strategy.getLastReusedPlayouts());
+  }
+
+  @Test
+  public void testTreeIsReusedAfterOpponentReply() {
+    IReversiModel model = new SquareReversi(8, true);
+    model.startGame();
+    ParallelMonteCarloStrat strategy = new ParallelMonteCarloStrat(TokenColor.BLACK, 3, 60000,
+            3000, 2);
+    model.placeCurrentPlayerPiece(strategy.chooseMove(model, List.of()).get(0));
+    model.placeCurrentPlayerPiece(model.getValidMoves(TokenColor.WHITE).get(0));
+    strategy.chooseMove(model, List.of());
+    Assert.assertTrue(strategy.getLastReusedPlayouts() > 0);
+
+    strategy.clearTree();
+    strategy.chooseMove(model, List.of());
+    strategy.shutdown();
+    Assert.assertEquals(0, strategy.getLastReusedPlayouts());
+  }
+
+  @Test
+  public void testRespectsFilteredMoves() {
+    IReversiModel model = new HexagonReversi(4);
+    ICell onlyChoice = model.getValidMoves(TokenColor.BLACK).get(2);
+    ParallelMonteCarloStrat strategy = new ParallelMonteCarloStrat(TokenColor.BLACK, 2, 60000,
+            200, 1);
+    Assert.assertEquals(strategy.chooseMove(model, List.of(onlyChoice)), List.of(onlyChoice));
+    strategy.shutdown();
+  }
+
+  @Test
+  public void testPassesWithoutMoves() {
+    IReversiModel full = new HexagonReversi(3);
+    IBoard board = full.createBoardCopy();
+    for (ICell cell : board.getPositionsMapCopy().keySet()) {
+      board.newCellOwner(cell, Optional.of(TokenColor.WHITE));
+    }
+    board.newCellOwner(new HexagonCell(0, 0, 0), Optional.empty());
+    IReversiModel model = new HexagonReversi(board, 3);
+    ParallelMonteCarloStrat strategy = new ParallelMonteCarloStrat(TokenColor.BLACK, 2);
+    Assert.assertTrue(strategy.chooseMove(model, List.of()).isEmpty());
+    Assert.assertEquals(0, strategy.getLastPlayouts());
+    strategy.shutdown();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNonPositiveParallelismThrows() {
+    new ParallelMonteCarloStrat(TokenColor.BLACK, 0);
+  }
+}
@@ -0,0 +1,100 @@
+package strategy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import cs3500.reversi.model.HexagonCell;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.strategy.ParallelSearchStrat;
+import cs3500.reversi.strategy.TranspositionTable;
+
+/**
+ * This class tests the Parallel Search Strategy.
+ */
+public class ParallelSearchTests {
+
+  @Test
+  public void testChoosesValidMoveOnHexagonBoard() {
+    IReversiModel model = new HexagonReversi(6);
+    ParallelSearchStrat strategy = new ParallelSearchStrat(TokenColor.BLACK, 4, 200,
+            Long.MAX_VALUE, Integer.MAX_VALUE, new TranspositionTable(16));
+    List<ICell> chosen = strategy.chooseMove(model, List.of());
+    Assert.assertEquals(chosen.size(), 1);
+    Assert.assertTrue(model.getValidMoves(TokenColor.BLACK).contains(chosen.get(0)));
+    Assert.assertTrue(strategy.getLastDepth() >= 1);
+    Assert.assertEquals(strategy.getParallelism(), 4);
+    strategy.shutdown();
+  }
+
+  @Test
+  public void testChoosesValidMoveOnSquareBoard() {
+    IReversiModel model = new SquareReversi(8, true);
+    ParallelSearchStrat strategy = new ParallelSearchStrat(TokenColor.BLACK, 4, 200,
+            Long.MAX_VALUE, Integer.MAX_VALUE, new TranspositionTable(16));
+    List<ICell> chosen = strategy.chooseMove(model, List.of());
+    Assert.assertTrue(model.getValidMoves(TokenColor.BLACK).contains(chosen.get(0)));
+    strategy.shutdown();
+  }
+
+  @Test
+  public void testStopsAtTheDepthLimit() {
+    IReversiModel model = new SquareReversi(8, true);
+    ParallelSearchStrat strategy = new ParallelSearchStrat(TokenColor.BLACK, 2, 60000,
+            Long.MAX_VALUE, 4, new TranspositionTable(16));
+    strategy.chooseMove(model, List.of());
+    Assert.assertEquals(strategy.getLastDepth(), 4);
+    strategy.shutdown();
+  }
+
+  @Test
+  public void testSearchesSmallBoardToTheEnd() {
+    IReversiModel model = new HexagonReversi(3, true);
+    ParallelSearchStrat strategy = new ParallelSearchStrat(TokenColor.BLACK, 4, 60000,
+            Long.MAX_VALUE, Integer.MAX_VALUE, new TranspositionTable(16));
+    strategy.chooseMove(model, List.of());
+    // 19 cells with 6 starting tokens leave 13 empty cells.
+    Assert.assertEquals(strategy.getLastDepth(), 13);
+    strategy.shutdown();
+  }
+
+  @Test
+  public void testNodeLimitIsSharedByTheThreads() {
+    IReversiModel model = new HexagonReversi(6, true);
+    ParallelSearchStrat strategy = new ParallelSearchStrat(TokenColor.BLACK, 4, 60000, 2000,
+            Integer.MAX_VALUE, new TranspositionTable(16));
+    strategy.chooseMove(model, List.of());
+    ParallelSearchStrat longer = new ParallelSearchStrat(TokenColor.BLACK, 4, 60000, 200000,
+            Integer.MAX_VALUE, new TranspositionTable(16));
+    longer.chooseMove(model, List.of());
+    Assert.assertTrue(strategy.getLastDepth() < longer.getLastDepth());
+    strategy.shutdown();
+    longer.shutdown();
+  }
+
+  @Test
+  public void testPassesWithoutMoves() {
+    IReversiModel full = new HexagonReversi(3);
+    IBoard board = full.createBoardCopy();
+    for (ICell cell : board.getPositionsMapCopy().keySet()) {
+      board.newCellOwner(cell, Optional.of(TokenColor.WHITE));
+    }
+    board.newCellOwner(new HexagonCell(0, 0, 0), Optional.empty());
+    IReversiModel model = new HexagonReversi(board, 3);
+    ParallelSearchStrat strategy = new ParallelSearchStrat(TokenColor.BLACK, 2);
+    Assert.assertTrue(strategy.chooseMove(model, List.of()).isEmpty());
+    strategy.shutdown();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNonPositiveParallelismThrows() {
+    new ParallelSearchStrat(TokenColor.BLACK, 0);
+  }
+}
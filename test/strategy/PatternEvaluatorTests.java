@@ -0,0 +1,293 @@
+package strategy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.BoardSymmetry;
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.MoveUndo;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.strategy.AlphaBetaStrat;
+import cs3500.reversi.strategy.MiniMaxStrategy;
+import cs3500.reversi.strategy.PatternEvaluator;
+import cs3500.reversi.strategy.PatternSet;
+import cs3500.reversi.strategy.PatternWeights;
+import cs3500.reversi.strategy.RandomStrat;
+import cs3500.reversi.strategy.TranspositionTable;
+import cs3500.reversi.tournament.Tournament;
+
+/**
+ * This class tests the pattern evaluation, its weights and the strategies that use it.
+ */
+public class PatternEvaluatorTests {
+
+  private static IBoard startBoard(IReversiModel model) {
+    model.startGame();
+    return model.createBoardCopy();
+  }
+
+  // weights with a different random weight for every pattern index, so that a wrong index shows.
+  private static PatternWeights randomWeights(BoardGeometry geometry, long seed) {
+    Random random = new Random(seed);
+    PatternSet patterns = PatternSet.of(geometry);
+    int[][] tables = new int[patterns.getFamilyCount()][];
+    for (int family = 0; family < tables.length; family++) {
+      tables[family] = new int[patterns.getTableSize(family)];
+      for (int index = 0; index < tables[family].length; index++) {
+        tables[family][index] = random.nextInt(201) - 100;
+      }
+    }
+    return new PatternWeights(geometry, tables, 7, -5);
+  }
+
+  private static void assertSameAsRead(PatternEvaluator followed, IBoard board) {
+    PatternEvaluator read = new PatternEvaluator(followed.getWeights());
+    read.reset(board);
+    for (int pattern = 0; pattern < followed.getWeights().getPatterns().getPatternCount();
+         pattern++) {
+      Assert.assertEquals(read.getPatternIndex(pattern), followed.getPatternIndex(pattern));
+    }
+    Assert.assertEquals(read.getFrontier(TokenColor.BLACK), followed.getFrontier(TokenColor.BLACK));
+    Assert.assertEquals(read.getFrontier(TokenColor.WHITE), followed.getFrontier(TokenColor.WHITE));
+    Assert.assertEquals(read.evaluate(board, TokenColor.BLACK),
+            followed.evaluate(board, TokenColor.BLACK));
+  }
+
+  // plays random games on the board, checking the followed evaluator against a fresh read of the
+  // board after every move and every undo.
+  private static void checkFollowsRandomGames(IReversiModel model) {
+    IBoard board = startBoard(model);
+    PatternWeights weights = randomWeights(model.getGeometry(), 3);
+    PatternEvaluator evaluator = new PatternEvaluator(weights);
+    evaluator.reset(board);
+    int start = evaluator.evaluate(board, TokenColor.BLACK);
+    Random random = new Random(11);
+    for (int game = 0; game < 3; game++) {
+      List<MoveUndo> undos = new ArrayList<>();
+      TokenColor color = TokenColor.BLACK;
+      boolean passed = false;
+      while (true) {
+        List<ICell> moves = board.validMovesLeft(color);
+        if (moves.isEmpty()) {
+          if (passed) {
+            break;
+          }
+          passed = true;
+          color = color.next();
+          continue;
+        }
+        passed = false;
+        MoveUndo undo = new MoveUndo();
+        board.makeMove(moves.get(random.nextInt(moves.size())), color, undo);
+        evaluator.apply(undo);
+        undos.add(undo);
+        assertSameAsRead(evaluator, board);
+        color = color.next();
+      }
+      for (int i = undos.size() - 1; i >= 0; i--) {
+        board.undoMove(undos.get(i));
+        evaluator.revert(undos.get(i));
+        if (i % 7 == 0) {
+          assertSameAsRead(evaluator, board);
+        }
+      }
+      Assert.assertEquals(start, evaluator.evaluate(board, TokenColor.BLACK));
+    }
+  }
+
+  @Test
+  public void testFollowsMovesOnHexagonBoards() {
+    checkFollowsRandomGames(new HexagonReversi(6));
+    checkFollowsRandomGames(new HexagonReversi(6, true));
+    checkFollowsRandomGames(new HexagonReversi(3, true));
+  }
+
+  @Test
+  public void testFollowsMovesOnSquareBoards() {
+    checkFollowsRandomGames(new SquareReversi(8, true));
+    checkFollowsRandomGames(new SquareReversi(6));
+  }
+
+  @Test
+  public void testPatternFamilies() {
+    PatternSet square = PatternSet.of(BoardGeometry.square(8));
+    Assert.assertSame(square, PatternSet.of(BoardGeometry.square(8)));
+    Assert.assertEquals(3, square.getFamilyCount());
+    Assert.assertEquals("edge", square.getFamilyName(0));
+    Assert.assertEquals(8, square.getFamilyLength(0));
+    Assert.assertEquals(9, square.getFamilyLength(1));
+    Assert.assertEquals(8, square.getFamilyLength(2));
+    Assert.assertEquals(6561, square.getTableSize(0));
+    // Four edges and four corners read two ways, and two diagonals read from either end.
+    Assert.assertEquals(20, square.getPatternCount());
+
+    PatternSet hexagon = PatternSet.of(BoardGeometry.hexagon(6));
+    Assert.assertEquals(3, hexagon.getFamilyCount());
+    Assert.assertEquals(6, hexagon.getFamilyLength(0));
+    // The vertex, its three neighbors and the five cells two steps away.
+    Assert.assertEquals(9, hexagon.getFamilyLength(1));
+    // The axis has 11 cells and is cut at 10.
+    Assert.assertEquals(PatternSet.MAX_LENGTH, hexagon.getFamilyLength(2));
+    Assert.assertEquals(12 + 12 + 6, hexagon.getPatternCount());
+  }
+
+  @Test
+  public void testIndicesOfStartingBoard() {
+    IBoard board = startBoard(new SquareReversi(8));
+    PatternSet patterns = PatternSet.of(BoardGeometry.square(8));
+    int[] indices = new int[patterns.getPatternCount()];
+    patterns.indicesOf(board, indices);
+    PatternEvaluator evaluator = new PatternEvaluator(null);
+    evaluator.reset(board);
+    for (int pattern = 0; pattern < indices.length; pattern++) {
+      int[] cells = patterns.getCells(pattern);
+      if (patterns.getFamily(pattern) != 2) {
+        // Only the diagonals reach the middle of the board.
+        Assert.assertEquals(0, indices[pattern]);
+      } else {
+        // The middle cells of the diagonal hold tokens of one color.
+        Assert.assertEquals(8, cells.length);
+        Assert.assertTrue(indices[pattern] == 27 + 81 || indices[pattern] == 2 * (27 + 81));
+      }
+      Assert.assertEquals(indices[pattern], evaluator.getPatternIndex(pattern));
+    }
+    // Every token of the start touches an empty cell.
+    Assert.assertEquals(2, evaluator.getFrontier(TokenColor.BLACK));
+    Assert.assertEquals(2, evaluator.getFrontier(TokenColor.WHITE));
+  }
+
+  @Test
+  public void testSymmetricPositionsScoreTheSame() {
+    for (IReversiModel model : List.of(new HexagonReversi(5, true), new SquareReversi(8, true))) {
+      IBoard board = startBoard(model);
+      Random random = new Random(5);
+      TokenColor color = TokenColor.BLACK;
+      for (int ply = 0; ply < 12; ply++) {
+        List<ICell> moves = board.validMovesLeft(color);
+        if (!moves.isEmpty()) {
+          board.makeMove(moves.get(random.nextInt(moves.size())), color);
+        }
+        color = color.next();
+      }
+      PatternEvaluator evaluator = new PatternEvaluator(randomWeights(model.getGeometry(), 9));
+      evaluator.reset(board);
+      int score = evaluator.evaluate(board, TokenColor.WHITE);
+      BoardSymmetry symmetry = BoardSymmetry.of(model.getGeometry());
+      for (int t = 0; t < symmetry.getTransformCount(); t++) {
+        IBoard image = symmetry.apply(t, board);
+        evaluator.reset(image);
+        Assert.assertEquals(score, evaluator.evaluate(image, TokenColor.WHITE));
+      }
+    }
+  }
+
+  @Test
+  public void testDefaultWeightsPreferCorners() {
+    IReversiModel model = new SquareReversi(8);
+    IBoard board = startBoard(model);
+    BoardGeometry geometry = model.getGeometry();
+    IBoard corner = model.createBoardCopy();
+    corner.newCellOwner(geometry.getCornerCells().get(0), Optional.of(TokenColor.BLACK));
+    IBoard xSquare = model.createBoardCopy();
+    xSquare.newCellOwner(geometry.getXSquareCells().get(0), Optional.of(TokenColor.BLACK));
+
+    PatternEvaluator evaluator = new PatternEvaluator(null);
+    evaluator.reset(board);
+    int start = evaluator.evaluate(board, TokenColor.BLACK);
+    Assert.assertEquals(0, start);
+    evaluator.reset(corner);
+    Assert.assertTrue(evaluator.evaluate(corner, TokenColor.BLACK) > start);
+    Assert.assertTrue(evaluator.evaluate(corner, TokenColor.WHITE) < start);
+    evaluator.reset(xSquare);
+    Assert.assertTrue(evaluator.evaluate(xSquare, TokenColor.BLACK) < start);
+    Assert.assertSame(PatternWeights.defaults(geometry), evaluator.getWeights());
+  }
+
+  @Test
+  public void testWeightsOfAnotherBoardFallBackToDefaults() {
+    PatternWeights hexagon = randomWeights(BoardGeometry.hexagon(6), 1);
+    PatternEvaluator evaluator = new PatternEvaluator(hexagon);
+    evaluator.reset(startBoard(new HexagonReversi(6)));
+    Assert.assertSame(hexagon, evaluator.getWeights());
+    evaluator.reset(startBoard(new SquareReversi(8)));
+    Assert.assertSame(PatternWeights.defaults(BoardGeometry.square(8)), evaluator.getWeights());
+  }
+
+  @Test
+  public void testWeightsFileRoundTrip() throws IOException {
+    PatternWeights weights = randomWeights(BoardGeometry.hexagon(6), 4);
+    Path file = Files.createTempFile("pattern", ".weights");
+    try {
+      try (OutputStream out = Files.newOutputStream(file)) {
+        weights.write(out);
+      }
+      PatternWeights loaded = PatternWeights.load(file);
+      Assert.assertSame(BoardGeometry.hexagon(6), loaded.getGeometry());
+      Assert.assertEquals(7, loaded.getMobilityWeight());
+      Assert.assertEquals(-5, loaded.getFrontierWeight());
+      for (int family = 0; family < weights.getPatterns().getFamilyCount(); family++) {
+        for (int index = 0; index < weights.getPatterns().getTableSize(family); index++) {
+          Assert.assertEquals(weights.getWeight(family, index), loaded.getWeight(family, index));
+        }
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void testCutShortWeightsThrow() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    PatternWeights.defaults(BoardGeometry.square(8)).write(bytes);
+    byte[] whole = bytes.toByteArray();
+    byte[] cut = new byte[whole.length - 4];
+    System.arraycopy(whole, 0, cut, 0, cut.length);
+    PatternWeights.read(new ByteArrayInputStream(cut));
+  }
+
+  @Test(expected = IOException.class)
+  public void testNotWeightsThrow() throws IOException {
+    PatternWeights.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongTableSizeThrows() {
+    new PatternWeights(BoardGeometry.square(8), new int[][]{new int[6561], new int[3],
+        new int[6561]}, 0, 0);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testEvaluateBeforeResetThrows() {
+    new PatternEvaluator(null).evaluate(startBoard(new SquareReversi(8)), TokenColor.BLACK);
+  }
+
+  @Test
+  public void testStrategiesWithPatternsPlayWholeGames() {
+    IReversiModel hexagon = new HexagonReversi(5, true);
+    Tournament.playGame(hexagon, new MiniMaxStrategy(TokenColor.BLACK, null),
+            new AlphaBetaStrat(TokenColor.WHITE, 60000, 2000, new TranspositionTable(1), null));
+    Assert.assertTrue(hexagon.isGameOver());
+
+    IReversiModel square = new SquareReversi(8, true);
+    Tournament.playGame(square, new AlphaBetaStrat(TokenColor.BLACK, 60000, 2000,
+            new TranspositionTable(1), randomWeights(BoardGeometry.square(8), 2)),
+            new RandomStrat(TokenColor.WHITE));
+    Assert.assertTrue(square.isGameOver());
+  }
+}
@@ -0,0 +1,106 @@
+package strategy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cs3500.reversi.model.HexagonCell;
+import cs3500.reversi.model.SquareCell;
+import cs3500.reversi.strategy.TranspositionTable;
+
+/**
+ * This class tests the lock-free transposition table.
+ */
+public class TranspositionTableTests {
+
+  @Test
+  public void testStoreAndProbe() {
+    TranspositionTable table = new TranspositionTable(1);
+    int move = TranspositionTable.encodeMove(new HexagonCell(-2, 1, 1));
+    table.store(42L, 7, TranspositionTable.LOWER_BOUND, move, -10013);
+    long data = table.probe(42L);
+    Assert.assertNotEquals(data, 0);
+    Assert.assertEquals(TranspositionTable.getDepth(data), 7);
+    Assert.assertEquals(TranspositionTable.getBound(data), TranspositionTable.LOWER_BOUND);
+    Assert.assertEquals(TranspositionTable.getMove(data), move);
+    Assert.assertEquals(TranspositionTable.getScore(data), -10013);
+  }
+
+  @Test
+  public void testMissAndHitCounters() {
+    TranspositionTable table = new TranspositionTable(1);
+    Assert.assertEquals(table.probe(5L), 0);
+    table.store(5L, 1, TranspositionTable.EXACT, TranspositionTable.NO_MOVE, 3);
+    Assert.assertEquals(TranspositionTable.getMove(table.probe(5L)), TranspositionTable.NO_MOVE);
+    Assert.assertEquals(table.getProbes(), 2);
+    Assert.assertEquals(table.getHits(), 1);
+    Assert.assertEquals(table.getHitRate(), 0.5, 1e-9);
+    table.clear();
+    Assert.assertEquals(table.probe(5L), 0);
+    Assert.assertEquals(table.getHits(), 0);
+  }
+
+  @Test
+  public void testCollidingKeyIsAMiss() {
+    TranspositionTable table = new TranspositionTable(1);
+    long key = 12345L;
+    long collision = key + ((long) table.getCapacity() << 32) + table.getCapacity();
+    table.store(key, 3, TranspositionTable.EXACT, TranspositionTable.NO_MOVE, 1);
+    Assert.assertEquals(table.probe(collision), 0);
+  }
+
+  @Test
+  public void testShallowerSearchDoesNotReplace() {
+    TranspositionTable table = new TranspositionTable(1);
+    table.store(9L, 5, TranspositionTable.EXACT, TranspositionTable.NO_MOVE, 1);
+    table.store(9L, 2, TranspositionTable.EXACT, TranspositionTable.NO_MOVE, 2);
+    Assert.assertEquals(TranspositionTable.getScore(table.probe(9L)), 1);
+    table.store(9L, 5, TranspositionTable.UPPER_BOUND, TranspositionTable.NO_MOVE, 3);
+    Assert.assertEquals(TranspositionTable.getScore(table.probe(9L)), 3);
+  }
+
+  @Test
+  public void testMoveCodesAreDistinct() {
+    Assert.assertNotEquals(TranspositionTable.encodeMove(new SquareCell(-1, 1)),
+            TranspositionTable.encodeMove(new SquareCell(1, -1)));
+  }
+
+  @Test
+  public void testConcurrentStoresNeverReadTornEntries() throws InterruptedException {
+    // A tiny table so that the threads keep overwriting each other's entries.
+    TranspositionTable table = new TranspositionTable(1);
+    List<Thread> threads = new ArrayList<>();
+    List<Throwable> failures = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      int offset = t;
+      threads.add(new Thread(() -> {
+        for (int i = 0; i < 200000; i++) {
+          long key = (i % 64) * 0x9E3779B97F4A7C15L + offset;
+          // The score is a function of the key, so a torn entry would show a wrong score.
+          int score = (int) (key % 1000);
+          table.store(key, i % 20, TranspositionTable.EXACT, TranspositionTable.NO_MOVE, score);
+          long data = table.probe(key);
+          if (data != 0 && TranspositionTable.getScore(data) != score) {
+            synchronized (failures) {
+              failures.add(new AssertionError("Torn entry for key " + key));
+            }
+          }
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    Assert.assertTrue(failures.isEmpty());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNonPositiveSizeThrows() {
+    new TranspositionTable(0);
+  }
+}
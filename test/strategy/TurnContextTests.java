@@ -0,0 +1,103 @@
+package strategy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.strategy.AvoidEdgesStrat;
+import cs3500.reversi.strategy.ChooseCornersStrat;
+import cs3500.reversi.strategy.GreedyStrat;
+import cs3500.reversi.strategy.MiniMaxStrategy;
+import cs3500.reversi.strategy.SandwichStrat;
+import cs3500.reversi.strategy.Strategy;
+import cs3500.reversi.strategy.TurnContext;
+import model.MockModel;
+
+/**
+ * This class tests the context of a turn shared by the strategies of a Sandwich.
+ */
+public class TurnContextTests {
+
+  // the number of times the line occurs in the log.
+  private static int count(StringBuilder log, String line) {
+    int count = 0;
+    for (String logged : log.toString().split("\n")) {
+      if (logged.startsWith(line)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Test
+  public void testSandwichWorksOutMovesAndFlipsOnce() {
+    StringBuilder log = new StringBuilder();
+    MockModel model = new MockModel(4, log);
+    Strategy sandwich = new SandwichStrat(TokenColor.BLACK, List.of(
+            new GreedyStrat(TokenColor.BLACK), new AvoidEdgesStrat(TokenColor.BLACK),
+            new ChooseCornersStrat(TokenColor.BLACK)));
+    List<ICell> chosen = sandwich.chooseMove(model, List.of());
+
+    Assert.assertFalse(chosen.isEmpty());
+    Assert.assertEquals(1, count(log, "getValidMoves called"));
+    Assert.assertEquals(model.getValidMoves(TokenColor.BLACK).size(),
+            count(log, "cellsFlipped called"));
+  }
+
+  @Test
+  public void testContextKeepsWhatItWorkedOut() {
+    IReversiModel model = new HexagonReversi(6);
+    TurnContext context = new TurnContext(model);
+    List<ICell> moves = context.getValidMoves(TokenColor.BLACK);
+
+    Assert.assertEquals(model.getValidMoves(TokenColor.BLACK), moves);
+    Assert.assertSame(moves, context.getValidMoves(TokenColor.BLACK));
+    Assert.assertSame(context.getBoard(), context.getBoard());
+    for (ICell move : moves) {
+      Assert.assertTrue(context.isValidMove(move, TokenColor.BLACK));
+      Assert.assertEquals(model.cellsFlipped(move, TokenColor.BLACK),
+              context.cellsFlipped(move, TokenColor.BLACK));
+    }
+    for (ICell corner : model.getCornerCells()) {
+      Assert.assertTrue(context.isCorner(corner));
+    }
+    for (ICell edge : model.getEdgeCells()) {
+      Assert.assertTrue(context.isEdge(edge));
+    }
+  }
+
+  @Test
+  public void testSharedContextChoosesSameMoves() {
+    IReversiModel model = new HexagonReversi(6);
+    model.startGame();
+    for (int turn = 0; turn < 10; turn++) {
+      TokenColor color = model.getCurrentColor();
+      List<Strategy> strategies = List.of(new MiniMaxStrategy(color), new GreedyStrat(color),
+              new AvoidEdgesStrat(color), new ChooseCornersStrat(color));
+      TurnContext context = new TurnContext(model);
+      for (Strategy strategy : strategies) {
+        Assert.assertEquals(strategy.chooseMove(model, List.of()),
+                strategy.chooseMove(context, List.of()));
+      }
+      // Minimax made its moves on the shared board and undid them.
+      Assert.assertEquals(model.createBoardCopy().getPositionsMapCopy(),
+              context.getBoard().getPositionsMapCopy());
+      List<ICell> chosen = new SandwichStrat(color, strategies).chooseMove(model, List.of());
+      if (chosen.isEmpty()) {
+        model.passTurn(true);
+      } else {
+        model.placeCurrentPlayerPiece(chosen.get(0));
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullModelThrows() {
+    new TurnContext(null);
+  }
+}
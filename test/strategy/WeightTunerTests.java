@@ -0,0 +1,198 @@
+package strategy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import cs3500.reversi.model.BoardGeometry;
+import cs3500.reversi.model.IBoard;
+import cs3500.reversi.model.ICell;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.record.GameRecordReader;
+import cs3500.reversi.record.GameRecordWriter;
+import cs3500.reversi.record.RecordedGame;
+import cs3500.reversi.strategy.PatternEvaluator;
+import cs3500.reversi.strategy.PatternSet;
+import cs3500.reversi.strategy.PatternWeights;
+import cs3500.reversi.strategy.RandomStrat;
+import cs3500.reversi.strategy.TrainingSet;
+import cs3500.reversi.strategy.WeightTuner;
+import cs3500.reversi.tournament.Tournament;
+
+/**
+ * This class tests training sets of positions and fitting pattern weights to them.
+ */
+public class WeightTunerTests {
+
+  private static PatternWeights zeroWeights(BoardGeometry geometry) {
+    PatternSet patterns = PatternSet.of(geometry);
+    int[][] tables = new int[patterns.getFamilyCount()][];
+    for (int family = 0; family < tables.length; family++) {
+      tables[family] = new int[patterns.getTableSize(family)];
+    }
+    return new PatternWeights(geometry, tables, 0, 0);
+  }
+
+  // positions of random games, labelled with what the default weights score them, in tokens.
+  private static TrainingSet labelledByDefaults(long seed, int games) {
+    BoardGeometry geometry = BoardGeometry.square(8);
+    TrainingSet set = new TrainingSet(geometry);
+    PatternEvaluator evaluator = new PatternEvaluator(PatternWeights.defaults(geometry));
+    Random random = new Random(seed);
+    for (int game = 0; game < games; game++) {
+      IReversiModel model = new SquareReversi(8, true);
+      model.startGame();
+      IBoard board = model.createBoardCopy();
+      TokenColor color = TokenColor.BLACK;
+      for (int ply = 0; ply < 60; ply++) {
+        List<ICell> moves = board.validMovesLeft(color);
+        if (!moves.isEmpty()) {
+          board.makeMove(moves.get(random.nextInt(moves.size())), color);
+          evaluator.reset(board);
+          set.add(board, Math.round((float) evaluator.evaluate(board, TokenColor.BLACK)
+                  / PatternWeights.UNITS_PER_DISC));
+        }
+        color = color.next();
+      }
+    }
+    return set;
+  }
+
+  @Test
+  public void testGamesAddEveryPositionAfterAMove() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    int[] margins = new int[5];
+    try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+      for (int i = 0; i < margins.length; i++) {
+        IReversiModel model = new SquareReversi(8, true);
+        writer.record(model, "random", "random");
+        margins[i] = Tournament.playGame(model, new RandomStrat(TokenColor.BLACK),
+                new RandomStrat(TokenColor.WHITE));
+      }
+    }
+    TrainingSet set = new TrainingSet(BoardGeometry.square(8));
+    int index = 0;
+    try (GameRecordReader reader = new GameRecordReader(
+            new ByteArrayInputStream(bytes.toByteArray()))) {
+      for (Optional<RecordedGame> game = reader.next(); game.isPresent(); game = reader.next()) {
+        int moves = 0;
+        for (int turn = 0; turn < game.get().getMoveCount(); turn++) {
+          if (game.get().getMove(turn).isPresent()) {
+            moves++;
+          }
+        }
+        int before = set.size();
+        Assert.assertEquals(moves, set.addGame(game.get()));
+        Assert.assertEquals(before + moves, set.size());
+        for (int i = before; i < set.size(); i++) {
+          Assert.assertEquals(margins[index], set.getMargin(i));
+        }
+        index++;
+      }
+    }
+    Assert.assertEquals(margins.length, index);
+  }
+
+  @Test
+  public void testFitsWeightsThatExplainTheLabels() {
+    TrainingSet training = labelledByDefaults(1, 60);
+    TrainingSet validation = labelledByDefaults(2, 10);
+    try (WeightTuner tuner = new WeightTuner(training, zeroWeights(BoardGeometry.square(8)),
+            1.0 / 20, 2);
+         WeightTuner untrained = new WeightTuner(training, zeroWeights(BoardGeometry.square(8)),
+                 1.0 / 20, 1)) {
+      double first = tuner.iterate();
+      double last = first;
+      for (int i = 0; i < 100; i++) {
+        double loss = tuner.iterate();
+        Assert.assertTrue(loss <= last + 1e-9);
+        last = loss;
+      }
+      Assert.assertEquals(101, tuner.getIterations());
+      Assert.assertTrue(tuner.getIterationsPerSecond() > 0);
+      Assert.assertTrue(last < first / 4);
+      // The weights also explain positions they were not fitted to.
+      Assert.assertTrue(tuner.loss(validation) < untrained.loss(validation) / 2);
+    }
+  }
+
+  @Test
+  public void testThreadsDoNotChangeTheFit() {
+    TrainingSet training = labelledByDefaults(3, 20);
+    PatternWeights initial = PatternWeights.defaults(BoardGeometry.square(8));
+    try (WeightTuner one = new WeightTuner(training, initial, 0.05, 1);
+         WeightTuner four = new WeightTuner(training, initial, 0.05, 4)) {
+      for (int i = 0; i < 10; i++) {
+        Assert.assertEquals(one.iterate(), four.iterate(), 1e-6);
+      }
+      PatternWeights fitted = four.getWeights();
+      Assert.assertEquals(one.getWeights().getMobilityWeight(), fitted.getMobilityWeight());
+      Assert.assertEquals(one.getWeights().getWeight(1, 0), fitted.getWeight(1, 0));
+    }
+  }
+
+  @Test
+  public void testFittedWeightsCanBeWrittenAndRead() throws IOException {
+    TrainingSet training = labelledByDefaults(4, 5);
+    PatternWeights fitted;
+    try (WeightTuner tuner = new WeightTuner(training, zeroWeights(BoardGeometry.square(8)),
+            0.05, 2)) {
+      tuner.iterate();
+      fitted = tuner.getWeights();
+    }
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    fitted.write(bytes);
+    PatternWeights read = PatternWeights.read(new ByteArrayInputStream(bytes.toByteArray()));
+    Assert.assertEquals(fitted.getFrontierWeight(), read.getFrontierWeight());
+    for (int index = 0; index < fitted.getPatterns().getTableSize(0); index++) {
+      Assert.assertEquals(fitted.getWeight(0, index), read.getWeight(0, index));
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testIteratingAClosedTunerThrows() {
+    WeightTuner tuner = new WeightTuner(labelledByDefaults(6, 2),
+            zeroWeights(BoardGeometry.square(8)), 0.05, 2);
+    tuner.iterate();
+    PatternWeights fitted = tuner.getWeights();
+    tuner.close();
+    // The weights can still be read.
+    Assert.assertEquals(fitted.getMobilityWeight(), tuner.getWeights().getMobilityWeight());
+    tuner.iterate();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyTrainingSetThrows() {
+    new WeightTuner(new TrainingSet(BoardGeometry.square(8)),
+            PatternWeights.defaults(BoardGeometry.square(8)), 0.1, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWeightsOfAnotherBoardThrow() {
+    new WeightTuner(labelledByDefaults(5, 1), PatternWeights.defaults(BoardGeometry.hexagon(6)),
+            0.1, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testGameOfAnotherBoardThrows() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+      IReversiModel model = new SquareReversi(6);
+      writer.record(model, "random", "random");
+      Tournament.playGame(model, new RandomStrat(TokenColor.BLACK),
+              new RandomStrat(TokenColor.WHITE));
+    }
+    try (GameRecordReader reader = new GameRecordReader(
+            new ByteArrayInputStream(bytes.toByteArray()))) {
+      new TrainingSet(BoardGeometry.square(8)).addGame(reader.next().orElseThrow());
+    }
+  }
+}
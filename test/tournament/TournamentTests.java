@@ -0,0 +1,113 @@
+package tournament;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import cs3500.reversi.model.HexagonReversi;
+import cs3500.reversi.model.IReversiModel;
+import cs3500.reversi.model.TokenColor;
+import cs3500.reversi.strategy.GreedyStrat;
+import cs3500.reversi.strategy.ParallelMonteCarloStrat;
+import cs3500.reversi.strategy.Strategy;
+import cs3500.reversi.tournament.Tournament;
+import cs3500.reversi.tournament.TournamentResult;
+
+/**
+ * This class tests the headless tournament.
+ */
+public class TournamentTests {
+
+  // makes the strategies of the tests: "greedy" plays the greedy strategy, "pass" always passes.
+  private static Strategy makeStrategy(String name, TokenColor color) {
+    if (name.equals("pass")) {
+      return (model, moves) -> List.of();
+    }
+    return new GreedyStrat(color);
+  }
+
+  private Tournament makeTournament(int gamesPerPairing) {
+    return new Tournament(() -> new HexagonReversi(4, true), TournamentTests::makeStrategy,
+            List.of("greedy", "pass"), gamesPerPairing);
+  }
+
+  @Test
+  public void testPlayGameReturnsTheMarginOfBlack() {
+    IReversiModel model = new HexagonReversi(4);
+    int margin = Tournament.playGame(model, new GreedyStrat(TokenColor.BLACK),
+            makeStrategy("pass", TokenColor.WHITE));
+    Assert.assertTrue(model.isGameOver());
+    Assert.assertEquals(margin, model.getScore(TokenColor.BLACK)
+            - model.getScore(TokenColor.WHITE));
+    Assert.assertTrue(margin > 0);
+  }
+
+  @Test
+  public void testStandingsCountEveryGame() {
+    TournamentResult result = this.makeTournament(10).run(4);
+    Assert.assertEquals(result.getGames(), 10);
+    TournamentResult.Standing best = result.getStandings().get(0);
+    TournamentResult.Standing worst = result.getStandings().get(1);
+    Assert.assertEquals(best.getName(), "greedy");
+    Assert.assertEquals(best.getGames(), 10);
+    Assert.assertEquals(best.getWins(), 10);
+    Assert.assertEquals(worst.getLosses(), 10);
+    Assert.assertEquals(best.getMeanMargin(), -worst.getMeanMargin(), 1e-9);
+    Assert.assertTrue(best.getElo() > worst.getElo());
+    Assert.assertEquals(best.getElo() + worst.getElo(), 3000, 1e-6);
+    Assert.assertTrue(result.getGamesPerSecond() > 0);
+  }
+
+  // counts the live threads of fork/join pools.
+  private static long forkJoinWorkers() {
+    return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread instanceof ForkJoinWorkerThread && thread.isAlive())
+            .count();
+  }
+
+  @Test
+  public void testStrategiesAreShutDownAfterEveryGame() throws InterruptedException {
+    long before = forkJoinWorkers();
+    // Every game makes a parallel strategy with a pool of its own.
+    new Tournament(() -> new HexagonReversi(4, true), (name, color) -> name.equals("pmcts")
+            ? new ParallelMonteCarloStrat(color, 2, 1000, 20, 1) : new GreedyStrat(color),
+            List.of("pmcts", "greedy"), 6).run(2);
+    // Idle workers of a pool that was not shut down wait a minute before they stop.
+    long deadline = System.currentTimeMillis() + 5000;
+    while (forkJoinWorkers() > before && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+    }
+    Assert.assertEquals(before, forkJoinWorkers());
+  }
+
+  @Test
+  public void testWritesOneCsvRowPerStrategy() throws IOException {
+    StringBuilder csv = new StringBuilder();
+    this.makeTournament(2).run(1).writeCsv(csv);
+    String[] lines = csv.toString().split("\n");
+    Assert.assertEquals(lines.length, 3);
+    Assert.assertTrue(lines[0].startsWith("strategy,games,wins,losses,draws"));
+    Assert.assertTrue(lines[1].startsWith("greedy,2,2,0,0,"));
+    Assert.assertTrue(lines[2].startsWith("pass,2,0,2,0,"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testStrategyTakingPartTwiceThrows() {
+    new Tournament(() -> new HexagonReversi(4), TournamentTests::makeStrategy,
+            List.of("greedy", "greedy"), 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSingleStrategyThrows() {
+    new Tournament(() -> new HexagonReversi(4), TournamentTests::makeStrategy,
+            List.of("greedy"), 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNonPositiveThreadsThrows() {
+    this.makeTournament(1).run(0);
+  }
+}